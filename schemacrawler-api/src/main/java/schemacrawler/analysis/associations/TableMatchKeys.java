@@ -33,8 +33,11 @@ import static us.fatehi.utility.Utility.isBlank;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.logging.Level;
@@ -42,7 +45,6 @@ import java.util.logging.Level;
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.schema.Table;
 import us.fatehi.utility.Multimap;
-import us.fatehi.utility.Utility;
 import us.fatehi.utility.string.ObjectToStringFormat;
 import us.fatehi.utility.string.StringFormat;
 
@@ -85,68 +87,50 @@ final class TableMatchKeys {
   }
 
   /**
-   * Finds table prefixes. A prefix ends with "_".
+   * Finds table prefixes. A prefix ends with "_". Prefixes are counted once for every pair of
+   * tables that have it in their common prefix.
    *
    * @param tables Tables
    * @return Table name prefixes
    */
   private Collection<String> findTableNamePrefixes(final List<Table> tables) {
     final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < tables.size(); i++) {
-      for (int j = i + 1; j < tables.size(); j++) {
-        final String table1 = tables.get(i).getName();
-        final String table2 = tables.get(j).getName();
-        final String commonPrefix = Utility.commonPrefix(table1, table2);
-        if (!isBlank(commonPrefix) && commonPrefix.endsWith("_")) {
-          final List<String> splitCommonPrefixes = new ArrayList<>();
-          final String[] splitPrefix = commonPrefix.split("_");
-          if (splitPrefix != null && splitPrefix.length > 0) {
-            for (int k = 0; k < splitPrefix.length; k++) {
-              final StringBuilder buffer = new StringBuilder(1024);
-              for (int l = 0; l < k; l++) {
-                buffer.append(splitPrefix[l]).append("_");
-              }
-              if (buffer.length() > 0) {
-                splitCommonPrefixes.add(buffer.toString());
-              }
-            }
-          }
-          splitCommonPrefixes.add(commonPrefix);
-
-          for (final String splitCommonPrefix : splitCommonPrefixes) {
-            final int prevCount;
-            if (prefixesMap.containsKey(splitCommonPrefix)) {
-              prevCount = prefixesMap.get(splitCommonPrefix);
-            } else {
-              prevCount = 0;
-            }
-            prefixesMap.put(splitCommonPrefix, prevCount + 1);
+    for (final Map.Entry<String, Integer> commonPrefixCount :
+        countCommonPrefixes(tables).entrySet()) {
+      final String commonPrefix = commonPrefixCount.getKey();
+      if (!isBlank(commonPrefix) && commonPrefix.endsWith("_")) {
+        final List<String> splitCommonPrefixes = new ArrayList<>();
+        final String[] splitPrefix = commonPrefix.split("_");
+        if (splitPrefix != null && splitPrefix.length > 0) {
+          final StringBuilder buffer = new StringBuilder(commonPrefix.length());
+          for (int k = 1; k < splitPrefix.length; k++) {
+            buffer.append(splitPrefix[k - 1]).append("_");
+            splitCommonPrefixes.add(buffer.toString());
           }
         }
-      }
-    }
+        splitCommonPrefixes.add(commonPrefix);
 
-    // Make sure we have the smallest prefixes
-    final List<String> keySet = new ArrayList<>(prefixesMap.keySet());
-    keySet.sort(
-        (key1, key2) -> {
-          int comparison = 0;
-          comparison = key2.length() - key1.length();
-          if (comparison == 0) {
-            comparison = key2.compareTo(key1);
-          }
-          return comparison;
-        });
-    for (int i = 0; i < keySet.size(); i++) {
-      for (int j = i + 1; j < keySet.size(); j++) {
-        final String longPrefix = keySet.get(i);
-        if (longPrefix.startsWith(keySet.get(j))) {
-          prefixesMap.remove(longPrefix);
-          break;
+        for (final String splitCommonPrefix : splitCommonPrefixes) {
+          prefixesMap.merge(splitCommonPrefix, commonPrefixCount.getValue(), Integer::sum);
         }
       }
     }
 
+    // Make sure we have the smallest prefixes, by removing prefixes that
+    // start with a shorter prefix
+    final Set<String> allPrefixes = new HashSet<>(prefixesMap.keySet());
+    prefixesMap
+        .keySet()
+        .removeIf(
+            prefix -> {
+              for (int i = 1; i < prefix.length(); i++) {
+                if (allPrefixes.contains(prefix.substring(0, i))) {
+                  return true;
+                }
+              }
+              return false;
+            });
+
     // Sort prefixes by the number of tables using them, in descending
     // order
     final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
@@ -166,13 +150,103 @@ final class TableMatchKeys {
     return prefixes;
   }
 
+  /**
+   * Counts the pairs of tables that have each common prefix, without comparing every pair of table
+   * names. Table names are sorted, so that the common prefix of any two names is the shortest
+   * common prefix of neighboring names between them. Common prefixes are lower case, and pairs of
+   * tables with the same name are not counted.
+   *
+   * @param tables Tables
+   * @return Number of pairs of tables for each common prefix
+   */
+  private Map<String, Integer> countCommonPrefixes(final List<Table> tables) {
+    final List<String> tableNames = new ArrayList<>(tables.size());
+    for (final Table table : tables) {
+      tableNames.add(table.getName());
+    }
+    Collections.sort(tableNames);
+
+    // Collapse tables with the same name, keeping count of them
+    final List<String> names = new ArrayList<>(tableNames.size());
+    final int[] counts = new int[tableNames.size()];
+    for (final String tableName : tableNames) {
+      if (names.isEmpty() || !names.get(names.size() - 1).equals(tableName)) {
+        names.add(tableName);
+      }
+      counts[names.size() - 1]++;
+    }
+
+    // Length of the common prefix of each name with the previous name
+    final int[] commonPrefixLengths = new int[names.size()];
+    for (int i = 1; i < names.size(); i++) {
+      commonPrefixLengths[i] = commonPrefixLength(names.get(i - 1), names.get(i));
+    }
+
+    final Map<String, Integer> commonPrefixCounts = new HashMap<>();
+    countCommonPrefixes(
+        names, counts, commonPrefixLengths, 0, names.size() - 1, commonPrefixCounts);
+    return commonPrefixCounts;
+  }
+
+  /**
+   * Counts pairs of tables by common prefix, for a range of sorted names. All pairs of names in the
+   * range share the shortest common prefix of neighboring names in the range, and the range is
+   * split into groups of names that share a longer prefix, which are counted in the same way.
+   */
+  private void countCommonPrefixes(
+      final List<String> names,
+      final int[] counts,
+      final int[] commonPrefixLengths,
+      final int start,
+      final int end,
+      final Map<String, Integer> commonPrefixCounts) {
+    if (start >= end) {
+      // Pairs of tables with the same name have no common prefix
+      return;
+    }
+
+    int prefixLength = Integer.MAX_VALUE;
+    for (int i = start + 1; i <= end; i++) {
+      prefixLength = Math.min(prefixLength, commonPrefixLengths[i]);
+    }
+
+    long tablesCount = 0;
+    long groupPairsCount = 0;
+    long groupTablesCount = 0;
+    int groupStart = start;
+    for (int i = start; i <= end; i++) {
+      if (i > start && commonPrefixLengths[i] == prefixLength) {
+        countCommonPrefixes(
+            names, counts, commonPrefixLengths, groupStart, i - 1, commonPrefixCounts);
+        groupPairsCount = groupPairsCount + pairsCount(groupTablesCount);
+        groupTablesCount = 0;
+        groupStart = i;
+      }
+      tablesCount = tablesCount + counts[i];
+      groupTablesCount = groupTablesCount + counts[i];
+    }
+    countCommonPrefixes(names, counts, commonPrefixLengths, groupStart, end, commonPrefixCounts);
+    groupPairsCount = groupPairsCount + pairsCount(groupTablesCount);
+
+    // Pairs of tables from different groups have exactly this common prefix
+    final long pairsCount = pairsCount(tablesCount) - groupPairsCount;
+    if (prefixLength > 0 && pairsCount > 0) {
+      final String commonPrefix = names.get(start).substring(0, prefixLength).toLowerCase();
+      commonPrefixCounts.merge(commonPrefix, (int) pairsCount, Integer::sum);
+    }
+  }
+
   private void mapTableNameMatches(final List<Table> tables, final Collection<String> prefixes) {
+    // Many tables share the same name once prefixes are removed, so
+    // remember singular forms, rather than apply inflections again
+    final Map<String, String> singularNames = new HashMap<>();
     for (final Table table : tables) {
+      final String tableName = table.getName().toLowerCase();
       for (final String prefix : prefixes) {
-        String matchTableName = table.getName().toLowerCase();
+        String matchTableName = tableName;
         if (matchTableName.startsWith(prefix)) {
           matchTableName = matchTableName.substring(prefix.length());
-          matchTableName = Inflection.singularize(matchTableName);
+          matchTableName = singularNames.computeIfAbsent(matchTableName, Inflection::singularize);
           if (!isBlank(matchTableName)) {
             tableKeys.add(table, matchTableName);
           }
@@ -180,4 +254,18 @@ final class TableMatchKeys {
       }
     }
   }
+
+  private int commonPrefixLength(final String name1, final String name2) {
+    final int length = Math.min(name1.length(), name2.length());
+    for (int i = 0; i < length; i++) {
+      if (name1.charAt(i) != name2.charAt(i)) {
+        return i;
+      }
+    }
+    return length;
+  }
+
+  private long pairsCount(final long count) {
+    return count * (count - 1) / 2;
+  }
 }
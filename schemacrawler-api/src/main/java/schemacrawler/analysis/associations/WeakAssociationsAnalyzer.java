@@ -36,6 +36,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.schema.Column;
@@ -78,42 +79,60 @@ public final class WeakAssociationsAnalyzer {
       LOGGER.log(Level.FINER, new StringFormat("Column match keys <%s>", columnMatchKeysMap));
       LOGGER.log(Level.FINER, new StringFormat("Table match keys <%s>", tableMatchKeys));
     }
-    for (final Table table : tables) {
-      final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
-      LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
-      for (final Column pkColumn : tableCandidateKeys) {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey()) {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn)) {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+    // Tables are matched concurrently, but weak associations are
+    // collected in table order
+    final List<List<ProposedWeakAssociation>> tablesWeakAssociations =
+        tables
+            .parallelStream()
+            .map(
+                table ->
+                    findWeakAssociations(table, foreignKeys, columnMatchKeysMap, tableMatchKeys))
+            .collect(Collectors.toList());
+    for (final List<ProposedWeakAssociation> tableWeakAssociations : tablesWeakAssociations) {
+      weakAssociations.addAll(tableWeakAssociations);
+    }
+  }
+
+  private List<ProposedWeakAssociation> findWeakAssociations(
+      final Table table,
+      final ForeignKeys foreignKeys,
+      final ColumnMatchKeysMap columnMatchKeysMap,
+      final TableMatchKeys tableMatchKeys) {
+    final List<ProposedWeakAssociation> tableWeakAssociations = new ArrayList<>();
+    final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
+    LOGGER.log(Level.FINER, new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
+    for (final Column pkColumn : tableCandidateKeys) {
+      final Set<String> fkColumnMatchKeys = new HashSet<>();
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey()) {
+        fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
+      }
+      // Look for all columns matching this column match key
+      if (columnMatchKeysMap.containsKey(pkColumn)) {
+        fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+      }
+
+      final Set<Column> fkColumns = new HashSet<>();
+      for (final String fkColumnMatchKey : fkColumnMatchKeys) {
+        if (columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
+          fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
         }
+      }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey : fkColumnMatchKeys) {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey)) {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
+      for (final Column fkColumn : fkColumns) {
+        if (pkColumn.equals(fkColumn)) {
+          continue;
         }
 
-        for (final Column fkColumn : fkColumns) {
-          if (pkColumn.equals(fkColumn)) {
-            continue;
-          }
-
-          final ProposedWeakAssociation proposedWeakAssociation =
-              new ProposedWeakAssociation(pkColumn, fkColumn);
-          if (proposedWeakAssociation.isValid() && !foreignKeys.contains(proposedWeakAssociation)) {
-            LOGGER.log(
-                Level.FINE,
-                new StringFormat("Found weak association <%s>", proposedWeakAssociation));
-            weakAssociations.add(proposedWeakAssociation);
-          }
+        final ProposedWeakAssociation proposedWeakAssociation =
+            new ProposedWeakAssociation(pkColumn, fkColumn);
+        if (proposedWeakAssociation.isValid() && !foreignKeys.contains(proposedWeakAssociation)) {
+          LOGGER.log(
+              Level.FINE, new StringFormat("Found weak association <%s>", proposedWeakAssociation));
+          tableWeakAssociations.add(proposedWeakAssociation);
         }
       }
     }
+    return tableWeakAssociations;
   }
 }
@@ -29,23 +29,54 @@ package schemacrawler.analysis.counts;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.analysis.counts.TableRowCountsUtility.addRowCountToTable;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
 import static us.fatehi.utility.DatabaseUtility.checkConnection;
+import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Retrieves row counts for all tables in the catalog. If estimated row counts are requested, and
+ * the database plugin has a query for table statistics, row counts are taken from the statistics.
+ * All other tables are counted exactly. If there is a connection source, and more than one thread
+ * is allowed, tables are counted concurrently, each thread on its own connection. Each count can be
+ * bounded by a query timeout, so that a very large table does not hold up the crawl.
+ *
+ * @author Sualeh Fatehi
+ */
 @Retriever
 public final class TableRowCountsRetriever {
 
@@ -53,12 +84,44 @@ public final class TableRowCountsRetriever {
       SchemaCrawlerLogger.getLogger(TableRowCountsRetriever.class.getName());
 
   private final Connection connection;
+  private final Supplier<Connection> connectionSource;
   private final Catalog catalog;
+  private final InformationSchemaViews informationSchemaViews;
+  private final LoadOptions loadOptions;
 
   public TableRowCountsRetriever(final Connection connection, final Catalog catalog)
       throws SQLException {
+    this(
+        connection,
+        null,
+        catalog,
+        InformationSchemaViewsBuilder.newInformationSchemaViews(),
+        LoadOptionsBuilder.newLoadOptions());
+  }
+
+  /**
+   * Retriever for table row counts.
+   *
+   * @param connection Database connection, used if there is no connection source
+   * @param connectionSource Source of database connections for concurrent counts, or null
+   * @param catalog Catalog with tables to count
+   * @param informationSchemaViews Information schema views, with the query for table statistics
+   * @param loadOptions Load options, with options for row counts
+   * @throws SQLException On an invalid connection
+   */
+  public TableRowCountsRetriever(
+      final Connection connection,
+      final Supplier<Connection> connectionSource,
+      final Catalog catalog,
+      final InformationSchemaViews informationSchemaViews,
+      final LoadOptions loadOptions)
+      throws SQLException {
     this.connection = checkConnection(connection);
+    this.connectionSource = connectionSource;
     this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.informationSchemaViews =
+        requireNonNull(informationSchemaViews, "No information schema views provided");
+    this.loadOptions = requireNonNull(loadOptions, "No load options provided");
   }
 
   public void retrieveTableRowCounts() {
@@ -76,16 +139,155 @@ public final class TableRowCountsRetriever {
       return;
     }
 
+    final List<Table> tablesToCount = new ArrayList<>(catalog.getTables());
+    if (loadOptions.isEstimateRowCounts()) {
+      tablesToCount.removeAll(retrieveEstimatedTableRowCounts());
+    }
+    retrieveExactTableRowCounts(tablesToCount, identifiers);
+  }
+
+  private Map<Table, Long> countTableRows(
+      final Connection connection, final Queue<Table> tables, final Identifiers identifiers) {
     final Query query =
         new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
-    final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table : allTables) {
-      try {
-        final long count = executeForLong(query, connection, table, identifiers);
-        addRowCountToTable(table, count);
+    final int queryTimeout = loadOptions.getRowCountsQueryTimeout();
+
+    final Map<Table, Long> rowCounts = new HashMap<>();
+    Table table;
+    while ((table = tables.poll()) != null) {
+      try (final Statement statement = connection.createStatement()) {
+        if (queryTimeout > 0) {
+          statement.setQueryTimeout(queryTimeout);
+        }
+        try (final ResultSet results =
+            executeAgainstTable(query, statement, table, true, identifiers)) {
+          if (results != null && results.next()) {
+            rowCounts.put(table, results.getLong(1));
+          }
+        }
+      } catch (final SQLTimeoutException e) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Could not get count for table <%s>, within %d seconds", table, queryTimeout));
       } catch (final SQLException e) {
         LOGGER.log(Level.WARNING, new StringFormat("Could not get count for table <%s>", table), e);
       }
     }
+    return rowCounts;
+  }
+
+  private Map<List<String>, Table> lookupTables() {
+    final Map<List<String>, Table> tables = new HashMap<>();
+    for (final Table table : catalog.getTables()) {
+      tables.put(
+          Arrays.asList(
+              table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
+          table);
+    }
+    return tables;
+  }
+
+  private Set<Table> retrieveEstimatedTableRowCounts() {
+    final Set<Table> estimatedTables = new HashSet<>();
+    if (!informationSchemaViews.hasQuery(EXT_TABLE_ROW_COUNTS)) {
+      LOGGER.log(
+          Level.INFO,
+          "Not retrieving estimated table row counts, since there is no query for table statistics");
+      return estimatedTables;
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving estimated table row counts");
+    final Query query = informationSchemaViews.getQuery(EXT_TABLE_ROW_COUNTS);
+    final Map<List<String>, Table> tables = lookupTables();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(query, statement, null)) {
+      while (results.next()) {
+        final List<String> lookupKey =
+            Arrays.asList(
+                trimToNull(results.getString("TABLE_CATALOG")),
+                trimToNull(results.getString("TABLE_SCHEMA")),
+                results.getString("TABLE_NAME"));
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (results.wasNull() || rowCount < 0) {
+          // No statistics have been gathered for the table
+          continue;
+        }
+        final Table table = tables.get(lookupKey);
+        if (table != null) {
+          addRowCountToTable(table, rowCount, true);
+          estimatedTables.add(table);
+        }
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not retrieve estimated table row counts", e);
+    }
+
+    LOGGER.log(
+        Level.INFO, new StringFormat("Estimated row counts for %d tables", estimatedTables.size()));
+    return estimatedTables;
+  }
+
+  private void retrieveExactTableRowCounts(
+      final List<Table> tables, final Identifiers identifiers) {
+    if (tables.isEmpty()) {
+      return;
+    }
+
+    final Queue<Table> tablesQueue = new ConcurrentLinkedQueue<>(tables);
+    final Map<Table, Long> rowCounts = new HashMap<>();
+
+    final int threads = Math.min(loadOptions.getMaxThreads(), tables.size());
+    if (connectionSource != null && threads > 1) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Counting rows for %d tables, using %d threads", tables.size(), threads));
+      final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+      try {
+        final List<Future<Map<Table, Long>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          futures.add(
+              executorService.submit(
+                  () -> {
+                    try (final Connection workerConnection = connectionSource.get()) {
+                      return countTableRows(workerConnection, tablesQueue, identifiers);
+                    }
+                  }));
+        }
+        for (final Future<Map<Table, Long>> future : futures) {
+          try {
+            rowCounts.putAll(future.get());
+          } catch (final ExecutionException e) {
+            LOGGER.log(Level.WARNING, "Could not count rows on a separate connection", e);
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.WARNING, "Interrupted while counting rows", e);
+            break;
+          }
+        }
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+
+    // Count rows serially, or count any tables left over by workers that failed
+    if (!Thread.currentThread().isInterrupted()) {
+      rowCounts.putAll(countTableRows(connection, tablesQueue, identifiers));
+    }
+
+    for (final Table table : tables) {
+      final Long rowCount = rowCounts.get(table);
+      if (rowCount != null) {
+        addRowCountToTable(table, rowCount);
+      }
+    }
+  }
+
+  private String trimToNull(final String value) {
+    if (isBlank(value)) {
+      return null;
+    }
+    return value.trim();
   }
 }
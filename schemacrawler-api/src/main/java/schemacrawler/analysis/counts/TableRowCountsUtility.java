@@ -37,6 +37,8 @@ public final class TableRowCountsUtility {
 
   private static final int UNKNOWN_TABLE_ROW_COUNT = -1;
   private static final String TABLE_ROW_COUNT_KEY = "schemacrawler.table.row_count";
+  private static final String TABLE_ROW_COUNT_ESTIMATED_KEY =
+      "schemacrawler.table.row_count_estimated";
 
   public static long getRowCount(final Table table) {
     if (table == null) {
@@ -64,19 +66,45 @@ public final class TableRowCountsUtility {
   }
 
   public static String getRowCountMessage(final Table table) {
-    return getRowCountMessage(getRowCount(table));
+    final String rowCountMessage = getRowCountMessage(getRowCount(table));
+    if (isRowCountEstimated(table)) {
+      return "~" + rowCountMessage;
+    } else {
+      return rowCountMessage;
+    }
   }
 
   public static boolean hasRowCount(final Table table) {
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
+  /**
+   * Whether the row count for the table was estimated from database statistics, rather than
+   * counted.
+   *
+   * @param table Table
+   * @return Whether the row count is an estimate
+   */
+  public static boolean isRowCountEstimated(final Table table) {
+    return hasRowCount(table) && table.getAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, false);
+  }
+
   static void addRowCountToTable(final Table table, final long rowCount) {
+    addRowCountToTable(table, rowCount, false);
+  }
+
+  static void addRowCountToTable(final Table table, final long rowCount, final boolean estimated) {
     if (table != null) {
       if (rowCount >= 0) {
         table.setAttribute(TABLE_ROW_COUNT_KEY, rowCount);
+        if (estimated) {
+          table.setAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY, true);
+        } else {
+          table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
+        }
       } else {
         table.removeAttribute(TABLE_ROW_COUNT_KEY);
+        table.removeAttribute(TABLE_ROW_COUNT_ESTIMATED_KEY);
       }
     }
   }
@@ -30,8 +30,6 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 import schemacrawler.schema.DatabaseObject;
@@ -51,6 +49,7 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
   private static final long serialVersionUID = 3099561832386790624L;
 
   private final Schema schema;
+  private transient String fullName;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -110,7 +109,12 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
   /** {@inheritDoc} */
   @Override
   public String getFullName() {
-    return Identifiers.STANDARD.quoteFullName(this);
+    String fullName = this.fullName;
+    if (fullName == null) {
+      fullName = newFullName();
+      this.fullName = fullName;
+    }
+    return fullName;
   }
 
   @Override
@@ -126,11 +130,18 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
     return result;
   }
 
+  /**
+   * Creates the quoted full name of this object. The full name is created once and cached, since
+   * the name and schema of a database object cannot change.
+   *
+   * @return Full name
+   */
+  String newFullName() {
+    return Identifiers.STANDARD.quoteFullName(this);
+  }
+
   @Override
-  public List<String> toUniqueLookupKey() {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(schema.toUniqueLookupKey());
-    lookupKey.add(getName());
-    return lookupKey;
+  LookupKey newLookupKey() {
+    return LookupKey.lookupKey(schema).with(getName());
   }
 }
@@ -30,8 +30,6 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 import schemacrawler.schema.DatabaseObject;
@@ -78,9 +76,8 @@ abstract class AbstractDependantObject<D extends DatabaseObject> extends Abstrac
     return Objects.equals(parent, ((DependantObject<?>) obj).getParent());
   }
 
-  /** {@inheritDoc} */
   @Override
-  public final String getFullName() {
+  final String newFullName() {
     return Identifiers.STANDARD.quoteFullName(this);
   }
 
@@ -114,10 +111,7 @@ abstract class AbstractDependantObject<D extends DatabaseObject> extends Abstrac
   }
 
   @Override
-  public List<String> toUniqueLookupKey() {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(parent.get().toUniqueLookupKey());
-    lookupKey.add(getName());
-    return lookupKey;
+  LookupKey newLookupKey() {
+    return LookupKey.lookupKey(parent.get()).with(getName());
   }
 }
@@ -28,8 +28,6 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -46,6 +44,7 @@ abstract class AbstractNamedObject implements NamedObject {
   private static final long serialVersionUID = -1486322887991472729L;
 
   private final String name;
+  private transient LookupKey lookupKey;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -106,6 +105,36 @@ abstract class AbstractNamedObject implements NamedObject {
 
   @Override
   public List<String> toUniqueLookupKey() {
-    return new ArrayList<>(Arrays.asList(name));
+    // Make a defensive copy
+    return key().toList();
+  }
+
+  /**
+   * Gets the lookup key for this object, which is created once and cached.
+   *
+   * @return Lookup key
+   */
+  final LookupKey key() {
+    LookupKey key = lookupKey;
+    if (key == null) {
+      key = newLookupKey();
+      lookupKey = key;
+    }
+    return key;
+  }
+
+  /**
+   * Creates a new lookup key for this object. Subclasses that add segments to the key override this
+   * method.
+   *
+   * @return New lookup key
+   */
+  LookupKey newLookupKey() {
+    return new LookupKey(name);
+  }
+
+  /** Discards the cached lookup key, when a value that is part of the key changes. */
+  final void resetLookupKey() {
+    lookupKey = null;
   }
 }
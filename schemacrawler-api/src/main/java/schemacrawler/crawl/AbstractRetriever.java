@@ -30,12 +30,14 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -45,8 +47,10 @@ import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.utility.TypeMap;
 
@@ -109,6 +113,23 @@ abstract class AbstractRetriever {
     return catalog.getAllSchemas();
   }
 
+  /**
+   * Groups tables by the schema that they belong to. Schemas are in table order.
+   *
+   * @param allTables Tables
+   * @return Tables for each schema
+   */
+  final Map<Schema, NamedObjectList<MutableTable>> getTablesBySchema(
+      final NamedObjectList<MutableTable> allTables) {
+    final Map<Schema, NamedObjectList<MutableTable>> tablesBySchema = new LinkedHashMap<>();
+    for (final MutableTable table : allTables) {
+      tablesBySchema
+          .computeIfAbsent(table.getSchema(), schema -> new NamedObjectList<>())
+          .add(table);
+    }
+    return tablesBySchema;
+  }
+
   final Connection getDatabaseConnection() {
     return retrieverConnection.getConnection();
   }
@@ -125,6 +146,58 @@ abstract class AbstractRetriever {
     return options.getLimitOptions().get(ruleForSchemaInclusion);
   }
 
+  final InclusionRule getTableInclusionRule() {
+    return options.getLimitOptions().get(ruleForTableInclusion);
+  }
+
+  /**
+   * Sets the configured fetch size on the results of a data dictionary query.
+   *
+   * @param results Results of the query
+   * @param informationSchemaKey Key for the data dictionary query
+   */
+  final void setFetchSize(
+      final MetadataResultSet results, final InformationSchemaKey informationSchemaKey) {
+    results.setFetchSize(
+        retrieverConnection.getFetchSize(informationSchemaKey),
+        retrieverConnection.isAdaptiveFetchSize());
+  }
+
+  /**
+   * Sets the configured fetch size on the results of a JDBC metadata call.
+   *
+   * @param results Results of the metadata call
+   * @param schemaInfoMetadataRetrievalStrategy Metadata that is being retrieved
+   */
+  final void setFetchSize(
+      final MetadataResultSet results,
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
+    results.setFetchSize(
+        retrieverConnection.getFetchSize(schemaInfoMetadataRetrievalStrategy),
+        retrieverConnection.isAdaptiveFetchSize());
+  }
+
+  /**
+   * Escapes the search pattern wildcard characters in a name, so that it can be used in a metadata
+   * call that takes a pattern, and only match that name.
+   *
+   * @param name Name to escape
+   * @return Search pattern that matches only the name
+   * @throws SQLException On an exception obtaining the search string escape
+   */
+  final String toSearchPattern(final String name) throws SQLException {
+    if (name == null) {
+      return null;
+    }
+    final String escape = getMetaData().getSearchStringEscape();
+    if (isBlank(escape)) {
+      return name;
+    }
+    return name.replace(escape, escape + escape)
+        .replace("_", escape + "_")
+        .replace("%", escape + "%");
+  }
+
   final void logPossiblyUnsupportedSQLFeature(
       final Supplier<String> message, final SQLException e) {
     // HYC00 = Optional feature not implemented
@@ -203,12 +276,12 @@ abstract class AbstractRetriever {
       final String schemaName,
       final String routineName,
       final String specificName) {
-    return catalog.lookupRoutine(Arrays.asList(catalogName, schemaName, routineName, specificName));
+    return catalog.lookupRoutine(new LookupKey(catalogName, schemaName, routineName, specificName));
   }
 
   final Optional<MutableTable> lookupTable(
       final String catalogName, final String schemaName, final String tableName) {
-    return catalog.lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+    return catalog.lookupTable(new LookupKey(catalogName, schemaName, tableName));
   }
 
   final String normalizeCatalogName(final String name) {
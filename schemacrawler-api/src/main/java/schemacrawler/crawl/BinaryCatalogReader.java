@@ -0,0 +1,1035 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.FORMAT_VERSION;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.HEADER_LENGTH;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.MAGIC;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_CATALOG;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_COLUMN_DATA_TYPES;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_RELATIONSHIPS;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_ROUTINES;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_SCHEMAS;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_SEQUENCES;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_STRINGS;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_SYNONYMS;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_TABLES;
+import static schemacrawler.crawl.BinaryCatalogWriter.COLUMN_REFERENCE_NEW_PARTIAL;
+import static schemacrawler.crawl.BinaryCatalogWriter.COLUMN_REFERENCE_NULL;
+import static schemacrawler.crawl.BinaryCatalogWriter.COLUMN_REFERENCE_PARTIAL;
+import static schemacrawler.crawl.BinaryCatalogWriter.COLUMN_REFERENCE_TABLE_COLUMN;
+import static schemacrawler.crawl.BinaryCatalogWriter.REFERENCED_OBJECT_OTHER;
+import static schemacrawler.crawl.BinaryCatalogWriter.REFERENCED_OBJECT_PARTIAL_TABLE;
+import static schemacrawler.crawl.BinaryCatalogWriter.REFERENCED_OBJECT_ROUTINE;
+import static schemacrawler.crawl.BinaryCatalogWriter.REFERENCED_OBJECT_TABLE;
+import static schemacrawler.crawl.BinaryCatalogWriter.VALUE_FALSE;
+import static schemacrawler.crawl.BinaryCatalogWriter.VALUE_INTEGER;
+import static schemacrawler.crawl.BinaryCatalogWriter.VALUE_LONG;
+import static schemacrawler.crawl.BinaryCatalogWriter.VALUE_NULL;
+import static schemacrawler.crawl.BinaryCatalogWriter.VALUE_SERIALIZED;
+import static schemacrawler.crawl.BinaryCatalogWriter.VALUE_STRING;
+import static schemacrawler.crawl.BinaryCatalogWriter.VALUE_STRING_ARRAY;
+import static schemacrawler.crawl.BinaryCatalogWriter.VALUE_TRUE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.DriverPropertyInfo;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import schemacrawler.BaseProductVersion;
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.ParameterModeType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Reads a catalog from a binary snapshot. Sections are located with the section table, and decoded
+ * in the order in which they were encoded.
+ *
+ * <p>Tables are first read as an index of table headers, and the rest of each table is only decoded
+ * when it is needed. If a table filter is provided, only tables that match the filter are added to
+ * the catalog, along with the relationships they take part in. Tables outside the filter are
+ * decoded only if they are referenced by a table in the filter, and then only have the
+ * relationships they share with tables in the filter.
+ */
+final class BinaryCatalogReader {
+
+  private final ByteBuffer buffer;
+  private final Predicate<Table> tableFilter;
+  private final Map<Short, ByteBuffer> sections;
+  private final Map<List<String>, SchemaReference> schemas;
+  private final Map<String, TableType> tableTypes;
+  private final Map<String, Class<?>> mappedClasses;
+  private final List<Column> partialColumns;
+  private SnapshotStrings strings;
+  private MutableCatalog catalog;
+  private MutableColumnDataType[] columnDataTypes;
+  private MutableTable[] tables;
+  private ByteBuffer[] tableBodies;
+  private boolean[] includedTables;
+  private MutableRoutine[] routines;
+
+  /**
+   * Reads a snapshot from the current position of the buffer, with all tables.
+   *
+   * @param buffer Buffer with the snapshot
+   */
+  BinaryCatalogReader(final ByteBuffer buffer) {
+    this(buffer, null);
+  }
+
+  /**
+   * Reads a snapshot from the current position of the buffer, with only the tables that match the
+   * filter. The filter is tested against tables that only have a schema, name and table type.
+   *
+   * @param buffer Buffer with the snapshot
+   * @param tableFilter Filter for tables, or null to read all tables
+   */
+  BinaryCatalogReader(final ByteBuffer buffer, final Predicate<Table> tableFilter) {
+    this.buffer = requireNonNull(buffer, "No buffer provided");
+    this.tableFilter = tableFilter;
+    sections = new HashMap<>();
+    schemas = new HashMap<>();
+    tableTypes = new HashMap<>();
+    mappedClasses = new HashMap<>();
+    partialColumns = new ArrayList<>();
+  }
+
+  Catalog read() throws IOException {
+    readSectionTable();
+
+    strings = new SnapshotStrings(sectionBuffer(SECTION_STRINGS));
+    readCatalog(section(SECTION_CATALOG));
+    readSchemas(section(SECTION_SCHEMAS));
+    readColumnDataTypes(section(SECTION_COLUMN_DATA_TYPES));
+    readTables(section(SECTION_TABLES));
+    readRoutines(section(SECTION_ROUTINES));
+    readSequences(section(SECTION_SEQUENCES));
+    readRelationships(section(SECTION_RELATIONSHIPS));
+    readSynonyms(section(SECTION_SYNONYMS));
+
+    return catalog;
+  }
+
+  private Column lookupColumn(final MutableTable table, final String name) throws IOException {
+    return table
+        .lookupColumn(name)
+        .orElseThrow(
+            () ->
+                new StreamCorruptedException(
+                    String.format("Unknown column <%s> in table <%s>", name, table)));
+  }
+
+  private MutableColumnDataType lookupColumnDataType(final int id) throws IOException {
+    if (id == 0) {
+      return null;
+    }
+    if (id > columnDataTypes.length) {
+      throw new StreamCorruptedException("Unknown column data type reference " + id);
+    }
+    return columnDataTypes[id - 1];
+  }
+
+  private Class<?> lookupMappedClass(final String mappedClassName) {
+    return mappedClasses.computeIfAbsent(
+        mappedClassName,
+        className -> {
+          try {
+            return Class.forName(className);
+          } catch (final ClassNotFoundException | RuntimeException e) {
+            return Object.class;
+          }
+        });
+  }
+
+  private Schema lookupSchema(final String catalogName, final String schemaName) {
+    return schemas.computeIfAbsent(
+        Arrays.asList(catalogName, schemaName),
+        key -> new SchemaReference(catalogName, schemaName));
+  }
+
+  private void checkTableReference(final int id) throws IOException {
+    if (id < 0 || id >= tables.length) {
+      throw new StreamCorruptedException("Unknown table reference " + id);
+    }
+  }
+
+  private boolean isTableLoaded(final int id) throws IOException {
+    checkTableReference(id);
+    return tableBodies[id] == null;
+  }
+
+  /** Looks up a table, and decodes the rest of the table the first time that it is needed. */
+  private MutableTable lookupTable(final int id) throws IOException {
+    final boolean isLoaded = isTableLoaded(id);
+    final MutableTable table = tables[id];
+    if (!isLoaded) {
+      final SnapshotInput in = newInput(tableBodies[id]);
+      tableBodies[id] = null;
+      readTableBody(in, table);
+      if (in.hasRemaining()) {
+        throw new StreamCorruptedException("Bad length for table " + table);
+      }
+    }
+    return table;
+  }
+
+  private TableType lookupTableType(final String tableType) {
+    if (tableType == null) {
+      return TableType.UNKNOWN;
+    }
+    return tableTypes.computeIfAbsent(
+        tableType,
+        type -> {
+          if (TableType.UNKNOWN.getTableType().equals(type)) {
+            return TableType.UNKNOWN;
+          }
+          return new TableType(type);
+        });
+  }
+
+  private SnapshotInput newInput(final ByteBuffer sectionBuffer) {
+    final SnapshotInput in = new SnapshotInput(sectionBuffer);
+    if (strings != null) {
+      in.setStrings(strings);
+    }
+    return in;
+  }
+
+  private Map<String, Object> readAttributes(final SnapshotInput in) throws IOException {
+    final int count = in.readVarInt();
+    final Map<String, Object> attributes = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      final String name = in.readString();
+      attributes.put(name, readValue(in));
+    }
+    return attributes;
+  }
+
+  private BigInteger readBigInteger(final SnapshotInput in) throws IOException {
+    final byte[] bytes = in.readBytes();
+    if (bytes.length == 0) {
+      return null;
+    }
+    return new BigInteger(bytes);
+  }
+
+  private void readCatalog(final SnapshotInput in) throws IOException {
+    final String catalogName = in.readString();
+    final String catalogRemarks = in.readString();
+    final Map<String, Object> catalogAttributes = readAttributes(in);
+
+    final MutableDatabaseInfo databaseInfo = new MutableDatabaseInfo();
+    databaseInfo.setProductName(in.readString());
+    databaseInfo.setProductVersion(in.readString());
+    databaseInfo.setUserName(in.readString());
+    final int databasePropertiesCount = in.readVarInt();
+    final List<ImmutableDatabaseProperty> databaseProperties = new ArrayList<>();
+    for (int i = 0; i < databasePropertiesCount; i++) {
+      final String name = in.readString();
+      databaseProperties.add(new ImmutableDatabaseProperty(name, readValue(in)));
+    }
+    databaseInfo.addAll(databaseProperties);
+    final int serverInfoCount = in.readVarInt();
+    for (int i = 0; i < serverInfoCount; i++) {
+      final String name = in.readString();
+      final String value = in.readString();
+      final String description = in.readString();
+      databaseInfo.addServerInfo(new ImmutableServerInfoProperty(name, value, description));
+    }
+
+    final MutableJdbcDriverInfo jdbcDriverInfo = new MutableJdbcDriverInfo();
+    jdbcDriverInfo.setDriverName(in.readString());
+    jdbcDriverInfo.setDriverVersion(in.readString());
+    jdbcDriverInfo.setJdbcDriverClassName(in.readString());
+    jdbcDriverInfo.setConnectionUrl(in.readString());
+    jdbcDriverInfo.setJdbcCompliant(in.readBoolean());
+    final int driverPropertiesCount = in.readVarInt();
+    for (int i = 0; i < driverPropertiesCount; i++) {
+      final DriverPropertyInfo driverPropertyInfo =
+          new DriverPropertyInfo(in.readString(), in.readString());
+      driverPropertyInfo.description = in.readString();
+      driverPropertyInfo.required = in.readBoolean();
+      final int choicesCount = in.readVarInt();
+      if (choicesCount > 0) {
+        driverPropertyInfo.choices = new String[choicesCount];
+        for (int j = 0; j < choicesCount; j++) {
+          driverPropertyInfo.choices[j] = in.readString();
+        }
+      }
+      jdbcDriverInfo.addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+
+    final ProductVersion schemaCrawlerVersion = readProductVersion(in);
+    final ProductVersion operatingSystemVersion = readProductVersion(in);
+    final ProductVersion jvmVersion = readProductVersion(in);
+    final ProductVersion databaseVersion = readProductVersion(in);
+    final ProductVersion jdbcDriverVersion = readProductVersion(in);
+    final long crawlTimestampSeconds = in.readSignedVarLong();
+    final int crawlTimestampNanos = in.readVarInt();
+    final Instant crawlTimestamp =
+        Instant.ofEpochSecond(crawlTimestampSeconds, crawlTimestampNanos);
+    final UUID runId;
+    try {
+      runId = UUID.fromString(in.readString());
+    } catch (final IllegalArgumentException | NullPointerException e) {
+      throw new StreamCorruptedException("Bad run id");
+    }
+    final MutableCrawlInfo crawlInfo =
+        new MutableCrawlInfo(
+            schemaCrawlerVersion,
+            operatingSystemVersion,
+            jvmVersion,
+            databaseVersion,
+            jdbcDriverVersion,
+            crawlTimestamp,
+            runId);
+
+    catalog = new MutableCatalog(catalogName, databaseInfo, jdbcDriverInfo, crawlInfo);
+    setDescription(catalog, catalogRemarks, catalogAttributes);
+
+    final int databaseUsersCount = in.readVarInt();
+    for (int i = 0; i < databaseUsersCount; i++) {
+      final ImmutableDatabaseUser databaseUser = new ImmutableDatabaseUser(in.readString());
+      databaseUser.addAttributes(readAttributes(in));
+      catalog.addDatabaseUser(databaseUser);
+    }
+  }
+
+  private MutableColumn readColumn(final SnapshotInput in, final MutableTable table)
+      throws IOException {
+    final MutableColumn column = new MutableColumn(table, in.readString());
+    column.setOrdinalPosition(in.readVarInt());
+    column.setColumnDataType(lookupColumnDataType(in.readVarInt()));
+    column.setSize(in.readSignedVarInt());
+    column.setDecimalDigits(in.readSignedVarInt());
+    column.setNullable(in.readBoolean());
+    column.setDefaultValue(in.readString());
+    final int flags = in.readByte();
+    column.setAutoIncremented((flags & 1) != 0);
+    column.setGenerated((flags & 1 << 1) != 0);
+    column.setHidden((flags & 1 << 2) != 0);
+    if ((flags & 1 << 3) != 0) {
+      column.markAsPartOfIndex();
+    }
+    if ((flags & 1 << 4) != 0) {
+      column.markAsPartOfPrimaryKey();
+    }
+    if ((flags & 1 << 5) != 0) {
+      column.markAsPartOfUniqueIndex();
+    }
+    readDescription(in, column);
+
+    final int privilegesCount = in.readVarInt();
+    for (int i = 0; i < privilegesCount; i++) {
+      final MutablePrivilege<Column> privilege =
+          new MutablePrivilege<>(new ColumnReference(column), in.readString());
+      readPrivilege(in, privilege);
+      column.addPrivilege(privilege);
+    }
+    return column;
+  }
+
+  private void readColumnDataTypes(final SnapshotInput in) throws IOException {
+    final int count = in.readVarInt();
+    final int catalogCount = in.readVarInt();
+    final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+    final int[] baseTypeIds = new int[count];
+    columnDataTypes = new MutableColumnDataType[count];
+    for (int i = 0; i < count; i++) {
+      final Schema schema = lookupSchema(in.readString(), in.readString());
+      final MutableColumnDataType columnDataType =
+          new MutableColumnDataType(schema, in.readString());
+      columnDataType.setJavaSqlType(javaSqlTypes.valueOf(in.readSignedVarInt()));
+      columnDataType.setTypeMappedClass(lookupMappedClass(in.readString()));
+      baseTypeIds[i] = in.readVarInt();
+      columnDataType.setAutoIncrementable(in.readBoolean());
+      columnDataType.setCaseSensitive(in.readBoolean());
+      columnDataType.setCreateParameters(in.readString());
+      columnDataType.setFixedPrecisionScale(in.readBoolean());
+      columnDataType.setLiteralPrefix(in.readString());
+      columnDataType.setLiteralSuffix(in.readString());
+      columnDataType.setLocalTypeName(in.readString());
+      columnDataType.setMaximumScale(in.readSignedVarInt());
+      columnDataType.setMinimumScale(in.readSignedVarInt());
+      columnDataType.setNullable(in.readBoolean());
+      columnDataType.setNumPrecisionRadix(in.readSignedVarInt());
+      columnDataType.setPrecision(in.readSignedVarLong());
+      columnDataType.setSearchable(in.readOrdinal(SearchableType.values()));
+      columnDataType.setUnsigned(in.readBoolean());
+      columnDataType.setUserDefined(in.readBoolean());
+      final int enumValuesCount = in.readVarInt();
+      final List<String> enumValues = new ArrayList<>(enumValuesCount);
+      for (int j = 0; j < enumValuesCount; j++) {
+        enumValues.add(in.readString());
+      }
+      columnDataType.setEnumValues(enumValues);
+      readDescription(in, columnDataType);
+      columnDataTypes[i] = columnDataType;
+    }
+
+    // Base types can refer to any column data type in the section
+    for (int i = 0; i < count; i++) {
+      columnDataTypes[i].setBaseType(lookupColumnDataType(baseTypeIds[i]));
+    }
+    for (int i = 0; i < catalogCount; i++) {
+      catalog.addColumnDataType(columnDataTypes[i]);
+    }
+  }
+
+  /**
+   * Reads a column reference, creating partial tables and columns for columns that are not in the
+   * snapshot, in the same order in which they were written. Partial columns are always created,
+   * since later references may refer back to them, but columns of tables are only looked up if the
+   * reference is resolved.
+   */
+  private Column readColumnReference(final SnapshotInput in, final boolean resolve)
+      throws IOException {
+    final int kind = in.readVarInt();
+    switch (kind) {
+      case COLUMN_REFERENCE_NULL:
+        return null;
+      case COLUMN_REFERENCE_TABLE_COLUMN:
+        final int tableId = in.readVarInt();
+        final String columnName = in.readString();
+        if (!resolve) {
+          checkTableReference(tableId);
+          return null;
+        }
+        return lookupColumn(lookupTable(tableId), columnName);
+      case COLUMN_REFERENCE_PARTIAL:
+        final int partialColumnId = in.readVarInt();
+        if (partialColumnId < 0 || partialColumnId >= partialColumns.size()) {
+          throw new StreamCorruptedException("Unknown column reference " + partialColumnId);
+        }
+        return partialColumns.get(partialColumnId);
+      case COLUMN_REFERENCE_NEW_PARTIAL:
+        final Column partialColumn;
+        if (in.readBoolean()) {
+          partialColumn = new ColumnPartial(lookupTable(in.readVarInt()), in.readString());
+        } else {
+          final Schema schema = lookupSchema(in.readString(), in.readString());
+          final TablePartial tablePartial = new TablePartial(schema, in.readString());
+          partialColumn = new ColumnPartial(tablePartial, in.readString());
+          tablePartial.addColumn(partialColumn);
+        }
+        partialColumns.add(partialColumn);
+        return partialColumn;
+      default:
+        throw new StreamCorruptedException("Unknown column reference type " + kind);
+    }
+  }
+
+  private void readDescription(
+      final SnapshotInput in, final AbstractNamedObjectWithAttributes namedObject)
+      throws IOException {
+    final String remarks = in.readString();
+    setDescription(namedObject, remarks, readAttributes(in));
+  }
+
+  private MutableForeignKey readForeignKey(final SnapshotInput in, final boolean resolve)
+      throws IOException {
+    final MutableForeignKey foreignKey = new MutableForeignKey(in.readString());
+    foreignKey.setSpecificName(in.readString());
+    foreignKey.setUpdateRule(in.readOrdinal(ForeignKeyUpdateRule.values()));
+    foreignKey.setDeleteRule(in.readOrdinal(ForeignKeyUpdateRule.values()));
+    foreignKey.setDeferrability(in.readOrdinal(ForeignKeyDeferrability.values()));
+    foreignKey.appendDefinition(in.readString());
+    readDescription(in, foreignKey);
+    final int columnReferencesCount = in.readVarInt();
+    for (int i = 0; i < columnReferencesCount; i++) {
+      final int keySequence = in.readVarInt();
+      final Column pkColumn = readColumnReference(in, resolve);
+      final Column fkColumn = readColumnReference(in, resolve);
+      if (!resolve) {
+        continue;
+      }
+      foreignKey.addColumnReference(keySequence, pkColumn, fkColumn);
+
+      // Link partial tables to the foreign key, in the same way as when
+      // the foreign key is retrieved
+      if (fkColumn instanceof ColumnPartial) {
+        ((ColumnPartial) fkColumn).setReferencedColumn(pkColumn);
+        if (fkColumn.getParent() instanceof TablePartial) {
+          ((TablePartial) fkColumn.getParent()).addForeignKey(foreignKey);
+        }
+      }
+      if (pkColumn instanceof ColumnPartial && pkColumn.getParent() instanceof TablePartial) {
+        ((TablePartial) pkColumn.getParent()).addForeignKey(foreignKey);
+      }
+    }
+    return foreignKey;
+  }
+
+  private MutableIndex readIndex(final SnapshotInput in, final MutableTable table)
+      throws IOException {
+    final MutableIndex index = new MutableIndex(table, in.readString());
+    index.setUnique(in.readBoolean());
+    final IndexType indexType = in.readOrdinal(IndexType.values());
+    index.setIndexType(indexType == null ? IndexType.unknown : indexType);
+    index.setCardinality(in.readSignedVarInt());
+    index.setPages(in.readSignedVarInt());
+    index.appendDefinition(in.readString());
+    readDescription(in, index);
+    final int columnsCount = in.readVarInt();
+    for (int i = 0; i < columnsCount; i++) {
+      final boolean isPartial = in.readBoolean();
+      final String columnName = in.readString();
+      final Column column;
+      if (isPartial) {
+        column = new ColumnPartial(table, columnName);
+      } else {
+        column = lookupColumn(table, columnName);
+      }
+      final MutableIndexColumn indexColumn = new MutableIndexColumn(index, column);
+      indexColumn.setKeyOrdinalPosition(in.readSignedVarInt());
+      indexColumn.setSortSequence(in.readOrdinal(IndexColumnSortSequence.values()));
+      readKeyColumnDescription(in, indexColumn);
+      index.addColumn(indexColumn);
+    }
+    return index;
+  }
+
+  private void readKeyColumnDescription(final SnapshotInput in, final MutableKeyColumn keyColumn)
+      throws IOException {
+    keyColumn.appendDefinition(in.readString());
+    readDescription(in, keyColumn);
+  }
+
+  private void readPrivilege(final SnapshotInput in, final MutablePrivilege<?> privilege)
+      throws IOException {
+    readDescription(in, privilege);
+    final int grantsCount = in.readVarInt();
+    for (int i = 0; i < grantsCount; i++) {
+      privilege.addGrant(in.readString(), in.readString(), in.readBoolean());
+    }
+  }
+
+  private ProductVersion readProductVersion(final SnapshotInput in) throws IOException {
+    if (!in.readBoolean()) {
+      return null;
+    }
+    final String productName = in.readString();
+    final String productVersion = in.readString();
+    if (productName == null || productVersion == null) {
+      throw new StreamCorruptedException("Incomplete product version");
+    }
+    return new BaseProductVersion(productName, productVersion);
+  }
+
+  /**
+   * Reads relationships between tables. Relationships that no included table takes part in are read
+   * past, without decoding the tables at either end.
+   */
+  private void readRelationships(final SnapshotInput in) throws IOException {
+    final int viewsCount = in.readVarInt();
+    for (int i = 0; i < viewsCount; i++) {
+      final int viewId = in.readVarInt();
+      final int tableUsageCount = in.readVarInt();
+      MutableView view = null;
+      checkTableReference(viewId);
+      if (includedTables[viewId]) {
+        final MutableTable table = lookupTable(viewId);
+        if (!(table instanceof MutableView)) {
+          throw new StreamCorruptedException("Table usage for a table that is not a view");
+        }
+        view = (MutableView) table;
+      }
+      for (int j = 0; j < tableUsageCount; j++) {
+        final int usedTableId = in.readVarInt();
+        if (view != null) {
+          view.addTableUsage(lookupTable(usedTableId));
+        }
+      }
+    }
+
+    final int foreignKeysCount = in.readVarInt();
+    final int[][] tableForeignKeyIds = readTableRelationshipIds(in, foreignKeysCount);
+    final boolean[] neededForeignKeys = neededRelationships(tableForeignKeyIds, foreignKeysCount);
+    final MutableForeignKey[] foreignKeys = new MutableForeignKey[foreignKeysCount];
+    for (int i = 0; i < foreignKeysCount; i++) {
+      foreignKeys[i] = readForeignKey(in, neededForeignKeys[i]);
+    }
+    for (int tableId = 0; tableId < tables.length; tableId++) {
+      for (final int foreignKeyId : tableForeignKeyIds[tableId]) {
+        if (neededForeignKeys[foreignKeyId]) {
+          lookupTable(tableId).addForeignKey(foreignKeys[foreignKeyId]);
+        }
+      }
+    }
+
+    final int weakAssociationsCount = in.readVarInt();
+    final int[][] tableWeakAssociationIds = readTableRelationshipIds(in, weakAssociationsCount);
+    final boolean[] neededWeakAssociations =
+        neededRelationships(tableWeakAssociationIds, weakAssociationsCount);
+    final WeakAssociation[] weakAssociations = new WeakAssociation[weakAssociationsCount];
+    for (int i = 0; i < weakAssociationsCount; i++) {
+      final boolean resolve = neededWeakAssociations[i];
+      final WeakAssociation weakAssociation = new WeakAssociation(in.readString());
+      final int columnReferencesCount = in.readVarInt();
+      for (int j = 0; j < columnReferencesCount; j++) {
+        final Column pkColumn = readColumnReference(in, resolve);
+        final Column fkColumn = readColumnReference(in, resolve);
+        if (resolve) {
+          weakAssociation.addColumnReference(pkColumn, fkColumn);
+        }
+      }
+      weakAssociations[i] = weakAssociation;
+    }
+    for (int tableId = 0; tableId < tables.length; tableId++) {
+      for (final int weakAssociationId : tableWeakAssociationIds[tableId]) {
+        if (neededWeakAssociations[weakAssociationId]) {
+          lookupTable(tableId).addWeakAssociation(weakAssociations[weakAssociationId]);
+        }
+      }
+    }
+
+    final int referencingColumnsCount = in.readVarInt();
+    for (int i = 0; i < referencingColumnsCount; i++) {
+      final int tableId = in.readVarInt();
+      final String columnName = in.readString();
+      final boolean resolve = isTableLoaded(tableId);
+      final Column referencedColumn = readColumnReference(in, resolve);
+      if (resolve) {
+        final Column column = lookupColumn(tables[tableId], columnName);
+        if (column instanceof MutableColumn) {
+          ((MutableColumn) column).setReferencedColumn(referencedColumn);
+        }
+      }
+    }
+  }
+
+  private void readRoutines(final SnapshotInput in) throws IOException {
+    final int count = in.readVarInt();
+    final int catalogCount = in.readVarInt();
+    routines = new MutableRoutine[count];
+    for (int i = 0; i < count; i++) {
+      final boolean isFunction = in.readBoolean();
+      final Schema schema = lookupSchema(in.readString(), in.readString());
+      final String name = in.readString();
+      final MutableRoutine routine;
+      if (isFunction) {
+        routine = new MutableFunction(schema, name);
+      } else {
+        routine = new MutableProcedure(schema, name);
+      }
+      routine.setSpecificName(in.readString());
+      routine.setRoutineBodyType(in.readOrdinal(RoutineBodyType.values()));
+      if (isFunction) {
+        final FunctionReturnType returnType = in.readOrdinal(FunctionReturnType.values());
+        if (returnType != null) {
+          ((MutableFunction) routine).setReturnType(returnType);
+        }
+      } else {
+        final ProcedureReturnType returnType = in.readOrdinal(ProcedureReturnType.values());
+        if (returnType != null) {
+          ((MutableProcedure) routine).setReturnType(returnType);
+        }
+      }
+      routine.appendDefinition(in.readString());
+      readDescription(in, routine);
+
+      final int parametersCount = in.readVarInt();
+      for (int j = 0; j < parametersCount; j++) {
+        final String parameterName = in.readString();
+        final MutableRoutineParameter<?> parameter;
+        if (isFunction) {
+          parameter = new MutableFunctionParameter((MutableFunction) routine, parameterName);
+        } else {
+          parameter = new MutableProcedureParameter((MutableProcedure) routine, parameterName);
+        }
+        parameter.setOrdinalPosition(in.readVarInt());
+        parameter.setColumnDataType(lookupColumnDataType(in.readVarInt()));
+        parameter.setSize(in.readSignedVarInt());
+        parameter.setDecimalDigits(in.readSignedVarInt());
+        parameter.setNullable(in.readBoolean());
+        parameter.setParameterMode(in.readOrdinal(ParameterModeType.values()));
+        readDescription(in, parameter);
+        if (isFunction) {
+          ((MutableFunction) routine).addParameter((MutableFunctionParameter) parameter);
+        } else {
+          ((MutableProcedure) routine).addParameter((MutableProcedureParameter) parameter);
+        }
+      }
+      routines[i] = routine;
+    }
+    for (int i = 0; i < catalogCount; i++) {
+      catalog.addRoutine(routines[i]);
+    }
+  }
+
+  private void readSchemas(final SnapshotInput in) throws IOException {
+    final int count = in.readVarInt();
+    for (int i = 0; i < count; i++) {
+      final SchemaReference schema =
+          (SchemaReference) lookupSchema(in.readString(), in.readString());
+      for (final Map.Entry<String, Object> attribute : readAttributes(in).entrySet()) {
+        schema.setAttribute(attribute.getKey(), attribute.getValue());
+      }
+      catalog.addSchema(schema);
+    }
+  }
+
+  private void readSectionTable() throws IOException {
+    final ByteBuffer header = buffer.duplicate();
+    final int start = header.position();
+    if (header.remaining() < HEADER_LENGTH) {
+      throw new StreamCorruptedException("Not a catalog snapshot");
+    }
+    final byte[] magic = new byte[MAGIC.length];
+    header.get(magic);
+    if (!Arrays.equals(magic, MAGIC)) {
+      throw new StreamCorruptedException("Not a catalog snapshot");
+    }
+    final short version = header.getShort();
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unsupported catalog snapshot format version " + version);
+    }
+    final int sectionsCount = header.getShort();
+    for (int i = 0; i < sectionsCount; i++) {
+      final short sectionId = header.getShort();
+      final long offset = header.getLong();
+      final int length = header.getInt();
+      if (offset < 0 || length < 0 || start + offset + length > buffer.limit()) {
+        throw new StreamCorruptedException("Bad section table entry for section " + sectionId);
+      }
+      final ByteBuffer section = buffer.duplicate();
+      section.position((int) (start + offset));
+      section.limit((int) (start + offset + length));
+      sections.put(sectionId, section.slice());
+    }
+  }
+
+  private void readSequences(final SnapshotInput in) throws IOException {
+    final int count = in.readVarInt();
+    for (int i = 0; i < count; i++) {
+      final Schema schema = lookupSchema(in.readString(), in.readString());
+      final MutableSequence sequence = new MutableSequence(schema, in.readString());
+      readDescription(in, sequence);
+      sequence.setIncrement(in.readSignedVarLong());
+      sequence.setStartValue(readBigInteger(in));
+      sequence.setMinimumValue(readBigInteger(in));
+      sequence.setMaximumValue(readBigInteger(in));
+      sequence.setCycle(in.readBoolean());
+      catalog.addSequence(sequence);
+    }
+  }
+
+  private void readSynonyms(final SnapshotInput in) throws IOException {
+    final int count = in.readVarInt();
+    for (int i = 0; i < count; i++) {
+      final Schema schema = lookupSchema(in.readString(), in.readString());
+      final MutableSynonym synonym = new MutableSynonym(schema, in.readString());
+      readDescription(in, synonym);
+
+      final int kind = in.readVarInt();
+      final DatabaseObject referencedObject;
+      switch (kind) {
+        case REFERENCED_OBJECT_TABLE:
+          referencedObject = lookupTable(in.readVarInt());
+          break;
+        case REFERENCED_OBJECT_ROUTINE:
+          final int routineId = in.readVarInt();
+          if (routineId < 0 || routineId >= routines.length) {
+            throw new StreamCorruptedException("Unknown routine reference " + routineId);
+          }
+          referencedObject = routines[routineId];
+          break;
+        case REFERENCED_OBJECT_PARTIAL_TABLE:
+          final Schema tableSchema = lookupSchema(in.readString(), in.readString());
+          referencedObject = new TablePartial(tableSchema, in.readString());
+          break;
+        case REFERENCED_OBJECT_OTHER:
+          final Schema objectSchema = lookupSchema(in.readString(), in.readString());
+          referencedObject =
+              new AbstractDatabaseObject(objectSchema, in.readString()) {
+                private static final long serialVersionUID = -4244283657829315421L;
+              };
+          break;
+        default:
+          throw new StreamCorruptedException("Unknown referenced object type " + kind);
+      }
+      synonym.setReferencedObject(referencedObject);
+      catalog.addSynonym(synonym);
+    }
+  }
+
+  private void readTableBody(final SnapshotInput in, final MutableTable table) throws IOException {
+    readDescription(in, table);
+    table.appendDefinition(in.readString());
+    table.setSortIndex(in.readSignedVarInt());
+    if (table instanceof MutableView) {
+      final MutableView view = (MutableView) table;
+      view.setCheckOption(in.readOrdinal(CheckOptionType.values()));
+      view.setUpdatable(in.readBoolean());
+    }
+
+    final int columnsCount = in.readVarInt();
+    for (int i = 0; i < columnsCount; i++) {
+      table.addColumn(readColumn(in, table));
+    }
+    final int hiddenColumnsCount = in.readVarInt();
+    for (int i = 0; i < hiddenColumnsCount; i++) {
+      table.addHiddenColumn(readColumn(in, table));
+    }
+
+    if (in.readBoolean()) {
+      final MutablePrimaryKey primaryKey = new MutablePrimaryKey(table, in.readString());
+      readTableConstraint(in, table, primaryKey);
+      table.setPrimaryKey(primaryKey);
+    }
+
+    final int tableConstraintsCount = in.readVarInt();
+    for (int i = 0; i < tableConstraintsCount; i++) {
+      final MutableTableConstraint tableConstraint =
+          new MutableTableConstraint(table, in.readString());
+      readTableConstraint(in, table, tableConstraint);
+      table.addTableConstraint(tableConstraint);
+    }
+
+    final int indexesCount = in.readVarInt();
+    for (int i = 0; i < indexesCount; i++) {
+      table.addIndex(readIndex(in, table));
+    }
+
+    final int triggersCount = in.readVarInt();
+    for (int i = 0; i < triggersCount; i++) {
+      final MutableTrigger trigger = new MutableTrigger(table, in.readString());
+      trigger.setEventManipulationType(in.readOrdinal(EventManipulationType.values()));
+      trigger.setActionOrder(in.readSignedVarInt());
+      trigger.appendActionCondition(in.readString());
+      trigger.appendActionStatement(in.readString());
+      trigger.setActionOrientation(in.readOrdinal(ActionOrientationType.values()));
+      trigger.setConditionTiming(in.readOrdinal(ConditionTimingType.values()));
+      readDescription(in, trigger);
+      table.addTrigger(trigger);
+    }
+
+    final int privilegesCount = in.readVarInt();
+    for (int i = 0; i < privilegesCount; i++) {
+      final MutablePrivilege<Table> privilege =
+          new MutablePrivilege<>(new TableReference(table), in.readString());
+      readPrivilege(in, privilege);
+      table.addPrivilege(privilege);
+    }
+  }
+
+  private void readTableConstraint(
+      final SnapshotInput in,
+      final MutableTable table,
+      final MutableTableConstraint tableConstraint)
+      throws IOException {
+    tableConstraint.setTableConstraintType(in.readOrdinal(TableConstraintType.values()));
+    tableConstraint.setDeferrable(in.readBoolean());
+    tableConstraint.setInitiallyDeferred(in.readBoolean());
+    tableConstraint.appendDefinition(in.readString());
+    readDescription(in, tableConstraint);
+    final int columnsCount = in.readVarInt();
+    for (int i = 0; i < columnsCount; i++) {
+      final Column column = lookupColumn(table, in.readString());
+      final MutableTableConstraintColumn tableConstraintColumn =
+          new MutableTableConstraintColumn(tableConstraint, (MutableColumn) column);
+      tableConstraintColumn.setKeyOrdinalPosition(in.readSignedVarInt());
+      readKeyColumnDescription(in, tableConstraintColumn);
+      tableConstraint.addColumn(tableConstraintColumn);
+    }
+  }
+
+  private MutableTable readTableHeader(final SnapshotInput in) throws IOException {
+    final boolean isView = in.readBoolean();
+    final Schema schema = lookupSchema(in.readString(), in.readString());
+    final String name = in.readString();
+    final MutableTable table;
+    if (isView) {
+      table = new MutableView(schema, name);
+    } else {
+      table = new MutableTable(schema, name);
+    }
+    table.setTableType(lookupTableType(in.readString()));
+    return table;
+  }
+
+  /**
+   * Tables are length-prefixed, so only the header of each table is read, and the rest of the table
+   * is kept as a slice of the section until it is needed. Tables in the catalog that match the
+   * table filter are decoded right away.
+   */
+  private void readTables(final SnapshotInput in) throws IOException {
+    final int count = in.readVarInt();
+    final int catalogCount = in.readVarInt();
+    if (catalogCount < 0 || catalogCount > count) {
+      throw new StreamCorruptedException("Bad number of catalog tables " + catalogCount);
+    }
+    tables = new MutableTable[count];
+    tableBodies = new ByteBuffer[count];
+    includedTables = new boolean[count];
+    for (int i = 0; i < count; i++) {
+      final int length = in.readVarInt();
+      final int position = in.position();
+      tables[i] = readTableHeader(in);
+      final int bodyLength = length - (in.position() - position);
+      if (bodyLength < 0) {
+        throw new StreamCorruptedException("Bad length for table " + tables[i]);
+      }
+      tableBodies[i] = in.readSlice(bodyLength);
+    }
+
+    for (int i = 0; i < count; i++) {
+      if (tableFilter == null) {
+        includedTables[i] = true;
+      } else {
+        includedTables[i] = i < catalogCount && tableFilter.test(tables[i]);
+      }
+      if (includedTables[i]) {
+        lookupTable(i);
+      }
+    }
+    for (int i = 0; i < catalogCount; i++) {
+      if (includedTables[i]) {
+        catalog.addTable(tables[i]);
+      }
+    }
+  }
+
+  /** Reads the ids of the relationships that each table takes part in. */
+  private int[][] readTableRelationshipIds(final SnapshotInput in, final int count)
+      throws IOException {
+    final int[][] tableRelationshipIds = new int[tables.length][];
+    for (int tableId = 0; tableId < tables.length; tableId++) {
+      final int[] relationshipIds = new int[in.readVarInt()];
+      for (int i = 0; i < relationshipIds.length; i++) {
+        relationshipIds[i] = in.readVarInt();
+        if (relationshipIds[i] < 0 || relationshipIds[i] >= count) {
+          throw new StreamCorruptedException(
+              "Unknown relationship reference " + relationshipIds[i]);
+        }
+      }
+      tableRelationshipIds[tableId] = relationshipIds;
+    }
+    return tableRelationshipIds;
+  }
+
+  /** Relationships are needed if an included table takes part in them. */
+  private boolean[] neededRelationships(final int[][] tableRelationshipIds, final int count) {
+    final boolean[] neededRelationships = new boolean[count];
+    for (int tableId = 0; tableId < tables.length; tableId++) {
+      if (includedTables[tableId]) {
+        for (final int relationshipId : tableRelationshipIds[tableId]) {
+          neededRelationships[relationshipId] = true;
+        }
+      }
+    }
+    return neededRelationships;
+  }
+
+  private Object readValue(final SnapshotInput in) throws IOException {
+    final int type = in.readVarInt();
+    switch (type) {
+      case VALUE_NULL:
+        return null;
+      case VALUE_STRING:
+        return in.readString();
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      case VALUE_INTEGER:
+        return in.readSignedVarInt();
+      case VALUE_LONG:
+        return in.readSignedVarLong();
+      case VALUE_STRING_ARRAY:
+        final String[] values = new String[in.readVarInt()];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = in.readString();
+        }
+        return values;
+      case VALUE_SERIALIZED:
+        try (final ObjectInputStream objIn =
+            new ObjectInputStream(new ByteArrayInputStream(in.readBytes()))) {
+          return objIn.readObject();
+        } catch (final ClassNotFoundException e) {
+          throw new IOException("Cannot read attribute value", e);
+        }
+      default:
+        throw new StreamCorruptedException("Unknown value type " + type);
+    }
+  }
+
+  private SnapshotInput section(final short sectionId) throws IOException {
+    return newInput(sectionBuffer(sectionId));
+  }
+
+  private ByteBuffer sectionBuffer(final short sectionId) throws IOException {
+    final ByteBuffer section = sections.get(sectionId);
+    if (section == null) {
+      throw new StreamCorruptedException("Missing catalog snapshot section " + sectionId);
+    }
+    return section;
+  }
+
+  private void setDescription(
+      final AbstractNamedObjectWithAttributes namedObject,
+      final String remarks,
+      final Map<String, Object> attributes) {
+    if (remarks != null) {
+      namedObject.setRemarks(remarks);
+    }
+    namedObject.addAttributes(attributes);
+  }
+}
@@ -0,0 +1,205 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Compact binary snapshot format for a catalog. The snapshot starts with a fixed header and a
+ * section table, which gives the offset and length of each section, so that readers can seek
+ * directly to a section. All strings are interned into a single string table section, and other
+ * sections refer to strings, tables, routines and column data types by variable-length integer ids.
+ *
+ * <pre>
+ * header        magic "SCSNAP", format version (short), number of sections (short)
+ * section table section id (short), offset from start of snapshot (long), length (int)
+ * sections      strings, catalog, schemas, column data types, tables, routines, sequences,
+ *               relationships, synonyms
+ * </pre>
+ *
+ * <p>Each table starts with its length and a header with the schema, name and table type, so that
+ * tables can be filtered before they are decoded.
+ */
+public final class BinaryCatalogSnapshot {
+
+  static final short FORMAT_VERSION = 2;
+
+  static final int HEADER_LENGTH = 10;
+  static final byte[] MAGIC = {'S', 'C', 'S', 'N', 'A', 'P'};
+
+  static final short SECTION_STRINGS = 1;
+  static final short SECTION_CATALOG = 2;
+  static final short SECTION_SCHEMAS = 3;
+  static final short SECTION_COLUMN_DATA_TYPES = 4;
+  static final short SECTION_TABLES = 5;
+  static final short SECTION_ROUTINES = 6;
+  static final short SECTION_SEQUENCES = 7;
+  static final short SECTION_RELATIONSHIPS = 8;
+  static final short SECTION_SYNONYMS = 9;
+  static final int SECTION_TABLE_ENTRY_LENGTH = 14;
+
+  /**
+   * Checks if the bytes are the start of a binary catalog snapshot.
+   *
+   * @param header Leading bytes of a file or stream
+   * @return True if the bytes start with the snapshot magic number
+   */
+  public static boolean isBinaryCatalogSnapshot(final byte[] header) {
+    return header != null
+        && header.length >= MAGIC.length
+        && Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC);
+  }
+
+  /**
+   * Loads a catalog from a binary snapshot held in a buffer. The snapshot is read from the current
+   * position of the buffer.
+   *
+   * @param buffer Buffer with the snapshot
+   * @return Loaded catalog
+   * @throws SchemaCrawlerException On an exception reading the snapshot
+   */
+  public static Catalog loadCatalog(final ByteBuffer buffer) throws SchemaCrawlerException {
+    requireNonNull(buffer, "No buffer provided");
+    try {
+      return new BinaryCatalogReader(buffer).read();
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Cannot load catalog snapshot", e);
+    }
+  }
+
+  /**
+   * Loads a catalog from a binary snapshot held in a buffer, with only the tables that match the
+   * filter. The filter is tested before the rest of the table is decoded, against a table that has
+   * only a schema, name and table type, so it cannot depend on columns or other details of the
+   * table. Tables outside the filter are only decoded if a table in the filter refers to them.
+   *
+   * @param buffer Buffer with the snapshot
+   * @param tableFilter Filter for tables to load
+   * @return Loaded catalog
+   * @throws SchemaCrawlerException On an exception reading the snapshot
+   */
+  public static Catalog loadCatalog(final ByteBuffer buffer, final Predicate<Table> tableFilter)
+      throws SchemaCrawlerException {
+    requireNonNull(buffer, "No buffer provided");
+    requireNonNull(tableFilter, "No table filter provided");
+    try {
+      return new BinaryCatalogReader(buffer, tableFilter).read();
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Cannot load catalog snapshot", e);
+    }
+  }
+
+  /**
+   * Loads a catalog from a binary snapshot file, with only the tables that match the filter. The
+   * file is memory-mapped, so that only the parts of the file that are needed are read.
+   *
+   * @param path Snapshot file
+   * @param tableFilter Filter for tables to load
+   * @return Loaded catalog
+   * @throws SchemaCrawlerException On an exception reading the snapshot
+   * @see #loadCatalog(ByteBuffer, Predicate)
+   */
+  public static Catalog loadCatalog(final Path path, final Predicate<Table> tableFilter)
+      throws SchemaCrawlerException {
+    requireNonNull(path, "No snapshot file provided");
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new SchemaCrawlerException("Catalog snapshot is too large to map, " + path);
+      }
+      final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+      return loadCatalog(buffer, tableFilter);
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Cannot load catalog snapshot, " + path, e);
+    }
+  }
+
+  /**
+   * Loads a catalog from a binary snapshot. The input stream is read fully, but not closed.
+   *
+   * @param in Input stream with the snapshot
+   * @return Loaded catalog
+   * @throws SchemaCrawlerException On an exception reading the snapshot
+   */
+  public static Catalog loadCatalog(final InputStream in) throws SchemaCrawlerException {
+    requireNonNull(in, "No input stream provided");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try {
+      final byte[] buffer = new byte[64 * 1024];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        bytes.write(buffer, 0, read);
+      }
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Cannot load catalog snapshot", e);
+    }
+    return loadCatalog(ByteBuffer.wrap(bytes.toByteArray()));
+  }
+
+  /**
+   * Saves a catalog as a binary snapshot. The output stream is flushed, but not closed.
+   *
+   * @param catalog Catalog to save
+   * @param out Output stream for the snapshot
+   * @throws SchemaCrawlerException On an exception writing the snapshot
+   */
+  public static void saveCatalog(final Catalog catalog, final OutputStream out)
+      throws SchemaCrawlerException {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(out, "No output stream provided");
+    try {
+      final BufferedOutputStream bufferedOut = new BufferedOutputStream(out, 64 * 1024);
+      new BinaryCatalogWriter(catalog).write(bufferedOut);
+      bufferedOut.flush();
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not save catalog snapshot", e);
+    }
+  }
+
+  private BinaryCatalogSnapshot() {
+    // Prevent instantiation
+  }
+}
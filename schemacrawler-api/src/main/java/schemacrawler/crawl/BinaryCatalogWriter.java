@@ -0,0 +1,928 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.FORMAT_VERSION;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.HEADER_LENGTH;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.MAGIC;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_CATALOG;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_COLUMN_DATA_TYPES;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_RELATIONSHIPS;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_ROUTINES;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_SCHEMAS;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_SEQUENCES;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_STRINGS;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_SYNONYMS;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_TABLES;
+import static schemacrawler.crawl.BinaryCatalogSnapshot.SECTION_TABLE_ENTRY_LENGTH;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.DefinedObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Function;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Procedure;
+import schemacrawler.schema.Property;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+
+/**
+ * Writes a catalog as a binary snapshot. Sections are encoded in the order that they are decoded,
+ * since references to partial columns are numbered in the order that they are first written.
+ */
+final class BinaryCatalogWriter {
+
+  static final int COLUMN_REFERENCE_NULL = 0;
+  static final int COLUMN_REFERENCE_TABLE_COLUMN = 1;
+  static final int COLUMN_REFERENCE_NEW_PARTIAL = 2;
+  static final int COLUMN_REFERENCE_PARTIAL = 3;
+
+  static final int REFERENCED_OBJECT_TABLE = 0;
+  static final int REFERENCED_OBJECT_ROUTINE = 1;
+  static final int REFERENCED_OBJECT_PARTIAL_TABLE = 2;
+  static final int REFERENCED_OBJECT_OTHER = 3;
+
+  static final int VALUE_NULL = 0;
+  static final int VALUE_STRING = 1;
+  static final int VALUE_TRUE = 2;
+  static final int VALUE_FALSE = 3;
+  static final int VALUE_INTEGER = 4;
+  static final int VALUE_LONG = 5;
+  static final int VALUE_STRING_ARRAY = 6;
+  static final int VALUE_SERIALIZED = 7;
+
+  private final Catalog catalog;
+  private final Map<String, Integer> stringTable;
+  private final List<String> strings;
+  private final Map<Table, Integer> tableIds;
+  private final List<Table> tables;
+  private final Map<Routine, Integer> routineIds;
+  private final List<Routine> routines;
+  private final Map<ColumnDataType, Integer> columnDataTypeIds;
+  private final List<ColumnDataType> columnDataTypes;
+  private final Map<Column, Integer> partialColumnIds;
+  private final Map<Table, List<Column>> tableColumns;
+  private final Map<Table, Collection<Column>> tableHiddenColumns;
+  private final Map<Table, Collection<ForeignKey>> tableForeignKeys;
+  private final Map<Table, Collection<WeakAssociation>> tableWeakAssociations;
+  private int catalogTablesCount;
+  private int catalogRoutinesCount;
+  private int catalogColumnDataTypesCount;
+
+  BinaryCatalogWriter(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    stringTable = new HashMap<>();
+    strings = new ArrayList<>();
+    tableIds = new IdentityHashMap<>();
+    tables = new ArrayList<>();
+    routineIds = new IdentityHashMap<>();
+    routines = new ArrayList<>();
+    columnDataTypeIds = new IdentityHashMap<>();
+    columnDataTypes = new ArrayList<>();
+    partialColumnIds = new IdentityHashMap<>();
+    tableColumns = new IdentityHashMap<>();
+    tableHiddenColumns = new IdentityHashMap<>();
+    tableForeignKeys = new IdentityHashMap<>();
+    tableWeakAssociations = new IdentityHashMap<>();
+  }
+
+  void write(final OutputStream out) throws IOException {
+    collectObjects();
+
+    // Encode sections in the order in which they are decoded, and keep
+    // column data types and strings for last, since they are collected
+    // while the other sections are encoded
+    final Map<Short, SnapshotOutput> sections = new LinkedHashMap<>();
+    sections.put(SECTION_STRINGS, null);
+    sections.put(SECTION_CATALOG, writeCatalog());
+    sections.put(SECTION_SCHEMAS, writeSchemas());
+    sections.put(SECTION_COLUMN_DATA_TYPES, null);
+    sections.put(SECTION_TABLES, writeTables());
+    sections.put(SECTION_ROUTINES, writeRoutines());
+    sections.put(SECTION_SEQUENCES, writeSequences());
+    sections.put(SECTION_RELATIONSHIPS, writeRelationships());
+    sections.put(SECTION_SYNONYMS, writeSynonyms());
+    sections.put(SECTION_COLUMN_DATA_TYPES, writeColumnDataTypes());
+    sections.put(SECTION_STRINGS, writeStrings());
+
+    final DataOutputStream dataOut = new DataOutputStream(out);
+    dataOut.write(MAGIC);
+    dataOut.writeShort(FORMAT_VERSION);
+    dataOut.writeShort(sections.size());
+    long offset = HEADER_LENGTH + (long) sections.size() * SECTION_TABLE_ENTRY_LENGTH;
+    for (final Entry<Short, SnapshotOutput> section : sections.entrySet()) {
+      final int length = section.getValue().size();
+      dataOut.writeShort(section.getKey());
+      dataOut.writeLong(offset);
+      dataOut.writeInt(length);
+      offset = offset + length;
+    }
+    for (final SnapshotOutput section : sections.values()) {
+      section.writeTo(dataOut);
+    }
+    dataOut.flush();
+  }
+
+  /**
+   * Collects tables and routines in the catalog, and also tables and routines outside the catalog
+   * that are referenced by foreign keys, weak associations, views or synonyms. The ids of objects
+   * in the catalog come first.
+   */
+  private void collectObjects() {
+    for (final Table table : catalog.getTables()) {
+      registerTable(table);
+    }
+    catalogTablesCount = tables.size();
+
+    for (final Routine routine : catalog.getRoutines()) {
+      registerRoutine(routine);
+    }
+    catalogRoutinesCount = routines.size();
+
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      columnDataTypeId(columnDataType);
+    }
+    catalogColumnDataTypesCount = columnDataTypes.size();
+
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject instanceof Table) {
+        registerTable((Table) referencedObject);
+      } else if (referencedObject instanceof Routine) {
+        registerRoutine((Routine) referencedObject);
+      }
+    }
+
+    // The list of tables grows as referenced tables are found
+    for (int i = 0; i < tables.size(); i++) {
+      final Table table = tables.get(i);
+      for (final ForeignKey foreignKey : foreignKeys(table)) {
+        registerTables(foreignKey);
+      }
+      for (final WeakAssociation weakAssociation : weakAssociations(table)) {
+        registerTables(weakAssociation);
+      }
+      for (final Column column : allColumns(table)) {
+        registerTable(column.getReferencedColumn());
+      }
+      if (table instanceof View) {
+        for (final Table usedTable : ((View) table).getTableUsage()) {
+          registerTable(usedTable);
+        }
+      }
+    }
+  }
+
+  private List<Column> allColumns(final Table table) {
+    final List<Column> columns = new ArrayList<>(columns(table));
+    columns.addAll(hiddenColumns(table));
+    return columns;
+  }
+
+  /**
+   * Columns and relationships of a table are sorted on every call, and are needed more than once,
+   * so they are kept.
+   */
+  private List<Column> columns(final Table table) {
+    return tableColumns.computeIfAbsent(table, Table::getColumns);
+  }
+
+  private Collection<ForeignKey> foreignKeys(final Table table) {
+    return tableForeignKeys.computeIfAbsent(table, Table::getForeignKeys);
+  }
+
+  private Collection<Column> hiddenColumns(final Table table) {
+    return tableHiddenColumns.computeIfAbsent(table, Table::getHiddenColumns);
+  }
+
+  private int columnDataTypeId(final ColumnDataType columnDataType) {
+    if (columnDataType == null) {
+      return 0;
+    }
+    Integer id = columnDataTypeIds.get(columnDataType);
+    if (id == null) {
+      columnDataTypes.add(columnDataType);
+      id = columnDataTypes.size();
+      columnDataTypeIds.put(columnDataType, id);
+    }
+    return id;
+  }
+
+  private void registerRoutine(final Routine routine) {
+    if (routine != null
+        && !(routine instanceof PartialDatabaseObject)
+        && !routineIds.containsKey(routine)) {
+      routineIds.put(routine, routines.size());
+      routines.add(routine);
+    }
+  }
+
+  private void registerTable(final Column column) {
+    if (column != null && !(column instanceof PartialDatabaseObject)) {
+      registerTable(column.getParent());
+    }
+  }
+
+  private void registerTable(final Table table) {
+    if (table != null
+        && !(table instanceof PartialDatabaseObject)
+        && !tableIds.containsKey(table)) {
+      tableIds.put(table, tables.size());
+      tables.add(table);
+    }
+  }
+
+  private void registerTables(final Iterable<? extends ColumnReference> columnReferences) {
+    for (final ColumnReference columnReference : columnReferences) {
+      registerTable(columnReference.getPrimaryKeyColumn());
+      registerTable(columnReference.getForeignKeyColumn());
+    }
+  }
+
+  private void writeAttributes(final SnapshotOutput out, final Map<String, Object> attributes)
+      throws IOException {
+    out.writeVarInt(attributes.size());
+    for (final Entry<String, Object> attribute : attributes.entrySet()) {
+      out.writeString(attribute.getKey());
+      writeValue(out, attribute.getValue());
+    }
+  }
+
+  private SnapshotOutput writeCatalog() throws IOException {
+    final SnapshotOutput out = newSection();
+    out.writeString(catalog.getName());
+    writeDescription(out, catalog.getRemarks(), catalog.getAttributes());
+
+    final DatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    out.writeString(databaseInfo.getProductName());
+    out.writeString(databaseInfo.getProductVersion());
+    out.writeString(databaseInfo.getUserName());
+    // Database properties are sorted by description, which is slow to
+    // build, and the order is not needed in the snapshot
+    final Collection<? extends Property> databaseProperties;
+    if (databaseInfo instanceof MutableDatabaseInfo) {
+      databaseProperties = ((MutableDatabaseInfo) databaseInfo).getAllProperties();
+    } else {
+      databaseProperties = databaseInfo.getProperties();
+    }
+    out.writeVarInt(databaseProperties.size());
+    for (final Property property : databaseProperties) {
+      out.writeString(property.getName());
+      writeValue(out, property.getValue());
+    }
+    final Collection<Property> serverInfo = databaseInfo.getServerInfo();
+    out.writeVarInt(serverInfo.size());
+    for (final Property property : serverInfo) {
+      out.writeString(property.getName());
+      out.writeString(String.valueOf(property.getValue()));
+      out.writeString(property.getDescription());
+    }
+
+    final JdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    out.writeString(jdbcDriverInfo.getProductName());
+    out.writeString(jdbcDriverInfo.getProductVersion());
+    out.writeString(jdbcDriverInfo.getDriverClassName());
+    out.writeString(jdbcDriverInfo.getConnectionUrl());
+    out.writeBoolean(jdbcDriverInfo.isJdbcCompliant());
+    final Collection<JdbcDriverProperty> driverProperties = jdbcDriverInfo.getDriverProperties();
+    out.writeVarInt(driverProperties.size());
+    for (final JdbcDriverProperty property : driverProperties) {
+      out.writeString(property.getName());
+      out.writeString(property.getValue());
+      out.writeString(property.getDescription());
+      out.writeBoolean(property.isRequired());
+      final Collection<String> choices = property.getChoices();
+      out.writeVarInt(choices.size());
+      for (final String choice : choices) {
+        out.writeString(choice);
+      }
+    }
+
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    writeProductVersion(out, crawlInfo.getSchemaCrawlerVersion());
+    writeProductVersion(out, crawlInfo.getOperatingSystemVersion());
+    writeProductVersion(out, crawlInfo.getJvmVersion());
+    writeProductVersion(out, crawlInfo.getDatabaseVersion());
+    writeProductVersion(out, crawlInfo.getJdbcDriverVersion());
+    out.writeSignedVarLong(crawlInfo.getCrawlTimestampInstant().getEpochSecond());
+    out.writeVarInt(crawlInfo.getCrawlTimestampInstant().getNano());
+    out.writeString(crawlInfo.getRunId());
+
+    final Collection<DatabaseUser> databaseUsers = catalog.getDatabaseUsers();
+    out.writeVarInt(databaseUsers.size());
+    for (final DatabaseUser databaseUser : databaseUsers) {
+      out.writeString(databaseUser.getName());
+      writeAttributes(out, databaseUser.getAttributes());
+    }
+    return out;
+  }
+
+  private void writeColumn(final SnapshotOutput out, final Column column) throws IOException {
+    out.writeString(column.getName());
+    out.writeVarInt(column.getOrdinalPosition());
+    out.writeVarInt(columnDataTypeId(column.getColumnDataType()));
+    out.writeSignedVarInt(column.getSize());
+    out.writeSignedVarInt(column.getDecimalDigits());
+    out.writeBoolean(column.isNullable());
+    out.writeString(column.getDefaultValue());
+    int flags = 0;
+    flags = flags | (column.isAutoIncremented() ? 1 : 0);
+    flags = flags | (column.isGenerated() ? 1 << 1 : 0);
+    flags = flags | (column.isHidden() ? 1 << 2 : 0);
+    flags = flags | (column.isPartOfIndex() ? 1 << 3 : 0);
+    flags = flags | (column.isPartOfPrimaryKey() ? 1 << 4 : 0);
+    flags = flags | (column.isPartOfUniqueIndex() ? 1 << 5 : 0);
+    out.writeByte(flags);
+    writeDescription(out, column.getRemarks(), column.getAttributes());
+    writePrivileges(out, column.getPrivileges());
+  }
+
+  private SnapshotOutput writeColumnDataTypes() throws IOException {
+    final SnapshotOutput columnDataTypesOut = newSection();
+    // Base types may add more column data types while the list is
+    // being encoded
+    for (int i = 0; i < columnDataTypes.size(); i++) {
+      final ColumnDataType columnDataType = columnDataTypes.get(i);
+      writeSchema(columnDataTypesOut, columnDataType.getSchema());
+      columnDataTypesOut.writeString(columnDataType.getName());
+      columnDataTypesOut.writeSignedVarInt(columnDataType.getJavaSqlType().getVendorTypeNumber());
+      columnDataTypesOut.writeString(columnDataType.getTypeMappedClass().getName());
+      columnDataTypesOut.writeVarInt(columnDataTypeId(columnDataType.getBaseType()));
+      columnDataTypesOut.writeBoolean(columnDataType.isAutoIncrementable());
+      columnDataTypesOut.writeBoolean(columnDataType.isCaseSensitive());
+      columnDataTypesOut.writeString(columnDataType.getCreateParameters());
+      columnDataTypesOut.writeBoolean(columnDataType.isFixedPrecisionScale());
+      columnDataTypesOut.writeString(columnDataType.getLiteralPrefix());
+      columnDataTypesOut.writeString(columnDataType.getLiteralSuffix());
+      columnDataTypesOut.writeString(columnDataType.getLocalTypeName());
+      columnDataTypesOut.writeSignedVarInt(columnDataType.getMaximumScale());
+      columnDataTypesOut.writeSignedVarInt(columnDataType.getMinimumScale());
+      columnDataTypesOut.writeBoolean(columnDataType.isNullable());
+      columnDataTypesOut.writeSignedVarInt(columnDataType.getNumPrecisionRadix());
+      columnDataTypesOut.writeSignedVarLong(columnDataType.getPrecision());
+      columnDataTypesOut.writeOrdinal(columnDataType.getSearchable());
+      columnDataTypesOut.writeBoolean(columnDataType.isUnsigned());
+      columnDataTypesOut.writeBoolean(columnDataType.isUserDefined());
+      writeStrings(columnDataTypesOut, columnDataType.getEnumValues());
+      writeDescription(
+          columnDataTypesOut, columnDataType.getRemarks(), columnDataType.getAttributes());
+    }
+
+    final SnapshotOutput out = newSection();
+    out.writeVarInt(columnDataTypes.size());
+    out.writeVarInt(catalogColumnDataTypesCount);
+    out.write(columnDataTypesOut);
+    return out;
+  }
+
+  /**
+   * Writes a column reference. Columns of tables in the snapshot are written as the table id and
+   * column name. Partial columns are written in full the first time that they are seen, and as a
+   * partial column id after that, so that the same partial column is shared when it is read.
+   */
+  private void writeColumnReference(final SnapshotOutput out, final Column column) {
+    if (column == null) {
+      out.writeVarInt(COLUMN_REFERENCE_NULL);
+      return;
+    }
+
+    final Table table = column.getParent();
+    final Integer tableId = tableIds.get(table);
+    if (!(column instanceof PartialDatabaseObject) && tableId != null) {
+      out.writeVarInt(COLUMN_REFERENCE_TABLE_COLUMN);
+      out.writeVarInt(tableId);
+      out.writeString(column.getName());
+      return;
+    }
+
+    final Integer partialColumnId = partialColumnIds.get(column);
+    if (partialColumnId != null) {
+      out.writeVarInt(COLUMN_REFERENCE_PARTIAL);
+      out.writeVarInt(partialColumnId);
+      return;
+    }
+
+    partialColumnIds.put(column, partialColumnIds.size());
+    out.writeVarInt(COLUMN_REFERENCE_NEW_PARTIAL);
+    if (tableId != null) {
+      out.writeBoolean(true);
+      out.writeVarInt(tableId);
+    } else {
+      out.writeBoolean(false);
+      writeSchema(out, table.getSchema());
+      out.writeString(table.getName());
+    }
+    out.writeString(column.getName());
+  }
+
+  private void writeDescription(
+      final SnapshotOutput out, final String remarks, final Map<String, Object> attributes)
+      throws IOException {
+    out.writeString(remarks);
+    writeAttributes(out, attributes);
+  }
+
+  private void writeForeignKey(final SnapshotOutput out, final ForeignKey foreignKey)
+      throws IOException {
+    out.writeString(foreignKey.getName());
+    out.writeString(foreignKey.getSpecificName());
+    out.writeOrdinal(foreignKey.getUpdateRule());
+    out.writeOrdinal(foreignKey.getDeleteRule());
+    out.writeOrdinal(foreignKey.getDeferrability());
+    out.writeString(foreignKey.getDefinition());
+    writeDescription(out, foreignKey.getRemarks(), foreignKey.getAttributes());
+    final List<ForeignKeyColumnReference> columnReferences = foreignKey.getColumnReferences();
+    out.writeVarInt(columnReferences.size());
+    for (final ForeignKeyColumnReference columnReference : columnReferences) {
+      out.writeVarInt(columnReference.getKeySequence());
+      writeColumnReference(out, columnReference.getPrimaryKeyColumn());
+      writeColumnReference(out, columnReference.getForeignKeyColumn());
+    }
+  }
+
+  private void writeIndex(final SnapshotOutput out, final Index index) throws IOException {
+    out.writeString(index.getName());
+    out.writeBoolean(index.isUnique());
+    out.writeOrdinal(index.getIndexType());
+    out.writeSignedVarInt(index.getCardinality());
+    out.writeSignedVarInt(index.getPages());
+    out.writeString(index.getDefinition());
+    writeDescription(out, index.getRemarks(), index.getAttributes());
+    final List<IndexColumn> indexColumns = index.getColumns();
+    out.writeVarInt(indexColumns.size());
+    for (final IndexColumn indexColumn : indexColumns) {
+      // Index columns may be pseudo-columns that are not in the table
+      final boolean isPartial = isPartialColumn(indexColumn);
+      out.writeBoolean(isPartial);
+      out.writeString(indexColumn.getName());
+      out.writeSignedVarInt(indexColumn.getIndexOrdinalPosition());
+      out.writeOrdinal(indexColumn.getSortSequence());
+      writeKeyColumnDescription(out, indexColumn);
+    }
+  }
+
+  private void writeKeyColumnDescription(final SnapshotOutput out, final Column keyColumn)
+      throws IOException {
+    out.writeString(((DefinedObject) keyColumn).getDefinition());
+    writeDescription(out, keyColumn.getRemarks(), keyColumn.getAttributes());
+  }
+
+  private void writePrivileges(
+      final SnapshotOutput out, final Collection<? extends Privilege<?>> privileges)
+      throws IOException {
+    out.writeVarInt(privileges.size());
+    for (final Privilege<?> privilege : privileges) {
+      out.writeString(privilege.getName());
+      writeDescription(out, privilege.getRemarks(), privilege.getAttributes());
+      final Collection<? extends Grant<?>> grants = privilege.getGrants();
+      out.writeVarInt(grants.size());
+      for (final Grant<?> grant : grants) {
+        out.writeString(grant.getGrantor());
+        out.writeString(grant.getGrantee());
+        out.writeBoolean(grant.isGrantable());
+      }
+    }
+  }
+
+  private void writeProductVersion(final SnapshotOutput out, final ProductVersion productVersion) {
+    if (productVersion == null) {
+      out.writeBoolean(false);
+    } else {
+      out.writeBoolean(true);
+      out.writeString(productVersion.getProductName());
+      out.writeString(productVersion.getProductVersion());
+    }
+  }
+
+  /**
+   * Writes relationships between tables. The relationships of each table are listed before the
+   * relationships themselves, so that a reader can decide which relationships it needs before it
+   * decodes any of them.
+   */
+  private SnapshotOutput writeRelationships() throws IOException {
+    final SnapshotOutput out = newSection();
+
+    // View table usage
+    final List<View> views = new ArrayList<>();
+    for (final Table table : tables) {
+      if (table instanceof View) {
+        views.add((View) table);
+      }
+    }
+    out.writeVarInt(views.size());
+    for (final View view : views) {
+      out.writeVarInt(tableIds.get(view));
+      final Collection<Table> tableUsage = view.getTableUsage();
+      out.writeVarInt(tableUsage.size());
+      for (final Table usedTable : tableUsage) {
+        out.writeVarInt(tableIds.get(usedTable));
+      }
+    }
+
+    // Foreign keys are shared by the tables at both ends
+    final Map<ForeignKey, Integer> foreignKeyIds = new IdentityHashMap<>();
+    final List<ForeignKey> foreignKeys = new ArrayList<>();
+    for (final Table table : tables) {
+      for (final ForeignKey foreignKey : foreignKeys(table)) {
+        if (!foreignKeyIds.containsKey(foreignKey)) {
+          foreignKeyIds.put(foreignKey, foreignKeys.size());
+          foreignKeys.add(foreignKey);
+        }
+      }
+    }
+    out.writeVarInt(foreignKeys.size());
+    for (final Table table : tables) {
+      final Collection<ForeignKey> foreignKeysOfTable = foreignKeys(table);
+      out.writeVarInt(foreignKeysOfTable.size());
+      for (final ForeignKey foreignKey : foreignKeysOfTable) {
+        out.writeVarInt(foreignKeyIds.get(foreignKey));
+      }
+    }
+    for (final ForeignKey foreignKey : foreignKeys) {
+      writeForeignKey(out, foreignKey);
+    }
+
+    // Weak associations are shared by the tables at both ends
+    final Map<WeakAssociation, Integer> weakAssociationIds = new IdentityHashMap<>();
+    final List<WeakAssociation> weakAssociations = new ArrayList<>();
+    for (final Table table : tables) {
+      for (final WeakAssociation weakAssociation : weakAssociations(table)) {
+        if (!weakAssociationIds.containsKey(weakAssociation)) {
+          weakAssociationIds.put(weakAssociation, weakAssociations.size());
+          weakAssociations.add(weakAssociation);
+        }
+      }
+    }
+    out.writeVarInt(weakAssociations.size());
+    for (final Table table : tables) {
+      final Collection<WeakAssociation> weakAssociationsOfTable = weakAssociations(table);
+      out.writeVarInt(weakAssociationsOfTable.size());
+      for (final WeakAssociation weakAssociation : weakAssociationsOfTable) {
+        out.writeVarInt(weakAssociationIds.get(weakAssociation));
+      }
+    }
+    for (final WeakAssociation weakAssociation : weakAssociations) {
+      out.writeString(weakAssociation.getName());
+      final List<WeakAssociationColumnReference> columnReferences =
+          weakAssociation.getColumnReferences();
+      out.writeVarInt(columnReferences.size());
+      for (final WeakAssociationColumnReference columnReference : columnReferences) {
+        writeColumnReference(out, columnReference.getPrimaryKeyColumn());
+        writeColumnReference(out, columnReference.getForeignKeyColumn());
+      }
+    }
+
+    // Referenced columns
+    final List<Integer> referencingTableIds = new ArrayList<>();
+    final List<Column> referencingColumns = new ArrayList<>();
+    for (int tableId = 0; tableId < tables.size(); tableId++) {
+      for (final Column column : allColumns(tables.get(tableId))) {
+        if (column.getReferencedColumn() != null) {
+          referencingTableIds.add(tableId);
+          referencingColumns.add(column);
+        }
+      }
+    }
+    out.writeVarInt(referencingColumns.size());
+    for (int i = 0; i < referencingColumns.size(); i++) {
+      final Column column = referencingColumns.get(i);
+      out.writeVarInt(referencingTableIds.get(i));
+      out.writeString(column.getName());
+      writeColumnReference(out, column.getReferencedColumn());
+    }
+
+    return out;
+  }
+
+  private SnapshotOutput writeRoutines() throws IOException {
+    final SnapshotOutput out = newSection();
+    out.writeVarInt(routines.size());
+    out.writeVarInt(catalogRoutinesCount);
+    for (final Routine routine : routines) {
+      out.writeBoolean(routine instanceof Function);
+      writeSchema(out, routine.getSchema());
+      out.writeString(routine.getName());
+      // The specific name as it was retrieved is the last part of the
+      // lookup key, since getSpecificName() defaults to the name
+      final LookupKey lookupKey = LookupKey.lookupKey(routine);
+      out.writeString(lookupKey.get(lookupKey.size() - 1));
+      out.writeOrdinal(routine.getRoutineBodyType());
+      if (routine instanceof Function) {
+        out.writeOrdinal(((Function) routine).getReturnType());
+      } else {
+        out.writeOrdinal(((Procedure) routine).getReturnType());
+      }
+      out.writeString(routine.getDefinition());
+      writeDescription(out, routine.getRemarks(), routine.getAttributes());
+
+      final List<RoutineParameter<? extends Routine>> parameters = routine.getParameters();
+      out.writeVarInt(parameters.size());
+      for (final RoutineParameter<? extends Routine> parameter : parameters) {
+        out.writeString(parameter.getName());
+        out.writeVarInt(parameter.getOrdinalPosition());
+        out.writeVarInt(columnDataTypeId(parameter.getColumnDataType()));
+        out.writeSignedVarInt(parameter.getSize());
+        out.writeSignedVarInt(parameter.getDecimalDigits());
+        out.writeBoolean(parameter.isNullable());
+        out.writeOrdinal(parameter.getParameterMode());
+        writeDescription(out, parameter.getRemarks(), parameter.getAttributes());
+      }
+    }
+    return out;
+  }
+
+  private void writeSchema(final SnapshotOutput out, final Schema schema) {
+    out.writeString(schema.getCatalogName());
+    out.writeString(schema.getName());
+  }
+
+  private SnapshotOutput writeSchemas() throws IOException {
+    final SnapshotOutput out = newSection();
+    final Collection<Schema> schemas = catalog.getSchemas();
+    out.writeVarInt(schemas.size());
+    for (final Schema schema : schemas) {
+      writeSchema(out, schema);
+      writeAttributes(out, schema.getAttributes());
+    }
+    return out;
+  }
+
+  private SnapshotOutput writeSequences() throws IOException {
+    final SnapshotOutput out = newSection();
+    final Collection<Sequence> sequences = catalog.getSequences();
+    out.writeVarInt(sequences.size());
+    for (final Sequence sequence : sequences) {
+      writeSchema(out, sequence.getSchema());
+      out.writeString(sequence.getName());
+      writeDescription(out, sequence.getRemarks(), sequence.getAttributes());
+      out.writeSignedVarLong(sequence.getIncrement());
+      writeBigInteger(out, sequence.getStartValue());
+      writeBigInteger(out, sequence.getMinimumValue());
+      writeBigInteger(out, sequence.getMaximumValue());
+      out.writeBoolean(sequence.isCycle());
+    }
+    return out;
+  }
+
+  private SnapshotOutput writeStrings() {
+    final SnapshotOutput out = newSection();
+    out.writeVarInt(strings.size());
+    for (final String string : strings) {
+      out.writeUtf8(string);
+    }
+    return out;
+  }
+
+  private void writeStrings(final SnapshotOutput out, final Collection<String> values) {
+    out.writeVarInt(values.size());
+    for (final String value : values) {
+      out.writeString(value);
+    }
+  }
+
+  private SnapshotOutput writeSynonyms() throws IOException {
+    final SnapshotOutput out = newSection();
+    final Collection<Synonym> synonyms = catalog.getSynonyms();
+    out.writeVarInt(synonyms.size());
+    for (final Synonym synonym : synonyms) {
+      writeSchema(out, synonym.getSchema());
+      out.writeString(synonym.getName());
+      writeDescription(out, synonym.getRemarks(), synonym.getAttributes());
+
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (tableIds.containsKey(referencedObject)) {
+        out.writeVarInt(REFERENCED_OBJECT_TABLE);
+        out.writeVarInt(tableIds.get(referencedObject));
+      } else if (routineIds.containsKey(referencedObject)) {
+        out.writeVarInt(REFERENCED_OBJECT_ROUTINE);
+        out.writeVarInt(routineIds.get(referencedObject));
+      } else {
+        if (referencedObject instanceof Table) {
+          out.writeVarInt(REFERENCED_OBJECT_PARTIAL_TABLE);
+        } else {
+          out.writeVarInt(REFERENCED_OBJECT_OTHER);
+        }
+        writeSchema(out, referencedObject.getSchema());
+        out.writeString(referencedObject.getName());
+      }
+    }
+    return out;
+  }
+
+  private void writeTable(final SnapshotOutput out, final Table table) throws IOException {
+    out.writeBoolean(table instanceof View);
+    writeSchema(out, table.getSchema());
+    out.writeString(table.getName());
+    out.writeString(table.getTableType().getTableType());
+    writeDescription(out, table.getRemarks(), table.getAttributes());
+    out.writeString(table.getDefinition());
+    if (table instanceof MutableTable) {
+      out.writeSignedVarInt(((MutableTable) table).getSortIndex());
+    } else {
+      out.writeSignedVarInt(0);
+    }
+    if (table instanceof View) {
+      final View view = (View) table;
+      out.writeOrdinal(view.getCheckOption());
+      out.writeBoolean(view.isUpdatable());
+    }
+
+    final List<Column> columns = columns(table);
+    out.writeVarInt(columns.size());
+    for (final Column column : columns) {
+      writeColumn(out, column);
+    }
+    final Collection<Column> hiddenColumns = hiddenColumns(table);
+    out.writeVarInt(hiddenColumns.size());
+    for (final Column column : hiddenColumns) {
+      writeColumn(out, column);
+    }
+
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    out.writeBoolean(primaryKey != null);
+    if (primaryKey != null) {
+      writeTableConstraint(out, primaryKey);
+    }
+
+    final Collection<TableConstraint> tableConstraints = table.getTableConstraints();
+    out.writeVarInt(tableConstraints.size());
+    for (final TableConstraint tableConstraint : tableConstraints) {
+      writeTableConstraint(out, tableConstraint);
+    }
+
+    final Collection<Index> indexes = table.getIndexes();
+    out.writeVarInt(indexes.size());
+    for (final Index index : indexes) {
+      writeIndex(out, index);
+    }
+
+    final Collection<Trigger> triggers = table.getTriggers();
+    out.writeVarInt(triggers.size());
+    for (final Trigger trigger : triggers) {
+      out.writeString(trigger.getName());
+      out.writeOrdinal(trigger.getEventManipulationType());
+      out.writeSignedVarInt(trigger.getActionOrder());
+      out.writeString(trigger.getActionCondition());
+      out.writeString(trigger.getActionStatement());
+      out.writeOrdinal(trigger.getActionOrientation());
+      out.writeOrdinal(trigger.getConditionTiming());
+      writeDescription(out, trigger.getRemarks(), trigger.getAttributes());
+    }
+
+    writePrivileges(out, table.getPrivileges());
+  }
+
+  private void writeTableConstraint(final SnapshotOutput out, final TableConstraint tableConstraint)
+      throws IOException {
+    out.writeString(tableConstraint.getName());
+    out.writeOrdinal(tableConstraint.getConstraintType());
+    out.writeBoolean(tableConstraint.isDeferrable());
+    out.writeBoolean(tableConstraint.isInitiallyDeferred());
+    out.writeString(tableConstraint.getDefinition());
+    writeDescription(out, tableConstraint.getRemarks(), tableConstraint.getAttributes());
+    final List<TableConstraintColumn> columns = tableConstraint.getColumns();
+    out.writeVarInt(columns.size());
+    for (final TableConstraintColumn column : columns) {
+      out.writeString(column.getName());
+      out.writeSignedVarInt(column.getTableConstraintOrdinalPosition());
+      writeKeyColumnDescription(out, column);
+    }
+  }
+
+  /** Tables are length-prefixed, so that readers can skip over tables. */
+  private SnapshotOutput writeTables() throws IOException {
+    final SnapshotOutput out = newSection();
+    out.writeVarInt(tables.size());
+    out.writeVarInt(catalogTablesCount);
+    for (final Table table : tables) {
+      final SnapshotOutput tableOut = newSection();
+      writeTable(tableOut, table);
+      out.writeVarInt(tableOut.size());
+      out.write(tableOut);
+    }
+    return out;
+  }
+
+  /**
+   * Writes an attribute or property value. Common value types are written directly, and any other
+   * value is written with Java serialization.
+   */
+  private void writeValue(final SnapshotOutput out, final Object value) throws IOException {
+    if (value == null) {
+      out.writeVarInt(VALUE_NULL);
+    } else if (value instanceof String) {
+      out.writeVarInt(VALUE_STRING);
+      out.writeString((String) value);
+    } else if (value instanceof Boolean) {
+      out.writeVarInt((Boolean) value ? VALUE_TRUE : VALUE_FALSE);
+    } else if (value instanceof Integer) {
+      out.writeVarInt(VALUE_INTEGER);
+      out.writeSignedVarInt((Integer) value);
+    } else if (value instanceof Long) {
+      out.writeVarInt(VALUE_LONG);
+      out.writeSignedVarLong((Long) value);
+    } else if (value instanceof String[]) {
+      out.writeVarInt(VALUE_STRING_ARRAY);
+      final String[] values = (String[]) value;
+      out.writeVarInt(values.length);
+      for (final String arrayValue : values) {
+        out.writeString(arrayValue);
+      }
+    } else {
+      out.writeVarInt(VALUE_SERIALIZED);
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final ObjectOutputStream objOut = new ObjectOutputStream(bytes)) {
+        objOut.writeObject(value);
+      }
+      out.writeBytes(bytes.toByteArray());
+    }
+  }
+
+  private void writeBigInteger(final SnapshotOutput out, final BigInteger value) {
+    if (value == null) {
+      out.writeVarInt(0);
+    } else {
+      out.writeBytes(value.toByteArray());
+    }
+  }
+
+  private boolean isPartialColumn(final IndexColumn indexColumn) {
+    if (indexColumn instanceof MutableIndexColumn) {
+      return ((MutableIndexColumn) indexColumn).getColumn() instanceof PartialDatabaseObject;
+    }
+    return false;
+  }
+
+  private Collection<WeakAssociation> weakAssociations(final Table table) {
+    return tableWeakAssociations.computeIfAbsent(table, Table::getWeakAssociations);
+  }
+
+  private SnapshotOutput newSection() {
+    return new SnapshotOutput(stringTable, strings);
+  }
+}
@@ -0,0 +1,352 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.lang.reflect.Proxy.newProxyInstance;
+import static java.util.Objects.requireNonNull;
+
+import java.io.StringReader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An in-memory copy of a result set, that can be read after the database connection that produced
+ * it has been closed, or by another thread. Only the subset of the JDBC API that is used to read
+ * metadata results is supported - that is, forward iteration, and getters by column name or index.
+ * Large objects are read fully into memory when the result set is buffered.
+ *
+ * @author Sualeh Fatehi
+ */
+final class BufferedResultSet {
+
+  private static final class BufferedResultSetInvocationHandler implements InvocationHandler {
+
+    private final String[] columnLabels;
+    private final Map<String, Integer> columnIndexes;
+    private final List<Object[]> rows;
+    private final ResultSetMetaData metaData;
+    private int cursor;
+    private boolean wasNull;
+    private boolean isClosed;
+
+    BufferedResultSetInvocationHandler(
+        final String[] columnLabels, final List<Object[]> rows, final ResultSetMetaData metaData) {
+      this.columnLabels = columnLabels;
+      this.rows = rows;
+      this.metaData = metaData;
+      columnIndexes = new HashMap<>();
+      for (int i = columnLabels.length - 1; i >= 0; i--) {
+        columnIndexes.put(columnLabels[i].toUpperCase(Locale.ENGLISH), i + 1);
+      }
+      cursor = -1;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws SQLException {
+      final String methodName = method.getName();
+      switch (methodName) {
+        case "next":
+          checkOpen();
+          if (cursor < rows.size()) {
+            cursor++;
+          }
+          return cursor < rows.size();
+        case "close":
+          isClosed = true;
+          return null;
+        case "isClosed":
+          return isClosed;
+        case "setFetchSize":
+        case "setFetchDirection":
+        case "clearWarnings":
+          return null;
+        case "getFetchSize":
+          return 0;
+        case "getWarnings":
+          return null;
+        case "getMetaData":
+          return metaData;
+        case "findColumn":
+          return findColumn((String) args[0]);
+        case "wasNull":
+          return wasNull;
+        case "getObject":
+          if (args.length == 1) {
+            return value(args[0]);
+          }
+          break;
+        case "getString":
+          return getString(value(args[0]));
+        case "getCharacterStream":
+          final String string = getString(value(args[0]));
+          return string == null ? null : new StringReader(string);
+        case "getBoolean":
+          return getBoolean(value(args[0]));
+        case "getShort":
+          return (short) getLong(value(args[0]));
+        case "getInt":
+          return (int) getLong(value(args[0]));
+        case "getLong":
+          return getLong(value(args[0]));
+        case "isWrapperFor":
+          return false;
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        case "toString":
+          return String.format("BufferedResultSet@%x", System.identityHashCode(proxy));
+        default:
+          break;
+      }
+      throw new SQLFeatureNotSupportedException(
+          "Buffered result set does not support method, " + methodName, "HYC00");
+    }
+
+    private void checkOpen() throws SQLException {
+      if (isClosed) {
+        throw new SQLException("Result set is closed");
+      }
+    }
+
+    private int findColumn(final String columnLabel) throws SQLException {
+      final Integer columnIndex =
+          columnIndexes.get(String.valueOf(columnLabel).toUpperCase(Locale.ENGLISH));
+      if (columnIndex == null) {
+        throw new SQLException("Column not found, " + columnLabel);
+      }
+      return columnIndex;
+    }
+
+    private boolean getBoolean(final Object value) {
+      if (value == null) {
+        return false;
+      } else if (value instanceof Boolean) {
+        return (Boolean) value;
+      } else if (value instanceof Number) {
+        return ((Number) value).longValue() != 0;
+      } else {
+        final String string = String.valueOf(value).trim();
+        return string.equals("1") || string.equalsIgnoreCase("true");
+      }
+    }
+
+    private long getLong(final Object value) throws SQLException {
+      if (value == null) {
+        return 0;
+      } else if (value instanceof Number) {
+        return ((Number) value).longValue();
+      } else if (value instanceof Boolean) {
+        return (Boolean) value ? 1 : 0;
+      } else {
+        final String string = String.valueOf(value).trim();
+        try {
+          return Long.parseLong(string);
+        } catch (final NumberFormatException e) {
+          throw new SQLDataException(String.format("Not a number, <%s>", string), e);
+        }
+      }
+    }
+
+    private String getString(final Object value) {
+      if (value == null) {
+        return null;
+      } else if (value instanceof byte[]) {
+        return new String((byte[]) value);
+      } else {
+        return String.valueOf(value);
+      }
+    }
+
+    private Object value(final Object column) throws SQLException {
+      checkOpen();
+      if (cursor < 0 || cursor >= rows.size()) {
+        throw new SQLException("Result set is not positioned on a row");
+      }
+
+      final int columnIndex;
+      if (column instanceof Integer) {
+        columnIndex = (Integer) column;
+      } else {
+        columnIndex = findColumn((String) column);
+      }
+      if (columnIndex < 1 || columnIndex > columnLabels.length) {
+        throw new SQLException("Column index out of range, " + columnIndex);
+      }
+
+      final Object value = rows.get(cursor)[columnIndex - 1];
+      wasNull = value == null;
+      return value;
+    }
+  }
+
+  private static final class BufferedResultSetMetaDataInvocationHandler
+      implements InvocationHandler {
+
+    private final int columnCount;
+    private final Map<String, Object[]> values;
+
+    BufferedResultSetMetaDataInvocationHandler(
+        final int columnCount, final Map<String, Object[]> values) {
+      this.columnCount = columnCount;
+      this.values = values;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws SQLException {
+      final String methodName = method.getName();
+      switch (methodName) {
+        case "getColumnCount":
+          return columnCount;
+        case "isWrapperFor":
+          return false;
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        case "toString":
+          return String.format("BufferedResultSetMetaData@%x", System.identityHashCode(proxy));
+        default:
+          break;
+      }
+
+      if (values.containsKey(methodName) && args != null && args.length == 1) {
+        final int column = (Integer) args[0];
+        if (column < 1 || column > columnCount) {
+          throw new SQLException("Column index out of range, " + column);
+        }
+        final Object value = values.get(methodName)[column - 1];
+        if (value instanceof SQLException) {
+          throw (SQLException) value;
+        }
+        return value;
+      }
+      throw new SQLFeatureNotSupportedException(
+          "Buffered result set metadata does not support method, " + methodName, "HYC00");
+    }
+  }
+
+  /**
+   * Reads all rows of a result set into memory. The result set is not closed.
+   *
+   * @param results Result set to buffer
+   * @return In-memory copy of the result set
+   * @throws SQLException On an exception reading the result set
+   */
+  static ResultSet buffer(final ResultSet results) throws SQLException {
+    requireNonNull(results, "No result set provided");
+
+    final ResultSetMetaData resultsMetaData = results.getMetaData();
+    final int columnCount = resultsMetaData.getColumnCount();
+
+    final String[] columnLabels = new String[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columnLabels[i] = resultsMetaData.getColumnLabel(i + 1);
+    }
+
+    final List<Object[]> rows = new ArrayList<>();
+    while (results.next()) {
+      final Object[] row = new Object[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        Object value = results.getObject(i + 1);
+        if (results.wasNull()) {
+          value = null;
+        } else if (value instanceof Clob) {
+          final Clob clob = (Clob) value;
+          value = clob.getSubString(1, (int) clob.length());
+        } else if (value instanceof Blob) {
+          final Blob blob = (Blob) value;
+          value = blob.getBytes(1, (int) blob.length());
+        }
+        row[i] = value;
+      }
+      rows.add(row);
+    }
+
+    final ResultSetMetaData metaData = bufferMetaData(resultsMetaData, columnCount);
+    return (ResultSet)
+        newProxyInstance(
+            BufferedResultSet.class.getClassLoader(),
+            new Class[] {ResultSet.class},
+            new BufferedResultSetInvocationHandler(columnLabels, rows, metaData));
+  }
+
+  private static ResultSetMetaData bufferMetaData(
+      final ResultSetMetaData resultsMetaData, final int columnCount) {
+    final Map<String, Object[]> values = new HashMap<>();
+    for (final Method method : ResultSetMetaData.class.getMethods()) {
+      final Class<?>[] parameterTypes = method.getParameterTypes();
+      if (parameterTypes.length != 1 || parameterTypes[0] != int.class) {
+        continue;
+      }
+
+      final Object[] columnValues = new Object[columnCount];
+      for (int i = 0; i < columnCount; i++) {
+        try {
+          columnValues[i] = method.invoke(resultsMetaData, i + 1);
+        } catch (final InvocationTargetException e) {
+          final Throwable cause = e.getCause();
+          if (cause instanceof SQLException) {
+            columnValues[i] = cause;
+          } else {
+            columnValues[i] = new SQLException(cause);
+          }
+        } catch (final IllegalAccessException e) {
+          columnValues[i] = new SQLException(e);
+        }
+      }
+      values.put(method.getName(), columnValues);
+    }
+
+    return (ResultSetMetaData)
+        newProxyInstance(
+            BufferedResultSet.class.getClassLoader(),
+            new Class[] {ResultSetMetaData.class},
+            new BufferedResultSetMetaDataInvocationHandler(columnCount, values));
+  }
+
+  private BufferedResultSet() {
+    // Prevent instantiation
+  }
+}
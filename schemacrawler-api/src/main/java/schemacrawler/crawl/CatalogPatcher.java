@@ -0,0 +1,304 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Patches a copy of a previously crawled catalog, for an incremental crawl. Tables are compared by
+ * their change signals. Tables that have changed, and views that use them, are removed from the
+ * catalog so that they can be crawled again, along with any new tables. Tables that have been
+ * dropped are removed. References from the remaining tables to removed tables are cleaned up, so
+ * that they can be recreated when the refreshed tables are added back.
+ */
+final class CatalogPatcher {
+
+  private static final class RefreshTablesInclusionRule implements InclusionRule {
+
+    private static final long serialVersionUID = -6411937412262386455L;
+
+    private final InclusionRule tableInclusionRule;
+    private final Set<String> tableFullNames;
+
+    RefreshTablesInclusionRule(
+        final InclusionRule tableInclusionRule, final Set<String> tableFullNames) {
+      this.tableInclusionRule = tableInclusionRule;
+      this.tableFullNames = tableFullNames;
+    }
+
+    @Override
+    public boolean test(final String text) {
+      if (!tableFullNames.contains(text)) {
+        return false;
+      }
+      return tableInclusionRule == null || tableInclusionRule.test(text);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s for %d tables", getClass().getSimpleName(), tableFullNames.size());
+    }
+  }
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(CatalogPatcher.class.getName());
+
+  /**
+   * Makes a deep copy of a catalog, so that the original catalog is not modified by patching.
+   *
+   * @param catalog Catalog to copy
+   * @return Copy of the catalog
+   * @throws SchemaCrawlerException On an exception copying the catalog
+   */
+  static MutableCatalog copyCatalog(final MutableCatalog catalog) throws SchemaCrawlerException {
+    requireNonNull(catalog, "No catalog provided");
+    try {
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      try (final ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+        out.writeObject(catalog);
+      }
+      try (final ObjectInputStream in =
+          new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+        return (MutableCatalog) in.readObject();
+      }
+    } catch (final IOException | ClassNotFoundException e) {
+      throw new SchemaCrawlerException("Could not copy catalog", e);
+    }
+  }
+
+  private static LookupKey lookupKey(final DatabaseObject databaseObject) {
+    return LookupKey.lookupKey(databaseObject);
+  }
+
+  private static Map<LookupKey, String> toLookupKeys(
+      final Map<List<String>, String> changeSignals) {
+    final Map<LookupKey, String> keyedChangeSignals = new HashMap<>();
+    for (final Map.Entry<List<String>, String> changeSignal : changeSignals.entrySet()) {
+      keyedChangeSignals.put(new LookupKey(changeSignal.getKey()), changeSignal.getValue());
+    }
+    return keyedChangeSignals;
+  }
+
+  private final MutableCatalog catalog;
+  private final Set<LookupKey> refreshTableKeys;
+  private final Set<LookupKey> removedTableKeys;
+  private final NamedObjectList<MutableTable> refreshedTables;
+
+  /**
+   * Compares change signals, and works out which tables need to be crawled again.
+   *
+   * @param catalog Copy of the previous catalog, which will be patched
+   * @param previousChangeSignals Change signals that the previous catalog was crawled with
+   * @param currentChangeSignals Current change signals
+   */
+  CatalogPatcher(
+      final MutableCatalog catalog,
+      final Map<List<String>, String> previousChangeSignals,
+      final Map<List<String>, String> currentChangeSignals) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    final Map<LookupKey, String> previousSignals =
+        toLookupKeys(requireNonNull(previousChangeSignals, "No previous change signals provided"));
+    final Map<LookupKey, String> currentSignals =
+        toLookupKeys(requireNonNull(currentChangeSignals, "No current change signals provided"));
+
+    refreshTableKeys = new HashSet<>();
+    removedTableKeys = new HashSet<>();
+    refreshedTables = new NamedObjectList<>();
+
+    // New tables, and tables with a different change signal
+    for (final Map.Entry<LookupKey, String> changeSignal : currentSignals.entrySet()) {
+      final LookupKey tableKey = changeSignal.getKey();
+      if (!previousSignals.containsKey(tableKey)
+          || !Objects.equals(previousSignals.get(tableKey), changeSignal.getValue())) {
+        refreshTableKeys.add(tableKey);
+        removedTableKeys.add(tableKey);
+      }
+    }
+    // Dropped tables
+    for (final MutableTable table : catalog.getAllTables()) {
+      final LookupKey tableKey = lookupKey(table);
+      if (!currentSignals.containsKey(tableKey)) {
+        removedTableKeys.add(tableKey);
+      }
+    }
+    // Views that use tables that are being removed need to be crawled again, since their table
+    // usage would otherwise refer to stale tables
+    for (final MutableTable table : catalog.getAllTables()) {
+      if (table instanceof MutableView) {
+        for (final Table usedTable : ((MutableView) table).getTableUsage()) {
+          if (removedTableKeys.contains(lookupKey(usedTable))) {
+            final LookupKey viewKey = lookupKey(table);
+            refreshTableKeys.add(viewKey);
+            removedTableKeys.add(viewKey);
+            break;
+          }
+        }
+      }
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Refreshing %d tables, and removing %d tables",
+            refreshTableKeys.size(), removedTableKeys.size() - refreshTableKeys.size()));
+  }
+
+  /**
+   * Adds tables that were crawled again to the catalog. Foreign keys of the refreshed tables are
+   * not retained, since they may refer to tables outside the refreshed tables, and need to be
+   * retrieved again against the patched catalog.
+   *
+   * @param refreshedCatalog Catalog with the tables that were crawled again
+   */
+  void addRefreshedTables(final MutableCatalog refreshedCatalog) {
+    requireNonNull(refreshedCatalog, "No refreshed catalog provided");
+    for (final MutableTable table : refreshedCatalog.getAllTables()) {
+      for (final MutableForeignKey foreignKey : table.getAllForeignKeys().values()) {
+        table.removeForeignKey(foreignKey);
+      }
+      table.removeWeakAssociations();
+      for (final MutableColumn column : table.getAllColumns()) {
+        column.setReferencedColumn(null);
+      }
+      catalog.addTable(table);
+      refreshedTables.add(table);
+    }
+  }
+
+  /**
+   * Full names of tables that need to be crawled again, limited by an inclusion rule for tables.
+   *
+   * @param tableInclusionRule Table inclusion rule used for the crawl
+   * @return Inclusion rule for tables that need to be crawled again
+   */
+  InclusionRule getRefreshTablesInclusionRule(final InclusionRule tableInclusionRule) {
+    final Set<String> tableFullNames = new HashSet<>();
+    for (final LookupKey tableKey : refreshTableKeys) {
+      final MutableTable table =
+          new MutableTable(new SchemaReference(tableKey.get(0), tableKey.get(1)), tableKey.get(2));
+      tableFullNames.add(table.getFullName());
+    }
+    return new RefreshTablesInclusionRule(tableInclusionRule, tableFullNames);
+  }
+
+  NamedObjectList<MutableTable> getRefreshedTables() {
+    return refreshedTables;
+  }
+
+  boolean hasTablesToRefresh() {
+    return !refreshTableKeys.isEmpty();
+  }
+
+  /**
+   * Points synonyms that referred to removed tables to the refreshed tables, or to a partial
+   * reference if the table was dropped.
+   */
+  void relinkSynonyms() {
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (!(referencedObject instanceof MutableTable)
+          || !removedTableKeys.contains(lookupKey(referencedObject))) {
+        continue;
+      }
+      final MutableSynonym mutableSynonym = (MutableSynonym) synonym;
+      final Optional<MutableTable> refreshedTable =
+          catalog.lookupTable(lookupKey(referencedObject));
+      if (refreshedTable.isPresent()) {
+        mutableSynonym.setReferencedObject(refreshedTable.get());
+      } else {
+        mutableSynonym.setReferencedObject(new TablePartial((Table) referencedObject));
+      }
+    }
+  }
+
+  /** Removes weak associations from all tables, so that they can be computed again. */
+  void removeWeakAssociations() {
+    for (final MutableTable table : catalog.getAllTables()) {
+      table.removeWeakAssociations();
+    }
+  }
+
+  /**
+   * Removes tables that have changed or have been dropped, and removes references to them from the
+   * remaining tables.
+   */
+  void removeStaleTables() {
+    for (final MutableTable table : catalog.getAllTables().values()) {
+      if (removedTableKeys.contains(lookupKey(table))) {
+        catalog.removeTable(table);
+      }
+    }
+
+    for (final MutableTable table : catalog.getAllTables()) {
+      for (final MutableForeignKey foreignKey : table.getAllForeignKeys().values()) {
+        for (final ForeignKeyColumnReference columnReference : foreignKey) {
+          if (isRemoved(columnReference.getPrimaryKeyColumn())
+              || isRemoved(columnReference.getForeignKeyColumn())) {
+            table.removeForeignKey(foreignKey);
+            break;
+          }
+        }
+      }
+      for (final MutableColumn column : table.getAllColumns()) {
+        if (isRemoved(column.getReferencedColumn())) {
+          column.setReferencedColumn(null);
+        }
+      }
+    }
+  }
+
+  private boolean isRemoved(final Column column) {
+    return column != null && removedTableKeys.contains(lookupKey(column.getParent()));
+  }
+}
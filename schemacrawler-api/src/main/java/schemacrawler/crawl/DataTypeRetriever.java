@@ -80,6 +80,7 @@ final class DataTypeRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving system column data types");
         retrieveSystemColumnDataTypesFromMetadata(systemSchema);
         break;
@@ -108,6 +109,7 @@ final class DataTypeRetriever extends AbstractRetriever {
 
     try (final MetadataResultSet results =
         new MetadataResultSet(getMetaData().getUDTs(catalogName, schemaName, null, null))) {
+      setFetchSize(results, typeInfoRetrievalStrategy);
       while (results.next()) {
         // "TYPE_CAT", "TYPE_SCHEM"
         final String typeName = results.getString("TYPE_NAME");
@@ -198,6 +200,7 @@ final class DataTypeRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(typeInfoSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, TYPE_INFO);
       results.setDescription("retrieveSystemColumnDataTypesFromDataDictionary");
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
@@ -213,6 +216,7 @@ final class DataTypeRetriever extends AbstractRetriever {
   private void retrieveSystemColumnDataTypesFromMetadata(final Schema systemSchema)
       throws SQLException {
     try (final MetadataResultSet results = new MetadataResultSet(getMetaData().getTypeInfo())) {
+      setFetchSize(results, typeInfoRetrievalStrategy);
       results.setDescription("retrieveSystemColumnDataTypesFromDataDictionary");
       int numSystemColumnDataTypes = 0;
       while (results.next()) {
@@ -262,6 +262,7 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(databaseUsersSql, statement, new IncludeAll())) {
+      setFetchSize(results, DATABASE_USERS);
       results.setDescription("retrieveDatabaseUsers");
       while (results.next()) {
         final String username = results.getString("USERNAME");
@@ -324,6 +325,7 @@ final class DatabaseInfoRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(serverInfoSql, statement, new IncludeAll())) {
+      setFetchSize(results, SERVER_INFORMATION);
       results.setDescription("retrieveServerInfo");
       while (results.next()) {
         final String propertyName = results.getString("NAME");
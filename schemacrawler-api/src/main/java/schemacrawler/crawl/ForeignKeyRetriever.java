@@ -37,7 +37,9 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -87,6 +89,11 @@ final class ForeignKeyRetriever extends AbstractRetriever {
         retrieveForeignKeysFromMetadata(allTables);
         break;
 
+      case metadata_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving foreign keys, one schema at a time");
+        retrieveForeignKeysFromMetadataPerSchema(allTables);
+        break;
+
       default:
         break;
     }
@@ -136,7 +143,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       }
 
       final Optional<MutableForeignKey> foreignKeyOptional =
-          foreignKeys.lookup(Arrays.asList(foreignKeyName, specificName));
+          foreignKeys.lookup(new LookupKey(foreignKeyName, specificName));
       final MutableForeignKey foreignKey;
       if (foreignKeyOptional.isPresent()) {
         foreignKey = foreignKeyOptional.get();
@@ -182,7 +189,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     Column column = null;
 
     final Optional<MutableTable> tableOptional =
-        catalog.lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+        catalog.lookupTable(new LookupKey(catalogName, schemaName, tableName));
     if (tableOptional.isPresent()) {
       final Table table = tableOptional.get();
       final Optional<? extends Column> columnOptional = table.lookupColumn(columnName);
@@ -221,7 +228,9 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(fkSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                fkSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, FOREIGN_KEYS);
       results.setDescription("retrieveForeignKeysUsingSql");
       createForeignKeys(results, foreignKeys);
     } catch (final SQLException e) {
@@ -230,41 +239,77 @@ final class ForeignKeyRetriever extends AbstractRetriever {
   }
 
   private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
-      throws SchemaCrawlerSQLException {
-    final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
+      throws SQLException {
+    retrieveForeignKeysFromMetadata(allTables, new NamedObjectList<>());
+  }
+
+  private void retrieveForeignKeysFromMetadata(
+      final NamedObjectList<MutableTable> allTables,
+      final NamedObjectList<MutableForeignKey> foreignKeys)
+      throws SQLException {
+    final List<MutableTable> tables = new ArrayList<>();
     for (final MutableTable table : allTables) {
-      if (table instanceof View) {
-        continue;
+      if (!(table instanceof View)) {
+        tables.add(table);
       }
+    }
 
-      final DatabaseMetaData metaData = getMetaData();
-
-      // Get imported foreign keys
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              metaData.getImportedKeys(
-                  table.getSchema().getCatalogName(),
-                  table.getSchema().getName(),
-                  table.getName()))) {
-        createForeignKeys(results, foreignKeys);
-      } catch (final SQLException e) {
-        throw new SchemaCrawlerSQLException(
-            "Could not retrieve foreign keys for table " + table, e);
-      }
+    final ShardedMetadataRetriever retriever =
+        new ShardedMetadataRetriever(
+            "foreign keys",
+            getRetrieverConnection(),
+            table -> "Could not retrieve foreign keys for table " + table);
+    // We need to get exported keys as well, since if only a single
+    // table is selected, we have not retrieved it's keys that are
+    // imported by other tables.
+    retriever.retrieve(
+        tables,
+        (table, results) -> createForeignKeys(results, foreignKeys),
+        (metaData, table) ->
+            metaData.getImportedKeys(
+                table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()),
+        (metaData, table) ->
+            metaData.getExportedKeys(
+                table.getSchema().getCatalogName(), table.getSchema().getName(), table.getName()));
+  }
 
-      // We need to get exported keys as well, since if only a single
-      // table is selected, we have not retrieved it's keys that are
-      // imported by other tables.
-      try (final MetadataResultSet results =
+  private void retrieveForeignKeysFromMetadataPerSchema(
+      final NamedObjectList<MutableTable> allTables) throws SQLException {
+    final NamedObjectList<MutableForeignKey> foreignKeys = new NamedObjectList<>();
+    for (final Entry<Schema, NamedObjectList<MutableTable>> schemaTables :
+        getTablesBySchema(allTables).entrySet()) {
+      final Schema schema = schemaTables.getKey();
+      LOGGER.log(Level.FINE, new StringFormat("Retrieving foreign keys for schema <%s>", schema));
+      final DatabaseMetaData metaData = getMetaData();
+      final String catalogName = schema.getCatalogName();
+      final String schemaName = schema.getName();
+
+      // Get foreign keys exported by tables in the schema, and then
+      // foreign keys imported by tables in the schema, since if only a
+      // single schema is selected, we would otherwise miss foreign
+      // keys that reference tables in other schemas - however, some
+      // JDBC drivers require table names, so fall back to retrieving
+      // foreign keys one table at a time
+      try (final MetadataResultSet exportedKeys =
           new MetadataResultSet(
-              metaData.getExportedKeys(
-                  table.getSchema().getCatalogName(),
-                  table.getSchema().getName(),
-                  table.getName()))) {
-        createForeignKeys(results, foreignKeys);
+              metaData.getCrossReference(catalogName, schemaName, null, null, null, null))) {
+        setFetchSize(exportedKeys, foreignKeysRetrievalStrategy);
+        createForeignKeys(exportedKeys, foreignKeys);
+        try (final MetadataResultSet importedKeys =
+            new MetadataResultSet(
+                metaData.getCrossReference(null, null, null, catalogName, schemaName, null))) {
+          setFetchSize(importedKeys, foreignKeysRetrievalStrategy);
+          createForeignKeys(importedKeys, foreignKeys);
+        }
       } catch (final SQLException e) {
-        throw new SchemaCrawlerSQLException(
-            "Could not retrieve foreign keys for table " + table, e);
+        // Foreign keys that were already created are looked up again, and
+        // not duplicated, when retrieving one table at a time
+        logSQLFeatureNotSupported(
+            new StringFormat(
+                "Could not retrieve foreign keys for schema <%s>, so retrieving one table at a time",
+                schema),
+            e);
+        retrieveForeignKeysFromMetadata(schemaTables.getValue(), foreignKeys);
       }
     }
   }
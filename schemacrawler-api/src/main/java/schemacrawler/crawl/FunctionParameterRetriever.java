@@ -38,7 +38,6 @@ import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -91,6 +90,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving function parameters");
         retrieveFunctionParametersFromMetadata(allRoutines, parameterFilter);
         break;
@@ -128,7 +128,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
 
     final Optional<MutableRoutine> optionalRoutine =
         allRoutines.lookup(
-            Arrays.asList(columnCatalogName, schemaName, functionName, specificName));
+            new LookupKey(columnCatalogName, schemaName, functionName, specificName));
     if (!optionalRoutine.isPresent()) {
       return;
     }
@@ -207,6 +207,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(functionColumnsSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, FUNCTION_COLUMNS);
       results.setDescription("retrieveFunctionColumnsFromDataDictionary");
       while (results.next()) {
         createFunctionParameter(results, allRoutines, parameterFilter);
@@ -232,6 +233,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
                       function.getSchema().getName(),
                       function.getName(),
                       null))) {
+        setFetchSize(results, functionParametersRetrievalStrategy);
         while (results.next()) {
           createFunctionParameter(results, allRoutines, parameterFilter);
         }
@@ -34,8 +34,11 @@ import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.in
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -81,6 +84,11 @@ final class IndexRetriever extends AbstractRetriever {
         retrieveIndexesFromMetadata(allTables);
         break;
 
+      case metadata_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving indexes, one schema at a time");
+        retrieveIndexesFromMetadataPerSchema(allTables);
+        break;
+
       default:
         break;
     }
@@ -177,7 +185,9 @@ final class IndexRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(indexesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                indexesSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, INDEXES);
       results.setDescription("retrieveIndexesFromDataDictionary");
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
@@ -199,28 +209,74 @@ final class IndexRetriever extends AbstractRetriever {
 
   private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
-    for (final MutableTable table : allTables) {
-      retrieveTableIndexesFromMetadata(table, false);
-      retrieveTableIndexesFromMetadata(table, true);
-    }
+    final ShardedMetadataRetriever retriever =
+        new ShardedMetadataRetriever(
+            "indexes",
+            getRetrieverConnection(),
+            table -> "Could not retrieve indexes for table " + table);
+    retriever.retrieve(
+        allTables.values(),
+        this::createIndexes,
+        (metaData, table) -> getTableIndexInfo(metaData, table, false),
+        (metaData, table) -> getTableIndexInfo(metaData, table, true));
   }
 
-  private void retrieveTableIndexesFromMetadata(final MutableTable table, final boolean unique)
+  private void retrieveIndexesFromMetadataPerSchema(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
-
-    final Schema tableSchema = table.getSchema();
-    try (final MetadataResultSet results =
-        new MetadataResultSet(
+    for (final Entry<Schema, NamedObjectList<MutableTable>> schemaTables :
+        getTablesBySchema(allTables).entrySet()) {
+      final Schema schema = schemaTables.getKey();
+      LOGGER.log(Level.FINE, new StringFormat("Retrieving indexes for schema <%s>", schema));
+
+      // All indexes, unique and otherwise, are returned in a single call -
+      // however, some JDBC drivers require a table name, so fall back to
+      // retrieving indexes one table at a time
+      final ResultSet schemaResults;
+      try {
+        schemaResults =
             getMetaData()
                 .getIndexInfo(
-                    tableSchema.getCatalogName(),
-                    tableSchema.getName(),
-                    table.getName(),
-                    unique,
-                    true /* approximate */))) {
-      createIndexes(table, results);
-    } catch (final SQLException e) {
-      throw new SchemaCrawlerSQLException("Could not retrieve indexes for table " + table, e);
+                    schema.getCatalogName(), schema.getName(), null, false, true /* approximate */);
+      } catch (final SQLException e) {
+        logSQLFeatureNotSupported(
+            new StringFormat(
+                "Could not retrieve indexes for schema <%s>, so retrieving one table at a time",
+                schema),
+            e);
+        retrieveIndexesFromMetadata(schemaTables.getValue());
+        continue;
+      }
+
+      try (final MetadataResultSet results = new MetadataResultSet(schemaResults)) {
+        setFetchSize(results, indexesRetrievalStrategy);
+        while (results.next()) {
+          final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+          final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+          final String tableName = results.getString("TABLE_NAME");
+
+          final Optional<MutableTable> optionalTable =
+              allTables.lookup(new LookupKey(catalogName, schemaName, tableName));
+          if (!optionalTable.isPresent()) {
+            continue;
+          }
+          createIndexForTable(optionalTable.get(), results);
+        }
+      } catch (final SQLException e) {
+        throw new SchemaCrawlerSQLException(
+            String.format("Could not retrieve indexes for schema <%s>", schema), e);
+      }
     }
   }
+
+  private ResultSet getTableIndexInfo(
+      final DatabaseMetaData metaData, final MutableTable table, final boolean unique)
+      throws SQLException {
+    final Schema tableSchema = table.getSchema();
+    return metaData.getIndexInfo(
+        tableSchema.getCatalogName(),
+        tableSchema.getName(),
+        table.getName(),
+        unique,
+        true /* approximate */);
+  }
 }
@@ -0,0 +1,147 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import schemacrawler.schema.NamedObject;
+
+/**
+ * Immutable lookup key for named objects, made up of name segments, such as the catalog, schema and
+ * table names for a table. The hash code is computed once, when the key is created, and keys for
+ * dependent objects are created by extending the key of the parent object, without copying the
+ * parent key into a new list. Hash codes are the same as for a list of the same segments.
+ */
+final class LookupKey implements Serializable {
+
+  private static final long serialVersionUID = -4329174838424125187L;
+
+  /**
+   * Gets the lookup key for a named object. Named objects from the catalog model cache their lookup
+   * keys, so no new key is created for them.
+   *
+   * @param namedObject Named object
+   * @return Lookup key, or null if the named object is null
+   */
+  static LookupKey lookupKey(final NamedObject namedObject) {
+    if (namedObject == null) {
+      return null;
+    } else if (namedObject instanceof AbstractNamedObject) {
+      return ((AbstractNamedObject) namedObject).key();
+    } else {
+      return new LookupKey(namedObject.toUniqueLookupKey());
+    }
+  }
+
+  private final String[] segments;
+  private final int hash;
+
+  LookupKey(final List<String> segments) {
+    this(requireNonNull(segments, "No lookup key segments provided").toArray(new String[0]));
+  }
+
+  LookupKey(final String... segments) {
+    this.segments = requireNonNull(segments, "No lookup key segments provided");
+    int hash = 1;
+    for (final String segment : segments) {
+      hash = 31 * hash + (segment == null ? 0 : segment.hashCode());
+    }
+    this.hash = hash;
+  }
+
+  private LookupKey(final LookupKey parent, final String segment) {
+    segments = Arrays.copyOf(parent.segments, parent.segments.length + 1);
+    segments[parent.segments.length] = segment;
+    hash = 31 * parent.hash + (segment == null ? 0 : segment.hashCode());
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof LookupKey)) {
+      return false;
+    }
+    final LookupKey other = (LookupKey) obj;
+    return hash == other.hash && Arrays.equals(segments, other.segments);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(segments);
+  }
+
+  /**
+   * Gets a segment of the key.
+   *
+   * @param index Index of the segment
+   * @return Name segment
+   */
+  String get(final int index) {
+    return segments[index];
+  }
+
+  /**
+   * Number of segments in the key.
+   *
+   * @return Number of segments
+   */
+  int size() {
+    return segments.length;
+  }
+
+  /**
+   * Copies the segments of the key into a new, modifiable list.
+   *
+   * @return Lookup key segments
+   */
+  List<String> toList() {
+    return new ArrayList<>(Arrays.asList(segments));
+  }
+
+  /**
+   * Creates a lookup key for a dependent object, by adding a segment to this key.
+   *
+   * @param segment Name segment to add
+   * @return New lookup key
+   */
+  LookupKey with(final String segment) {
+    return new LookupKey(this, segment);
+  }
+}
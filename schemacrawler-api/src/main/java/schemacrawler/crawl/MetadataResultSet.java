@@ -49,13 +49,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -80,13 +80,20 @@ public final class MetadataResultSet implements AutoCloseable {
       SchemaCrawlerLogger.getLogger(MetadataResultSet.class.getName());
 
   private static final int FETCHSIZE = 20;
+  private static final int MAX_FETCHSIZE = 1000;
 
   private final ResultsColumns resultsColumns;
   private final ResultSet results;
   private String description;
-  private Set<ResultsColumn> readColumns;
+  private final List<ResultsColumn> columns;
+  private final Map<String, Integer> columnIndexes;
+  private final BitSet readColumns;
   private int rowCount;
   private boolean showLobs;
+  private int fetchSize;
+  private boolean adaptiveFetchSize;
+  private int fetchedRowCount;
+  private int fetchCount;
 
   public MetadataResultSet(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
@@ -95,16 +102,24 @@ public final class MetadataResultSet implements AutoCloseable {
     description = query.getName();
   }
 
+  public MetadataResultSet(
+      final Query query,
+      final Statement statement,
+      final InclusionRule schemaInclusionRule,
+      final InclusionRule tableInclusionRule)
+      throws SQLException {
+    this(executeAgainstSchema(query, statement, schemaInclusionRule, tableInclusionRule));
+    description = query.getName();
+  }
+
   public MetadataResultSet(final ResultSet resultSet) throws SQLException {
     results = requireNonNull(resultSet, "Cannot use null results");
-    try {
-      results.setFetchSize(FETCHSIZE);
-    } catch (final NullPointerException | SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
-    }
+    setFetchSize(FETCHSIZE, false);
 
     resultsColumns = new ResultsCrawler(results).crawl();
-    readColumns = new HashSet<>();
+    columns = resultsColumns.getColumns();
+    columnIndexes = new HashMap<>();
+    readColumns = new BitSet(columns.size());
     showLobs = true;
   }
 
@@ -119,7 +134,11 @@ public final class MetadataResultSet implements AutoCloseable {
     results.close();
 
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description)) {
-      LOGGER.log(Level.INFO, new StringFormat("Processed %d rows for <%s>", rowCount, description));
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Processed %d rows for <%s>, in about %d round trips with a fetch size of up to %d",
+              rowCount, description, fetchCount, fetchSize));
     }
   }
 
@@ -127,29 +146,35 @@ public final class MetadataResultSet implements AutoCloseable {
    * Gets unread (and therefore unmapped) columns from the database metadata resultset, and makes
    * them available as addiiotnal attributes.
    *
-   * @return Map of additional attributes to the database object
+   * @return Map of additional attributes to the database object, which is empty if all the columns
+   *     have been read
    */
   public Map<String, Object> getAttributes() {
+    if (readColumns.cardinality() == columns.size()) {
+      return Collections.emptyMap();
+    }
+
     final Map<String, Object> attributes = new HashMap<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
-      if (!readColumns.contains(resultsColumn)) {
-        try {
-          final String key = resultsColumn.getLabel().toUpperCase();
-          final Object value = getColumnData(resultsColumn);
-          attributes.put(key, value);
-        } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
-          /*
-           * MySQL connector is broken and can cause
-           * ArrayIndexOutOfBoundsExceptions for no good reason (tested
-           * with connector 5.1.26 and server version 5.0.95). Ignoring
-           * the exception, we can still get some useful data out of the
-           * database.
-           */
-          LOGGER.log(
-              Level.WARNING,
-              new StringFormat("Could not read value for column <%s>", resultsColumn),
-              e);
-        }
+    for (int index = readColumns.nextClearBit(0);
+        index < columns.size();
+        index = readColumns.nextClearBit(index + 1)) {
+      final ResultsColumn resultsColumn = columns.get(index);
+      try {
+        final String key = resultsColumn.getLabel().toUpperCase();
+        final Object value = getColumnData(resultsColumn);
+        attributes.put(key, value);
+      } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
+        /*
+         * MySQL connector is broken and can cause
+         * ArrayIndexOutOfBoundsExceptions for no good reason (tested
+         * with connector 5.1.26 and server version 5.0.95). Ignoring
+         * the exception, we can still get some useful data out of the
+         * database.
+         */
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat("Could not read value for column <%s>", resultsColumn),
+            e);
       }
     }
     return attributes;
@@ -178,9 +203,10 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Whether the string evaluates to true
    */
   public boolean getBoolean(final String columnName) {
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(columnIndex);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null) {
           LOGGER.log(
@@ -266,9 +292,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public int getInt(final String columnName, final int defaultValue) {
     int value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getInt(columnName);
+        value = results.getInt(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -296,9 +323,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public long getLong(final String columnName, final long defaultValue) {
     long value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getLong(columnName);
+        value = results.getLong(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -327,9 +355,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public short getShort(final String columnName, final short defaultValue) {
     short value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getShort(columnName);
+        value = results.getShort(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -356,9 +385,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public String getString(final String columnName) {
     String value = null;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getString(columnName);
+        value = results.getString(columnIndex);
         if (results.wasNull()) {
           value = null;
         }
@@ -386,12 +416,24 @@ public final class MetadataResultSet implements AutoCloseable {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    readColumns.clear();
+
+    // Once all the rows that were fetched have been read, the driver
+    // makes a round trip to the database to fetch more
+    final boolean isFetch = rowCount == fetchedRowCount;
+    if (isFetch) {
+      fetchCount = fetchCount + 1;
+      fetchedRowCount = fetchedRowCount + fetchSize;
+    }
 
     final boolean next = results.next();
     logSQLWarnings(results);
     if (next) {
       rowCount = rowCount + 1;
+      if (isFetch && adaptiveFetchSize && fetchSize < MAX_FETCHSIZE) {
+        // More rows may follow, so fetch twice as many next time
+        setFetchSize(Math.min(fetchSize * 2, MAX_FETCHSIZE), true);
+      }
     }
     return next;
   }
@@ -409,6 +451,27 @@ public final class MetadataResultSet implements AutoCloseable {
     this.description = description;
   }
 
+  /**
+   * Sets the number of rows to fetch from the database at a time, before the rows are read. An
+   * adaptive fetch size doubles after every fetch, up to a limit, so that large results take fewer
+   * round trips to the database.
+   *
+   * @param fetchSize Number of rows to fetch at a time
+   * @param adaptiveFetchSize Whether the fetch size grows as rows are read
+   */
+  public void setFetchSize(final int fetchSize, final boolean adaptiveFetchSize) {
+    if (fetchSize <= 0) {
+      return;
+    }
+    this.fetchSize = fetchSize;
+    this.adaptiveFetchSize = adaptiveFetchSize;
+    try {
+      results.setFetchSize(fetchSize);
+    } catch (final NullPointerException | SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+  }
+
   public void setShowLobs(final boolean showLobs) {
     this.showLobs = showLobs;
   }
@@ -465,9 +528,33 @@ public final class MetadataResultSet implements AutoCloseable {
     return new BinaryData();
   }
 
-  private boolean useColumn(final String columnName) {
+  private int lookupColumnIndex(final String columnName) {
     final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
-    optionalResultsColumn.ifPresent(readColumns::add);
-    return optionalResultsColumn.isPresent();
+    if (optionalResultsColumn.isPresent()) {
+      final ResultsColumn resultsColumn = optionalResultsColumn.get();
+      for (int index = 0; index < columns.size(); index++) {
+        if (columns.get(index) == resultsColumn) {
+          return index;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Marks a column as read, so that it is not returned as an additional attribute. Column names are
+   * looked up only once for the result set, and the JDBC column index is used for every row after
+   * that.
+   *
+   * @param columnName Column name to look up
+   * @return JDBC column index, or 0 if the column is not in the results
+   */
+  private int useColumn(final String columnName) {
+    final int index = columnIndexes.computeIfAbsent(columnName, this::lookupColumnIndex);
+    if (index < 0) {
+      return 0;
+    }
+    readColumns.set(index);
+    return columns.get(index).getOrdinalPosition();
   }
 }
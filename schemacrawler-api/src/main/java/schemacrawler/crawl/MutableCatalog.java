@@ -28,11 +28,15 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -84,7 +88,10 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   private final NamedObjectList<MutableSynonym> synonyms = new NamedObjectList<>();
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<ImmutableDatabaseUser> databaseUsers = new NamedObjectList<>();
-  private final MutableCrawlInfo crawlInfo;
+  private MutableCrawlInfo crawlInfo;
+  // Change signals are only used between incremental crawls in the same process, and are not
+  // serialized or exported with the catalog
+  private transient Map<List<String>, String> tableChangeSignals;
 
   MutableCatalog(final String name) {
     super(name);
@@ -93,10 +100,22 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     crawlInfo = new MutableCrawlInfo();
   }
 
+  /** Restores a catalog that was saved as a catalog snapshot. */
+  MutableCatalog(
+      final String name,
+      final MutableDatabaseInfo databaseInfo,
+      final MutableJdbcDriverInfo jdbcDriverInfo,
+      final MutableCrawlInfo crawlInfo) {
+    super(name);
+    this.databaseInfo = requireNonNull(databaseInfo, "No database information provided");
+    this.jdbcDriverInfo = requireNonNull(jdbcDriverInfo, "No JDBC driver information provided");
+    this.crawlInfo = requireNonNull(crawlInfo, "No crawl information provided");
+  }
+
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes() {
-    return new ArrayList<>(columnDataTypes.values());
+    return unmodifiableList(columnDataTypes.values());
   }
 
   /** {@inheritDoc} */
@@ -125,7 +144,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<DatabaseUser> getDatabaseUsers() {
-    return new ArrayList<>(databaseUsers.values());
+    return unmodifiableList(databaseUsers.values());
   }
 
   /** {@inheritDoc} */
@@ -137,7 +156,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Routine> getRoutines() {
-    return new ArrayList<>(routines.values());
+    return unmodifiableList(routines.values());
   }
 
   /** {@inheritDoc} */
@@ -156,13 +175,13 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Schema> getSchemas() {
-    return new ArrayList<>(schemas.values());
+    return unmodifiableList(schemas.values());
   }
 
   /** {@inheritDoc} */
   @Override
   public Collection<Sequence> getSequences() {
-    return new ArrayList<>(sequences.values());
+    return unmodifiableList(sequences.values());
   }
 
   /** {@inheritDoc} */
@@ -181,7 +200,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Synonym> getSynonyms() {
-    return new ArrayList<>(synonyms.values());
+    return unmodifiableList(synonyms.values());
   }
 
   /** {@inheritDoc} */
@@ -206,7 +225,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTables() {
-    return new ArrayList<>(tables.values());
+    return unmodifiableList(tables.values());
   }
 
   /** {@inheritDoc} */
@@ -269,7 +288,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     return lookupColumnDataType(new SchemaReference(), name);
   }
 
-  public Optional<MutableTable> lookupTable(final List<String> tableLookupKey) {
+  public Optional<MutableTable> lookupTable(final LookupKey tableLookupKey) {
     return tables.lookup(tableLookupKey);
   }
 
@@ -346,6 +365,18 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     return tables;
   }
 
+  /**
+   * Gets change signals recorded by a previous incremental crawl.
+   *
+   * @return Change signals, keyed by table lookup key, or an empty map if none were recorded
+   */
+  Map<List<String>, String> getTableChangeSignals() {
+    if (tableChangeSignals == null) {
+      return Collections.emptyMap();
+    }
+    return tableChangeSignals;
+  }
+
   MutableColumnDataType lookupBaseColumnDataTypeByType(final int baseType) {
     final SchemaReference systemSchema = new SchemaReference();
     MutableColumnDataType columnDataType = null;
@@ -365,11 +396,28 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     }
   }
 
-  Optional<MutableRoutine> lookupRoutine(final List<String> routineLookupKey) {
+  Optional<MutableRoutine> lookupRoutine(final LookupKey routineLookupKey) {
     return routines.lookup(routineLookupKey);
   }
 
+  void removeTable(final MutableTable table) {
+    tables.remove(table);
+  }
+
+  /**
+   * Starts new crawl information, with a new crawl timestamp and run id, for a catalog that is
+   * patched by an incremental crawl.
+   */
+  void refreshCrawlInfo() {
+    crawlInfo = new MutableCrawlInfo();
+    setCrawlInfo();
+  }
+
   void setCrawlInfo() {
     crawlInfo.setDatabaseInfo(jdbcDriverInfo, databaseInfo);
   }
+
+  void setTableChangeSignals(final Map<List<String>, String> tableChangeSignals) {
+    this.tableChangeSignals = new HashMap<>(tableChangeSignals);
+  }
 }
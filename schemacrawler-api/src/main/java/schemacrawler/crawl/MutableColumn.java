@@ -28,7 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
+import static java.util.Collections.unmodifiableList;
+
 import java.util.Collection;
 import java.util.Optional;
 
@@ -68,7 +69,7 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
   /** {@inheritDoc} */
   @Override
   public Collection<Privilege<Column>> getPrivileges() {
-    return new ArrayList<>(privileges.values());
+    return unmodifiableList(privileges.values());
   }
 
   /** {@inheritDoc} */
@@ -85,6 +85,25 @@ final class MutableCrawlInfo implements CrawlInfo {
     runId = UUID.randomUUID();
   }
 
+  /** Restores crawl information that was saved with a catalog snapshot. */
+  MutableCrawlInfo(
+      final ProductVersion schemaCrawlerVersion,
+      final ProductVersion operatingSystemVersion,
+      final ProductVersion jvmVersion,
+      final ProductVersion databaseVersion,
+      final ProductVersion jdbcDriverVersion,
+      final Instant crawlTimestamp,
+      final UUID runId) {
+    this.schemaCrawlerVersion = requireNonNull(schemaCrawlerVersion, "No version provided");
+    this.operatingSystemVersion =
+        requireNonNull(operatingSystemVersion, "No operating system version provided");
+    this.jvmVersion = requireNonNull(jvmVersion, "No JVM version provided");
+    this.databaseVersion = databaseVersion;
+    this.jdbcDriverVersion = jdbcDriverVersion;
+    this.crawlTimestamp = requireNonNull(crawlTimestamp, "No crawl timestamp provided");
+    this.runId = requireNonNull(runId, "No run id provided");
+  }
+
   @Override
   public String getCrawlTimestamp() {
     final ZonedDateTime dateTime = ZonedDateTime.ofInstant(crawlTimestamp, UTC);
@@ -111,6 +111,10 @@ final class MutableDatabaseInfo implements DatabaseInfo {
     }
   }
 
+  Collection<DatabaseProperty> getAllProperties() {
+    return new ArrayList<>(databaseProperties);
+  }
+
   void setProductName(final String productName) {
     this.productName = productName;
   }
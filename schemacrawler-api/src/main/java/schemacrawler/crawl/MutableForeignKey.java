@@ -155,17 +155,15 @@ final class MutableForeignKey extends AbstractNamedObjectWithAttributes implemen
   }
 
   @Override
-  public List<String> toUniqueLookupKey() {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(super.toUniqueLookupKey());
-    lookupKey.add(specificName);
-    return lookupKey;
+  LookupKey newLookupKey() {
+    return super.newLookupKey().with(specificName);
   }
 
   void addColumnReference(final int keySequence, final Column pkColumn, final Column fkColumn) {
     final MutableForeignKeyColumnReference fkColumnReference =
         new MutableForeignKeyColumnReference(keySequence, pkColumn, fkColumn);
     columnReferences.add(fkColumnReference);
+    NamedObjectList.sortKeyChanged();
   }
 
   void appendDefinition(final String definition) {
@@ -184,6 +182,7 @@ final class MutableForeignKey extends AbstractNamedObjectWithAttributes implemen
 
   void setSpecificName(final String specificName) {
     this.specificName = specificName;
+    resetLookupKey();
   }
 
   void setUpdateRule(final ForeignKeyUpdateRule updateRule) {
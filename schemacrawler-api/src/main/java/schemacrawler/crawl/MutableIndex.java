@@ -28,9 +28,9 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -114,7 +114,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
   /** {@inheritDoc} */
   @Override
   public final List<IndexColumn> getColumns() {
-    return new ArrayList<>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /** {@inheritDoc} */
@@ -167,6 +167,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
 
   final void addColumn(final MutableIndexColumn column) {
     columns.add(column);
+    NamedObjectList.sortKeyChanged();
   }
 
   final void appendDefinition(final String definition) {
@@ -181,6 +182,7 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
 
   final void setIndexType(final IndexType indexType) {
     this.indexType = requireNonNull(indexType, "Null index type");
+    NamedObjectList.sortKeyChanged();
   }
 
   final void setPages(final int pages) {
@@ -189,5 +191,6 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
 
   final void setUnique(final boolean unique) {
     isUnique = unique;
+    NamedObjectList.sortKeyChanged();
   }
 }
@@ -198,6 +198,10 @@ class MutableKeyColumn extends AbstractDependantObject<Table> implements Column,
     }
   }
 
+  Column getColumn() {
+    return column;
+  }
+
   int getKeyOrdinalPosition() {
     return keyOrdinalPosition;
   }
@@ -210,5 +214,6 @@ class MutableKeyColumn extends AbstractDependantObject<Table> implements Column,
 
   void setKeyOrdinalPosition(final int keyOrdinalPosition) {
     this.keyOrdinalPosition = keyOrdinalPosition;
+    NamedObjectList.sortKeyChanged();
   }
 }
@@ -28,9 +28,9 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,7 +60,7 @@ final class MutableProcedure extends MutableRoutine implements Procedure {
   /** {@inheritDoc} */
   @Override
   public List<ProcedureParameter> getParameters() {
-    return new ArrayList<>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /** {@inheritDoc} */
@@ -82,6 +82,7 @@ final class MutableProcedure extends MutableRoutine implements Procedure {
 
   void addParameter(final MutableProcedureParameter column) {
     columns.add(column);
+    NamedObjectList.sortKeyChanged();
   }
 
   void setReturnType(final ProcedureReturnType returnType) {
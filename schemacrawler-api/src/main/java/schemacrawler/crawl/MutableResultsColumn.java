@@ -28,8 +28,6 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
-import java.util.List;
 
 import schemacrawler.schema.ResultsColumn;
 import schemacrawler.schema.Table;
@@ -118,11 +116,8 @@ final class MutableResultsColumn extends AbstractColumn<Table> implements Result
   }
 
   @Override
-  public List<String> toUniqueLookupKey() {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(super.toUniqueLookupKey());
-    lookupKey.add(label);
-    return lookupKey;
+  LookupKey newLookupKey() {
+    return super.newLookupKey().with(label);
   }
 
   void setAutoIncrement(final boolean isAutoIncrement) {
@@ -147,6 +142,7 @@ final class MutableResultsColumn extends AbstractColumn<Table> implements Result
 
   void setLabel(final String label) {
     this.label = label;
+    resetLookupKey();
   }
 
   void setReadOnly(final boolean isReadOnly) {
@@ -28,7 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
+import static java.util.Collections.unmodifiableList;
+
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -54,7 +55,7 @@ final class MutableResultsColumns extends AbstractNamedObject implements Results
   /** {@inheritDoc} */
   @Override
   public List<ResultsColumn> getColumns() {
-    return new ArrayList<>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /** {@inheritDoc} */
@@ -30,7 +30,6 @@ package schemacrawler.crawl;
 
 import static us.fatehi.utility.Utility.isBlank;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import schemacrawler.schema.NamedObject;
@@ -124,11 +123,8 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
   }
 
   @Override
-  public final List<String> toUniqueLookupKey() {
-    // Make a defensive copy
-    final List<String> lookupKey = new ArrayList<>(super.toUniqueLookupKey());
-    lookupKey.add(specificName);
-    return lookupKey;
+  final LookupKey newLookupKey() {
+    return super.newLookupKey().with(specificName);
   }
 
   final void appendDefinition(final String definition) {
@@ -143,5 +139,7 @@ abstract class MutableRoutine extends AbstractDatabaseObject implements Routine
 
   final void setSpecificName(final String specificName) {
     this.specificName = specificName;
+    resetLookupKey();
+    NamedObjectList.sortKeyChanged();
   }
 }
@@ -28,6 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static java.util.Collections.unmodifiableList;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -105,7 +107,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public List<Column> getColumns() {
-    return new ArrayList<>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /** {@inheritDoc} */
@@ -140,7 +142,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<Index> getIndexes() {
-    return new ArrayList<>(indexes.values());
+    return unmodifiableList(indexes.values());
   }
 
   /** {@inheritDoc} */
@@ -152,7 +154,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<Privilege<Table>> getPrivileges() {
-    return new ArrayList<>(privileges.values());
+    return unmodifiableList(privileges.values());
   }
 
   /** {@inheritDoc} */
@@ -160,8 +162,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   public Collection<Table> getRelatedTables(final TableRelationshipType tableRelationshipType) {
     final Set<Table> relatedTables = new HashSet<>();
     if (tableRelationshipType != null && tableRelationshipType != TableRelationshipType.none) {
-      final List<MutableForeignKey> foreignKeysList = new ArrayList<>(foreignKeys.values());
-      for (final ForeignKey foreignKey : foreignKeysList) {
+      for (final ForeignKey foreignKey : foreignKeys) {
         for (final ForeignKeyColumnReference columnReference : foreignKey) {
           final Table parentTable = columnReference.getPrimaryKeyColumn().getParent();
           final Table childTable = columnReference.getForeignKeyColumn().getParent();
@@ -191,7 +192,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<TableConstraint> getTableConstraints() {
-    return new ArrayList<>(constraints.values());
+    return unmodifiableList(constraints.values());
   }
 
   /** {@inheritDoc} */
@@ -203,7 +204,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<Trigger> getTriggers() {
-    return new ArrayList<>(triggers.values());
+    return unmodifiableList(triggers.values());
   }
 
   /** {@inheritDoc} */
@@ -215,7 +216,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   /** {@inheritDoc} */
   @Override
   public Collection<WeakAssociation> getWeakAssociations() {
-    return new ArrayList<>(weakAssociations.values());
+    return unmodifiableList(weakAssociations.values());
   }
 
   @Override
@@ -316,6 +317,22 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     return columns;
   }
 
+  NamedObjectList<MutableForeignKey> getAllForeignKeys() {
+    return foreignKeys;
+  }
+
+  final int getSortIndex() {
+    return sortIndex;
+  }
+
+  final void removeForeignKey(final MutableForeignKey foreignKey) {
+    foreignKeys.remove(foreignKey);
+  }
+
+  final void removeWeakAssociations() {
+    weakAssociations.filter(weakAssociation -> false);
+  }
+
   final void setPrimaryKey(final MutablePrimaryKey primaryKey) {
     if (primaryKey == null) {
       return;
@@ -326,6 +343,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
 
   final void setSortIndex(final int sortIndex) {
     this.sortIndex = sortIndex;
+    NamedObjectList.sortKeyChanged();
   }
 
   final void setTableType(final TableType tableType) {
@@ -334,6 +352,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     } else {
       this.tableType = tableType;
     }
+    NamedObjectList.sortKeyChanged();
   }
 
   private Collection<ForeignKey> getForeignKeys(final TableAssociationType tableAssociationType) {
@@ -28,7 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
+import static java.util.Collections.unmodifiableList;
+
 import java.util.List;
 
 import schemacrawler.schema.Table;
@@ -55,7 +56,7 @@ class MutableTableConstraint extends AbstractDependantObject<Table> implements T
   /** {@inheritDoc} */
   @Override
   public List<TableConstraintColumn> getColumns() {
-    return new ArrayList<>(columns.values());
+    return unmodifiableList(columns.values());
   }
 
   /** {@inheritDoc} */
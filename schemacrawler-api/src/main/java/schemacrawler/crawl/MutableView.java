@@ -28,7 +28,8 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
-import java.util.ArrayList;
+import static java.util.Collections.unmodifiableList;
+
 import java.util.Collection;
 import java.util.Optional;
 
@@ -62,7 +63,7 @@ class MutableView extends MutableTable implements View {
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTableUsage() {
-    return new ArrayList<>(tableUsage.values());
+    return unmodifiableList(tableUsage.values());
   }
 
   /** {@inheritDoc} */
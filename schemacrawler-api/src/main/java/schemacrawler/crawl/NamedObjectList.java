@@ -33,13 +33,15 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.NamedObject;
@@ -51,30 +53,53 @@ import us.fatehi.utility.ObjectToString;
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>Objects are held in insertion order, and a sorted snapshot is cached between modifications to
+ * the list. Since the sort order of some named objects depends on properties that can change after
+ * they are added (such as the ordinal position of a column, or the columns of an index), the
+ * mutators of those properties call {@link #sortKeyChanged()}, which invalidates the snapshots of
+ * all lists. The snapshot is immutable, so it can be shared by concurrent readers.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
-  private static final long serialVersionUID = 3257847666804142128L;
+  /** Sorted snapshot of the list, along with the count of sort key changes when it was taken. */
+  private static final class SortedSnapshot<N> {
+
+    private final List<N> values;
+    private final long sortKeyChanges;
 
-  private static List<String> makeLookupKey(final NamedObject namedObject) {
-    final List<String> key;
-    if (namedObject == null) {
-      key = null;
-    } else {
-      key = namedObject.toUniqueLookupKey();
+    SortedSnapshot(final List<N> values, final long sortKeyChanges) {
+      this.values = values;
+      this.sortKeyChanges = sortKeyChanges;
     }
-    return key;
   }
 
-  private static List<String> makeLookupKey(final NamedObject namedObject, final String name) {
-    final List<String> key = makeLookupKey(namedObject);
-    if (key != null) {
-      key.add(name);
+  private static final long serialVersionUID = 3257847666804142128L;
+
+  private static final AtomicLong sortKeyChanges = new AtomicLong();
+
+  /**
+   * Records that a property which named objects are sorted on has changed, after the named object
+   * may have been added to a list. Cached sorted snapshots are not used after this.
+   */
+  static void sortKeyChanged() {
+    sortKeyChanges.incrementAndGet();
+  }
+
+  private static LookupKey makeLookupKey(final NamedObject namedObject) {
+    return LookupKey.lookupKey(namedObject);
+  }
+
+  private static LookupKey makeLookupKey(final NamedObject namedObject, final String name) {
+    final LookupKey key = makeLookupKey(namedObject);
+    if (key == null) {
+      return null;
     }
-    return key;
+    return key.with(name);
   }
 
-  private final Map<List<String>, N> objects = new HashMap<>();
+  private final Map<LookupKey, N> objects = new LinkedHashMap<>();
+  private transient volatile SortedSnapshot<N> sorted;
 
   @Override
   public void filter(final Predicate<? super N> predicate) {
@@ -82,12 +107,12 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
       return;
     }
 
-    final Set<Entry<List<String>, N>> entrySet = objects.entrySet();
-    for (final Iterator<Entry<List<String>, N>> iterator = entrySet.iterator();
-        iterator.hasNext(); ) {
-      final Entry<List<String>, N> entry = iterator.next();
+    final Set<Entry<LookupKey, N>> entrySet = objects.entrySet();
+    for (final Iterator<Entry<LookupKey, N>> iterator = entrySet.iterator(); iterator.hasNext(); ) {
+      final Entry<LookupKey, N> entry = iterator.next();
       if (!predicate.test(entry.getValue())) {
         iterator.remove();
+        sorted = null;
       }
     }
   }
@@ -123,13 +148,13 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
         throw new UnsupportedOperationException();
       }
     }
-    return new UnmodifiableIterator(values().iterator());
+    return new UnmodifiableIterator(sortedValues().iterator());
   }
 
   /** {@inheritDoc} */
   @Override
   public String toString() {
-    return ObjectToString.toString(values());
+    return ObjectToString.toString(sortedValues());
   }
 
   /**
@@ -139,8 +164,9 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    */
   boolean add(final N namedObject) {
     requireNonNull(namedObject, "Cannot add a null object to the list");
-    final List<String> key = makeLookupKey(namedObject);
+    final LookupKey key = makeLookupKey(namedObject);
     objects.put(key, namedObject);
+    sorted = null;
     return true;
   }
 
@@ -158,17 +184,21 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    * @param lookupKey Internal lookup key
    * @return Named object
    */
-  Optional<N> lookup(final List<String> lookupKey) {
+  Optional<N> lookup(final LookupKey lookupKey) {
     return internalGet(lookupKey);
   }
 
   Optional<N> lookup(final NamedObject namedObject, final String name) {
-    final List<String> key = makeLookupKey(namedObject, name);
+    final LookupKey key = makeLookupKey(namedObject, name);
     return internalGet(key);
   }
 
   N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+    final N removed = objects.remove(makeLookupKey(namedObject));
+    if (removed != null) {
+      sorted = null;
+    }
+    return removed;
   }
 
   /**
@@ -181,17 +211,34 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The returned list is a read-only view,
+   * which does not change when the list is modified, so callers that only iterate over the values
+   * do not need to copy it.
    *
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    return sortedValues();
   }
 
-  private Optional<N> internalGet(final List<String> key) {
+  private Optional<N> internalGet(final LookupKey key) {
     return Optional.ofNullable(objects.get(key));
   }
+
+  private List<N> sortedValues() {
+    // Read the count of changes before sorting, so that any change made while sorting
+    // invalidates the new snapshot
+    final long currentSortKeyChanges = sortKeyChanges.get();
+    final SortedSnapshot<N> cached = sorted;
+    if (cached != null && cached.sortKeyChanges == currentSortKeyChanges) {
+      return cached.values;
+    }
+
+    // Re-sorting a previous snapshot is close to linear, since it is mostly in order
+    final List<N> all = new ArrayList<>(cached == null ? objects.values() : cached.values);
+    all.sort(naturalOrder());
+    final List<N> snapshot = Collections.unmodifiableList(all);
+    sorted = new SortedSnapshot<>(snapshot, currentSortKeyChanges);
+    return snapshot;
+  }
 }
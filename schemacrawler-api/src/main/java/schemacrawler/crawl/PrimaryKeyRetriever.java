@@ -33,8 +33,12 @@ import static schemacrawler.schemacrawler.InformationSchemaKey.PRIMARY_KEYS;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -79,6 +83,11 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
         retrievePrimaryKeysFromMetadata(allTables);
         break;
 
+      case metadata_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving primary keys, one schema at a time");
+        retrievePrimaryKeysFromMetadataPerSchema(allTables);
+        break;
+
       default:
         break;
     }
@@ -128,7 +137,9 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(pkSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                pkSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, PRIMARY_KEYS);
       results.setDescription("retrievePrimaryKeysFromDataDictionary");
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
@@ -150,22 +161,72 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
 
   private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
       throws SQLException {
+    final List<MutableTable> tables = new ArrayList<>();
     for (final MutableTable table : allTables) {
-      if (table instanceof View) {
+      if (!(table instanceof View)) {
+        tables.add(table);
+      }
+    }
+
+    final ShardedMetadataRetriever retriever =
+        new ShardedMetadataRetriever(
+            "primary keys",
+            getRetrieverConnection(),
+            table -> "Could not retrieve primary keys for table " + table);
+    retriever.retrieve(
+        tables,
+        (table, results) -> {
+          while (results.next()) {
+            createPrimaryKeyForTable(table, results);
+          }
+        },
+        (metaData, table) -> {
+          final Schema tableSchema = table.getSchema();
+          return metaData.getPrimaryKeys(
+              tableSchema.getCatalogName(), tableSchema.getName(), table.getName());
+        });
+  }
+
+  private void retrievePrimaryKeysFromMetadataPerSchema(
+      final NamedObjectList<MutableTable> allTables) throws SQLException {
+    for (final Entry<Schema, NamedObjectList<MutableTable>> schemaTables :
+        getTablesBySchema(allTables).entrySet()) {
+      final Schema schema = schemaTables.getKey();
+      LOGGER.log(Level.FINE, new StringFormat("Retrieving primary keys for schema <%s>", schema));
+
+      // Some JDBC drivers require a table name, so fall back to
+      // retrieving primary keys one table at a time
+      final ResultSet schemaResults;
+      try {
+        schemaResults =
+            getMetaData().getPrimaryKeys(schema.getCatalogName(), schema.getName(), null);
+      } catch (final SQLException e) {
+        logSQLFeatureNotSupported(
+            new StringFormat(
+                "Could not retrieve primary keys for schema <%s>, so retrieving one table at a time",
+                schema),
+            e);
+        retrievePrimaryKeysFromMetadata(schemaTables.getValue());
         continue;
       }
-      final Schema tableSchema = table.getSchema();
-      try (final MetadataResultSet results =
-          new MetadataResultSet(
-              getMetaData()
-                  .getPrimaryKeys(
-                      tableSchema.getCatalogName(), tableSchema.getName(), table.getName()))) {
+
+      try (final MetadataResultSet results = new MetadataResultSet(schemaResults)) {
+        setFetchSize(results, primaryKeysRetrievalStrategy);
         while (results.next()) {
-          createPrimaryKeyForTable(table, results);
+          final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+          final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+          final String tableName = results.getString("TABLE_NAME");
+
+          final Optional<MutableTable> optionalTable =
+              allTables.lookup(new LookupKey(catalogName, schemaName, tableName));
+          if (!optionalTable.isPresent()) {
+            continue;
+          }
+          createPrimaryKeyForTable(optionalTable.get(), results);
         }
       } catch (final SQLException e) {
         throw new SchemaCrawlerSQLException(
-            "Could not retrieve primary keys for table " + table, e);
+            String.format("Could not retrieve primary keys for schema <%s>", schema), e);
       }
     }
   }
@@ -37,7 +37,6 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -90,6 +89,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving procedure parameters");
         retrieveProcedureParametersFromMetadata(allRoutines, parameterFilter);
         break;
@@ -127,7 +127,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
 
     final Optional<MutableRoutine> optionalRoutine =
         allRoutines.lookup(
-            Arrays.asList(columnCatalogName, schemaName, procedureName, specificName));
+            new LookupKey(columnCatalogName, schemaName, procedureName, specificName));
     if (!optionalRoutine.isPresent()) {
       return;
     }
@@ -207,6 +207,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(procedureColumnsSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, PROCEDURE_COLUMNS);
       results.setDescription("retrieveProcedureParametersFromDataDictionary");
       while (results.next()) {
         createProcedureParameter(results, allRoutines, parameterFilter);
@@ -233,6 +234,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
                       procedure.getSchema().getName(),
                       procedure.getName(),
                       null))) {
+        setFetchSize(results, procedureParametersRetrievalStrategy);
         while (results.next()) {
           createProcedureParameter(results, allRoutines, parameterFilter);
         }
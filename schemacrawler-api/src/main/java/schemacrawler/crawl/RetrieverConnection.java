@@ -37,11 +37,13 @@ import java.sql.DatabaseMetaData;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.schema.TableTypes;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
@@ -61,6 +63,8 @@ final class RetrieverConnection {
       SchemaCrawlerLogger.getLogger(RetrieverConnection.class.getName());
 
   private final Connection connection;
+  private final Supplier<Connection> connectionSource;
+  private final int maxThreads;
   private final JavaSqlTypes javaSqlTypes;
   private final DatabaseMetaData metaData;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
@@ -69,8 +73,29 @@ final class RetrieverConnection {
   RetrieverConnection(
       final Connection connection, final SchemaRetrievalOptions schemaRetrievalOptions)
       throws SQLException {
+    this(connection, schemaRetrievalOptions, null, 1);
+  }
+
+  /**
+   * Wraps a live database connection, along with an optional source of additional connections.
+   * Retrievers can use connections from the source to retrieve metadata for tables concurrently.
+   *
+   * @param connection Live database connection, used for the crawl
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param connectionSource Source of additional connections, or null if there is none
+   * @param maxThreads Maximum number of connections to use concurrently
+   * @throws SQLException On an exception
+   */
+  RetrieverConnection(
+      final Connection connection,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final Supplier<Connection> connectionSource,
+      final int maxThreads)
+      throws SQLException {
 
     this.connection = checkConnection(connection);
+    this.connectionSource = connectionSource;
+    this.maxThreads = Math.max(1, maxThreads);
     metaData = connection.getMetaData();
     this.schemaRetrievalOptions =
         requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
@@ -116,10 +141,22 @@ final class RetrieverConnection {
     return connection;
   }
 
+  Supplier<Connection> getConnectionSource() {
+    return connectionSource;
+  }
+
   EnumDataTypeHelper getEnumDataTypeHelper() {
     return schemaRetrievalOptions.getEnumDataTypeHelper();
   }
 
+  int getFetchSize(final InformationSchemaKey informationSchemaKey) {
+    return schemaRetrievalOptions.getFetchSize(informationSchemaKey);
+  }
+
+  int getFetchSize(final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
+    return schemaRetrievalOptions.getFetchSize(schemaInfoMetadataRetrievalStrategy);
+  }
+
   /**
    * Gets the INFORMATION_SCHEMA views select SQL statements.
    *
@@ -133,6 +170,10 @@ final class RetrieverConnection {
     return javaSqlTypes;
   }
 
+  int getMaxThreads() {
+    return maxThreads;
+  }
+
   DatabaseMetaData getMetaData() {
     return metaData;
   }
@@ -145,6 +186,23 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getTypeMap();
   }
 
+  boolean isAdaptiveFetchSize() {
+    return schemaRetrievalOptions.isAdaptiveFetchSize();
+  }
+
+  /**
+   * Checks whether per-table metadata retrieval with the given strategy is sharded over connections
+   * from the connection source.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Metadata retrieval strategy to check
+   * @return True if retrieval is sharded
+   */
+  boolean isSharded(final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
+    return connectionSource != null
+        && maxThreads > 1
+        && get(schemaInfoMetadataRetrievalStrategy) == MetadataRetrievalStrategy.metadata;
+  }
+
   boolean isSupportsCatalogs() {
     return schemaRetrievalOptions.isSupportsCatalogs();
   }
@@ -0,0 +1,169 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import us.fatehi.utility.StopWatch;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs groups of retrieval tasks. Tasks within a group run in order, on a single connection. Groups
+ * must not depend on each other, or modify the same catalog objects, so that they can be run
+ * concurrently, each on its own connection from a connection source. If there is no connection
+ * source, or only a single thread is allowed, the groups are run one after the other on the crawl
+ * connection.
+ *
+ * @author Sualeh Fatehi
+ */
+final class RetrieverTaskRunner {
+
+  @FunctionalInterface
+  interface RetrieverTask {
+
+    void run(RetrieverConnection retrieverConnection, StopWatch stopWatch) throws Exception;
+  }
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(RetrieverTaskRunner.class.getName());
+
+  private final String id;
+  private final RetrieverConnection retrieverConnection;
+  private final Supplier<Connection> connectionSource;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final int maxThreads;
+  private final Map<String, RetrieverTask> taskGroups;
+
+  RetrieverTaskRunner(
+      final String id,
+      final RetrieverConnection retrieverConnection,
+      final Supplier<Connection> connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final int maxThreads) {
+    this.id = requireNonNull(id, "No id provided");
+    this.retrieverConnection =
+        requireNonNull(retrieverConnection, "No retriever connection provided");
+    this.connectionSource = connectionSource;
+    this.schemaRetrievalOptions =
+        requireNonNull(schemaRetrievalOptions, "No schema retrieval options provided");
+    this.maxThreads = maxThreads;
+    taskGroups = new LinkedHashMap<>();
+  }
+
+  void add(final String taskGroupName, final RetrieverTask task) {
+    requireNonNull(taskGroupName, "No task group name provided");
+    requireNonNull(task, "No task provided");
+    taskGroups.put(taskGroupName, task);
+  }
+
+  boolean isParallel() {
+    return connectionSource != null && maxThreads > 1 && taskGroups.size() > 1;
+  }
+
+  /**
+   * Runs all task groups, and waits for them to complete.
+   *
+   * @param stopWatch Stop watch for a serial run, or to time the parallel run as a whole
+   * @throws Exception On an exception from any of the tasks
+   */
+  void run(final StopWatch stopWatch) throws Exception {
+    if (!isParallel()) {
+      for (final RetrieverTask task : taskGroups.values()) {
+        task.run(retrieverConnection, stopWatch);
+      }
+      return;
+    }
+
+    stopWatch.time(
+        id,
+        () -> {
+          runParallel();
+          return null;
+        });
+  }
+
+  private void runParallel() throws Exception {
+    final int threads = Math.min(maxThreads, taskGroups.size());
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Running %d task groups for <%s>, using %d threads", taskGroups.size(), id, threads));
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (final Entry<String, RetrieverTask> taskGroup : taskGroups.entrySet()) {
+        final String taskGroupName = taskGroup.getKey();
+        final RetrieverTask task = taskGroup.getValue();
+        futures.add(executorService.submit(() -> runTaskGroup(taskGroupName, task)));
+      }
+
+      for (final Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (final ExecutionException e) {
+          final Throwable cause = e.getCause();
+          if (cause instanceof Exception) {
+            throw (Exception) cause;
+          }
+          throw new SchemaCrawlerException(String.format("Could not run <%s>", id), cause);
+        }
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private Void runTaskGroup(final String taskGroupName, final RetrieverTask task) throws Exception {
+    final StopWatch stopWatch = new StopWatch(String.format("%s-%s", id, taskGroupName));
+    try (final Connection connection = connectionSource.get()) {
+      final RetrieverConnection taskRetrieverConnection =
+          new RetrieverConnection(connection, schemaRetrievalOptions);
+      task.run(taskRetrieverConnection, stopWatch);
+    }
+    LOGGER.log(Level.INFO, stopWatch.stringify());
+    return null;
+  }
+}
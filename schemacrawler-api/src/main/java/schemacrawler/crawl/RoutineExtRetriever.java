@@ -82,6 +82,7 @@ final class RoutineExtRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(routineDefinitionsSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, ROUTINES);
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("ROUTINE_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("ROUTINE_SCHEMA"));
@@ -39,7 +39,6 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -95,6 +94,7 @@ final class RoutineRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving functions");
         retrieveFunctionsFromMetadata(schemas, functionFilter);
         break;
@@ -123,6 +123,7 @@ final class RoutineRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving procedures");
         retrieveProceduresFromMetadata(schemas, procedureFilter);
         break;
@@ -153,7 +154,7 @@ final class RoutineRetriever extends AbstractRetriever {
     final String specificName = results.getString("SPECIFIC_NAME");
 
     final Optional<SchemaReference> optionalSchema =
-        schemas.lookup(Arrays.asList(catalogName, schemaName));
+        schemas.lookup(new LookupKey(catalogName, schemaName));
     if (!optionalSchema.isPresent()) {
       return;
     }
@@ -190,7 +191,7 @@ final class RoutineRetriever extends AbstractRetriever {
     final String specificName = results.getString("SPECIFIC_NAME");
 
     final Optional<SchemaReference> optionalSchema =
-        schemas.lookup(Arrays.asList(catalogName, schemaName));
+        schemas.lookup(new LookupKey(catalogName, schemaName));
     if (!optionalSchema.isPresent()) {
       return;
     }
@@ -221,6 +222,7 @@ final class RoutineRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(functionsSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, FUNCTIONS);
       results.setDescription("retrieveFunctionsFromDataDictionary");
       int numFunctions = 0;
       while (results.next()) {
@@ -242,6 +244,7 @@ final class RoutineRetriever extends AbstractRetriever {
 
       try (final MetadataResultSet results =
           new MetadataResultSet(getMetaData().getFunctions(catalogName, schemaName, null))) {
+        setFetchSize(results, functionsRetrievalStrategy);
         results.setDescription("retrieveFunctionsFromMetadata");
         int numFunctions = 0;
         while (results.next()) {
@@ -271,6 +274,7 @@ final class RoutineRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(proceduresSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, PROCEDURES);
       results.setDescription("retrieveProceduresFromDataDictionary");
       int numProcedures = 0;
       while (results.next()) {
@@ -293,6 +297,7 @@ final class RoutineRetriever extends AbstractRetriever {
 
       try (final MetadataResultSet results =
           new MetadataResultSet(getMetaData().getProcedures(catalogName, schemaName, null))) {
+        setFetchSize(results, proceduresRetrievalStrategy);
         results.setDescription("retrieveProceduresFromMetadata");
         int numProcedures = 0;
         while (results.next()) {
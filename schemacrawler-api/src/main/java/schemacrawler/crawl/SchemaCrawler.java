@@ -41,6 +41,8 @@ import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleFor
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSequenceInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSynonymInclusion;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnAttributes;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalColumnMetadata;
 import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveAdditionalDatabaseInfo;
@@ -74,11 +76,16 @@ import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveWeakAssoci
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.analysis.counts.TableRowCountsFilter;
 import schemacrawler.analysis.counts.TableRowCountsRetriever;
+import schemacrawler.crawl.RetrieverTaskRunner.RetrieverTask;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
@@ -87,10 +94,13 @@ import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import us.fatehi.utility.StopWatch;
@@ -107,6 +117,7 @@ public final class SchemaCrawler {
       SchemaCrawlerLogger.getLogger(SchemaCrawler.class.getName());
 
   private final Connection connection;
+  private final Supplier<Connection> connectionSource;
   private final SchemaCrawlerOptions options;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private MutableCatalog catalog;
@@ -124,6 +135,7 @@ public final class SchemaCrawler {
       final SchemaRetrievalOptions schemaRetrievalOptions,
       final SchemaCrawlerOptions options) {
     this.connection = requireNonNull(connection, "No connection specified");
+    connectionSource = null;
     this.schemaRetrievalOptions =
         requireNonNull(
             schemaRetrievalOptions, "No database-specific schema retrieval overrides provided");
@@ -131,20 +143,252 @@ public final class SchemaCrawler {
   }
 
   /**
-   * Crawls the database, to obtain database metadata.
+   * Constructs a SchemaCrawler object, from a source of connections. The crawl connection is
+   * obtained from the connection source, and closed when the crawl is done. If the load options
+   * allow more than one thread, independent parts of the crawl run concurrently, each on its own
+   * connection from the connection source.
+   *
+   * @param connectionSource A source of database connections.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   */
+  public SchemaCrawler(
+      final Supplier<Connection> connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options) {
+    connection = null;
+    this.connectionSource = requireNonNull(connectionSource, "No connection source specified");
+    this.schemaRetrievalOptions =
+        requireNonNull(
+            schemaRetrievalOptions, "No database-specific schema retrieval overrides provided");
+    this.options = requireNonNull(options, "No SchemaCrawler options provided");
+  }
+
+  /**
+   * Crawls the database, to obtain database metadata. If the database plugin has a data dictionary
+   * query for table change signals, the signals are recorded in the catalog, so that the catalog
+   * can be used for an incremental crawl.
    *
    * @return Database metadata
    * @throws SchemaCrawlerException On an exception
    */
   public Catalog crawl() throws SchemaCrawlerException {
+    return crawl(true);
+  }
+
+  /**
+   * Crawls the database incrementally, starting from a previously crawled catalog. Each table has a
+   * change signal, such as the last DDL time of the table. Tables with a change signal that is
+   * different from the one recorded in the previous catalog, and new tables, are crawled again and
+   * patched into a copy of the previous catalog. Dropped tables are removed. The previous catalog
+   * is not modified, even if patching fails, so it can still be compared with the returned catalog.
+   * Routines, sequences and synonyms are carried over from the previous catalog. The returned
+   * catalog has new crawl information, with the time of the incremental crawl.
+   *
+   * <p>If the previous catalog has no recorded change signals, a full crawl is done. Either way,
+   * the returned catalog records the change signals for the next incremental crawl. Change signals
+   * are recorded by {@link #crawl()} only if the database plugin has a data dictionary query for
+   * them, since otherwise they are computed from the definitions of all tables and columns. Change
+   * signals are not serialized with the catalog. So the first incremental crawl after a catalog is
+   * loaded from a file, or after a full crawl of a database without such a query, is a full crawl.
+   *
+   * @param previousCatalog Previously crawled catalog
+   * @return Database metadata
+   * @throws SchemaCrawlerException On an exception
+   */
+  public Catalog crawl(final Catalog previousCatalog) throws SchemaCrawlerException {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+
+    if (connection != null) {
+      return crawl(connection, previousCatalog);
+    }
+
+    try (final Connection crawlConnection = connectionSource.get()) {
+      return crawl(crawlConnection, previousCatalog);
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  private Catalog crawl(final boolean recordChangeSignals) throws SchemaCrawlerException {
+    if (connection != null) {
+      return crawl(connection, recordChangeSignals);
+    }
+
+    try (final Connection crawlConnection = connectionSource.get()) {
+      return crawl(crawlConnection, recordChangeSignals);
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  private Catalog crawl(final Connection crawlConnection, final Catalog previousCatalog)
+      throws SchemaCrawlerException {
+    final Map<List<String>, String> previousChangeSignals;
+    if (previousCatalog instanceof MutableCatalog) {
+      previousChangeSignals = ((MutableCatalog) previousCatalog).getTableChangeSignals();
+    } else {
+      previousChangeSignals = Collections.emptyMap();
+    }
+    final boolean canPatch = !previousChangeSignals.isEmpty();
+
+    // Obtain change signals before crawling, so that any concurrent
+    // changes are picked up by the next incremental crawl
+    final Map<List<String>, String> changeSignals;
+    try {
+      retrieverConnection = new RetrieverConnection(crawlConnection, schemaRetrievalOptions);
+      if (canPatch) {
+        catalog = (MutableCatalog) previousCatalog;
+      } else {
+        LOGGER.log(
+            Level.INFO,
+            "No table change signals are recorded in the previous catalog, so crawling all tables");
+        catalog = new MutableCatalog("catalog");
+        crawlSchemas();
+      }
+      final TableChangeSignalRetriever changeSignalRetriever =
+          new TableChangeSignalRetriever(retrieverConnection, catalog, options);
+      changeSignals = changeSignalRetriever.retrieveTableChangeSignals();
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerException("Could not retrieve table change signals", e);
+    }
+
+    if (!canPatch) {
+      crawl(crawlConnection, false);
+      catalog.setTableChangeSignals(changeSignals);
+      return catalog;
+    }
+
+    final StopWatch stopWatch = new StopWatch("crawlIncremental");
+    try {
+      // Patch a copy, so that the previous catalog is not modified
+      catalog = CatalogPatcher.copyCatalog(catalog);
+      catalog.refreshCrawlInfo();
+      final CatalogPatcher patcher =
+          new CatalogPatcher(catalog, previousChangeSignals, changeSignals);
+
+      stopWatch.time(
+          "removeStaleTables",
+          () -> {
+            patcher.removeStaleTables();
+            return null;
+          });
+
+      stopWatch.time(
+          "crawlChangedTables",
+          () -> {
+            if (patcher.hasTablesToRefresh()) {
+              final MutableCatalog refreshedCatalog =
+                  crawlRefreshedTables(crawlConnection, patcher);
+              patcher.addRefreshedTables(refreshedCatalog);
+            }
+            return null;
+          });
+
+      retrieverConnection =
+          new RetrieverConnection(
+              crawlConnection,
+              schemaRetrievalOptions,
+              connectionSource,
+              options.getLoadOptions().getMaxThreads());
+      final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
+
+      stopWatch.time(
+          "retrieveForeignKeys",
+          () -> {
+            if (infoLevel.is(retrieveForeignKeys) && infoLevel.is(retrieveTableColumns)) {
+              final ForeignKeyRetriever fkRetriever =
+                  new ForeignKeyRetriever(retrieverConnection, catalog, options);
+              fkRetriever.retrieveForeignKeys(patcher.getRefreshedTables());
+            }
+            return null;
+          });
+
+      stopWatch.time(
+          "retrieveViewTableUsage",
+          () -> {
+            if (infoLevel.is(retrieveViewTableUsage)) {
+              final TableExtRetriever retrieverExtra =
+                  new TableExtRetriever(retrieverConnection, catalog, options);
+              retrieverExtra.retrieveViewTableUsage();
+            }
+            return null;
+          });
+
+      stopWatch.time(
+          "relinkSynonyms",
+          () -> {
+            patcher.relinkSynonyms();
+            return null;
+          });
+
+      stopWatch.time(
+          "retrieveWeakAssociations",
+          () -> {
+            if (infoLevel.is(retrieveWeakAssociations)) {
+              patcher.removeWeakAssociations();
+              final WeakAssociationsRetriever weakAssociationsRetriever =
+                  new WeakAssociationsRetriever(catalog);
+              weakAssociationsRetriever.retrieveWeakAssociations();
+            }
+            return null;
+          });
+
+      stopWatch.time(
+          "sortTables",
+          () -> {
+            // Sort from scratch, as a full crawl would
+            for (final MutableTable table : catalog.getAllTables()) {
+              table.setSortIndex(0);
+            }
+            final TablesGraph tablesGraph = new TablesGraph(catalog.getAllTables());
+            tablesGraph.setTablesSortIndexes();
+            return null;
+          });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+
+      catalog.setTableChangeSignals(changeSignals);
+      return catalog;
+    } catch (final SchemaCrawlerException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new SchemaCrawlerException("Exception patching catalog", e);
+    }
+  }
+
+  private Catalog crawl(final Connection crawlConnection, final boolean recordChangeSignals)
+      throws SchemaCrawlerException {
     catalog = new MutableCatalog("catalog");
     try {
-      retrieverConnection = new RetrieverConnection(connection, schemaRetrievalOptions);
+      retrieverConnection =
+          new RetrieverConnection(
+              crawlConnection,
+              schemaRetrievalOptions,
+              connectionSource,
+              options.getLoadOptions().getMaxThreads());
 
       crawlDatabaseInfo();
       LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
 
       crawlSchemas();
+
+      // Obtain change signals before crawling tables, so that any
+      // concurrent changes are picked up by the next incremental crawl
+      Map<List<String>, String> changeSignals = null;
+      if (recordChangeSignals) {
+        final TableChangeSignalRetriever changeSignalRetriever =
+            new TableChangeSignalRetriever(retrieverConnection, catalog, options);
+        if (changeSignalRetriever.hasTableChangesQuery()) {
+          try {
+            changeSignals = changeSignalRetriever.retrieveTableChangeSignals();
+          } catch (final SQLException e) {
+            // Change signals are only needed for a later incremental crawl
+            LOGGER.log(Level.WARNING, "Could not retrieve table change signals", e);
+          }
+        }
+      }
+
       crawlColumnDataTypes();
       crawlTables();
       crawlRoutines();
@@ -152,12 +396,60 @@ public final class SchemaCrawler {
       crawlSequences();
       crawlAnalysis();
 
+      if (changeSignals != null) {
+        catalog.setTableChangeSignals(changeSignals);
+      }
       return catalog;
     } catch (final SQLException e) {
       throw new SchemaCrawlerException("Database access exception", e);
     }
   }
 
+  /**
+   * Crawls tables that need to be refreshed into a new catalog, using the same options, but limited
+   * to the tables to refresh. Foreign keys and weak associations are not retrieved, since they
+   * depend on other tables, and are retrieved against the patched catalog. Other database objects
+   * are not retrieved.
+   */
+  private MutableCatalog crawlRefreshedTables(
+      final Connection crawlConnection, final CatalogPatcher patcher)
+      throws SchemaCrawlerException {
+    final LimitOptions limitOptions = options.getLimitOptions();
+    final LimitOptions refreshLimitOptions =
+        LimitOptionsBuilder.builder()
+            .fromOptions(limitOptions)
+            .includeTables(
+                patcher.getRefreshTablesInclusionRule(limitOptions.get(ruleForTableInclusion)))
+            .toOptions();
+    final SchemaInfoLevel refreshInfoLevel =
+        SchemaInfoLevelBuilder.builder()
+            .fromOptions(options.getLoadOptions().getSchemaInfoLevel())
+            .setRetrieveDatabaseInfo(false)
+            .setRetrieveDatabaseUsers(false)
+            .setRetrieveForeignKeys(false)
+            .setRetrieveWeakAssociations(false)
+            .setRetrieveRoutines(false)
+            .setRetrieveSequenceInformation(false)
+            .setRetrieveSynonymInformation(false)
+            .toOptions();
+    final SchemaCrawlerOptions refreshOptions =
+        options
+            .withLimitOptions(refreshLimitOptions)
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .fromOptions(options.getLoadOptions())
+                    .withSchemaInfoLevel(refreshInfoLevel)
+                    .toOptions());
+
+    final SchemaCrawler schemaCrawler;
+    if (connectionSource != null) {
+      schemaCrawler = new SchemaCrawler(connectionSource, schemaRetrievalOptions, refreshOptions);
+    } else {
+      schemaCrawler = new SchemaCrawler(crawlConnection, schemaRetrievalOptions, refreshOptions);
+    }
+    return (MutableCatalog) schemaCrawler.crawl(false);
+  }
+
   private void crawlAnalysis() throws SchemaCrawlerException {
 
     final SchemaInfoLevel infoLevel = options.getLoadOptions().getSchemaInfoLevel();
@@ -189,7 +481,12 @@ public final class SchemaCrawler {
     LOGGER.log(Level.INFO, "Crawling table row counts");
     try {
       final TableRowCountsRetriever rowCountsRetriever =
-          new TableRowCountsRetriever(retrieverConnection.getConnection(), catalog);
+          new TableRowCountsRetriever(
+              retrieverConnection.getConnection(),
+              retrieverConnection.getConnectionSource(),
+              catalog,
+              retrieverConnection.getInformationSchemaViews(),
+              options.getLoadOptions());
       stopWatch.time(
           "retrieveTableRowCounts",
           () -> {
@@ -600,10 +897,6 @@ public final class SchemaCrawler {
           new TableColumnRetriever(retrieverConnection, catalog, options);
       final ForeignKeyRetriever fkRetriever =
           new ForeignKeyRetriever(retrieverConnection, catalog, options);
-      final TableConstraintRetriever constraintRetriever =
-          new TableConstraintRetriever(retrieverConnection, catalog, options);
-      final TableExtRetriever retrieverExtra =
-          new TableExtRetriever(retrieverConnection, catalog, options);
 
       stopWatch.time(
           "retrieveTables",
@@ -666,132 +959,205 @@ public final class SchemaCrawler {
             return null;
           });
 
-      stopWatch.time(
-          "retrievePrimaryKeys",
-          () -> {
-            LOGGER.log(Level.INFO, "Retrieving primary keys");
-            if (infoLevel.is(retrieveTableColumns)) {
-              final PrimaryKeyRetriever primaryKeyRetriever =
-                  new PrimaryKeyRetriever(retrieverConnection, catalog, options);
-              primaryKeyRetriever.retrievePrimaryKeys(allTables);
-            }
-            return null;
-          });
+      final RetrieverTask primaryKeysTask =
+          (taskConnection, taskStopWatch) ->
+              taskStopWatch.time(
+                  "retrievePrimaryKeys",
+                  () -> {
+                    LOGGER.log(Level.INFO, "Retrieving primary keys");
+                    if (infoLevel.is(retrieveTableColumns)) {
+                      final PrimaryKeyRetriever primaryKeyRetriever =
+                          new PrimaryKeyRetriever(taskConnection, catalog, options);
+                      primaryKeyRetriever.retrievePrimaryKeys(allTables);
+                    }
+                    return null;
+                  });
+      final RetrieverTask indexesTask =
+          (taskConnection, taskStopWatch) ->
+              taskStopWatch.time(
+                  "retrieveIndexes",
+                  () -> {
+                    LOGGER.log(Level.INFO, "Retrieving indexes");
+                    if (infoLevel.is(retrieveTableColumns)) {
+                      if (infoLevel.is(retrieveIndexes)) {
+                        final IndexRetriever indexRetriever =
+                            new IndexRetriever(taskConnection, catalog, options);
+                        indexRetriever.retrieveIndexes(allTables);
+                      }
+                    }
+                    return null;
+                  });
+
+      // When primary keys or indexes are sharded over connections from the connection source,
+      // they are retrieved up front on the crawl connection, instead of in a task group
+      final boolean shardPrimaryKeys = retrieverConnection.isSharded(primaryKeysRetrievalStrategy);
+      final boolean shardIndexes = retrieverConnection.isSharded(indexesRetrievalStrategy);
+      if (shardPrimaryKeys) {
+        primaryKeysTask.run(retrieverConnection, stopWatch);
+      }
+      if (shardIndexes) {
+        indexesTask.run(retrieverConnection, stopWatch);
+      }
 
-      stopWatch.time(
-          "retrieveIndexes",
-          () -> {
-            LOGGER.log(Level.INFO, "Retrieving indexes");
-            if (infoLevel.is(retrieveTableColumns)) {
-              if (infoLevel.is(retrieveIndexes)) {
-                final IndexRetriever indexRetriever =
-                    new IndexRetriever(retrieverConnection, catalog, options);
-                indexRetriever.retrieveIndexes(allTables);
-              }
-            }
-            return null;
-          });
+      // Retrieve additional table information in independent groups, that may run concurrently
+      final RetrieverTaskRunner taskRunner =
+          new RetrieverTaskRunner(
+              "retrieveTableDetails",
+              retrieverConnection,
+              connectionSource,
+              schemaRetrievalOptions,
+              options.getLoadOptions().getMaxThreads());
+
+      if (!shardPrimaryKeys) {
+        taskRunner.add("primaryKeys", primaryKeysTask);
+      }
 
-      LOGGER.log(Level.INFO, "Retrieving additional table information");
-      stopWatch.time(
-          "retrieveTableConstraintInformation",
-          () -> {
-            if (infoLevel.is(retrieveTableConstraintInformation)) {
-              constraintRetriever.retrieveTableConstraintInformation();
-            }
-            return null;
-          });
-      stopWatch.time(
-          "isRetrieveTableConstraintDefinitions",
-          () -> {
-            if (infoLevel.is(retrieveTableConstraintDefinitions)) {
-              constraintRetriever.retrieveTableConstraintDefinitions();
-            }
-            return null;
-          });
-      stopWatch.time(
-          "retrieveTriggerInformation",
-          () -> {
-            if (infoLevel.is(retrieveTriggerInformation)) {
-              retrieverExtra.retrieveTriggerInformation();
+      taskRunner.add(
+          "indexes",
+          (taskConnection, taskStopWatch) -> {
+            if (!shardIndexes) {
+              indexesTask.run(taskConnection, taskStopWatch);
             }
-            return null;
-          });
-      stopWatch.time(
-          "retrieveViewInformation",
-          () -> {
-            if (infoLevel.is(retrieveViewInformation)) {
-              retrieverExtra.retrieveViewInformation();
-            }
-            return null;
-          });
-      stopWatch.time(
-          "retrieveViewTableUsage",
-          () -> {
-            if (infoLevel.is(retrieveViewTableUsage)) {
-              retrieverExtra.retrieveViewTableUsage();
-            }
-            return null;
-          });
-      stopWatch.time(
-          "retrieveTableDefinitions",
-          () -> {
-            if (infoLevel.is(retrieveTableDefinitionsInformation)) {
-              retrieverExtra.retrieveTableDefinitions();
-            }
-            return null;
-          });
-      stopWatch.time(
-          "retrieveIndexInformation",
-          () -> {
-            if (infoLevel.is(retrieveIndexInformation)) {
-              retrieverExtra.retrieveIndexInformation();
-            }
-            return null;
+            final TableExtRetriever retrieverExtra =
+                new TableExtRetriever(taskConnection, catalog, options);
+            taskStopWatch.time(
+                "retrieveIndexInformation",
+                () -> {
+                  if (infoLevel.is(retrieveIndexInformation)) {
+                    retrieverExtra.retrieveIndexInformation();
+                  }
+                  return null;
+                });
           });
 
-      stopWatch.time(
-          "retrieveAdditionalTableAttributes",
-          () -> {
-            if (infoLevel.is(retrieveAdditionalTableAttributes)) {
-              retrieverExtra.retrieveAdditionalTableAttributes();
-            }
-            return null;
+      taskRunner.add(
+          "tableConstraints",
+          (taskConnection, taskStopWatch) -> {
+            final TableConstraintRetriever constraintRetriever =
+                new TableConstraintRetriever(taskConnection, catalog, options);
+            LOGGER.log(Level.INFO, "Retrieving additional table information");
+            taskStopWatch.time(
+                "retrieveTableConstraintInformation",
+                () -> {
+                  if (infoLevel.is(retrieveTableConstraintInformation)) {
+                    constraintRetriever.retrieveTableConstraintInformation();
+                  }
+                  return null;
+                });
+            taskStopWatch.time(
+                "isRetrieveTableConstraintDefinitions",
+                () -> {
+                  if (infoLevel.is(retrieveTableConstraintDefinitions)) {
+                    constraintRetriever.retrieveTableConstraintDefinitions();
+                  }
+                  return null;
+                });
           });
-      stopWatch.time(
-          "retrieveTablePrivileges",
-          () -> {
-            if (infoLevel.is(retrieveTablePrivileges)) {
-              retrieverExtra.retrieveTablePrivileges();
-            }
-            return null;
+
+      taskRunner.add(
+          "triggers",
+          (taskConnection, taskStopWatch) -> {
+            final TableExtRetriever retrieverExtra =
+                new TableExtRetriever(taskConnection, catalog, options);
+            taskStopWatch.time(
+                "retrieveTriggerInformation",
+                () -> {
+                  if (infoLevel.is(retrieveTriggerInformation)) {
+                    retrieverExtra.retrieveTriggerInformation();
+                  }
+                  return null;
+                });
           });
 
-      stopWatch.time(
-          "retrieveAdditionalColumnAttributes",
-          () -> {
-            if (infoLevel.is(retrieveAdditionalColumnAttributes)) {
-              retrieverExtra.retrieveAdditionalColumnAttributes();
-            }
-            return null;
+      // Views, table definitions and table attributes all update the table
+      // definition and attributes, so they are retrieved in order, in the same group
+      taskRunner.add(
+          "tableDefinitions",
+          (taskConnection, taskStopWatch) -> {
+            final TableExtRetriever retrieverExtra =
+                new TableExtRetriever(taskConnection, catalog, options);
+            taskStopWatch.time(
+                "retrieveViewInformation",
+                () -> {
+                  if (infoLevel.is(retrieveViewInformation)) {
+                    retrieverExtra.retrieveViewInformation();
+                  }
+                  return null;
+                });
+            taskStopWatch.time(
+                "retrieveViewTableUsage",
+                () -> {
+                  if (infoLevel.is(retrieveViewTableUsage)) {
+                    retrieverExtra.retrieveViewTableUsage();
+                  }
+                  return null;
+                });
+            taskStopWatch.time(
+                "retrieveTableDefinitions",
+                () -> {
+                  if (infoLevel.is(retrieveTableDefinitionsInformation)) {
+                    retrieverExtra.retrieveTableDefinitions();
+                  }
+                  return null;
+                });
+            taskStopWatch.time(
+                "retrieveAdditionalTableAttributes",
+                () -> {
+                  if (infoLevel.is(retrieveAdditionalTableAttributes)) {
+                    retrieverExtra.retrieveAdditionalTableAttributes();
+                  }
+                  return null;
+                });
           });
-      stopWatch.time(
-          "retrieveAdditionalColumnMetadata",
-          () -> {
-            if (infoLevel.is(retrieveAdditionalColumnMetadata)) {
-              retrieverExtra.retrieveAdditionalColumnMetadata();
-            }
-            return null;
+
+      taskRunner.add(
+          "tablePrivileges",
+          (taskConnection, taskStopWatch) -> {
+            final TableExtRetriever retrieverExtra =
+                new TableExtRetriever(taskConnection, catalog, options);
+            taskStopWatch.time(
+                "retrieveTablePrivileges",
+                () -> {
+                  if (infoLevel.is(retrieveTablePrivileges)) {
+                    retrieverExtra.retrieveTablePrivileges();
+                  }
+                  return null;
+                });
           });
-      stopWatch.time(
-          "retrieveTableColumnPrivileges",
-          () -> {
-            if (infoLevel.is(retrieveTableColumnPrivileges)) {
-              retrieverExtra.retrieveTableColumnPrivileges();
-            }
-            return null;
+
+      taskRunner.add(
+          "columnDetails",
+          (taskConnection, taskStopWatch) -> {
+            final TableExtRetriever retrieverExtra =
+                new TableExtRetriever(taskConnection, catalog, options);
+            taskStopWatch.time(
+                "retrieveAdditionalColumnAttributes",
+                () -> {
+                  if (infoLevel.is(retrieveAdditionalColumnAttributes)) {
+                    retrieverExtra.retrieveAdditionalColumnAttributes();
+                  }
+                  return null;
+                });
+            taskStopWatch.time(
+                "retrieveAdditionalColumnMetadata",
+                () -> {
+                  if (infoLevel.is(retrieveAdditionalColumnMetadata)) {
+                    retrieverExtra.retrieveAdditionalColumnMetadata();
+                  }
+                  return null;
+                });
+            taskStopWatch.time(
+                "retrieveTableColumnPrivileges",
+                () -> {
+                  if (infoLevel.is(retrieveTableColumnPrivileges)) {
+                    retrieverExtra.retrieveTableColumnPrivileges();
+                  }
+                  return null;
+                });
           });
 
+      taskRunner.run(stopWatch);
+
       LOGGER.log(Level.INFO, stopWatch.stringify());
     } catch (final SchemaCrawlerSQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e.getCause());
@@ -199,6 +199,7 @@ final class SchemaRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(schemataSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, SCHEMATA);
       results.setDescription("retrieveAllSchemasFromInformationSchemaViews");
       int numSchemas = 0;
       while (results.next()) {
@@ -34,7 +34,6 @@ import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -97,6 +96,7 @@ final class SequenceRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(sequencesDefinitionSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, SEQUENCES);
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SEQUENCE_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SEQUENCE_SCHEMA"));
@@ -109,7 +109,7 @@ final class SequenceRetriever extends AbstractRetriever {
         final boolean cycle = results.getBoolean("CYCLE_OPTION");
 
         final Optional<SchemaReference> optionalSchema =
-            schemas.lookup(Arrays.asList(catalogName, schemaName));
+            schemas.lookup(new LookupKey(catalogName, schemaName));
         if (!optionalSchema.isPresent()) {
           continue;
         }
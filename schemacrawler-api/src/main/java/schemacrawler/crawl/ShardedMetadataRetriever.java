@@ -0,0 +1,291 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Retrieves database metadata one table at a time, using calls such as {@link
+ * DatabaseMetaData#getColumns(String, String, String, String)}. If the retriever connection has a
+ * connection source, and more than one thread is allowed, the tables are split into shards of a
+ * limited size, and each worker retrieves its share of the shards on its own connection. Workers
+ * only buffer the metadata results, a shard at a time, and wait for each buffered shard to be taken
+ * before buffering the next one. The results are handed over to the handler on the calling thread,
+ * shard by shard, in table order. This means that the catalog is only ever modified by a single
+ * thread, in the same order as a serial retrieval.
+ *
+ * @author Sualeh Fatehi
+ */
+final class ShardedMetadataRetriever {
+
+  @FunctionalInterface
+  interface TableMetadataCall {
+
+    ResultSet call(DatabaseMetaData metaData, MutableTable table) throws SQLException;
+  }
+
+  @FunctionalInterface
+  interface TableMetadataHandler {
+
+    void handle(MutableTable table, MetadataResultSet results) throws SQLException;
+  }
+
+  /** Buffered metadata results for a shard, or the exception that stopped the worker. */
+  private static final class BufferedShard {
+
+    private final List<ResultSet> results;
+    private final SQLException exception;
+
+    BufferedShard(final List<ResultSet> results) {
+      this.results = results;
+      exception = null;
+    }
+
+    BufferedShard(final SQLException exception) {
+      results = null;
+      this.exception = exception;
+    }
+  }
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(ShardedMetadataRetriever.class.getName());
+
+  /**
+   * Upper limit on the number of tables in a shard. Together with the single-shard queue for each
+   * worker, this bounds the metadata results buffered at any time to about two shards per worker.
+   */
+  private static final int MAX_TABLES_PER_SHARD = 50;
+
+  private final String id;
+  private final RetrieverConnection retrieverConnection;
+  private final Function<MutableTable, String> errorMessage;
+
+  ShardedMetadataRetriever(
+      final String id,
+      final RetrieverConnection retrieverConnection,
+      final Function<MutableTable, String> errorMessage) {
+    this.id = requireNonNull(id, "No id provided");
+    this.retrieverConnection =
+        requireNonNull(retrieverConnection, "No retriever connection provided");
+    this.errorMessage = requireNonNull(errorMessage, "No error message provided");
+  }
+
+  /**
+   * Makes each of the metadata calls for every table, and passes the results to the handler, in
+   * table order, and in the order of the calls.
+   *
+   * @param tables Tables to retrieve metadata for
+   * @param handler Handler for the metadata results, always called on the calling thread
+   * @param calls Metadata calls to make for each table
+   * @throws SQLException On an exception
+   */
+  void retrieve(
+      final Collection<MutableTable> tables,
+      final TableMetadataHandler handler,
+      final TableMetadataCall... calls)
+      throws SQLException {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(handler, "No handler provided");
+    requireNonNull(calls, "No metadata calls provided");
+
+    final List<MutableTable> tablesList = new ArrayList<>(tables);
+    final int shardCount = shardCount(tablesList.size());
+    if (shardCount <= 1) {
+      retrieveSerial(tablesList, handler, calls);
+    } else {
+      retrieveSharded(tablesList, shardCount, handler, calls);
+    }
+  }
+
+  private List<ResultSet> bufferShard(
+      final DatabaseMetaData metaData,
+      final List<MutableTable> shard,
+      final TableMetadataCall... calls)
+      throws SQLException {
+    final List<ResultSet> shardResults = new ArrayList<>();
+    for (final MutableTable table : shard) {
+      for (final TableMetadataCall call : calls) {
+        try (final ResultSet results = call.call(metaData, table)) {
+          shardResults.add(BufferedResultSet.buffer(results));
+        } catch (final SQLException e) {
+          throw new SchemaCrawlerSQLException(errorMessage.apply(table), e);
+        }
+      }
+    }
+    return shardResults;
+  }
+
+  /**
+   * Buffers every shard assigned to a worker, on a single connection from the connection source.
+   * Each buffered shard is handed over through the worker's queue, which holds only one shard, so a
+   * worker blocks until the calling thread has taken its previous shard.
+   */
+  private void bufferShards(
+      final List<List<MutableTable>> shards,
+      final int worker,
+      final int workerCount,
+      final BlockingQueue<BufferedShard> queue,
+      final TableMetadataCall... calls) {
+    final Supplier<Connection> connectionSource = retrieverConnection.getConnectionSource();
+    try {
+      try (final Connection connection = connectionSource.get()) {
+        final DatabaseMetaData metaData = connection.getMetaData();
+        for (int i = worker; i < shards.size(); i = i + workerCount) {
+          queue.put(new BufferedShard(bufferShard(metaData, shards.get(i), calls)));
+        }
+      } catch (final InterruptedException e) {
+        throw e;
+      } catch (final Exception e) {
+        final SQLException exception =
+            e instanceof SQLException
+                ? (SQLException) e
+                : new SchemaCrawlerSQLException(String.format("Could not retrieve <%s>", id), e);
+        queue.put(new BufferedShard(exception));
+      }
+    } catch (final InterruptedException e) {
+      // Retrieval was abandoned by the calling thread
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void retrieveSerial(
+      final List<MutableTable> tables,
+      final TableMetadataHandler handler,
+      final TableMetadataCall... calls)
+      throws SQLException {
+    final DatabaseMetaData metaData = retrieverConnection.getMetaData();
+    for (final MutableTable table : tables) {
+      LOGGER.log(Level.FINE, new StringFormat("Retrieving %s for <%s>", id, table));
+      for (final TableMetadataCall call : calls) {
+        try (final MetadataResultSet results = new MetadataResultSet(call.call(metaData, table))) {
+          handler.handle(table, results);
+        } catch (final SQLException e) {
+          throw new SchemaCrawlerSQLException(errorMessage.apply(table), e);
+        }
+      }
+    }
+  }
+
+  private void retrieveSharded(
+      final List<MutableTable> tables,
+      final int workerCount,
+      final TableMetadataHandler handler,
+      final TableMetadataCall... calls)
+      throws SQLException {
+    final List<List<MutableTable>> shards = shards(tables, workerCount);
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Retrieving %s for %d tables, in %d shards, with %d workers",
+            id, tables.size(), shards.size(), workerCount));
+
+    // Worker w buffers shards w, w + workerCount, and so on, so taking shards in order from the
+    // worker queues in turn hands them over in table order
+    final List<BlockingQueue<BufferedShard>> queues = new ArrayList<>();
+    final ExecutorService executorService = Executors.newFixedThreadPool(workerCount);
+    try {
+      for (int worker = 0; worker < workerCount; worker++) {
+        final BlockingQueue<BufferedShard> queue = new ArrayBlockingQueue<>(1);
+        queues.add(queue);
+        final int currentWorker = worker;
+        executorService.execute(
+            () -> bufferShards(shards, currentWorker, workerCount, queue, calls));
+      }
+
+      for (int i = 0; i < shards.size(); i++) {
+        final List<MutableTable> shard = shards.get(i);
+        final List<ResultSet> shardResults = takeShard(queues.get(i % workerCount));
+        int resultsIndex = 0;
+        for (final MutableTable table : shard) {
+          for (int j = 0; j < calls.length; j++) {
+            try (final MetadataResultSet results =
+                new MetadataResultSet(shardResults.get(resultsIndex++))) {
+              handler.handle(table, results);
+            } catch (final SQLException e) {
+              throw new SchemaCrawlerSQLException(errorMessage.apply(table), e);
+            }
+          }
+        }
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private int shardCount(final int tableCount) {
+    if (retrieverConnection.getConnectionSource() == null) {
+      return 1;
+    }
+    return Math.min(retrieverConnection.getMaxThreads(), tableCount);
+  }
+
+  private List<List<MutableTable>> shards(final List<MutableTable> tables, final int workerCount) {
+    final List<List<MutableTable>> shards = new ArrayList<>();
+    final int shardSize =
+        Math.min((tables.size() + workerCount - 1) / workerCount, MAX_TABLES_PER_SHARD);
+    for (int start = 0; start < tables.size(); start = start + shardSize) {
+      final int end = Math.min(start + shardSize, tables.size());
+      shards.add(tables.subList(start, end));
+    }
+    return shards;
+  }
+
+  private List<ResultSet> takeShard(final BlockingQueue<BufferedShard> queue) throws SQLException {
+    final BufferedShard bufferedShard;
+    try {
+      bufferedShard = queue.take();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerSQLException(String.format("Interrupted retrieving <%s>", id), e);
+    }
+    if (bufferedShard.exception != null) {
+      throw bufferedShard.exception;
+    }
+    return bufferedShard.results;
+  }
+}
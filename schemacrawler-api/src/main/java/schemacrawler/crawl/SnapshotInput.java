@@ -0,0 +1,174 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads one section of a binary catalog snapshot, resolving string references against the string
+ * table of the snapshot.
+ */
+final class SnapshotInput {
+
+  private final ByteBuffer buffer;
+  private SnapshotStrings strings;
+
+  /**
+   * Reads from the bytes of the buffer from its current position to its limit.
+   *
+   * @param buffer Section bytes
+   */
+  SnapshotInput(final ByteBuffer buffer) {
+    this.buffer = requireNonNull(buffer, "No buffer provided").slice();
+  }
+
+  boolean hasRemaining() {
+    return buffer.hasRemaining();
+  }
+
+  int position() {
+    return buffer.position();
+  }
+
+  boolean readBoolean() throws IOException {
+    return readByte() != 0;
+  }
+
+  byte readByte() throws IOException {
+    checkRemaining(1);
+    return buffer.get();
+  }
+
+  byte[] readBytes() throws IOException {
+    final int length = readVarInt();
+    checkRemaining(length);
+    final byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  long readFixedLong() throws IOException {
+    checkRemaining(8);
+    return buffer.getLong();
+  }
+
+  /**
+   * Reads an enum written as its ordinal, with 0 reserved for null.
+   *
+   * @param values Values of the enum
+   * @return Enum value, or null
+   */
+  <E extends Enum<E>> E readOrdinal(final E[] values) throws IOException {
+    final int ordinal = readVarInt();
+    if (ordinal == 0) {
+      return null;
+    }
+    if (ordinal > values.length) {
+      throw new StreamCorruptedException("Unknown enum ordinal " + ordinal);
+    }
+    return values[ordinal - 1];
+  }
+
+  int readSignedVarInt() throws IOException {
+    final int value = readVarInt();
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  long readSignedVarLong() throws IOException {
+    final long value = readVarLong();
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  /**
+   * Reads the next bytes as a buffer of their own, without copying them.
+   *
+   * @param length Number of bytes
+   * @return Buffer with the bytes
+   */
+  ByteBuffer readSlice(final int length) throws IOException {
+    checkRemaining(length);
+    final ByteBuffer slice = buffer.slice();
+    slice.limit(length);
+    buffer.position(buffer.position() + length);
+    return slice;
+  }
+
+  String readString() throws IOException {
+    final int id = readVarInt();
+    if (id == 0) {
+      return null;
+    }
+    if (strings == null) {
+      throw new StreamCorruptedException("Unknown string reference " + id);
+    }
+    return strings.get(id);
+  }
+
+  int readVarInt() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift = shift + 7) {
+      final byte b = readByte();
+      value = value | (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new StreamCorruptedException("Malformed variable-length integer");
+  }
+
+  long readVarLong() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 70; shift = shift + 7) {
+      final byte b = readByte();
+      value = value | (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new StreamCorruptedException("Malformed variable-length integer");
+  }
+
+  void setStrings(final SnapshotStrings strings) {
+    this.strings = requireNonNull(strings, "No strings provided");
+  }
+
+  void skip(final int length) throws IOException {
+    checkRemaining(length);
+    buffer.position(buffer.position() + length);
+  }
+
+  private void checkRemaining(final int length) throws IOException {
+    if (length < 0 || buffer.remaining() < length) {
+      throw new StreamCorruptedException("Unexpected end of catalog snapshot section");
+    }
+  }
+}
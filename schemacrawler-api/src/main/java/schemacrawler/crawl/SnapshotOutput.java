@@ -0,0 +1,172 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Growable buffer for one section of a binary catalog snapshot. Integers are written as
+ * variable-length quantities, and strings are written as references into a string table that is
+ * shared by all the sections of the snapshot.
+ */
+final class SnapshotOutput {
+
+  private final Map<String, Integer> stringTable;
+  private final List<String> strings;
+  private byte[] buffer;
+  private int count;
+
+  /**
+   * Creates a section buffer that interns strings into the provided string table.
+   *
+   * @param stringTable Lookup of string to string id
+   * @param strings Strings in order of string id, starting with id 1
+   */
+  SnapshotOutput(final Map<String, Integer> stringTable, final List<String> strings) {
+    this.stringTable = requireNonNull(stringTable, "No string table provided");
+    this.strings = requireNonNull(strings, "No strings provided");
+    buffer = new byte[1024];
+  }
+
+  int size() {
+    return count;
+  }
+
+  void write(final SnapshotOutput other) {
+    writeBytes(other.buffer, 0, other.count);
+  }
+
+  void writeBoolean(final boolean value) {
+    writeByte(value ? 1 : 0);
+  }
+
+  void writeByte(final int value) {
+    ensureCapacity(1);
+    buffer[count++] = (byte) value;
+  }
+
+  void writeBytes(final byte[] bytes) {
+    writeVarInt(bytes.length);
+    writeBytes(bytes, 0, bytes.length);
+  }
+
+  void writeFixedLong(final long value) {
+    ensureCapacity(8);
+    for (int shift = 56; shift >= 0; shift = shift - 8) {
+      buffer[count++] = (byte) (value >>> shift);
+    }
+  }
+
+  /**
+   * Writes an enum as its ordinal, with 0 reserved for null.
+   *
+   * @param value Enum value, or null
+   */
+  void writeOrdinal(final Enum<?> value) {
+    if (value == null) {
+      writeVarInt(0);
+    } else {
+      writeVarInt(value.ordinal() + 1);
+    }
+  }
+
+  void writeSignedVarInt(final int value) {
+    writeVarInt(value << 1 ^ value >> 31);
+  }
+
+  void writeSignedVarLong(final long value) {
+    writeVarLong(value << 1 ^ value >> 63);
+  }
+
+  /**
+   * Writes a reference to the string in the string table, adding the string to the table if needed.
+   * Null strings are written as 0.
+   *
+   * @param value String to write
+   */
+  void writeString(final String value) {
+    if (value == null) {
+      writeVarInt(0);
+      return;
+    }
+    Integer id = stringTable.get(value);
+    if (id == null) {
+      strings.add(value);
+      id = strings.size();
+      stringTable.put(value, id);
+    }
+    writeVarInt(id);
+  }
+
+  void writeTo(final OutputStream out) throws IOException {
+    out.write(buffer, 0, count);
+  }
+
+  void writeUtf8(final String value) {
+    writeBytes(value.getBytes(UTF_8));
+  }
+
+  void writeVarInt(final int value) {
+    ensureCapacity(5);
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      buffer[count++] = (byte) (remaining & 0x7F | 0x80);
+      remaining = remaining >>> 7;
+    }
+    buffer[count++] = (byte) remaining;
+  }
+
+  void writeVarLong(final long value) {
+    ensureCapacity(10);
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      buffer[count++] = (byte) (remaining & 0x7F | 0x80);
+      remaining = remaining >>> 7;
+    }
+    buffer[count++] = (byte) remaining;
+  }
+
+  private void ensureCapacity(final int length) {
+    if (count + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+    }
+  }
+
+  private void writeBytes(final byte[] bytes, final int offset, final int length) {
+    ensureCapacity(length);
+    System.arraycopy(bytes, offset, buffer, count, length);
+    count = count + length;
+  }
+}
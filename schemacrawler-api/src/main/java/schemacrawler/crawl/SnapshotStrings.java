@@ -0,0 +1,97 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+
+/**
+ * String table of a binary catalog snapshot. Only the offsets of the strings are read up front.
+ * Strings are decoded when they are first referenced, so strings that only belong to objects that
+ * are not loaded are never decoded.
+ */
+final class SnapshotStrings {
+
+  private final ByteBuffer buffer;
+  private final int[] offsets;
+  private final int[] lengths;
+  private final String[] strings;
+
+  /**
+   * Indexes the string table section.
+   *
+   * @param section String table section
+   */
+  SnapshotStrings(final ByteBuffer section) throws IOException {
+    buffer = requireNonNull(section, "No string table provided").slice();
+
+    final SnapshotInput in = new SnapshotInput(buffer);
+    final int count = in.readVarInt();
+    if (count < 0) {
+      throw new StreamCorruptedException("Bad string table size " + count);
+    }
+    offsets = new int[count + 1];
+    lengths = new int[count + 1];
+    strings = new String[count + 1];
+    for (int i = 1; i <= count; i++) {
+      lengths[i] = in.readVarInt();
+      offsets[i] = in.position();
+      in.skip(lengths[i]);
+    }
+  }
+
+  /**
+   * Gets a string by string id. String id 0 is reserved for null.
+   *
+   * @param id String id
+   * @return String, or null
+   */
+  String get(final int id) throws IOException {
+    if (id < 0 || id >= strings.length) {
+      throw new StreamCorruptedException("Unknown string reference " + id);
+    }
+    if (id == 0) {
+      return null;
+    }
+
+    String string = strings[id];
+    if (string == null) {
+      final byte[] bytes = new byte[lengths[id]];
+      final ByteBuffer stringBuffer = buffer.duplicate();
+      stringBuffer.position(offsets[id]);
+      stringBuffer.get(bytes);
+      string = new String(bytes, UTF_8);
+      strings[id] = string;
+    }
+    return string;
+  }
+}
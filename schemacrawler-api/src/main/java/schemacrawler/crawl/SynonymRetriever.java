@@ -97,6 +97,7 @@ final class SynonymRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         MetadataResultSet results =
             new MetadataResultSet(synonymsDefinitionSql, statement, getSchemaInclusionRule())) {
+      setFetchSize(results, EXT_SYNONYMS);
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("SYNONYM_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("SYNONYM_SCHEMA"));
@@ -0,0 +1,226 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_CHANGES;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.filter.InclusionRuleFilter;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Retrieves a change signal for each table, which is a value that changes whenever the definition
+ * of the table changes, such as the last DDL time of the table. Change signals are retrieved using
+ * the EXT_TABLE_CHANGES query, if one is provided for the database. Otherwise, a hash of the table
+ * and column definitions from the database metadata is used, which only detects changes to columns.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableChangeSignalRetriever extends AbstractRetriever {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(TableChangeSignalRetriever.class.getName());
+
+  private static String digest(final StringBuilder buffer) {
+    try {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      final byte[] digest = messageDigest.digest(buffer.toString().getBytes(UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (final NoSuchAlgorithmException e) {
+      // Every Java platform supports SHA-256
+      return String.valueOf(buffer.toString().hashCode());
+    }
+  }
+
+  private final InclusionRuleFilter<Table> tableFilter;
+
+  TableChangeSignalRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options) {
+    super(retrieverConnection, catalog, options);
+    tableFilter = new InclusionRuleFilter<>(getTableInclusionRule(), false);
+  }
+
+  /**
+   * Whether change signals can be obtained with a single data dictionary query, rather than by
+   * reading the definitions of all tables and columns.
+   *
+   * @return True if the database plugin has a table changes query
+   */
+  boolean hasTableChangesQuery() {
+    return getRetrieverConnection().getInformationSchemaViews().hasQuery(EXT_TABLE_CHANGES);
+  }
+
+  /**
+   * Retrieves change signals for all tables in the schemas of the catalog.
+   *
+   * @return Change signals, keyed by table lookup key
+   * @throws SQLException On a SQL exception
+   */
+  Map<List<String>, String> retrieveTableChangeSignals() throws SQLException {
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+    if (hasTableChangesQuery()) {
+      LOGGER.log(Level.INFO, "Retrieving table change signals");
+      return retrieveTableChangeSignalsFromDataDictionary(
+          informationSchemaViews.getQuery(EXT_TABLE_CHANGES));
+    } else {
+      LOGGER.log(Level.INFO, "Retrieving table change signals, from table definitions");
+      return retrieveTableChangeSignalsFromMetadata();
+    }
+  }
+
+  private Map<List<String>, String> retrieveTableChangeSignalsFromDataDictionary(
+      final Query tableChangesSql) throws SQLException {
+    final Map<List<String>, String> changeSignals = new HashMap<>();
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(
+                tableChangesSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, EXT_TABLE_CHANGES);
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        final String changeSignal = results.getString("CHANGE_SIGNAL");
+        putChangeSignal(changeSignals, catalogName, schemaName, tableName, changeSignal);
+      }
+    } catch (final SQLException e) {
+      throw new SchemaCrawlerSQLException("Could not retrieve table change signals", e);
+    }
+    return changeSignals;
+  }
+
+  private Map<List<String>, String> retrieveTableChangeSignalsFromMetadata() throws SQLException {
+    final Map<List<String>, StringBuilder> definitions = new HashMap<>();
+    for (final SchemaReference schema : getAllSchemas()) {
+      final String catalogName = schema.getCatalogName();
+      final String schemaPattern = toSearchPattern(schema.getName());
+
+      try (final MetadataResultSet results =
+          new MetadataResultSet(getMetaData().getTables(catalogName, schemaPattern, "%", null))) {
+        while (results.next()) {
+          final StringBuilder definition = lookupDefinition(definitions, results);
+          definition
+              .append(results.getString("TABLE_TYPE"))
+              .append('|')
+              .append(results.getString("REMARKS"))
+              .append('\n');
+        }
+      }
+
+      try (final MetadataResultSet results =
+          new MetadataResultSet(getMetaData().getColumns(catalogName, schemaPattern, "%", "%"))) {
+        while (results.next()) {
+          final StringBuilder definition = lookupDefinition(definitions, results);
+          for (final String column :
+              new String[] {
+                "COLUMN_NAME",
+                "ORDINAL_POSITION",
+                "DATA_TYPE",
+                "TYPE_NAME",
+                "COLUMN_SIZE",
+                "DECIMAL_DIGITS",
+                "NULLABLE",
+                "COLUMN_DEF",
+                "REMARKS"
+              }) {
+            definition.append(results.getString(column)).append('|');
+          }
+          definition.append('\n');
+        }
+      }
+    }
+
+    final Map<List<String>, String> changeSignals = new HashMap<>();
+    for (final Map.Entry<List<String>, StringBuilder> definition : definitions.entrySet()) {
+      final List<String> tableKey = definition.getKey();
+      putChangeSignal(
+          changeSignals,
+          tableKey.get(0),
+          tableKey.get(1),
+          tableKey.get(2),
+          digest(definition.getValue()));
+    }
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat("Computed change signals for %d tables", changeSignals.size()));
+    return changeSignals;
+  }
+
+  /**
+   * Keeps change signals only for tables that would be crawled, so that tables in excluded schemas,
+   * or excluded tables, do not look like new tables on every incremental crawl.
+   */
+  private void putChangeSignal(
+      final Map<List<String>, String> changeSignals,
+      final String catalogName,
+      final String schemaName,
+      final String tableName,
+      final String changeSignal) {
+    final SchemaReference schema = new SchemaReference(catalogName, schemaName);
+    if (!getAllSchemas().contains(schema)) {
+      return;
+    }
+    if (!tableFilter.test(new MutableTable(schema, tableName))) {
+      return;
+    }
+    changeSignals.put(Arrays.asList(catalogName, schemaName, tableName), changeSignal);
+  }
+
+  private StringBuilder lookupDefinition(
+      final Map<List<String>, StringBuilder> definitions, final MetadataResultSet results) {
+    final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+    final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+    final String tableName = results.getString("TABLE_NAME");
+    return definitions.computeIfAbsent(
+        Arrays.asList(catalogName, schemaName, tableName), key -> new StringBuilder());
+  }
+}
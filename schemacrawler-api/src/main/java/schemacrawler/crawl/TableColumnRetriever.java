@@ -38,9 +38,7 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
@@ -49,6 +47,7 @@ import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Column;
+import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -85,12 +84,13 @@ final class TableColumnRetriever extends AbstractRetriever {
       return;
     }
 
-    final Set<List<String>> hiddenTableColumnsLookupKeys = retrieveHiddenTableColumnsLookupKeys();
+    final Set<LookupKey> hiddenTableColumnsLookupKeys = retrieveHiddenTableColumnsLookupKeys();
 
     switch (getRetrieverConnection().get(tableColumnsRetrievalStrategy)) {
       case data_dictionary_all:
         LOGGER.log(Level.INFO, "Retrieving table columns, using fast data dictionary retrieval");
-        retrieveTableColumnsFromDataDictionary(allTables, columnFilter, hiddenTableColumnsLookupKeys);
+        retrieveTableColumnsFromDataDictionary(
+            allTables, columnFilter, hiddenTableColumnsLookupKeys);
         break;
 
       case metadata:
@@ -98,6 +98,12 @@ final class TableColumnRetriever extends AbstractRetriever {
         retrieveTableColumnsFromMetadata(allTables, columnFilter, hiddenTableColumnsLookupKeys);
         break;
 
+      case metadata_per_schema:
+        LOGGER.log(Level.INFO, "Retrieving table columns, one schema at a time");
+        retrieveTableColumnsFromMetadataPerSchema(
+            allTables, columnFilter, hiddenTableColumnsLookupKeys);
+        break;
+
       default:
         break;
     }
@@ -107,7 +113,7 @@ final class TableColumnRetriever extends AbstractRetriever {
       final MetadataResultSet results,
       final NamedObjectList<MutableTable> allTables,
       final InclusionRuleFilter<Column> columnFilter,
-      final Set<List<String>> hiddenTableColumnsLookupKeys) {
+      final Set<LookupKey> hiddenTableColumnsLookupKeys) {
     // Get the "COLUMN_DEF" value first as it the Oracle drivers
     // don't handle it properly otherwise.
     // https://community.oracle.com/message/5940745#5940745
@@ -129,7 +135,7 @@ final class TableColumnRetriever extends AbstractRetriever {
     }
 
     final Optional<MutableTable> optionalTable =
-        allTables.lookup(Arrays.asList(columnCatalogName, schemaName, tableName));
+        allTables.lookup(new LookupKey(columnCatalogName, schemaName, tableName));
     if (!optionalTable.isPresent()) {
       return;
     }
@@ -149,8 +155,8 @@ final class TableColumnRetriever extends AbstractRetriever {
       final boolean isGenerated = results.getBoolean("IS_GENERATEDCOLUMN");
       final String remarks = results.getString("REMARKS");
 
-      final List<String> lookupKey =
-          Arrays.asList(columnCatalogName, schemaName, tableName, columnName);
+      final LookupKey lookupKey =
+          new LookupKey(columnCatalogName, schemaName, tableName, columnName);
       final boolean isHidden = hiddenTableColumnsLookupKeys.contains(lookupKey);
 
       String columnDataTypeName = null;
@@ -199,9 +205,9 @@ final class TableColumnRetriever extends AbstractRetriever {
     return column;
   }
 
-  private Set<List<String>> retrieveHiddenTableColumnsLookupKeys() throws SQLException {
+  private Set<LookupKey> retrieveHiddenTableColumnsLookupKeys() throws SQLException {
 
-    final Set<List<String>> hiddenTableColumnsLookupKeys = new HashSet<>();
+    final Set<LookupKey> hiddenTableColumnsLookupKeys = new HashSet<>();
 
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
@@ -213,7 +219,9 @@ final class TableColumnRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(hiddenColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                hiddenColumnsSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, EXT_HIDDEN_TABLE_COLUMNS);
       results.setDescription("retrieveHiddenColumns");
       while (results.next()) {
         // NOTE: The column names in the extension table are different
@@ -229,8 +237,7 @@ final class TableColumnRetriever extends AbstractRetriever {
                 "Retrieving hidden column <%s.%s.%s.%s>",
                 catalogName, schemaName, tableName, columnName));
 
-        final List<String> lookupKey =
-            Arrays.asList(catalogName, schemaName, tableName, columnName);
+        final LookupKey lookupKey = new LookupKey(catalogName, schemaName, tableName, columnName);
         hiddenTableColumnsLookupKeys.add(lookupKey);
       }
     }
@@ -241,7 +248,7 @@ final class TableColumnRetriever extends AbstractRetriever {
   private void retrieveTableColumnsFromDataDictionary(
       final NamedObjectList<MutableTable> allTables,
       final InclusionRuleFilter<Column> columnFilter,
-      final Set<List<String>> hiddenTableColumnsLookupKeys)
+      final Set<LookupKey> hiddenTableColumnsLookupKeys)
       throws SQLException {
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
@@ -252,7 +259,9 @@ final class TableColumnRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableColumnsSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                tableColumnsSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, TABLE_COLUMNS);
       results.setDescription("retrieveTableColumnsFromDataDictionary");
       while (results.next()) {
         createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
@@ -263,26 +272,49 @@ final class TableColumnRetriever extends AbstractRetriever {
   private void retrieveTableColumnsFromMetadata(
       final NamedObjectList<MutableTable> allTables,
       final InclusionRuleFilter<Column> columnFilter,
-      final Set<List<String>> hiddenTableColumnsLookupKeys)
-      throws SchemaCrawlerSQLException {
-    for (final MutableTable table : allTables) {
-      LOGGER.log(Level.FINE, "Retrieving table columns for " + table);
+      final Set<LookupKey> hiddenTableColumnsLookupKeys)
+      throws SQLException {
+    final ShardedMetadataRetriever retriever =
+        new ShardedMetadataRetriever(
+            "table columns",
+            getRetrieverConnection(),
+            table ->
+                String.format(
+                    "Could not retrieve table columns for %s <%s>", table.getTableType(), table));
+    retriever.retrieve(
+        allTables.values(),
+        (table, results) -> {
+          while (results.next()) {
+            createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
+          }
+        },
+        (metaData, table) ->
+            metaData.getColumns(
+                table.getSchema().getCatalogName(),
+                table.getSchema().getName(),
+                table.getName(),
+                null));
+  }
+
+  private void retrieveTableColumnsFromMetadataPerSchema(
+      final NamedObjectList<MutableTable> allTables,
+      final InclusionRuleFilter<Column> columnFilter,
+      final Set<LookupKey> hiddenTableColumnsLookupKeys)
+      throws SQLException {
+    for (final Schema schema : getTablesBySchema(allTables).keySet()) {
+      LOGGER.log(Level.FINE, new StringFormat("Retrieving table columns for schema <%s>", schema));
       try (final MetadataResultSet results =
           new MetadataResultSet(
               getMetaData()
                   .getColumns(
-                      table.getSchema().getCatalogName(),
-                      table.getSchema().getName(),
-                      table.getName(),
-                      null))) {
+                      schema.getCatalogName(), toSearchPattern(schema.getName()), null, null))) {
+        setFetchSize(results, tableColumnsRetrievalStrategy);
         while (results.next()) {
           createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
         }
       } catch (final SQLException e) {
         throw new SchemaCrawlerSQLException(
-            String.format(
-                "Could not retrieve table columns for %s <%s>", table.getTableType(), table),
-            e);
+            String.format("Could not retrieve table columns for schema <%s>", schema), e);
       }
     }
   }
@@ -93,7 +93,11 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                extTableConstraintInformationSql, statement, getSchemaInclusionRule())) {
+                extTableConstraintInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getTableInclusionRule())) {
+      setFetchSize(results, CHECK_CONSTRAINTS);
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -152,7 +156,11 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsInformationSql, statement, getSchemaInclusionRule())) {
+                tableConstraintsInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getTableInclusionRule())) {
+      setFetchSize(results, TABLE_CONSTRAINTS);
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -214,7 +222,11 @@ final class TableConstraintRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsColumnsInformationSql, statement, getSchemaInclusionRule())) {
+                tableConstraintsColumnsInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getTableInclusionRule())) {
+      setFetchSize(results, CONSTRAINT_COLUMN_USAGE);
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
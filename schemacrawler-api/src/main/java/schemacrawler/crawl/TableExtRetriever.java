@@ -93,7 +93,12 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(columnAttributesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                columnAttributesSql,
+                statement,
+                getSchemaInclusionRule(),
+                getTableInclusionRule())) {
+      setFetchSize(results, ADDITIONAL_COLUMN_ATTRIBUTES);
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -184,7 +189,9 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tableAttributesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                tableAttributesSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, ADDITIONAL_TABLE_ATTRIBUTES);
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -231,7 +238,12 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(extIndexesInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                extIndexesInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getTableInclusionRule())) {
+      setFetchSize(results, EXT_INDEXES);
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("INDEX_CATALOG"));
@@ -306,7 +318,11 @@ final class TableExtRetriever extends AbstractRetriever {
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableDefinitionsInformationSql, statement, getSchemaInclusionRule())) {
+                tableDefinitionsInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getTableInclusionRule())) {
+      setFetchSize(results, EXT_TABLES);
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -365,7 +381,12 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(triggerInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                triggerInformationSql,
+                statement,
+                getSchemaInclusionRule(),
+                getTableInclusionRule())) {
+      setFetchSize(results, TRIGGERS);
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TRIGGER_CATALOG"));
@@ -441,7 +462,9 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewInformationSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                viewInformationSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, VIEWS);
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -496,7 +519,9 @@ final class TableExtRetriever extends AbstractRetriever {
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(viewTableUsageSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                viewTableUsageSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, VIEW_TABLE_USAGE);
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("VIEW_CATALOG"));
@@ -35,7 +35,6 @@ import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.ta
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -94,6 +93,7 @@ final class TableRetriever extends AbstractRetriever {
         break;
 
       case metadata:
+      case metadata_per_schema:
         LOGGER.log(Level.INFO, "Retrieving tables");
         retrieveTablesFromMetadata(schemas, tableNamePattern, tableTypes, tableFilter);
         break;
@@ -118,7 +118,7 @@ final class TableRetriever extends AbstractRetriever {
     final String remarks = results.getString("REMARKS");
 
     final Optional<SchemaReference> optionalSchema =
-        schemas.lookup(Arrays.asList(catalogName, schemaName));
+        schemas.lookup(new LookupKey(catalogName, schemaName));
     if (!optionalSchema.isPresent()) {
       return;
     }
@@ -172,7 +172,9 @@ final class TableRetriever extends AbstractRetriever {
     }
     try (final Statement statement = connection.createStatement();
         final MetadataResultSet results =
-            new MetadataResultSet(tablesSql, statement, getSchemaInclusionRule())) {
+            new MetadataResultSet(
+                tablesSql, statement, getSchemaInclusionRule(), getTableInclusionRule())) {
+      setFetchSize(results, TABLES);
       results.setDescription("retrieveTablesFromDataDictionary");
       int numTables = 0;
       while (results.next()) {
@@ -204,6 +206,7 @@ final class TableRetriever extends AbstractRetriever {
               getMetaData()
                   .getTables(
                       catalogName, schemaName, tableNamePattern, filteredTableTypes.toArray()))) {
+        setFetchSize(results, tablesRetrievalStrategy);
         results.setDescription("retrieveTablesFromMetadata");
         int numTables = 0;
         while (results.next()) {
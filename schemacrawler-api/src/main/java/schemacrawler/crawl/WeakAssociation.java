@@ -131,5 +131,6 @@ public final class WeakAssociation implements BaseForeignKey<WeakAssociationColu
 
   void addColumnReference(final Column pkColumn, final Column fkColumn) {
     columnReferences.add(new WeakAssociationColumnReference(pkColumn, fkColumn));
+    NamedObjectList.sortKeyChanged();
   }
 }
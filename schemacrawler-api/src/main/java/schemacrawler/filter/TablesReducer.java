@@ -29,13 +29,15 @@ package schemacrawler.filter;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import schemacrawler.schema.ForeignKey;
-import schemacrawler.schema.ForeignKeyColumnReference;
 import schemacrawler.schema.PartialDatabaseObject;
 import schemacrawler.schema.Reducer;
 import schemacrawler.schema.ReducibleCollection;
@@ -46,6 +48,23 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 
 final class TablesReducer implements Reducer<Table> {
 
+  /**
+   * Parent and child tables of each table, looked up from the table the first time that they are
+   * needed, so that foreign keys are not visited again each time that the table is reached.
+   */
+  private static final class TableRelationships {
+
+    private final Map<TableRelationshipType, Map<Table, Collection<Table>>> relatedTables =
+        new EnumMap<>(TableRelationshipType.class);
+
+    Collection<Table> getRelatedTables(
+        final Table table, final TableRelationshipType tableRelationshipType) {
+      return relatedTables
+          .computeIfAbsent(tableRelationshipType, key -> new HashMap<>())
+          .computeIfAbsent(table, key -> key.getRelatedTables(tableRelationshipType));
+    }
+  }
+
   private final SchemaCrawlerOptions options;
   private final Predicate<Table> tableFilter;
 
@@ -59,12 +78,16 @@ final class TablesReducer implements Reducer<Table> {
     if (allTables == null) {
       return;
     }
-    doReduce(allTables);
+    final TableRelationships tableRelationships = new TableRelationships();
+
+    doReduce(allTables, tableRelationships);
 
-    removeForeignKeys(allTables);
+    removeForeignKeys(allTables, tableRelationships);
   }
 
-  private void doReduce(final ReducibleCollection<? extends Table> allTables) {
+  private void doReduce(
+      final ReducibleCollection<? extends Table> allTables,
+      final TableRelationships tableRelationships) {
     // Filter tables, keeping the ones we need
     final Set<Table> reducedTables = new HashSet<>();
     for (final Table table : allTables) {
@@ -77,10 +100,15 @@ final class TablesReducer implements Reducer<Table> {
     final FilterOptions filterOptions = options.getFilterOptions();
     final int childTableFilterDepth = filterOptions.getChildTableFilterDepth();
     final Collection<Table> childTables =
-        includeRelatedTables(TableRelationshipType.child, childTableFilterDepth, reducedTables);
+        includeRelatedTables(
+            TableRelationshipType.child, childTableFilterDepth, reducedTables, tableRelationships);
     final int parentTableFilterDepth = filterOptions.getParentTableFilterDepth();
     final Collection<Table> parentTables =
-        includeRelatedTables(TableRelationshipType.parent, parentTableFilterDepth, reducedTables);
+        includeRelatedTables(
+            TableRelationshipType.parent,
+            parentTableFilterDepth,
+            reducedTables,
+            tableRelationships);
 
     final Set<Table> keepTables = new HashSet<>();
     keepTables.addAll(reducedTables);
@@ -97,21 +125,31 @@ final class TablesReducer implements Reducer<Table> {
     allTables.filter(table -> keepTables.contains(table));
   }
 
+  /**
+   * Includes tables that are related to the grepped tables, up to the given depth. Related tables
+   * are found breadth-first, and the related tables of each table are only looked up once, when the
+   * table is first reached.
+   */
   private Collection<Table> includeRelatedTables(
       final TableRelationshipType tableRelationshipType,
       final int depth,
-      final Set<Table> greppedTables) {
+      final Set<Table> greppedTables,
+      final TableRelationships tableRelationships) {
     final Set<Table> includedTables = new HashSet<>();
     includedTables.addAll(greppedTables);
 
-    for (int i = 0; i < depth; i++) {
-      for (final Table table : new HashSet<>(includedTables)) {
-        for (final Table relatedTable : table.getRelatedTables(tableRelationshipType)) {
-          if (!isTablePartial(relatedTable)) {
-            includedTables.add(relatedTable);
+    Collection<Table> frontier = greppedTables;
+    for (int i = 0; i < depth && !frontier.isEmpty(); i++) {
+      final Collection<Table> nextFrontier = new ArrayList<>();
+      for (final Table table : frontier) {
+        for (final Table relatedTable :
+            tableRelationships.getRelatedTables(table, tableRelationshipType)) {
+          if (!isTablePartial(relatedTable) && includedTables.add(relatedTable)) {
+            nextFrontier.add(relatedTable);
           }
         }
       }
+      frontier = nextFrontier;
     }
 
     return includedTables;
@@ -128,14 +166,14 @@ final class TablesReducer implements Reducer<Table> {
     }
   }
 
-  private void removeForeignKeys(final ReducibleCollection<? extends Table> allTables) {
+  private void removeForeignKeys(
+      final ReducibleCollection<? extends Table> allTables,
+      final TableRelationships tableRelationships) {
     for (final Table table : allTables) {
-      for (final ForeignKey foreignKey : table.getExportedForeignKeys()) {
-        for (final ForeignKeyColumnReference fkColumnRef : foreignKey) {
-          final Table referencedTable = fkColumnRef.getForeignKeyColumn().getParent();
-          if (isTablePartial(referencedTable) || allTables.isFiltered(referencedTable)) {
-            markTableFilteredOut(referencedTable);
-          }
+      for (final Table referencedTable :
+          tableRelationships.getRelatedTables(table, TableRelationshipType.child)) {
+        if (isTablePartial(referencedTable) || allTables.isFiltered(referencedTable)) {
+          markTableFilteredOut(referencedTable);
         }
       }
     }
@@ -40,6 +40,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.regex.Pattern;
 
@@ -204,6 +206,9 @@ public final class Identifiers {
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(Identifiers.class.getName());
   private static final Pattern isAllNumeric = Pattern.compile("^\\p{Nd}*$");
+  // Bounds the memory held by the quoted name memo, since STANDARD lives
+  // for the life of the application
+  private static final int MAX_QUOTED_NAMES = 100_000;
 
   private static final Pattern isIdentifier = Pattern.compile("^[\\p{Nd}\\p{L}\\p{M}_]*$");
 
@@ -229,6 +234,7 @@ public final class Identifiers {
   private final String identifierQuoteString;
   private final IdentifierQuotingStrategy identifierQuotingStrategy;
   private final Collection<String> reservedWords;
+  private final ConcurrentMap<String, String> quotedNames;
 
   private Identifiers(final Builder builder) {
     if (builder.isIdentifierQuoteStringSet()) {
@@ -238,7 +244,9 @@ public final class Identifiers {
       identifierQuoteString = "\"";
     }
     identifierQuotingStrategy = builder.identifierQuotingStrategy;
-    reservedWords = builder.reservedWords;
+    // Copy reserved words, so that quoted names can be memoized
+    reservedWords = new HashSet<>(builder.reservedWords);
+    quotedNames = new ConcurrentHashMap<>();
   }
 
   /**
@@ -450,10 +458,19 @@ public final class Identifiers {
       return;
     }
 
-    if (isToBeQuoted(name)) {
-      buffer.append(identifierQuoteString).append(name).append(identifierQuoteString);
-    } else {
-      buffer.append(name);
+    String quotedName = quotedNames.get(name);
+    if (quotedName == null) {
+      // Checking if a name needs to be quoted uses regular expressions,
+      // so remember the result, since the same names are quoted repeatedly
+      if (isToBeQuoted(name)) {
+        quotedName = identifierQuoteString + name + identifierQuoteString;
+      } else {
+        quotedName = name;
+      }
+      if (quotedNames.size() < MAX_QUOTED_NAMES) {
+        quotedNames.put(name, quotedName);
+      }
     }
+    buffer.append(quotedName);
   }
 }
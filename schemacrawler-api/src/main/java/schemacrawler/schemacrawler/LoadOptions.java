@@ -33,12 +33,43 @@ import us.fatehi.utility.ObjectToString;
 
 public final class LoadOptions implements Options {
 
+  private final boolean isEstimateRowCounts;
   private final boolean isLoadRowCounts;
+  private final int maxThreads;
+  private final int rowCountsQueryTimeout;
   private final SchemaInfoLevel schemaInfoLevel;
 
-  LoadOptions(final SchemaInfoLevel schemaInfoLevel, final boolean isLoadRowCounts) {
+  LoadOptions(
+      final SchemaInfoLevel schemaInfoLevel,
+      final boolean isLoadRowCounts,
+      final boolean isEstimateRowCounts,
+      final int rowCountsQueryTimeout,
+      final int maxThreads) {
     this.schemaInfoLevel = requireNonNull(schemaInfoLevel, "No schema info level provided");
     this.isLoadRowCounts = isLoadRowCounts;
+    this.isEstimateRowCounts = isEstimateRowCounts;
+    this.rowCountsQueryTimeout = rowCountsQueryTimeout;
+    this.maxThreads = maxThreads;
+  }
+
+  /**
+   * Gets the maximum number of threads, each with its own database connection, that can be used to
+   * crawl independent parts of the schema concurrently. A value of 1 crawls serially.
+   *
+   * @return Maximum number of crawler threads
+   */
+  public int getMaxThreads() {
+    return maxThreads;
+  }
+
+  /**
+   * Gets the query timeout, in seconds, for each query that counts the rows in a table. A value of
+   * 0 means that there is no timeout.
+   *
+   * @return Row count query timeout in seconds
+   */
+  public int getRowCountsQueryTimeout() {
+    return rowCountsQueryTimeout;
   }
 
   /**
@@ -50,6 +81,16 @@ public final class LoadOptions implements Options {
     return schemaInfoLevel;
   }
 
+  /**
+   * Whether row counts are estimated from database statistics, where the database plugin provides a
+   * query for them. Tables without statistics are still counted exactly.
+   *
+   * @return Whether to estimate row counts
+   */
+  public boolean isEstimateRowCounts() {
+    return isEstimateRowCounts;
+  }
+
   /**
    * If infolevel=maximum, this option will load row counts.
    *
@@ -38,12 +38,22 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     return builder().toOptions();
   }
 
+  private boolean isEstimateRowCounts;
   private boolean isLoadRowCounts;
+  private int maxThreads;
+  private int rowCountsQueryTimeout;
   private SchemaInfoLevel schemaInfoLevel;
 
   /** Default options. */
   private LoadOptionsBuilder() {
     schemaInfoLevel = SchemaInfoLevelBuilder.standard();
+    maxThreads = 1;
+  }
+
+  /** Corresponds to the --estimate-row-counts=&lt;boolean&gt; command-line argument. */
+  public LoadOptionsBuilder estimateRowCounts(final boolean value) {
+    isEstimateRowCounts = value;
+    return this;
   }
 
   @Override
@@ -54,6 +64,9 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
 
     schemaInfoLevel = options.getSchemaInfoLevel();
     isLoadRowCounts = options.isLoadRowCounts();
+    isEstimateRowCounts = options.isEstimateRowCounts();
+    rowCountsQueryTimeout = options.getRowCountsQueryTimeout();
+    maxThreads = options.getMaxThreads();
 
     return this;
   }
@@ -71,7 +84,17 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
 
   @Override
   public LoadOptions toOptions() {
-    return new LoadOptions(schemaInfoLevel, isLoadRowCounts);
+    return new LoadOptions(
+        schemaInfoLevel, isLoadRowCounts, isEstimateRowCounts, rowCountsQueryTimeout, maxThreads);
+  }
+
+  /**
+   * Sets the maximum number of threads used to crawl independent parts of the schema concurrently.
+   * Values less than 1 are treated as 1, that is, a serial crawl.
+   */
+  public LoadOptionsBuilder withMaxThreads(final int maxThreads) {
+    this.maxThreads = Math.max(1, maxThreads);
+    return this;
   }
 
   public LoadOptionsBuilder withInfoLevel(final InfoLevel infoLevel) {
@@ -81,6 +104,15 @@ public final class LoadOptionsBuilder implements OptionsBuilder<LoadOptionsBuild
     return this;
   }
 
+  /**
+   * Sets the query timeout, in seconds, for each query that counts the rows in a table. Values less
+   * than 1 mean that there is no timeout.
+   */
+  public LoadOptionsBuilder withRowCountsQueryTimeout(final int rowCountsQueryTimeout) {
+    this.rowCountsQueryTimeout = Math.max(0, rowCountsQueryTimeout);
+    return this;
+  }
+
   public LoadOptionsBuilder withSchemaInfoLevel(final SchemaInfoLevel schemaInfoLevel) {
     if (schemaInfoLevel != null) {
       this.schemaInfoLevel = schemaInfoLevel;
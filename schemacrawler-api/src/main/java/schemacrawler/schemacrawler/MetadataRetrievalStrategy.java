@@ -32,6 +32,9 @@ public enum MetadataRetrievalStrategy {
   // use JDBC metadata calls to retrieve information one database object at a time;
   // each JDBC driver decides how to honor these requests
   metadata,
+  // use JDBC metadata calls to retrieve information for all tables in a schema together,
+  // and fall back to one database object at a time where that is not possible
+  metadata_per_schema,
   // use the INFORMATION_SCHEMA or database-specific data dictionary queries to
   // retrieve information for all database objects together
   data_dictionary_all
@@ -43,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
+import java.util.regex.Pattern;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.inclusionrule.InclusionRule;
@@ -61,13 +62,67 @@ public final class QueryUtility {
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(QueryUtility.class.getName());
 
+  // Oracle limits regular expressions to 512 bytes, and IN lists to 1000
+  // expressions
+  private static final int MAX_TABLES_PATTERN_LENGTH = 512;
+  private static final int MAX_TABLE_NAMES = 1000;
+
   public static ResultSet executeAgainstSchema(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
+    return executeAgainstSchema(query, statement, schemaInclusionRule, null);
+  }
+
+  /**
+   * Executes a data dictionary query, after substituting the schema and table inclusion rules.
+   * <code>${schemas}</code> is replaced with the schema inclusion pattern, and <code>${tables}
+   * </code> with the table inclusion pattern, which is matched against the full table name. <code>
+   * ${tablenames}</code> is replaced with a list of quoted table names, if the table inclusion
+   * pattern only matches a list of tables by name, and otherwise with a typed <code>NULL</code>, so
+   * that a query can use <code>
+   * (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
+   * </code>. Queries can use these to avoid returning rows for tables that are not included, but
+   * the results are still filtered by the inclusion rules after the query is run.
+   *
+   * <p>The table inclusion pattern is only used if it can be written as a POSIX extended regular
+   * expression that means the same, and table names are only listed if there are no more than a
+   * thousand of them. Otherwise, all tables are matched. If the query fails with the table
+   * inclusion rule, it is run again for all tables.
+   *
+   * @param query Query to execute
+   * @param statement Statement to execute the query with
+   * @param schemaInclusionRule Schema inclusion rule
+   * @param tableInclusionRule Table inclusion rule
+   * @return Results of the query
+   * @throws SQLException On an exception executing the query
+   */
+  public static ResultSet executeAgainstSchema(
+      final Query query,
+      final Statement statement,
+      final InclusionRule schemaInclusionRule,
+      final InclusionRule tableInclusionRule)
+      throws SQLException {
     requireNonNull(query, "No query provided");
-    final String sql = getQuery(query, schemaInclusionRule);
+    final String sql = getQuery(query, schemaInclusionRule, tableInclusionRule);
+    final String allTablesSql = getQuery(query, schemaInclusionRule, null);
     LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
-    return executeSql(statement, sql);
+    if (sql.equals(allTablesSql)) {
+      return executeSql(statement, sql);
+    }
+
+    try {
+      return executeSql(statement, sql);
+    } catch (final SQLException e) {
+      // The table inclusion rule only narrows down the results, so fall
+      // back to the query for all tables
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat(
+              "Could not execute %s with the table inclusion rule, so executing for all tables",
+              query.getName()),
+          e);
+      return executeSql(statement, allTablesSql);
+    }
   }
 
   public static ResultSet executeAgainstTable(
@@ -117,6 +172,203 @@ public final class QueryUtility {
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Gets the inclusion pattern of an inclusion rule, if it is based on a regular expression.
+   *
+   * @param inclusionRule Inclusion rule
+   * @return Inclusion pattern, or null
+   */
+  private static Pattern getInclusionPattern(final InclusionRule inclusionRule) {
+    if (inclusionRule instanceof InclusionRuleWithRegularExpression) {
+      return ((InclusionRuleWithRegularExpression) inclusionRule).getInclusionPattern();
+    }
+    return null;
+  }
+
+  /**
+   * Gets the table names from a table inclusion pattern that only matches a list of tables, such as
+   * <code>PUBLIC\.BOOKS\.AUTHORS|PUBLIC\.BOOKS\.BOOKS</code>, or <code>.*\.AUTHORS</code>.
+   *
+   * @param pattern Table inclusion pattern
+   * @return Table names, or an empty list if the pattern can match tables with other names
+   */
+  private static List<String> getTableNames(final String pattern) {
+    String alternatives = pattern;
+    if (alternatives.startsWith("(?:") && alternatives.endsWith(")")) {
+      alternatives = alternatives.substring(3, alternatives.length() - 1);
+    } else if (alternatives.startsWith("(") && alternatives.endsWith(")")) {
+      alternatives = alternatives.substring(1, alternatives.length() - 1);
+    }
+
+    final List<String> tableNames = new ArrayList<>();
+    for (final String alternative : alternatives.split("\\|", -1)) {
+      final String tableFullName = unescapeLiteral(alternative);
+      if (tableFullName == null) {
+        return new ArrayList<>();
+      }
+      final String tableName = tableFullName.substring(tableFullName.lastIndexOf('.') + 1);
+      if (isBlank(tableName) || !isPlainSqlText(tableName)) {
+        return new ArrayList<>();
+      }
+      tableNames.add(tableName);
+    }
+    return tableNames;
+  }
+
+  /**
+   * Checks if text can be used in a SQL string literal as is on any database, other than doubling
+   * single quotes. Backslashes are escape characters in some databases, and characters outside
+   * printable ASCII may not survive the character set of the connection.
+   *
+   * @param text Text to check
+   * @return Whether the text is printable ASCII, without backslashes
+   */
+  private static boolean isPlainSqlText(final String text) {
+    for (int i = 0; i < text.length(); i++) {
+      final char ch = text.charAt(i);
+      if (ch < ' ' || ch > '~' || ch == '\\') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Converts a Java regular expression to a POSIX extended regular expression that matches the same
+   * text, as used by Oracle REGEXP_LIKE and the PostgreSQL ~ operator, and escapes it for use in a
+   * SQL string literal. Only the syntax that is common to all of them is converted, which is
+   * literal characters, escaped punctuation, character classes without escapes, groups,
+   * alternatives, anchors and greedy quantifiers.
+   *
+   * @param pattern Java regular expression
+   * @return Regular expression for use in a SQL string literal, or null if the pattern uses other
+   *     syntax
+   */
+  private static String toSqlRegularExpression(final String pattern) {
+    if (!isPlainSqlText(pattern.replace("\\", ""))) {
+      return null;
+    }
+
+    final StringBuilder regex = new StringBuilder(pattern.length() + 16);
+    boolean isQuantified = false;
+    for (int i = 0; i < pattern.length(); i++) {
+      final char ch = pattern.charAt(i);
+      final boolean isQuantifier;
+      switch (ch) {
+        case '\\':
+          // Escapes such as \d, \Q or \1 are not portable
+          i = i + 1;
+          if (i == pattern.length() || Character.isLetterOrDigit(pattern.charAt(i))) {
+            return null;
+          }
+          if (pattern.charAt(i) == '\'') {
+            regex.append("''");
+          } else {
+            regex.append(ch).append(pattern.charAt(i));
+          }
+          isQuantifier = false;
+          break;
+        case '[':
+          // Character classes can only contain plain characters and ranges
+          final int end = pattern.indexOf(']', i + 2);
+          if (end == -1) {
+            return null;
+          }
+          final String characterClass = pattern.substring(i, end + 1);
+          if (characterClass.indexOf('\\') >= 0
+              || characterClass.indexOf('[', 1) >= 0
+              || characterClass.contains("&&")) {
+            return null;
+          }
+          regex.append(characterClass.replace("'", "''"));
+          i = end;
+          isQuantifier = false;
+          break;
+        case '(':
+          // Only non-capturing groups are supported, out of the
+          // Java-only group constructs
+          if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '?') {
+            if (i + 2 < pattern.length() && pattern.charAt(i + 2) == ':') {
+              i = i + 2;
+            } else {
+              return null;
+            }
+          }
+          regex.append(ch);
+          isQuantifier = false;
+          break;
+        case '*':
+        case '+':
+        case '?':
+          // Lazy and possessive quantifiers are not portable
+          if (isQuantified) {
+            return null;
+          }
+          regex.append(ch);
+          isQuantifier = true;
+          break;
+        case '{':
+          final int close = pattern.indexOf('}', i);
+          if (isQuantified
+              || close == -1
+              || !pattern.substring(i + 1, close).matches("[0-9]+(,[0-9]*)?")) {
+            return null;
+          }
+          regex.append(pattern, i, close + 1);
+          i = close;
+          isQuantifier = true;
+          break;
+        case '\'':
+          regex.append("''");
+          isQuantifier = false;
+          break;
+        default:
+          regex.append(ch);
+          isQuantifier = false;
+          break;
+      }
+      isQuantified = isQuantifier;
+    }
+    return regex.toString();
+  }
+
+  /**
+   * Converts one alternative of a regular expression to the literal text that it matches. The
+   * alternative may start with <code>.*\.</code> to match any schema.
+   *
+   * @param alternative Alternative of a regular expression
+   * @return Literal text, or null if the alternative matches more than one string
+   */
+  private static String unescapeLiteral(final String alternative) {
+    String regex = alternative;
+    if (regex.startsWith("^")) {
+      regex = regex.substring(1);
+    }
+    if (regex.endsWith("$") && !regex.endsWith("\\$")) {
+      regex = regex.substring(0, regex.length() - 1);
+    }
+    if (regex.startsWith(".*\\.")) {
+      regex = regex.substring(2);
+    }
+
+    final StringBuilder literal = new StringBuilder();
+    for (int i = 0; i < regex.length(); i++) {
+      final char ch = regex.charAt(i);
+      if (ch == '\\') {
+        i = i + 1;
+        if (i == regex.length() || Character.isLetterOrDigit(regex.charAt(i))) {
+          return null;
+        }
+        literal.append(regex.charAt(i));
+      } else if (".^$*+?|()[]{}".indexOf(ch) >= 0) {
+        return null;
+      } else {
+        literal.append(ch);
+      }
+    }
+    return literal.toString();
+  }
+
   private static String getColumnsListAsString(
       final List<Column> columns,
       final boolean omitLargeObjectColumns,
@@ -143,20 +395,43 @@ public final class QueryUtility {
    * Gets the query with parameters substituted.
    *
    * @param schemaInclusionRule Schema inclusion rule
+   * @param tableInclusionRule Table inclusion rule
    * @return Ready-to-execute query
    */
-  private static String getQuery(final Query query, final InclusionRule schemaInclusionRule) {
+  private static String getQuery(
+      final Query query,
+      final InclusionRule schemaInclusionRule,
+      final InclusionRule tableInclusionRule) {
     final Map<String, String> properties = new HashMap<>();
 
     properties.put("schemas", ".*");
-    if (schemaInclusionRule != null
-        && schemaInclusionRule instanceof InclusionRuleWithRegularExpression) {
-      final String schemaInclusionPattern =
-          ((InclusionRuleWithRegularExpression) schemaInclusionRule)
-              .getInclusionPattern()
-              .pattern();
-      if (!isBlank(schemaInclusionPattern)) {
-        properties.put("schemas", schemaInclusionPattern);
+    final Pattern schemaInclusionPattern = getInclusionPattern(schemaInclusionRule);
+    if (schemaInclusionPattern != null && !isBlank(schemaInclusionPattern.pattern())) {
+      properties.put("schemas", schemaInclusionPattern.pattern());
+    }
+
+    properties.put("tables", ".*");
+    properties.put("tablenames", "CAST(NULL AS CHAR(1))");
+    final Pattern tableInclusionPattern = getInclusionPattern(tableInclusionRule);
+    // Table full names are quoted, but the names in the data dictionary
+    // are not, so patterns that match quotes, or that need flags, are not
+    // used in queries
+    if (tableInclusionPattern != null
+        && !isBlank(tableInclusionPattern.pattern())
+        && tableInclusionPattern.flags() == 0
+        && !tableInclusionPattern.pattern().contains("\"")) {
+      final String tablesPattern = toSqlRegularExpression(tableInclusionPattern.pattern());
+      if (tablesPattern != null && tablesPattern.length() <= MAX_TABLES_PATTERN_LENGTH) {
+        properties.put("tables", tablesPattern);
+      }
+
+      final List<String> tableNames = getTableNames(tableInclusionPattern.pattern());
+      if (!tableNames.isEmpty() && tableNames.size() <= MAX_TABLE_NAMES) {
+        final List<String> quotedTableNames = new ArrayList<>();
+        for (final String tableName : tableNames) {
+          quotedTableNames.add("'" + tableName.replace("'", "''") + "'");
+        }
+        properties.put("tablenames", String.join(", ", quotedTableNames));
       }
     }
 
@@ -176,7 +451,7 @@ public final class QueryUtility {
     if (table != null) {
       final NamedObjectSort columnsSort =
           NamedObjectSort.getNamedObjectSort(isAlphabeticalSortForTableColumns);
-      final List<Column> columns = table.getColumns();
+      final List<Column> columns = new ArrayList<>(table.getColumns());
       columns.sort(columnsSort);
 
       final Schema schema = table.getSchema();
@@ -191,8 +191,6 @@ public final class SchemaReference implements Schema {
       return;
     }
 
-    final Identifiers identifiers =
-        Identifiers.identifiers().withIdentifierQuoteString("\"").build();
-    fullName = identifiers.quoteFullName(this);
+    fullName = Identifiers.STANDARD.quoteFullName(this);
   }
 }
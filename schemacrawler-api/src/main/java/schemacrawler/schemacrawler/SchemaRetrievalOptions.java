@@ -56,6 +56,10 @@ public final class SchemaRetrievalOptions implements Options {
   private final EnumDataTypeHelper enumDataTypeHelper;
   EnumMap<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       metadataRetrievalStrategyMap;
+  private final int fetchSize;
+  private final EnumMap<InformationSchemaKey, Integer> informationSchemaFetchSizes;
+  private final EnumMap<SchemaInfoMetadataRetrievalStrategy, Integer> metadataFetchSizes;
+  private final boolean adaptiveFetchSize;
 
   protected SchemaRetrievalOptions(final SchemaRetrievalOptionsBuilder builder) {
     final SchemaRetrievalOptionsBuilder bldr =
@@ -69,6 +73,10 @@ public final class SchemaRetrievalOptions implements Options {
     typeMap = bldr.overridesTypeMap.orElse(new TypeMap());
     enumDataTypeHelper = bldr.enumDataTypeHelper;
     metadataRetrievalStrategyMap = new EnumMap<>(bldr.metadataRetrievalStrategyMap);
+    fetchSize = bldr.fetchSize;
+    informationSchemaFetchSizes = new EnumMap<>(bldr.informationSchemaFetchSizes);
+    metadataFetchSizes = new EnumMap<>(bldr.metadataFetchSizes);
+    adaptiveFetchSize = bldr.adaptiveFetchSize;
   }
 
   public MetadataRetrievalStrategy get(
@@ -82,6 +90,30 @@ public final class SchemaRetrievalOptions implements Options {
     return dbServerType;
   }
 
+  /**
+   * Gets the number of rows to fetch from the database at a time, for data dictionary queries.
+   *
+   * @param informationSchemaKey Key for the data dictionary query
+   * @return Fetch size for the query, or the default fetch size if none is provided
+   */
+  public int getFetchSize(final InformationSchemaKey informationSchemaKey) {
+    requireNonNull(informationSchemaKey, "No SQL query key provided");
+    return informationSchemaFetchSizes.getOrDefault(informationSchemaKey, fetchSize);
+  }
+
+  /**
+   * Gets the number of rows to fetch from the database at a time, for JDBC metadata calls.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Metadata that is being retrieved
+   * @return Fetch size for the metadata, or the default fetch size if none is provided
+   */
+  public int getFetchSize(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
+    requireNonNull(
+        schemaInfoMetadataRetrievalStrategy, "No schema info metadata retrieval strategy provided");
+    return metadataFetchSizes.getOrDefault(schemaInfoMetadataRetrievalStrategy, fetchSize);
+  }
+
   public EnumDataTypeHelper getEnumDataTypeHelper() {
     return enumDataTypeHelper;
   }
@@ -113,6 +145,16 @@ public final class SchemaRetrievalOptions implements Options {
     return typeMap != null;
   }
 
+  /**
+   * Whether the fetch size grows as rows are read from large metadata results, starting from the
+   * configured fetch size.
+   *
+   * @return Whether the fetch size is adaptive
+   */
+  public boolean isAdaptiveFetchSize() {
+    return adaptiveFetchSize;
+  }
+
   public boolean isSupportsCatalogs() {
     return supportsCatalogs;
   }
@@ -131,4 +173,16 @@ public final class SchemaRetrievalOptions implements Options {
       getMetadataRetrievalStrategyMap() {
     return new EnumMap<>(metadataRetrievalStrategyMap);
   }
+
+  int getFetchSize() {
+    return fetchSize;
+  }
+
+  Map<InformationSchemaKey, Integer> getInformationSchemaFetchSizes() {
+    return new EnumMap<>(informationSchemaFetchSizes);
+  }
+
+  Map<SchemaInfoMetadataRetrievalStrategy, Integer> getMetadataFetchSizes() {
+    return new EnumMap<>(metadataFetchSizes);
+  }
 }
@@ -44,6 +44,8 @@ import schemacrawler.utility.TypeMap;
 public final class SchemaRetrievalOptionsBuilder
     implements OptionsBuilder<SchemaRetrievalOptionsBuilder, SchemaRetrievalOptions> {
 
+  private static final int DEFAULT_FETCHSIZE = 20;
+
   public static SchemaRetrievalOptionsBuilder builder() {
     return new SchemaRetrievalOptionsBuilder();
   }
@@ -67,6 +69,10 @@ public final class SchemaRetrievalOptionsBuilder
   boolean supportsSchemas;
   EnumDataTypeHelper enumDataTypeHelper;
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> metadataRetrievalStrategyMap;
+  int fetchSize;
+  Map<InformationSchemaKey, Integer> informationSchemaFetchSizes;
+  Map<SchemaInfoMetadataRetrievalStrategy, Integer> metadataFetchSizes;
+  boolean adaptiveFetchSize;
 
   private SchemaRetrievalOptionsBuilder() {
     dbServerType = DatabaseServerType.UNKNOWN;
@@ -85,6 +91,11 @@ public final class SchemaRetrievalOptionsBuilder
         SchemaInfoMetadataRetrievalStrategy.values()) {
       metadataRetrievalStrategyMap.put(key, metadata);
     }
+
+    fetchSize = DEFAULT_FETCHSIZE;
+    informationSchemaFetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    metadataFetchSizes = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
+    adaptiveFetchSize = false;
   }
 
   public SchemaRetrievalOptionsBuilder fromConnnection(final Connection connection) {
@@ -133,6 +144,10 @@ public final class SchemaRetrievalOptionsBuilder
     identifiers = options.getIdentifiers();
     overridesTypeMap = Optional.empty();
     metadataRetrievalStrategyMap = options.getMetadataRetrievalStrategyMap();
+    fetchSize = options.getFetchSize();
+    informationSchemaFetchSizes = options.getInformationSchemaFetchSizes();
+    metadataFetchSizes = options.getMetadataFetchSizes();
+    adaptiveFetchSize = options.isAdaptiveFetchSize();
 
     return this;
   }
@@ -178,6 +193,15 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Grows the fetch size as rows are read from large metadata results, starting from the configured
+   * fetch size, so that fewer round trips are made to the database.
+   */
+  public SchemaRetrievalOptionsBuilder withAdaptiveFetchSize() {
+    adaptiveFetchSize = true;
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about whether the database supports catalogs.
    */
@@ -203,6 +227,48 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the default number of rows to fetch from the database at a time, for all metadata results
+   * that do not have a fetch size of their own.
+   *
+   * @param fetchSize Fetch size, which is ignored if it is not positive
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final int fetchSize) {
+    if (fetchSize > 0) {
+      this.fetchSize = fetchSize;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the number of rows to fetch from the database at a time, for a data dictionary query.
+   *
+   * @param informationSchemaKey Key for the data dictionary query
+   * @param fetchSize Fetch size, which is ignored if it is not positive
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(
+      final InformationSchemaKey informationSchemaKey, final int fetchSize) {
+    if (informationSchemaKey != null && fetchSize > 0) {
+      informationSchemaFetchSizes.put(informationSchemaKey, fetchSize);
+    }
+    return this;
+  }
+
+  /**
+   * Sets the number of rows to fetch from the database at a time, for JDBC metadata calls.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Metadata that is being retrieved
+   * @param fetchSize Fetch size, which is ignored if it is not positive
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy,
+      final int fetchSize) {
+    if (schemaInfoMetadataRetrievalStrategy != null && fetchSize > 0) {
+      metadataFetchSizes.put(schemaInfoMetadataRetrievalStrategy, fetchSize);
+    }
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about the identifier quote string.
    *
@@ -225,6 +291,11 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  public SchemaRetrievalOptionsBuilder withoutAdaptiveFetchSize() {
+    adaptiveFetchSize = false;
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withoutIdentifierQuoteString() {
     identifierQuoteString = "";
     return this;
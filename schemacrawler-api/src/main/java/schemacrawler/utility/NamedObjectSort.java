@@ -28,8 +28,6 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.utility;
 
-import static us.fatehi.utility.Utility.convertForComparison;
-
 import java.util.Comparator;
 
 import schemacrawler.schema.NamedObject;
@@ -40,8 +38,7 @@ public enum NamedObjectSort implements Comparator<NamedObject> {
   alphabetical {
     @Override
     public int compare(final NamedObject namedObject1, final NamedObject namedObject2) {
-      return convertForComparison(namedObject1.getFullName())
-          .compareTo(convertForComparison(namedObject2.getFullName()));
+      return compareForComparison(namedObject1.getFullName(), namedObject2.getFullName());
     }
   },
 
@@ -53,6 +50,46 @@ public enum NamedObjectSort implements Comparator<NamedObject> {
     }
   };
 
+  /**
+   * Compares text in the same order as comparing the text after converting it with
+   * Utility.convertForComparison, that is, ignoring case and any characters other than letters,
+   * digits, underscores and periods. Comparison is done in place, since this is called for every
+   * comparison when sorting large catalogs.
+   */
+  private static int compareForComparison(final String text1, final String text2) {
+    int i = 0;
+    int j = 0;
+    while (true) {
+      i = nextComparableIndex(text1, i);
+      j = nextComparableIndex(text2, j);
+      final boolean hasMore1 = i < text1.length();
+      final boolean hasMore2 = j < text2.length();
+      if (!hasMore1 || !hasMore2) {
+        // Shorter text sorts first
+        return Boolean.compare(hasMore1, hasMore2);
+      }
+      final char ch1 = Character.toLowerCase(text1.charAt(i));
+      final char ch2 = Character.toLowerCase(text2.charAt(j));
+      if (ch1 != ch2) {
+        return ch1 - ch2;
+      }
+      i++;
+      j++;
+    }
+  }
+
+  private static int nextComparableIndex(final String text, final int start) {
+    int index = start;
+    while (index < text.length()) {
+      final char ch = text.charAt(index);
+      if (Character.isLetterOrDigit(ch) || ch == '_' || ch == '.') {
+        break;
+      }
+      index++;
+    }
+    return index;
+  }
+
   public static NamedObjectSort getNamedObjectSort(final boolean alphabeticalSort) {
     if (alphabeticalSort) {
       return NamedObjectSort.alphabetical;
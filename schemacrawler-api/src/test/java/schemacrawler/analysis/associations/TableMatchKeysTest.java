@@ -0,0 +1,85 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.analysis.associations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Table;
+
+public class TableMatchKeysTest {
+
+  @Test
+  public void commonPrefix() {
+    final List<Table> tables = tables("APP_USERS", "APP_ORDERS", "APP_ORDER_ITEMS", "AUDIT_LOG");
+    final TableMatchKeys tableMatchKeys = new TableMatchKeys(tables);
+
+    assertThat(tableMatchKeys.get(tables.get(0)), contains("user", "app_user"));
+    assertThat(tableMatchKeys.get(tables.get(1)), contains("order", "app_order"));
+    assertThat(tableMatchKeys.get(tables.get(2)), contains("order_item", "app_order_item"));
+    assertThat(tableMatchKeys.get(tables.get(3)), contains("audit_log"));
+  }
+
+  @Test
+  public void noCommonPrefix() {
+    final List<Table> tables = tables("USERS", "ORDERS", "USERS");
+    final TableMatchKeys tableMatchKeys = new TableMatchKeys(tables);
+
+    assertThat(tableMatchKeys.get(tables.get(0)), contains("user"));
+    assertThat(tableMatchKeys.get(tables.get(1)), contains("order"));
+    assertThat(tableMatchKeys.get(tables.get(2)), contains("user"));
+  }
+
+  @Test
+  public void shortestCommonPrefix() {
+    final List<Table> tables = tables("TBL_A_X", "TBL_A_Y", "TBL_B");
+    final TableMatchKeys tableMatchKeys = new TableMatchKeys(tables);
+
+    assertThat(tableMatchKeys.get(tables.get(0)), contains("a_x", "tbl_a_x"));
+    assertThat(tableMatchKeys.get(tables.get(1)), contains("a_y", "tbl_a_y"));
+    assertThat(tableMatchKeys.get(tables.get(2)), contains("b", "tbl_b"));
+  }
+
+  private List<Table> tables(final String... tableNames) {
+    final List<Table> tables = new ArrayList<>();
+    for (final String tableName : tableNames) {
+      final Table table = mock(Table.class);
+      when(table.getName()).thenReturn(tableName);
+      tables.add(table);
+    }
+    return tables;
+  }
+}
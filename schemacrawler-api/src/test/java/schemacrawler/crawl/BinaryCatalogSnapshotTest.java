@@ -0,0 +1,392 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import us.fatehi.utility.IOUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BinaryCatalogSnapshotTest {
+
+  private Catalog catalog;
+  private byte[] snapshot;
+
+  @Test
+  public void badSnapshot() {
+    assertThat(BinaryCatalogSnapshot.isBinaryCatalogSnapshot(new byte[] {'S', 'C'}), is(false));
+    assertThat(BinaryCatalogSnapshot.isBinaryCatalogSnapshot(null), is(false));
+
+    final byte[] wrongVersion = Arrays.copyOf(snapshot, snapshot.length);
+    wrongVersion[BinaryCatalogSnapshot.MAGIC.length + 1] = 99;
+    assertThrows(
+        SchemaCrawlerException.class,
+        () -> BinaryCatalogSnapshot.loadCatalog(ByteBuffer.wrap(wrongVersion)));
+
+    final byte[] truncated = Arrays.copyOf(snapshot, snapshot.length / 2);
+    assertThrows(
+        SchemaCrawlerException.class,
+        () -> BinaryCatalogSnapshot.loadCatalog(new ByteArrayInputStream(truncated)));
+  }
+
+  @Test
+  public void filteredLoad() throws Exception {
+    final Path snapshotFile = IOUtility.createTempFilePath("snapshot", "scbin");
+    Files.write(snapshotFile, snapshot);
+
+    final Catalog restoredCatalog =
+        BinaryCatalogSnapshot.loadCatalog(
+            snapshotFile, table -> table.getFullName().equals("PUBLIC.BOOKS.BOOKAUTHORS"));
+
+    final Collection<Table> tables = restoredCatalog.getTables();
+    assertThat(tables.size(), is(1));
+
+    final Table table = tables.iterator().next();
+    final Table originalTable = catalog.lookupTable(table.getSchema(), table.getName()).get();
+    assertThat(table.getColumns().toString(), equalTo(originalTable.getColumns().toString()));
+    assertThat(
+        table.getForeignKeys().toString(), equalTo(originalTable.getForeignKeys().toString()));
+    assertThat(table.getForeignKeys().isEmpty(), is(false));
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      for (final ForeignKeyColumnReference columnReference : foreignKey) {
+        // Referenced tables are loaded, but are not in the catalog
+        final Table pkTable = columnReference.getPrimaryKeyColumn().getParent();
+        assertThat(pkTable.getColumns().isEmpty(), is(false));
+        assertThat(restoredCatalog.getTables().stream().anyMatch(t -> t == pkTable), is(false));
+        assertThat(pkTable.getForeignKeys().stream().anyMatch(fk -> fk == foreignKey), is(true));
+      }
+    }
+
+    final Catalog allTablesCatalog = BinaryCatalogSnapshot.loadCatalog(snapshotFile, t -> true);
+    assertThat(describe(allTablesCatalog), equalTo(describe(catalog)));
+  }
+
+  @BeforeAll
+  public void loadCatalog(final Connection connection) throws Exception {
+    catalog =
+        getCatalog(connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryCatalogSnapshot.saveCatalog(catalog, out);
+    snapshot = out.toByteArray();
+  }
+
+  @Test
+  public void roundTrip() throws Exception {
+    assertThat(BinaryCatalogSnapshot.isBinaryCatalogSnapshot(snapshot), is(true));
+
+    final Catalog restoredCatalog =
+        BinaryCatalogSnapshot.loadCatalog(new ByteArrayInputStream(snapshot));
+
+    assertThat(restoredCatalog, equalTo(catalog));
+    assertThat(
+        restoredCatalog.getCrawlInfo().getRunId(), equalTo(catalog.getCrawlInfo().getRunId()));
+    assertThat(
+        restoredCatalog.getCrawlInfo().getCrawlTimestamp(),
+        equalTo(catalog.getCrawlInfo().getCrawlTimestamp()));
+    assertThat(
+        restoredCatalog.getDatabaseInfo().toString(),
+        equalTo(catalog.getDatabaseInfo().toString()));
+    assertThat(
+        restoredCatalog.getJdbcDriverInfo().toString(),
+        equalTo(catalog.getJdbcDriverInfo().toString()));
+    assertThat(describe(restoredCatalog), equalTo(describe(catalog)));
+  }
+
+  @Test
+  public void roundTripFromOffset() throws Exception {
+    final ByteBuffer buffer = ByteBuffer.allocate(snapshot.length + 16);
+    buffer.position(16);
+    buffer.put(snapshot);
+    buffer.position(16);
+
+    final Catalog restoredCatalog = BinaryCatalogSnapshot.loadCatalog(buffer);
+    assertThat(describe(restoredCatalog), equalTo(describe(catalog)));
+  }
+
+  @Test
+  public void sharedObjects() throws Exception {
+    final Catalog restoredCatalog = BinaryCatalogSnapshot.loadCatalog(ByteBuffer.wrap(snapshot));
+
+    for (final Table table : restoredCatalog.getTables()) {
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        for (final ForeignKeyColumnReference columnReference : foreignKey) {
+          final Table pkTable = columnReference.getPrimaryKeyColumn().getParent();
+          final Table fkTable = columnReference.getForeignKeyColumn().getParent();
+          // Foreign keys are the same object at both ends
+          assertThat(pkTable.getForeignKeys().stream().anyMatch(fk -> fk == foreignKey), is(true));
+          assertThat(fkTable.getForeignKeys().stream().anyMatch(fk -> fk == foreignKey), is(true));
+        }
+      }
+      if (table instanceof View) {
+        // View table usage refers to tables in the catalog
+        for (final Table usedTable : ((View) table).getTableUsage()) {
+          assertThat(restoredCatalog.getTables().stream().anyMatch(t -> t == usedTable), is(true));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void smallerThanJavaSerialization() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final ObjectOutputStream objOut = new ObjectOutputStream(out)) {
+      objOut.writeObject(catalog);
+    }
+    assertThat(snapshot.length, lessThan(out.size()));
+  }
+
+  private String describe(final Catalog catalog) {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Schema schema : catalog.getSchemas()) {
+      buffer.append("schema ").append(schema.getFullName()).append('\n');
+    }
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      buffer
+          .append("type ")
+          .append(columnDataType.getFullName())
+          .append(' ')
+          .append(columnDataType.getJavaSqlType())
+          .append(' ')
+          .append(columnDataType.getTypeMappedClass())
+          .append(' ')
+          .append(columnDataType.getPrecision())
+          .append(' ')
+          .append(columnDataType.getBaseType())
+          .append('\n');
+    }
+    for (final Table table : catalog.getTables()) {
+      buffer
+          .append("table ")
+          .append(table.getFullName())
+          .append(' ')
+          .append(table.getTableType())
+          .append(' ')
+          .append(table.getRemarks())
+          .append(' ')
+          .append(table.getDefinition())
+          .append(' ')
+          .append(table.getAttributes())
+          .append('\n');
+      if (table instanceof View) {
+        buffer.append("  usage ").append(((View) table).getTableUsage()).append('\n');
+      }
+      for (final Column column : table.getColumns()) {
+        buffer
+            .append("  column ")
+            .append(column.getName())
+            .append(' ')
+            .append(column.getOrdinalPosition())
+            .append(' ')
+            .append(column.getColumnDataType().getFullName())
+            .append(' ')
+            .append(column.getWidth())
+            .append(' ')
+            .append(column.isNullable())
+            .append(' ')
+            .append(column.getDefaultValue())
+            .append(' ')
+            .append(column.isPartOfPrimaryKey())
+            .append(column.isPartOfForeignKey())
+            .append(column.isPartOfIndex())
+            .append(column.isPartOfUniqueIndex())
+            .append(column.isAutoIncremented())
+            .append(column.isGenerated())
+            .append(' ')
+            .append(column.getReferencedColumn())
+            .append(' ')
+            .append(column.getPrivileges())
+            .append(' ')
+            .append(column.getRemarks())
+            .append('\n');
+      }
+      final PrimaryKey primaryKey = table.getPrimaryKey();
+      if (primaryKey != null) {
+        buffer
+            .append("  primary key ")
+            .append(primaryKey.getName())
+            .append(' ')
+            .append(primaryKey.getColumns())
+            .append('\n');
+      }
+      for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+        buffer
+            .append("  constraint ")
+            .append(tableConstraint.getName())
+            .append(' ')
+            .append(tableConstraint.getConstraintType())
+            .append(' ')
+            .append(tableConstraint.getColumns())
+            .append(' ')
+            .append(tableConstraint.getDefinition())
+            .append('\n');
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        buffer
+            .append("  foreign key ")
+            .append(foreignKey.getName())
+            .append(' ')
+            .append(foreignKey.getUpdateRule())
+            .append(' ')
+            .append(foreignKey.getDeleteRule())
+            .append(' ')
+            .append(foreignKey.getDeferrability())
+            .append(' ')
+            .append(foreignKey.getColumnReferences())
+            .append('\n');
+      }
+      for (final Index index : table.getIndexes()) {
+        buffer
+            .append("  index ")
+            .append(index.getName())
+            .append(' ')
+            .append(index.isUnique())
+            .append(' ')
+            .append(index.getIndexType())
+            .append(' ')
+            .append(index.getCardinality());
+        for (final IndexColumn indexColumn : index) {
+          buffer
+              .append(' ')
+              .append(indexColumn.getName())
+              .append(' ')
+              .append(indexColumn.getIndexOrdinalPosition())
+              .append(' ')
+              .append(indexColumn.getSortSequence());
+        }
+        buffer.append('\n');
+      }
+      for (final Trigger trigger : table.getTriggers()) {
+        buffer
+            .append("  trigger ")
+            .append(trigger.getName())
+            .append(' ')
+            .append(trigger.getEventManipulationType())
+            .append(' ')
+            .append(trigger.getConditionTiming())
+            .append(' ')
+            .append(trigger.getActionStatement())
+            .append('\n');
+      }
+      buffer.append("  privileges ").append(table.getPrivileges()).append('\n');
+      buffer.append("  weak associations ").append(table.getWeakAssociations()).append('\n');
+    }
+    for (final Routine routine : catalog.getRoutines()) {
+      buffer
+          .append("routine ")
+          .append(routine.getFullName())
+          .append(' ')
+          .append(routine.getSpecificName())
+          .append(' ')
+          .append(routine.getRoutineType())
+          .append(' ')
+          .append(routine.getReturnType())
+          .append(' ')
+          .append(routine.getRoutineBodyType())
+          .append(' ')
+          .append(routine.getDefinition())
+          .append('\n');
+      for (final RoutineParameter<? extends Routine> parameter : routine.getParameters()) {
+        buffer
+            .append("  parameter ")
+            .append(parameter.getName())
+            .append(' ')
+            .append(parameter.getOrdinalPosition())
+            .append(' ')
+            .append(parameter.getParameterMode())
+            .append(' ')
+            .append(parameter.getColumnDataType().getFullName())
+            .append('\n');
+      }
+    }
+    for (final Sequence sequence : catalog.getSequences()) {
+      buffer
+          .append("sequence ")
+          .append(sequence.getFullName())
+          .append(' ')
+          .append(sequence.getIncrement())
+          .append(' ')
+          .append(sequence.getMinimumValue())
+          .append(' ')
+          .append(sequence.getMaximumValue())
+          .append(' ')
+          .append(sequence.isCycle())
+          .append('\n');
+    }
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      buffer
+          .append("synonym ")
+          .append(synonym.getFullName())
+          .append(' ')
+          .append(synonym.getReferencedObject().getFullName())
+          .append('\n');
+    }
+    return buffer.toString();
+  }
+}
@@ -34,6 +34,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_per_schema;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
@@ -45,7 +46,7 @@ import java.sql.Connection;
 import java.util.Arrays;
 import java.util.Collection;
 
-import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -130,7 +131,25 @@ public class IndexRetrieverTest {
     verifyRetrieveIndexes(catalog);
   }
 
-  @BeforeAll
+  @Test
+  @DisplayName("Retrieve indexes from metadata, one schema at a time")
+  public void indexesFromMetadataPerSchema(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(indexesRetrievalStrategy, metadata_per_schema)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connection, schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
+    indexRetriever.retrieveIndexes(catalog.getAllTables());
+
+    verifyRetrieveIndexes(catalog);
+  }
+
+  @BeforeEach
   public void loadBaseCatalog(final Connection connection) throws SchemaCrawlerException {
     final LimitOptionsBuilder limitOptionsBuilder =
         LimitOptionsBuilder.builder()
@@ -0,0 +1,85 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schemacrawler.SchemaReference;
+
+public class LookupKeyTest {
+
+  @Test
+  public void equalsAndHashCode() {
+    final LookupKey key = new LookupKey("CATALOG", "PUBLIC", "TABLE");
+    final LookupKey keyFromList = new LookupKey(Arrays.asList("CATALOG", "PUBLIC", "TABLE"));
+    final LookupKey extendedKey = new LookupKey("CATALOG", "PUBLIC").with("TABLE");
+
+    assertThat(key, is(equalTo(keyFromList)));
+    assertThat(key, is(equalTo(extendedKey)));
+    assertThat(key.hashCode(), is(extendedKey.hashCode()));
+    assertThat(key.hashCode(), is(Arrays.asList("CATALOG", "PUBLIC", "TABLE").hashCode()));
+    assertThat(key, is(not(equalTo(new LookupKey("CATALOG", "PUBLIC")))));
+    assertThat(key.size(), is(3));
+    assertThat(key.get(2), is("TABLE"));
+
+    final LookupKey keyWithNull = new LookupKey(null, "PUBLIC");
+    assertThat(keyWithNull, is(equalTo(new LookupKey(Arrays.asList(null, "PUBLIC")))));
+    assertThat(keyWithNull.hashCode(), is(Arrays.asList(null, "PUBLIC").hashCode()));
+  }
+
+  @Test
+  public void namedObjectKeys() {
+    final MutableTable table = new MutableTable(new SchemaReference("CATALOG", "PUBLIC"), "TABLE");
+    final MutableColumn column = new MutableColumn(table, "COLUMN");
+
+    assertThat(LookupKey.lookupKey(table), is(new LookupKey("CATALOG", "PUBLIC", "TABLE")));
+    assertThat(LookupKey.lookupKey(table), is(sameInstance(LookupKey.lookupKey(table))));
+    assertThat(
+        LookupKey.lookupKey(column), is(new LookupKey("CATALOG", "PUBLIC", "TABLE", "COLUMN")));
+    assertThat(column.toUniqueLookupKey(), contains("CATALOG", "PUBLIC", "TABLE", "COLUMN"));
+  }
+
+  @Test
+  public void specificNameChanges() {
+    final MutableForeignKey foreignKey = new MutableForeignKey("FK");
+    foreignKey.setSpecificName("FK_1");
+    assertThat(LookupKey.lookupKey(foreignKey), is(new LookupKey("FK", "FK_1")));
+
+    foreignKey.setSpecificName("FK_2");
+    assertThat(LookupKey.lookupKey(foreignKey), is(new LookupKey("FK", "FK_2")));
+  }
+}
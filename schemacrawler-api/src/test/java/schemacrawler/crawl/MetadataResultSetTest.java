@@ -31,9 +31,13 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
 import java.math.BigInteger;
@@ -44,6 +48,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.DayOfWeek;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -64,6 +69,63 @@ import us.fatehi.utility.DatabaseUtility;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class MetadataResultSetTest {
 
+  @Test
+  @DisplayName("Grow fetch size as rows are read from results")
+  public void adaptiveFetchSize(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+      final ResultSet resultSet =
+          spy(
+              DatabaseUtility.executeSql(
+                  statement, "SELECT X FROM UNNEST(SEQUENCE_ARRAY(1, 200, 1)) AS T(X)"));
+      try (final MetadataResultSet results = new MetadataResultSet(resultSet)) {
+        results.setFetchSize(16, true);
+        int rowCount = 0;
+        while (results.next()) {
+          rowCount = rowCount + 1;
+        }
+        assertThat(rowCount, is(200));
+      }
+
+      // Rows are fetched 16, 32, 64 and 128 at a time
+      for (final int fetchSize : new int[] {16, 32, 64, 128, 256}) {
+        verify(resultSet).setFetchSize(fetchSize);
+      }
+      verify(resultSet, never()).setFetchSize(512);
+    }
+  }
+
+  @Test
+  @DisplayName("Retrieve unread columns as attributes")
+  public void attributes(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+      final String sql =
+          "SELECT X AS COLUMN1, 'A' AS COLUMN2, 'B' AS COLUMN3 "
+              + "FROM UNNEST(SEQUENCE_ARRAY(1, 2, 1)) AS T(X)";
+      try (final MetadataResultSet results =
+          new MetadataResultSet(DatabaseUtility.executeSql(statement, sql))) {
+
+        assertThat(results.next(), is(true));
+        assertThat(results.getInt("column1", 0), is(1));
+        assertThat(results.getString("COLUMN2"), is("A"));
+        assertThat(results.getAttributes(), is(Collections.singletonMap("COLUMN3", "B")));
+        assertThat(results.getString("COLUMN3"), is("B"));
+        assertThat(results.getAttributes().isEmpty(), is(true));
+
+        // Columns are unread again on the next row
+        assertThat(results.next(), is(true));
+        assertThat(results.getInt("COLUMN1", 0), is(2));
+        assertThat(results.getString("NOT_A_COLUMN"), is(nullValue()));
+        assertThat(results.getAttributes(), hasEntry("COLUMN2", "A"));
+        assertThat(results.getAttributes(), hasEntry("COLUMN3", "B"));
+        assertThat(results.getAttributes().size(), is(2));
+
+        assertThat(results.next(), is(false));
+      }
+    }
+  }
+
   @Test
   @DisplayName("Retrieve bad values from results")
   public void badValues(final Connection connection) throws Exception {
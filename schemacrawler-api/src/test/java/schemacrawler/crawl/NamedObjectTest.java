@@ -28,13 +28,21 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import schemacrawler.schema.Column;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
 
 public class NamedObjectTest {
 
@@ -61,4 +69,67 @@ public class NamedObjectTest {
     }
     assertThat(tables.size(), is(schemaNames.length * tableNames.length));
   }
+
+  @Test
+  public void sortedValues() {
+    final MutableTable table = new MutableTable(new SchemaReference("CATALOG", "PUBLIC"), "T");
+    final MutableColumn columnA = new MutableColumn(table, "A");
+    columnA.setOrdinalPosition(2);
+    final MutableColumn columnB = new MutableColumn(table, "B");
+    columnB.setOrdinalPosition(1);
+
+    final NamedObjectList<Column> columns = new NamedObjectList<>();
+    columns.add(columnA);
+    columns.add(columnB);
+
+    final List<Column> values = columns.values();
+    assertThat(values, contains(columnB, columnA));
+    assertThat(columns.values(), is(sameInstance(values)));
+    assertThrows(UnsupportedOperationException.class, () -> values.remove(0));
+
+    // Sort keys can change after objects are added
+    columnA.setOrdinalPosition(0);
+    assertThat(columns.values(), contains(columnA, columnB));
+    assertThat(values, contains(columnB, columnA));
+
+    final MutableColumn columnC = new MutableColumn(table, "C");
+    columnC.setOrdinalPosition(3);
+    columns.add(columnC);
+    assertThat(columns.values(), is(not(sameInstance(values))));
+    assertThat(columns.values(), contains(columnA, columnB, columnC));
+
+    columns.remove(columnB);
+    assertThat(columns.values(), contains(columnA, columnC));
+
+    columns.filter(column -> !column.getName().equals("A"));
+    assertThat(columns.values(), contains(columnC));
+  }
+
+  @Test
+  public void sortIndexChanges() {
+    final SchemaReference schema = new SchemaReference("CATALOG", "PUBLIC");
+    final MutableTable table1 = new MutableTable(schema, "T1");
+    final MutableTable table2 = new MutableTable(schema, "T2");
+
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    tables.add(table1);
+    tables.add(table2);
+    assertThat(tables.values(), contains(table1, table2));
+
+    table1.setSortIndex(2);
+    table2.setSortIndex(1);
+    assertThat(tables.values(), contains(table2, table1));
+  }
+
+  @Test
+  public void readOnlyViews() {
+    final MutableTable table = new MutableTable(new SchemaReference("CATALOG", "PUBLIC"), "T");
+    final MutableColumn column = new MutableColumn(table, "A");
+    table.addColumn(column);
+
+    final List<Column> columns = table.getColumns();
+    assertThat(columns, contains(column));
+    assertThrows(UnsupportedOperationException.class, () -> columns.remove(0));
+    assertThrows(UnsupportedOperationException.class, () -> table.getIndexes().clear());
+  }
 }
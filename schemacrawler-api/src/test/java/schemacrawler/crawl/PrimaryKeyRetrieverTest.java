@@ -35,6 +35,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_per_schema;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
@@ -46,7 +47,7 @@ import java.sql.Connection;
 import java.util.Arrays;
 import java.util.Collection;
 
-import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -105,7 +106,7 @@ public class PrimaryKeyRetrieverTest {
 
   private MutableCatalog catalog;
 
-  @BeforeAll
+  @BeforeEach
   public void loadBaseCatalog(final Connection connection) throws SchemaCrawlerException {
     final LoadOptionsBuilder loadOptionsBuilder =
         LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
@@ -128,6 +129,41 @@ public class PrimaryKeyRetrieverTest {
     }
   }
 
+  @Test
+  @DisplayName("Retrieve primary keys from metadata, one schema at a time")
+  public void primaryKeysFromMetadataPerSchema(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(primaryKeysRetrievalStrategy, metadata_per_schema)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connection, schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final PrimaryKeyRetriever primaryKeyRetriever =
+        new PrimaryKeyRetriever(retrieverConnection, catalog, options);
+    primaryKeyRetriever.retrievePrimaryKeys(catalog.getAllTables());
+
+    final Collection<Table> tables = catalog.getTables();
+    assertThat(tables, hasSize(19));
+    for (final Table table : tables) {
+      if (!Arrays.asList(
+              "Global Counts",
+              "AUTHORSLIST",
+              "BOOKAUTHORS",
+              "PUBLICATIONWRITERS",
+              "SALES",
+              "SALESDATA")
+          .contains(table.getName())) {
+        assertThat(
+            "Did not find primary key for " + table.getFullName(),
+            table.getPrimaryKey(),
+            is(not(nullValue())));
+      }
+    }
+  }
+
   @Test
   @DisplayName("Retrieve primary keys from data dictionary")
   public void primaryKeysFromDataDictionary(final Connection connection) throws Exception {
@@ -0,0 +1,264 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.test.utility.TestUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class SchemaCrawlerIncrementalTest {
+
+  private static String describe(final Catalog catalog) {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table : catalog.getTables()) {
+      buffer.append(table.getFullName()).append(" ").append(table.getDefinition());
+      buffer.append("\n");
+      if (table instanceof View) {
+        buffer.append("  usage ").append(((View) table).getTableUsage()).append("\n");
+      }
+      for (final Column column : table.getColumns()) {
+        buffer.append("  column ").append(column.getName());
+        buffer.append(" ").append(column.getColumnDataType());
+        buffer.append(" ").append(column.isPartOfPrimaryKey());
+        buffer.append(" ").append(column.isPartOfForeignKey());
+        buffer.append(" ").append(column.getReferencedColumn()).append("\n");
+      }
+      buffer.append("  primary key ").append(table.getPrimaryKey()).append("\n");
+      for (final Index index : table.getIndexes()) {
+        buffer.append("  index ").append(index.getName()).append(index.getColumns()).append("\n");
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        buffer.append("  foreign key ").append(foreignKey).append("\n");
+      }
+      buffer.append("  weak associations ").append(table.getWeakAssociations()).append("\n");
+    }
+    return buffer.toString();
+  }
+
+  private static Catalog deserialize(final Catalog catalog) throws Exception {
+    final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+      out.writeObject(catalog);
+    }
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+      return (Catalog) in.readObject();
+    }
+  }
+
+  private static void execute(final Connection connection, final String... sqls)
+      throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      for (final String sql : sqls) {
+        statement.execute(sql);
+      }
+    }
+  }
+
+  private static SchemaCrawlerOptions maximumOptions() {
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLoadOptions(
+            LoadOptionsBuilder.builder()
+                .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                .toOptions());
+  }
+
+  @Test
+  public void incrementalCrawlPatchesChangedTables() throws Exception {
+    try (final Connection connection =
+        DriverManager.getConnection("jdbc:hsqldb:mem:incremental", "sa", "")) {
+      execute(
+          connection,
+          "CREATE TABLE PARENT (ID INTEGER PRIMARY KEY)",
+          "CREATE TABLE CHILD (ID INTEGER PRIMARY KEY, "
+              + "PARENT_ID INTEGER, FOREIGN KEY (PARENT_ID) REFERENCES PARENT (ID))",
+          "CREATE TABLE OTHER (ID INTEGER PRIMARY KEY)");
+
+      final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+      final SchemaCrawlerOptions options =
+          maximumOptions()
+              .withLimitOptions(
+                  LimitOptionsBuilder.builder()
+                      .includeSchemas(new RegularExpressionInclusionRule(".*\\.PUBLIC"))
+                      .toOptions());
+      final SchemaCrawler schemaCrawler =
+          new SchemaCrawler(connection, schemaRetrievalOptions, options);
+
+      final Catalog catalog1 = schemaCrawler.crawl(schemaCrawler.crawl());
+      assertThat(catalog1.getTables().size(), is(3));
+      final String catalog1Description = describe(catalog1);
+
+      execute(
+          connection,
+          "ALTER TABLE OTHER ADD COLUMN NAME VARCHAR(20)",
+          "CREATE TABLE NEWCHILD (ID INTEGER PRIMARY KEY, "
+              + "OTHER_ID INTEGER, FOREIGN KEY (OTHER_ID) REFERENCES OTHER (ID))");
+
+      final Catalog catalog2 = schemaCrawler.crawl(catalog1);
+      assertThat(describe(catalog2), is(describe(schemaCrawler.crawl())));
+      assertThat(catalog2.getTables().size(), is(4));
+      final Table other =
+          catalog2.lookupTable(catalog2.getSchemas().iterator().next(), "OTHER").get();
+      assertThat(other.getColumns().size(), is(2));
+      assertThat(other.getExportedForeignKeys().size(), is(1));
+
+      // The previous catalog is not modified, and the patched catalog has new crawl information
+      assertThat(catalog2, is(not(sameInstance(catalog1))));
+      assertThat(describe(catalog1), is(catalog1Description));
+      assertThat(catalog2.getCrawlInfo().getRunId(), is(not(catalog1.getCrawlInfo().getRunId())));
+      assertThat(
+          catalog2
+              .getCrawlInfo()
+              .getCrawlTimestampInstant()
+              .isBefore(catalog1.getCrawlInfo().getCrawlTimestampInstant()),
+          is(false));
+
+      execute(connection, "DROP TABLE NEWCHILD");
+
+      final Catalog catalog3 = schemaCrawler.crawl(catalog2);
+      assertThat(describe(catalog3), is(describe(schemaCrawler.crawl())));
+      assertThat(catalog3.getTables().size(), is(3));
+
+      execute(connection, "SHUTDOWN");
+    }
+  }
+
+  @Test
+  public void fullCrawlRecordsChangeSignals() throws Exception {
+    try (final Connection connection =
+        DriverManager.getConnection("jdbc:hsqldb:mem:fullcrawlsignals", "sa", "")) {
+      execute(connection, "CREATE TABLE TABLE1 (ID INTEGER PRIMARY KEY)");
+
+      // Use the number of columns as a stand-in for a last DDL time
+      final InformationSchemaViews informationSchemaViews =
+          InformationSchemaViewsBuilder.builder()
+              .fromOptions(TestUtility.newSchemaRetrievalOptions().getInformationSchemaViews())
+              .withSql(
+                  InformationSchemaKey.EXT_TABLE_CHANGES,
+                  "SELECT T.TABLE_CATALOG, T.TABLE_SCHEMA, T.TABLE_NAME, "
+                      + "CAST((SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS C "
+                      + "WHERE C.TABLE_CATALOG = T.TABLE_CATALOG "
+                      + "AND C.TABLE_SCHEMA = T.TABLE_SCHEMA "
+                      + "AND C.TABLE_NAME = T.TABLE_NAME) AS VARCHAR(20)) AS CHANGE_SIGNAL "
+                      + "FROM INFORMATION_SCHEMA.TABLES T")
+              .toOptions();
+      final SchemaRetrievalOptions schemaRetrievalOptions =
+          SchemaRetrievalOptionsBuilder.builder()
+              .withInformationSchemaViews(informationSchemaViews)
+              .toOptions();
+      final SchemaCrawlerOptions options =
+          maximumOptions()
+              .withLimitOptions(
+                  LimitOptionsBuilder.builder()
+                      .includeSchemas(new RegularExpressionInclusionRule(".*\\.PUBLIC"))
+                      .toOptions());
+      final SchemaCrawler schemaCrawler =
+          new SchemaCrawler(connection, schemaRetrievalOptions, options);
+
+      // A full crawl records change signals, so it can be patched by an incremental crawl
+      final Catalog catalog1 = schemaCrawler.crawl();
+      assertThat(((MutableCatalog) catalog1).getTableChangeSignals().size(), is(1));
+
+      execute(connection, "ALTER TABLE TABLE1 ADD COLUMN NAME VARCHAR(20)");
+
+      final Catalog catalog2 = schemaCrawler.crawl(catalog1);
+      assertThat(describe(catalog2), is(describe(schemaCrawler.crawl())));
+      assertThat(((MutableCatalog) catalog2).getTableChangeSignals().values(), contains("2"));
+      assertThat(catalog1.getTables().iterator().next().getColumns().size(), is(1));
+
+      execute(connection, "SHUTDOWN");
+    }
+  }
+
+  @Test
+  public void incrementalCrawlWithoutChanges(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(connection, schemaRetrievalOptions, maximumOptions());
+
+    final Catalog fullCatalog = schemaCrawler.crawl();
+    final String fullDescription = describe(fullCatalog);
+    assertThat(fullDescription, is(not(emptyString())));
+
+    // No change signals are recorded in a full crawl, so the first incremental crawl is complete
+    final Catalog catalog1 = schemaCrawler.crawl(fullCatalog);
+    final Map<?, ?> changeSignals = ((MutableCatalog) catalog1).getTableChangeSignals();
+    assertThat(changeSignals.isEmpty(), is(false));
+    assertThat(describe(catalog1), is(fullDescription));
+
+    final Catalog catalog2 = schemaCrawler.crawl(catalog1);
+    assertThat(catalog2, is(not(sameInstance(catalog1))));
+    assertThat(describe(catalog2), is(fullDescription));
+
+    // Change signals are not exported as catalog attributes, and are not serialized
+    assertThat(catalog2.getAttributes().isEmpty(), is(true));
+    final Catalog deserializedCatalog = deserialize(catalog2);
+    assertThat(((MutableCatalog) deserializedCatalog).getTableChangeSignals().isEmpty(), is(true));
+    final Catalog catalog3 = schemaCrawler.crawl(deserializedCatalog);
+    assertThat(catalog3, is(not(sameInstance(deserializedCatalog))));
+    assertThat(describe(catalog3), is(fullDescription));
+  }
+}
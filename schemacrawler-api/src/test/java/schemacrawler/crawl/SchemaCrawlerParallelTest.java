@@ -0,0 +1,172 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.test.utility.TestUtility;
+import us.fatehi.utility.StopWatch;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class SchemaCrawlerParallelTest {
+
+  private static String describe(final Catalog catalog) {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table : catalog.getTables()) {
+      buffer.append(table.getFullName()).append(" ").append(table.getDefinition());
+      buffer.append(" ").append(table.getAttributes()).append("\n");
+      if (table instanceof View) {
+        buffer.append("  usage ").append(((View) table).getTableUsage()).append("\n");
+      }
+      for (final Column column : table.getColumns()) {
+        buffer.append("  column ").append(column.getName());
+        buffer.append(" ").append(column.getColumnDataType());
+        buffer.append(" ").append(column.isPartOfPrimaryKey());
+        buffer.append(" ").append(column.isPartOfIndex());
+        buffer.append(" ").append(column.isPartOfUniqueIndex());
+        buffer.append(" ").append(column.getAttributes());
+        for (final Privilege<Column> privilege : column.getPrivileges()) {
+          buffer.append(" ").append(privilege.getName()).append(privilege.getGrants());
+        }
+        buffer.append("\n");
+      }
+      buffer.append("  primary key ").append(table.getPrimaryKey()).append("\n");
+      for (final Index index : table.getIndexes()) {
+        buffer.append("  index ").append(index.getName()).append(index.getColumns());
+        buffer.append(" ").append(index.getDefinition()).append("\n");
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        buffer.append("  foreign key ").append(foreignKey).append("\n");
+      }
+      for (final TableConstraint constraint : table.getTableConstraints()) {
+        buffer.append("  constraint ").append(constraint.getName());
+        buffer.append(constraint.getColumns()).append(" ").append(constraint.getDefinition());
+        buffer.append("\n");
+      }
+      for (final Trigger trigger : table.getTriggers()) {
+        buffer.append("  trigger ").append(trigger.getName());
+        buffer.append(" ").append(trigger.getActionStatement()).append("\n");
+      }
+      for (final Privilege<Table> privilege : table.getPrivileges()) {
+        buffer.append("  privilege ").append(privilege.getName());
+        buffer.append(privilege.getGrants()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  @Test
+  public void parallelCrawlMatchesSerialCrawl(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+
+    final SchemaCrawlerOptions serialOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                    .toOptions());
+    final Catalog serialCatalog =
+        new SchemaCrawler(connection, schemaRetrievalOptions, serialOptions).crawl();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            connectionCount.incrementAndGet();
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+    final SchemaCrawlerOptions parallelOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+                    .withMaxThreads(4)
+                    .toOptions());
+    final Catalog parallelCatalog =
+        new SchemaCrawler(connectionSource, schemaRetrievalOptions, parallelOptions).crawl();
+
+    final String serialDescription = describe(serialCatalog);
+    assertThat(serialDescription, is(not(emptyString())));
+    assertThat(describe(parallelCatalog), is(serialDescription));
+    assertThat(connectionCount.get() > 1, is(true));
+  }
+
+  @Test
+  public void retrieverTaskRunnerSerial(final Connection connection) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connection, schemaRetrievalOptions);
+
+    final List<String> tasks = new ArrayList<>();
+    final RetrieverTaskRunner taskRunner =
+        new RetrieverTaskRunner("test", retrieverConnection, null, schemaRetrievalOptions, 4);
+    taskRunner.add("one", (taskConnection, stopWatch) -> tasks.add("one"));
+    taskRunner.add("two", (taskConnection, stopWatch) -> tasks.add("two"));
+
+    assertThat(taskRunner.isParallel(), is(false));
+    taskRunner.run(new StopWatch("test"));
+    assertThat(tasks.toString(), is("[one, two]"));
+  }
+}
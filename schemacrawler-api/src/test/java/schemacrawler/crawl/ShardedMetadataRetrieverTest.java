@@ -0,0 +1,239 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.test.utility.TestUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ShardedMetadataRetrieverTest {
+
+  @Test
+  public void bufferedResultSet(final Connection connection) throws Exception {
+    final ResultSet results;
+    try (final Statement statement = connection.createStatement();
+        final ResultSet liveResults =
+            statement.executeQuery(
+                "SELECT ID, FIRSTNAME, NULL AS EMPTY FROM PUBLIC.BOOKS.AUTHORS ORDER BY ID")) {
+      results = BufferedResultSet.buffer(liveResults);
+    }
+
+    assertThat(results.getMetaData().getColumnCount(), is(3));
+    assertThat(results.getMetaData().getColumnLabel(2), is("FIRSTNAME"));
+
+    assertThat(results.next(), is(true));
+    assertThat(results.getInt("ID"), is(1));
+    assertThat(results.getString("id"), is("1"));
+    assertThat(results.getLong(1), is(1L));
+    assertThat(results.wasNull(), is(false));
+    assertThat(results.getString("FIRSTNAME"), is("Oren"));
+    assertThat(results.getObject("EMPTY"), is(nullValue()));
+    assertThat(results.wasNull(), is(true));
+
+    int rowCount = 1;
+    while (results.next()) {
+      rowCount++;
+    }
+    assertThat(rowCount, is(20));
+    assertThrows(SQLException.class, () -> results.getString(1));
+    assertThrows(SQLFeatureNotSupportedException.class, () -> results.previous());
+
+    results.close();
+    assertThat(results.isClosed(), is(true));
+  }
+
+  @Test
+  public void shardedMatchesSerial(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    final MutableCatalog catalog =
+        (MutableCatalog) new SchemaCrawler(connection, schemaRetrievalOptions, options).crawl();
+    final List<MutableTable> tables = catalog.getAllTables().values();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            connectionCount.incrementAndGet();
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+
+    final List<String> serialRows =
+        retrieveColumns(new RetrieverConnection(connection, schemaRetrievalOptions), tables);
+    final List<String> shardedRows =
+        retrieveColumns(
+            new RetrieverConnection(connection, schemaRetrievalOptions, connectionSource, 3),
+            tables);
+
+    assertThat(serialRows.isEmpty(), is(false));
+    assertThat(shardedRows, is(serialRows));
+    assertThat(connectionCount.get(), is(3));
+  }
+
+  @Test
+  public void shardedWorkersReuseConnections(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    final MutableCatalog catalog =
+        (MutableCatalog) new SchemaCrawler(connection, schemaRetrievalOptions, options).crawl();
+    // Repeat the tables, so that there are more shards than workers
+    final List<MutableTable> tables = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      tables.addAll(catalog.getAllTables().values());
+    }
+    assertThat(tables.size() > 4 * 50, is(true));
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        newConnectionSource(connectionInfo, connectionCount);
+
+    final List<String> serialRows =
+        retrieveColumns(new RetrieverConnection(connection, schemaRetrievalOptions), tables);
+    final List<String> shardedRows =
+        retrieveColumns(
+            new RetrieverConnection(connection, schemaRetrievalOptions, connectionSource, 2),
+            tables);
+
+    assertThat(shardedRows, is(serialRows));
+    assertThat(connectionCount.get(), is(2));
+  }
+
+  @Test
+  public void shardedFailure(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+    final MutableCatalog catalog =
+        (MutableCatalog) new SchemaCrawler(connection, schemaRetrievalOptions, options).crawl();
+    final List<MutableTable> tables = catalog.getAllTables().values();
+    final MutableTable failingTable = tables.get(tables.size() - 1);
+
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(
+            connection,
+            schemaRetrievalOptions,
+            newConnectionSource(connectionInfo, new AtomicInteger()),
+            3);
+    final ShardedMetadataRetriever retriever =
+        new ShardedMetadataRetriever(
+            "table columns", retrieverConnection, table -> "Could not retrieve " + table);
+
+    final SQLException exception =
+        assertThrows(
+            SQLException.class,
+            () ->
+                retriever.retrieve(
+                    tables,
+                    (table, results) -> {
+                      while (results.next()) {
+                        // Read all results
+                      }
+                    },
+                    (metaData, table) -> {
+                      if (table == failingTable) {
+                        throw new SQLException("Failing table");
+                      }
+                      return metaData.getColumns(null, null, table.getName(), null);
+                    }));
+    assertThat(exception.getMessage(), is("Could not retrieve " + failingTable));
+  }
+
+  private Supplier<Connection> newConnectionSource(
+      final DatabaseConnectionInfo connectionInfo, final AtomicInteger connectionCount) {
+    return () -> {
+      try {
+        connectionCount.incrementAndGet();
+        return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+      } catch (final SQLException e) {
+        throw new SchemaCrawlerRuntimeException("Could not connect", e);
+      }
+    };
+  }
+
+  private List<String> retrieveColumns(
+      final RetrieverConnection retrieverConnection, final List<MutableTable> tables)
+      throws SQLException {
+    final List<String> rows = new ArrayList<>();
+    final String threadName = Thread.currentThread().getName();
+    final ShardedMetadataRetriever retriever =
+        new ShardedMetadataRetriever(
+            "table columns", retrieverConnection, table -> "Could not retrieve " + table);
+    retriever.retrieve(
+        tables,
+        (table, results) -> {
+          // Results are always handled on the calling thread
+          assertThat(Thread.currentThread().getName(), is(threadName));
+          while (results.next()) {
+            rows.add(
+                String.format(
+                    "%s.%s %s %d",
+                    table.getName(),
+                    results.getString("COLUMN_NAME"),
+                    results.getString("TYPE_NAME"),
+                    results.getInt("ORDINAL_POSITION", 0)));
+          }
+        },
+        (metaData, table) ->
+            metaData.getColumns(
+                table.getSchema().getCatalogName(),
+                table.getSchema().getName(),
+                table.getName(),
+                null));
+    return rows;
+  }
+}
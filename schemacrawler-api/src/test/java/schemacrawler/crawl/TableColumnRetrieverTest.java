@@ -34,6 +34,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_per_schema;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
@@ -41,8 +43,10 @@ import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -172,6 +176,36 @@ public class TableColumnRetrieverTest {
     verifyRetrieveTableColumns(catalog);
   }
 
+  @Test
+  @DisplayName("Retrieve table columns from metadata, one schema at a time")
+  public void tableColumnsFromMetadataPerSchema(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final MutableCatalog perTableCatalog = loadCatalog(connection);
+    final RetrieverConnection perTableConnection =
+        new RetrieverConnection(
+            connection,
+            SchemaRetrievalOptionsBuilder.builder()
+                .with(tableColumnsRetrievalStrategy, metadata)
+                .toOptions());
+    new TableColumnRetriever(perTableConnection, perTableCatalog, options)
+        .retrieveTableColumns(perTableCatalog.getAllTables(), new IncludeAll());
+
+    final MutableCatalog perSchemaCatalog = loadCatalog(connection);
+    final RetrieverConnection perSchemaConnection =
+        new RetrieverConnection(
+            connection,
+            SchemaRetrievalOptionsBuilder.builder()
+                .with(tableColumnsRetrievalStrategy, metadata_per_schema)
+                .toOptions());
+    new TableColumnRetriever(perSchemaConnection, perSchemaCatalog, options)
+        .retrieveTableColumns(perSchemaCatalog.getAllTables(), new IncludeAll());
+
+    final List<String> perTableColumns = describeColumns(perTableCatalog);
+    assertThat(perTableColumns, hasSize(52));
+    assertThat(describeColumns(perSchemaCatalog), is(perTableColumns));
+  }
+
   @Test
   @DisplayName("Retrieve hidden table columns from data dictionary")
   public void hiddenTableColumns(final Connection connection) throws Exception {
@@ -216,6 +250,27 @@ public class TableColumnRetrieverTest {
 
   @BeforeAll
   public void loadBaseCatalog(final Connection connection) throws SchemaCrawlerException {
+    catalog = loadCatalog(connection);
+  }
+
+  private List<String> describeColumns(final Catalog catalog) {
+    final List<String> columns = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      for (final Column column : table.getColumns()) {
+        columns.add(
+            String.format(
+                "%s %s %d %b %s",
+                column.getFullName(),
+                column.getColumnDataType(),
+                column.getOrdinalPosition(),
+                column.isNullable(),
+                new TreeMap<>(column.getAttributes())));
+      }
+    }
+    return columns;
+  }
+
+  private MutableCatalog loadCatalog(final Connection connection) throws SchemaCrawlerException {
     final LimitOptionsBuilder limitOptionsBuilder =
         LimitOptionsBuilder.builder()
             .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
@@ -231,7 +286,7 @@ public class TableColumnRetrieverTest {
         SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
             .withLimitOptions(limitOptionsBuilder.toOptions())
             .withLoadOptions(loadOptionsBuilder.toOptions());
-    catalog =
+    final MutableCatalog catalog =
         (MutableCatalog)
             getCatalog(
                 connection,
@@ -245,5 +300,6 @@ public class TableColumnRetrieverTest {
       assertThat(table.getForeignKeys(), is(empty()));
       assertThat(table.getPrimaryKey(), is(nullValue()));
     }
+    return catalog;
   }
 }
@@ -0,0 +1,166 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.filter.ReducerFactory;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableRelationshipType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.FilterOptionsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+
+/**
+ * Reduces a highly connected catalog to the tables related to a few seed tables, and checks the
+ * tables that are kept against a simple expansion of related tables.
+ */
+public class TablesReducerTest {
+
+  private static final int TABLES = 1_000;
+  private static final int DEPTH = 3;
+  // Matches 20 seed tables, TABLE_0000, TABLE_0050, and so on
+  private static final String SEED_TABLES = ".*\\.TABLE_\\d\\d[05]0";
+
+  @Test
+  public void reduceToRelatedTables() {
+    final SchemaCrawlerOptions options =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeTables(new RegularExpressionInclusionRule(Pattern.compile(SEED_TABLES)))
+                    .toOptions())
+            .withFilterOptions(
+                FilterOptionsBuilder.builder()
+                    .childTableFilterDepth(DEPTH)
+                    .parentTableFilterDepth(DEPTH)
+                    .toOptions());
+
+    final Set<String> expectedTables = expectedTables(createCatalog());
+
+    final MutableCatalog catalog = createCatalog();
+    catalog.reduce(Table.class, ReducerFactory.getTableReducer(options));
+
+    final Set<String> tables = new HashSet<>();
+    for (final Table table : catalog.getTables()) {
+      tables.add(table.getFullName());
+    }
+    // More than the seed tables are kept, but not all of the tables
+    assertThat(tables.size(), is(greaterThan(20)));
+    assertThat(tables.size(), is(lessThan(TABLES)));
+    assertThat(tables, equalTo(expectedTables));
+  }
+
+  /**
+   * Creates tables that each have foreign keys to two parent tables in a hierarchy, and to one
+   * other random table.
+   */
+  private MutableCatalog createCatalog() {
+    final Random random = new Random(TABLES);
+
+    final MutableCatalog catalog = new MutableCatalog("TEST");
+    final Schema schema = catalog.addSchema("CATALOG", "TEST");
+    final ColumnDataType dataType = new MutableColumnDataType(schema, "INTEGER");
+    final List<MutableTable> tables = new ArrayList<>();
+    for (int i = 0; i < TABLES; i++) {
+      final MutableTable table = new MutableTable(schema, String.format("TABLE_%04d", i));
+      table.setTableType(new TableType("TABLE"));
+      for (final String columnName : new String[] {"ID", "PARENT_ID", "OWNER_ID", "OTHER_ID"}) {
+        final MutableColumn column = new MutableColumn(table, columnName);
+        column.setOrdinalPosition(table.getColumns().size() + 1);
+        column.setColumnDataType(dataType);
+        table.addColumn(column);
+      }
+
+      if (i > 0) {
+        addForeignKey(tables.get((i - 1) / 2), table, "PARENT_ID");
+        addForeignKey(tables.get(i / 3), table, "OWNER_ID");
+        addForeignKey(tables.get(random.nextInt(i)), table, "OTHER_ID");
+      }
+
+      catalog.addTable(table);
+      tables.add(table);
+    }
+    return catalog;
+  }
+
+  private void addForeignKey(
+      final MutableTable parentTable, final MutableTable table, final String columnName) {
+    final MutableForeignKey foreignKey =
+        new MutableForeignKey(String.format("FK_%s_%s", table.getName(), columnName));
+    foreignKey.addColumnReference(
+        1, parentTable.lookupColumn("ID").get(), table.lookupColumn(columnName).get());
+    table.addForeignKey(foreignKey);
+    parentTable.addForeignKey(foreignKey);
+  }
+
+  /** Expands related tables level by level, copying the included tables for every level. */
+  private Set<String> expectedTables(final MutableCatalog catalog) {
+    final Pattern seedTables = Pattern.compile(SEED_TABLES);
+    final Set<Table> greppedTables = new HashSet<>();
+    for (final Table table : catalog.getTables()) {
+      if (seedTables.matcher(table.getFullName()).matches()) {
+        greppedTables.add(table);
+      }
+    }
+
+    final Set<String> keepTables = new HashSet<>();
+    for (final TableRelationshipType tableRelationshipType :
+        new TableRelationshipType[] {TableRelationshipType.child, TableRelationshipType.parent}) {
+      final Set<Table> includedTables = new HashSet<>(greppedTables);
+      for (int i = 0; i < DEPTH; i++) {
+        for (final Table table : new HashSet<>(includedTables)) {
+          includedTables.addAll(table.getRelatedTables(tableRelationshipType));
+        }
+      }
+      for (final Table table : includedTables) {
+        keepTables.add(table.getFullName());
+      }
+    }
+    return keepTables;
+  }
+}
@@ -33,6 +33,7 @@ import static org.hamcrest.Matchers.is;
 
 import org.junit.jupiter.api.Test;
 
+import schemacrawler.schemacrawler.IdentifierQuotingStrategy;
 import schemacrawler.schemacrawler.Identifiers;
 
 public class IdentifiersTest {
@@ -86,6 +87,21 @@ public class IdentifiersTest {
     }
   }
 
+  @Test
+  public void quotedNamesRepeated() {
+    final Identifiers quoteAll =
+        Identifiers.identifiers()
+            .withIdentifierQuotingStrategy(IdentifierQuotingStrategy.quote_all)
+            .build();
+    // Quoted names are remembered, so check that a second call gives the
+    // same result, and that results are not shared between instances
+    for (int i = 0; i < 2; i++) {
+      assertThat(identifiers.quoteName("goodname"), equalTo("goodname"));
+      assertThat(identifiers.quoteName("one name"), equalTo("\"one name\""));
+      assertThat(quoteAll.quoteName("goodname"), equalTo("\"goodname\""));
+    }
+  }
+
   @Test
   public void sqlReservedWords() {
     final String[] words =
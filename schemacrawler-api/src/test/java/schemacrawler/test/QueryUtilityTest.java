@@ -29,6 +29,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -41,6 +44,8 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -104,6 +109,117 @@ public class QueryUtilityTest {
     executeAgainstSchemaTest(testContext, cxn, query, schemaInclusionRule);
   }
 
+  @Test
+  public void executeAgainstTables(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Tables for table inclusion pattern",
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE REGEXP_MATCHES(TABLE_SCHEMA, '${schemas}') "
+                + "AND REGEXP_MATCHES(TABLE_CATALOG || '.' || TABLE_SCHEMA || '.' || TABLE_NAME, '${tables}') "
+                + "ORDER BY TABLE_NAME");
+    final InclusionRule schemaInclusionRule = new RegularExpressionInclusionRule("BOOKS");
+
+    assertThat(
+        tableNames(cxn, query, schemaInclusionRule, ".*\\.(AUTHORS|BOOKS)"),
+        contains("AUTHORS", "BOOKS"));
+    assertThat(
+        tableNames(cxn, query, schemaInclusionRule, ".*\\.[AB][A-Z]{2}(?:K|HOR)S"),
+        contains("AUTHORS", "BOOKS"));
+    // Patterns with quoted names are not used in queries
+    assertThat(
+        tableNames(cxn, query, schemaInclusionRule, ".*\\.\"AUTHORS\""),
+        hasItems("AUTHORS", "BOOKS", "PUBLISHERS"));
+    // Single quotes are escaped
+    assertThat(tableNames(cxn, query, schemaInclusionRule, ".*\\.AUTHOR'S"), is(empty()));
+    assertThat(tableNames(cxn, query, schemaInclusionRule, ".*\\.AUTHOR\\'S"), is(empty()));
+    // Java-only syntax is not used in queries
+    for (final String pattern :
+        new String[] {
+          "\\QPUBLIC.BOOKS.AUTHORS\\E",
+          ".*\\.AUTHORS++",
+          ".*\\.AUTHORS*?",
+          "(?<name>.*\\.AUTHORS)",
+          ".*\\.\\wUTHORS",
+          ".*\\.[A&&[AB]]UTHORS"
+        }) {
+      assertThat(
+          pattern,
+          tableNames(cxn, query, schemaInclusionRule, pattern),
+          hasItems("AUTHORS", "BOOKS", "PUBLISHERS"));
+    }
+  }
+
+  @Test
+  public void executeAgainstTablesFallback(final Connection cxn) throws Exception {
+    // The query is only valid if there are no table names
+    final Query query =
+        new Query(
+            "Tables without table names",
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE REGEXP_MATCHES(TABLE_SCHEMA, '${schemas}') "
+                + "AND COALESCE(CAST(${tablenames} AS CHAR(1)), 'X') = 'X' "
+                + "ORDER BY TABLE_NAME");
+    final InclusionRule schemaInclusionRule = new RegularExpressionInclusionRule("BOOKS");
+
+    assertThat(
+        tableNames(
+            cxn, query, schemaInclusionRule, "PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKS"),
+        hasItems("AUTHORS", "BOOKS", "PUBLISHERS"));
+  }
+
+  @Test
+  public void executeAgainstManyTableNames(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Tables for table names",
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE REGEXP_MATCHES(TABLE_SCHEMA, '${schemas}') "
+                + "AND REGEXP_MATCHES(TABLE_CATALOG || '.' || TABLE_SCHEMA || '.' || TABLE_NAME, '${tables}') "
+                + "AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames})) "
+                + "ORDER BY TABLE_NAME");
+    final InclusionRule schemaInclusionRule = new RegularExpressionInclusionRule("BOOKS");
+
+    final List<String> alternatives = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      alternatives.add("PUBLIC\\.BOOKS\\.TABLE" + i);
+    }
+    alternatives.add("PUBLIC\\.BOOKS\\.AUTHORS");
+
+    // Too many names to list, and the pattern is too long, so all tables
+    // are returned
+    assertThat(
+        tableNames(cxn, query, schemaInclusionRule, String.join("|", alternatives)),
+        hasItems("AUTHORS", "BOOKS", "PUBLISHERS"));
+  }
+
+  @Test
+  public void executeAgainstTableNames(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Tables for table names",
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE REGEXP_MATCHES(TABLE_SCHEMA, '${schemas}') "
+                + "AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames})) "
+                + "ORDER BY TABLE_NAME");
+    final InclusionRule schemaInclusionRule = new RegularExpressionInclusionRule("BOOKS");
+
+    assertThat(
+        tableNames(
+            cxn, query, schemaInclusionRule, "PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKS"),
+        contains("AUTHORS", "BOOKS"));
+    assertThat(
+        tableNames(cxn, query, schemaInclusionRule, "(?:.*\\.AUTHORS|.*\\.PUBLISHERS)"),
+        contains("AUTHORS", "PUBLISHERS"));
+    // Patterns that are not a list of names match all tables
+    assertThat(
+        tableNames(cxn, query, schemaInclusionRule, ".*\\.AUTHOR.*"),
+        hasItems("AUTHORS", "BOOKS", "PUBLISHERS"));
+    assertThat(
+        tableNames(cxn, query, schemaInclusionRule, null),
+        hasItems("AUTHORS", "BOOKS", "PUBLISHERS"));
+  }
+
   @Test
   public void executeForScalar(final TestContext testContext, final Connection cxn)
       throws Exception {
@@ -151,4 +267,29 @@ public class QueryUtilityTest {
     assertThat(
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
+
+  private List<String> tableNames(
+      final Connection cxn,
+      final Query query,
+      final InclusionRule schemaInclusionRule,
+      final String tableInclusionPattern)
+      throws SQLException {
+    final InclusionRule tableInclusionRule;
+    if (tableInclusionPattern == null) {
+      tableInclusionRule = null;
+    } else {
+      tableInclusionRule = new RegularExpressionInclusionRule(tableInclusionPattern);
+    }
+
+    final List<String> tableNames = new ArrayList<>();
+    try (final Statement statement = cxn.createStatement();
+        final ResultSet resultSet =
+            QueryUtility.executeAgainstSchema(
+                query, statement, schemaInclusionRule, tableInclusionRule)) {
+      while (resultSet.next()) {
+        tableNames.add(resultSet.getString("TABLE_NAME"));
+      }
+    }
+    return tableNames;
+  }
 }
@@ -0,0 +1,61 @@
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+
+public class SchemaRetrievalOptionsBuilderTest {
+
+  @Test
+  public void fetchSize() {
+
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder =
+        SchemaRetrievalOptionsBuilder.builder();
+    SchemaRetrievalOptions schemaRetrievalOptions;
+    SchemaRetrievalOptions schemaRetrievalOptionsPlayback;
+
+    // 1. Test defaults
+    schemaRetrievalOptions = schemaRetrievalOptionsBuilder.toOptions();
+    assertThat(schemaRetrievalOptions.getFetchSize(TABLE_COLUMNS), is(20));
+    assertThat(schemaRetrievalOptions.getFetchSize(tableColumnsRetrievalStrategy), is(20));
+    assertThat(schemaRetrievalOptions.isAdaptiveFetchSize(), is(false));
+
+    // 2. Test overrides, which fall back to the default fetch size
+    schemaRetrievalOptionsBuilder
+        .withFetchSize(100)
+        .withFetchSize(TABLE_COLUMNS, 500)
+        .withFetchSize(tableColumnsRetrievalStrategy, 200)
+        .withAdaptiveFetchSize();
+    schemaRetrievalOptions = schemaRetrievalOptionsBuilder.toOptions();
+    assertThat(schemaRetrievalOptions.getFetchSize(TABLE_COLUMNS), is(500));
+    assertThat(schemaRetrievalOptions.getFetchSize(TABLES), is(100));
+    assertThat(schemaRetrievalOptions.getFetchSize(tableColumnsRetrievalStrategy), is(200));
+    assertThat(schemaRetrievalOptions.getFetchSize(tablesRetrievalStrategy), is(100));
+    assertThat(schemaRetrievalOptions.isAdaptiveFetchSize(), is(true));
+    schemaRetrievalOptionsPlayback =
+        SchemaRetrievalOptionsBuilder.builder().fromOptions(schemaRetrievalOptions).toOptions();
+    assertThat(schemaRetrievalOptionsPlayback.getFetchSize(TABLE_COLUMNS), is(500));
+    assertThat(schemaRetrievalOptionsPlayback.getFetchSize(TABLES), is(100));
+    assertThat(schemaRetrievalOptionsPlayback.getFetchSize(tableColumnsRetrievalStrategy), is(200));
+    assertThat(schemaRetrievalOptionsPlayback.isAdaptiveFetchSize(), is(true));
+
+    // 3. Test fetch sizes that are not positive, which are ignored
+    schemaRetrievalOptionsBuilder
+        .withFetchSize(0)
+        .withFetchSize(TABLES, -1)
+        .withFetchSize(tablesRetrievalStrategy, 0)
+        .withoutAdaptiveFetchSize();
+    schemaRetrievalOptions = schemaRetrievalOptionsBuilder.toOptions();
+    assertThat(schemaRetrievalOptions.getFetchSize(TABLES), is(100));
+    assertThat(schemaRetrievalOptions.getFetchSize(tablesRetrievalStrategy), is(100));
+    assertThat(schemaRetrievalOptions.isAdaptiveFetchSize(), is(false));
+  }
+}
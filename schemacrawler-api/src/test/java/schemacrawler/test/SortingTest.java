@@ -33,6 +33,7 @@ import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static us.fatehi.utility.Utility.convertForComparison;
 
 import java.sql.Connection;
 import java.util.Arrays;
@@ -55,6 +56,25 @@ import schemacrawler.utility.NamedObjectSort;
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
 public class SortingTest {
 
+  @Test
+  public void alphabeticalSortIgnoresCaseAndQuotes() {
+    final String[] names = {
+      "ab", "AB", "\"ab\"", "a_b", "a.b", "a b", "abc", "ab1", "A", "", "\"\"", "b", "_", "Ä"
+    };
+    for (final String name1 : names) {
+      for (final String name2 : names) {
+        final Schema schema1 = new SchemaReference(null, name1);
+        final Schema schema2 = new SchemaReference(null, name2);
+        final int expected =
+            Integer.signum(
+                convertForComparison(schema1.getFullName())
+                    .compareTo(convertForComparison(schema2.getFullName())));
+        final int actual = Integer.signum(NamedObjectSort.alphabetical.compare(schema1, schema2));
+        assertThat(name1 + " <=> " + name2, actual, equalTo(expected));
+      }
+    }
+  }
+
   @Test
   public void columnSort(final Connection connection) throws Exception {
 
@@ -0,0 +1,141 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.getRowCount;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.getRowCountMessage;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.analysis.counts.TableRowCountsUtility.isRowCountEstimated;
+import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_TABLE_ROW_COUNTS;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.analysis.counts.TableRowCountsRetriever;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class TableRowCountsRetrieverTest {
+
+  private static Map<String, Long> rowCounts(final Catalog catalog) {
+    final Map<String, Long> rowCounts = new HashMap<>();
+    for (final Table table : catalog.getTables()) {
+      assertThat(hasRowCount(table), is(true));
+      rowCounts.put(table.getFullName(), getRowCount(table));
+    }
+    return rowCounts;
+  }
+
+  @Test
+  public void estimatedRowCounts(final Connection connection) throws Exception {
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                EXT_TABLE_ROW_COUNTS,
+                "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                    + "CASE WHEN TABLE_NAME = 'AUTHORS' THEN 1000 END AS ROW_COUNT "
+                    + "FROM INFORMATION_SCHEMA.TABLES")
+            .toOptions();
+    final LoadOptions loadOptions =
+        LoadOptionsBuilder.builder().estimateRowCounts(true).toOptions();
+
+    final TableRowCountsRetriever rowCountsRetriever =
+        new TableRowCountsRetriever(connection, null, catalog, informationSchemaViews, loadOptions);
+    rowCountsRetriever.retrieveTableRowCounts();
+
+    final Table authors =
+        catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "AUTHORS").get();
+    assertThat(isRowCountEstimated(authors), is(true));
+    assertThat(getRowCount(authors), is(1000L));
+    assertThat(getRowCountMessage(authors), is("~1,000 rows"));
+
+    final Table books =
+        catalog.lookupTable(catalog.lookupSchema("PUBLIC.BOOKS").get(), "BOOKS").get();
+    assertThat(isRowCountEstimated(books), is(false));
+    assertThat(getRowCount(books), greaterThan(0L));
+    assertThat(getRowCountMessage(books).startsWith("~"), is(false));
+  }
+
+  @Test
+  public void parallelRowCountsMatchSerialRowCounts(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final Catalog serialCatalog =
+        getCatalog(connection, schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    new TableRowCountsRetriever(connection, serialCatalog).retrieveTableRowCounts();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSource =
+        () -> {
+          try {
+            connectionCount.incrementAndGet();
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+    final LoadOptions loadOptions =
+        LoadOptionsBuilder.builder().withMaxThreads(4).withRowCountsQueryTimeout(30).toOptions();
+
+    final Catalog parallelCatalog =
+        getCatalog(connection, schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    new TableRowCountsRetriever(
+            connection,
+            connectionSource,
+            parallelCatalog,
+            InformationSchemaViewsBuilder.newInformationSchemaViews(),
+            loadOptions)
+        .retrieveTableRowCounts();
+
+    assertThat(connectionCount.get(), is(4));
+    assertThat(rowCounts(parallelCatalog), is(rowCounts(serialCatalog)));
+  }
+}
@@ -38,6 +38,7 @@ import picocli.CommandLine.ArgGroup;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Model;
+import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 import picocli.CommandLine.Spec;
 import schemacrawler.SchemaCrawlerLogger;
@@ -52,6 +53,7 @@ import schemacrawler.tools.commandline.utility.SchemaCrawlerOptionsConfig;
 import schemacrawler.tools.commandline.utility.SchemaRetrievalOptionsConfig;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionOptions;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionSource;
+import schemacrawler.tools.databaseconnector.PooledConnectionSource;
 import schemacrawler.tools.databaseconnector.DatabaseConnector;
 import schemacrawler.tools.databaseconnector.UserCredentials;
 import schemacrawler.tools.options.Config;
@@ -82,6 +84,15 @@ public class ConnectCommand extends BaseStateHolder implements Runnable {
   @Spec private Model.CommandSpec spec;
   @Mixin private UserCredentialsOptions userCredentialsOptions;
 
+  @Option(
+      names = {"--validation-query"},
+      description = {
+        "SQL query to check that a pooled database connection is still usable, "
+            + "before it is reused",
+        "Optional, defaults to the JDBC driver's connection validity check\n"
+      })
+  private String validationQuery;
+
   public ConnectCommand(final ShellState state) {
     super(state);
   }
@@ -143,7 +154,9 @@ public class ConnectCommand extends BaseStateHolder implements Runnable {
         databaseConnector.newDatabaseConnectionSource(connectionOptions);
     databaseConnectionSource.setUserCredentials(userCredentials);
 
-    state.setDataSource(databaseConnectionSource);
+    // Pool connections, so that commands in a shell session, and parallel
+    // metadata retrieval, reuse connections
+    state.setDataSource(new PooledConnectionSource(databaseConnectionSource, validationQuery));
   }
 
   private UserCredentials getUserCredentials() {
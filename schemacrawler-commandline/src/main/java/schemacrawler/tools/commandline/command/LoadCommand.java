@@ -31,6 +31,7 @@ package schemacrawler.tools.commandline.command;
 import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import picocli.CommandLine.Command;
@@ -48,6 +49,7 @@ import schemacrawler.tools.catalogloader.CatalogLoader;
 import schemacrawler.tools.catalogloader.CatalogLoaderRegistry;
 import schemacrawler.tools.commandline.state.BaseStateHolder;
 import schemacrawler.tools.commandline.state.ShellState;
+import schemacrawler.tools.databaseconnector.PooledConnectionSource;
 import us.fatehi.utility.string.StringFormat;
 
 @Command(
@@ -83,6 +85,33 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
       })
   private boolean isLoadRowCounts;
 
+  @Option(
+      names = {"--estimate-row-counts"},
+      description = {
+        "Estimates row counts from database statistics, where available, "
+            + "when row counts are loaded",
+        "Tables without statistics are counted",
+        "Optional, defaults to false\n"
+      })
+  private boolean isEstimateRowCounts;
+
+  @Option(
+      names = {"--row-counts-timeout"},
+      description = {
+        "Timeout in seconds for counting the rows in each table",
+        "Optional, defaults to no timeout\n"
+      })
+  private Integer rowCountsTimeout;
+
+  @Option(
+      names = {"--max-threads"},
+      description = {
+        "Number of threads, each with its own database connection, "
+            + "to use to load database metadata",
+        "Optional, defaults to 1\n"
+      })
+  private Integer maxThreads;
+
   @Spec private Model.CommandSpec spec;
 
   public LoadCommand(final ShellState state) {
@@ -93,6 +122,24 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
     return infolevel;
   }
 
+  public int getMaxThreads() {
+    if (maxThreads == null) {
+      return 1;
+    }
+    return maxThreads;
+  }
+
+  public int getRowCountsTimeout() {
+    if (rowCountsTimeout == null) {
+      return 0;
+    }
+    return rowCountsTimeout;
+  }
+
+  public boolean isEstimateRowCounts() {
+    return isEstimateRowCounts;
+  }
+
   public boolean isLoadRowCounts() {
     return isLoadRowCounts;
   }
@@ -113,6 +160,19 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
     }
 
     loadOptionsBuilder.loadRowCounts(isLoadRowCounts);
+    loadOptionsBuilder.estimateRowCounts(isEstimateRowCounts);
+    if (rowCountsTimeout != null) {
+      loadOptionsBuilder.withRowCountsQueryTimeout(rowCountsTimeout);
+    }
+    if (maxThreads != null) {
+      loadOptionsBuilder.withMaxThreads(maxThreads);
+      // The load holds a connection, and the crawl can use another one,
+      // besides a connection for each thread
+      final Supplier<Connection> dataSource = state.getDataSource();
+      if (dataSource instanceof PooledConnectionSource) {
+        ((PooledConnectionSource) dataSource).ensureMaxPoolSize(maxThreads + 2);
+      }
+    }
 
     state.withLoadOptions(loadOptionsBuilder.toOptions());
 
@@ -135,6 +195,7 @@ public class LoadCommand extends BaseStateHolder implements Runnable {
       LOGGER.log(Level.CONFIG, new StringFormat("Catalog loader: %s", getClass().getName()));
 
       catalogLoader.setConnection(connection);
+      catalogLoader.setDataSource(state.getDataSource());
       catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
       catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
 
@@ -29,7 +29,6 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.commandline.state;
 
 import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -70,12 +69,15 @@ public class ShellState {
     if (dataSource == null) {
       return;
     }
-    try (final Connection connection = dataSource.get(); ) {
-      LOGGER.log(Level.INFO, new StringFormat("Closing connection <%s>", connection));
-      dataSource = null;
-    } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, "Cannot close connection");
+    if (dataSource instanceof AutoCloseable) {
+      try {
+        LOGGER.log(Level.INFO, new StringFormat("Closing connections <%s>", dataSource));
+        ((AutoCloseable) dataSource).close();
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, "Cannot close connections", e);
+      }
     }
+    dataSource = null;
   }
 
   public Catalog getCatalog() {
@@ -71,6 +71,41 @@ public final class SchemaRetrievalOptionsConfig {
     return builder;
   }
 
+  private static void fetchSizesFromConfig(
+      final SchemaRetrievalOptionsBuilder builder, final Config configProperties) {
+    final String fetchSizeConfigKey = "schemacrawler.schema.retrieval.fetchsize";
+    if (configProperties.containsKey(fetchSizeConfigKey)) {
+      builder.withFetchSize(configProperties.getIntegerValue(fetchSizeConfigKey, 0));
+    }
+
+    for (final SchemaInfoMetadataRetrievalStrategy metadataRetrievalStrategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      final String configKey = fetchSizeConfigKey + "." + metadataRetrievalStrategy.getKey();
+      if (configProperties.containsKey(configKey)) {
+        builder.withFetchSize(
+            metadataRetrievalStrategy, configProperties.getIntegerValue(configKey, 0));
+      }
+    }
+
+    for (final InformationSchemaKey informationSchemaKey : InformationSchemaKey.values()) {
+      final String configKey =
+          String.format(
+              "select.%s.%s.fetchsize", informationSchemaKey.getType(), informationSchemaKey);
+      if (configProperties.containsKey(configKey)) {
+        builder.withFetchSize(informationSchemaKey, configProperties.getIntegerValue(configKey, 0));
+      }
+    }
+
+    final String adaptiveFetchSizeConfigKey = fetchSizeConfigKey + ".adaptive";
+    if (configProperties.containsKey(adaptiveFetchSizeConfigKey)) {
+      if (configProperties.getBooleanValue(adaptiveFetchSizeConfigKey)) {
+        builder.withAdaptiveFetchSize();
+      } else {
+        builder.withoutAdaptiveFetchSize();
+      }
+    }
+  }
+
   public static SchemaRetrievalOptionsBuilder fromConfig(
       final SchemaRetrievalOptionsBuilder providedBuilder, final Config config) {
     final SchemaRetrievalOptionsBuilder builder;
@@ -102,6 +137,8 @@ public final class SchemaRetrievalOptionsConfig {
       builder.with(metadataRetrievalStrategy, configValue);
     }
 
+    fetchSizesFromConfig(builder, configProperties);
+
     return builder;
   }
 }
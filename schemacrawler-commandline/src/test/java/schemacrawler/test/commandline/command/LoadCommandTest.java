@@ -91,6 +91,64 @@ public class LoadCommandTest {
     assertThat(optionsParser.isLoadRowCounts(), is(true));
   }
 
+  @Test
+  public void estimateRowCounts() {
+    final String[] args = {
+      "--info-level",
+      "standard",
+      "--load-row-counts",
+      "--estimate-row-counts",
+      "--row-counts-timeout",
+      "30"
+    };
+
+    final ShellState state = new ShellState();
+    final LoadCommand optionsParser = new LoadCommand(state);
+    final CommandLine commandLine = newCommandLine(optionsParser, null);
+    commandLine.parseArgs(args);
+
+    assertThat(optionsParser.isLoadRowCounts(), is(true));
+    assertThat(optionsParser.isEstimateRowCounts(), is(true));
+    assertThat(optionsParser.getRowCountsTimeout(), is(30));
+  }
+
+  @Test
+  public void estimateRowCountsDefault() {
+    final String[] args = {"--info-level", "standard", "--load-row-counts"};
+
+    final ShellState state = new ShellState();
+    final LoadCommand optionsParser = new LoadCommand(state);
+    final CommandLine commandLine = newCommandLine(optionsParser, null);
+    commandLine.parseArgs(args);
+
+    assertThat(optionsParser.isEstimateRowCounts(), is(false));
+    assertThat(optionsParser.getRowCountsTimeout(), is(0));
+  }
+
+  @Test
+  public void maxThreads() {
+    final String[] args = {"--info-level", "standard", "--max-threads", "4"};
+
+    final ShellState state = new ShellState();
+    final LoadCommand optionsParser = new LoadCommand(state);
+    final CommandLine commandLine = newCommandLine(optionsParser, null);
+    commandLine.parseArgs(args);
+
+    assertThat(optionsParser.getMaxThreads(), is(4));
+  }
+
+  @Test
+  public void maxThreadsDefault() {
+    final String[] args = {"--info-level", "standard"};
+
+    final ShellState state = new ShellState();
+    final LoadCommand optionsParser = new LoadCommand(state);
+    final CommandLine commandLine = newCommandLine(optionsParser, null);
+    commandLine.parseArgs(args);
+
+    assertThat(optionsParser.getMaxThreads(), is(1));
+  }
+
   @Test
   public void noArgs() {
     final String[] args = new String[0];
@@ -9,4 +9,6 @@ FROM
   SYSCAT.TABLES
   INNER JOIN SYSCAT.TABLESPACES
     ON SYSCAT.TABLES.TBSPACEID = SYSCAT.TABLESPACES.TBSPACEID
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSCAT.TABLES.TABNAME) IN (${tablenames}))
 WITH UR
@@ -9,6 +9,8 @@ SELECT
   STRIP(SYSCAT.KEYCOLUSE.COLSEQ) AS ORDINAL_POSITION
 FROM
   SYSCAT.KEYCOLUSE  
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSCAT.KEYCOLUSE.TABNAME) IN (${tablenames}))
 UNION 
 SELECT
   NULLIF(1, 1) AS CONSTRAINT_CATALOG,
@@ -21,4 +23,6 @@ SELECT
   1 AS ORDINAL_POSITION
 FROM
   SYSCAT.COLCHECKS  
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSCAT.COLCHECKS.TABNAME) IN (${tablenames}))
 WITH UR
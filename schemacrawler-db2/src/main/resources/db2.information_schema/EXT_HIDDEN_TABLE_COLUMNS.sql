@@ -7,6 +7,7 @@ FROM
   SYSCAT.COLUMNS AS COLUMNS
 WHERE
   COLUMNS.HIDDEN = 'I'
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(COLUMNS.TABNAME) IN (${tablenames}))
 ORDER BY
   COLUMNS.TABSCHEMA,
   COLUMNS.TABNAME,
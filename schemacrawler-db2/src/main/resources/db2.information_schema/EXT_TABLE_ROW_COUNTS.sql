@@ -0,0 +1,10 @@
+SELECT
+  NULLIF(1, 1) AS TABLE_CATALOG,
+  LTRIM(RTRIM(SYSCAT.TABLES.TABSCHEMA)) AS TABLE_SCHEMA,
+  LTRIM(RTRIM(SYSCAT.TABLES.TABNAME)) AS TABLE_NAME,
+  NULLIF(SYSCAT.TABLES.CARD, -1) AS ROW_COUNT
+FROM
+  SYSCAT.TABLES
+WHERE
+  SYSCAT.TABLES.TYPE IN ('T', 'S')
+WITH UR
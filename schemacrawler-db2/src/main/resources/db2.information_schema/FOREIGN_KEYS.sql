@@ -16,4 +16,8 @@ SELECT
   FK.UNIQUE_OR_PRIMARY
 FROM
   SYSIBM.SQLFOREIGNKEYS FK
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL
+    OR FK.FKTABLE_NAME IN (${tablenames})
+    OR FK.PKTABLE_NAME IN (${tablenames}))
 WITH UR
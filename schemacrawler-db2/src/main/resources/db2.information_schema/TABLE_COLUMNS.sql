@@ -10,6 +10,8 @@ FROM
     ON T.TABSCHEMA = C.TABSCHEMA AND T.TABNAME = C.TABNAME
   INNER JOIN SYSIBM.SQLCOLUMNS IC
     ON C.TABSCHEMA = IC.TABLE_SCHEM AND C.TABNAME = IC.TABLE_NAME AND C.COLNAME = IC.COLUMN_NAME
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(C.TABNAME) IN (${tablenames}))
 ORDER BY
   TABLE_SCHEM,
   TABLE_NAME,
@@ -10,6 +10,8 @@ SELECT
   STRIP(SYSIBM.TABLE_CONSTRAINTS.INITIALLY_DEFERRED) AS INITIALLY_DEFERRED
 FROM
   SYSIBM.TABLE_CONSTRAINTS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSIBM.TABLE_CONSTRAINTS.TABLE_NAME) IN (${tablenames}))
 ORDER BY
   SYSIBM.TABLE_CONSTRAINTS.TABLE_SCHEMA,
   SYSIBM.TABLE_CONSTRAINTS.TABLE_NAME
@@ -37,6 +37,7 @@ FROM
   SYSCAT.TRIGGERS
 WHERE
   STRIP(SYSCAT.TRIGGERS.VALID) = 'Y'
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSCAT.TRIGGERS.TABNAME) IN (${tablenames}))
 ORDER BY
   SYSCAT.TRIGGERS.TRIGSCHEMA,
   SYSCAT.TRIGGERS.TRIGNAME
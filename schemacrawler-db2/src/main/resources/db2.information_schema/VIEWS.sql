@@ -13,6 +13,8 @@ SELECT
     AS IS_UPDATABLE
 FROM
   SYSCAT.VIEWS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSCAT.VIEWS.VIEWNAME) IN (${tablenames}))
 ORDER BY
   SYSCAT.VIEWS.VIEWSCHEMA,
   SYSCAT.VIEWS.VIEWNAME,
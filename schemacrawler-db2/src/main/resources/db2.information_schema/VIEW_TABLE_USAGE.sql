@@ -16,6 +16,7 @@ FROM
 WHERE
 	DTYPE = 'V'
 	AND TABSCHEMA NOT LIKE 'SYS%'
+	AND (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSCAT.TABDEP.TABNAME) IN (${tablenames}))
 ORDER BY
 	VIEW_SCHEMA,
 	VIEW_NAME,
@@ -9,4 +9,6 @@ FROM
   SYSIBM.SYSTABLES
   INNER JOIN SYSIBM.SYSTABLESPACE
     ON SYSIBM.SYSTABLES.TSNAME = SYSIBM.SYSTABLESPACE.NAME
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSIBM.SYSTABLES.NAME) IN (${tablenames}))
 WITH UR
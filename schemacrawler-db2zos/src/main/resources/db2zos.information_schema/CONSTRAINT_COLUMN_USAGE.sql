@@ -9,6 +9,8 @@ SELECT
   STRIP(SYSIBM.SYSKEYCOLUSE.COLSEQ) AS ORDINAL_POSITION
 FROM
   SYSIBM.SYSKEYCOLUSE
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSIBM.SYSKEYCOLUSE.TBNAME) IN (${tablenames}))
 UNION
 SELECT
   NULLIF(1, 1) AS CONSTRAINT_CATALOG,
@@ -21,6 +23,8 @@ SELECT
   '1' AS ORDINAL_POSITION
 FROM
   SYSIBM.SYSCHECKDEP
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSIBM.SYSCHECKDEP.TBNAME) IN (${tablenames}))
 WITH UR
 
 
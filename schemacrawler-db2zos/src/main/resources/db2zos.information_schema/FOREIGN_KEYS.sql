@@ -19,3 +19,6 @@ SYSIBM.SYSFOREIGNKEYS A,
 SYSIBM.SYSRELS B
 WHERE A.RELNAME = B.RELNAME
 AND B.REFTBCREATOR = A.CREATOR
+AND (COALESCE(${tablenames}, NULL) IS NULL
+  OR STRIP(A.TBNAME) IN (${tablenames})
+  OR STRIP(B.REFTBNAME) IN (${tablenames}))
@@ -10,6 +10,8 @@ FROM
     ON T.CREATOR = C.TBCREATOR AND T.NAME = C.TBNAME
   INNER JOIN SYSIBM.SYSCOLUMNS IC
     ON C.TBCREATOR = IC.TBCREATOR AND C.TBNAME = IC.TBNAME AND C.NAME = IC.NAME
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(C.TBNAME) IN (${tablenames}))
 ORDER BY
   TBCREATOR,
   TBNAME,
@@ -10,6 +10,8 @@ SELECT
   NULLIF(1,1) AS INITIALLY_DEFERRED
 FROM
   SYSIBM.SYSTABCONST
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSIBM.SYSTABCONST.TBNAME) IN (${tablenames}))
 ORDER BY
   SYSIBM.SYSTABCONST.TBCREATOR,
   SYSIBM.SYSTABCONST.TBNAME
@@ -35,6 +35,8 @@ SELECT
     AS CONDITION_TIMING
 FROM
   SYSIBM.SYSTRIGGERS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSIBM.SYSTRIGGERS.TBNAME) IN (${tablenames}))
 ORDER BY
   SYSIBM.SYSTRIGGERS.SCHEMA,
   SYSIBM.SYSTRIGGERS.TRIGNAME
@@ -13,6 +13,8 @@ SELECT
     AS IS_UPDATABLE
 FROM
   SYSIBM.SYSVIEWS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSIBM.SYSVIEWS.NAME) IN (${tablenames}))
 ORDER BY
   SYSIBM.SYSVIEWS.CREATOR,
   SYSIBM.SYSVIEWS.NAME,
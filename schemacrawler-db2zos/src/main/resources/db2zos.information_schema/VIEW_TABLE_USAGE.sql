@@ -16,6 +16,7 @@ FROM
 WHERE
 	DTYPE = 'V'
 	AND BCREATOR NOT LIKE 'SYS%'
+	AND (COALESCE(${tablenames}, NULL) IS NULL OR STRIP(SYSIBM.SYSVIEWDEP.DNAME) IN (${tablenames}))
 ORDER BY
 	VIEW_SCHEMA,
 	VIEW_NAME,
@@ -179,7 +179,7 @@ public final class SchemaDotFormatter extends BaseDotFormatter implements Schema
 
     printTableRemarks(table);
 
-    printTableColumns(table.getColumns());
+    printTableColumns(new ArrayList<>(table.getColumns()));
     if (isVerbose) {
       printTableColumns(new ArrayList<>(table.getHiddenColumns()));
     }
@@ -5,4 +5,6 @@ SELECT
   COMMIT_ACTION
 FROM 
   INFORMATION_SCHEMA.TABLES
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
   
\ No newline at end of file
@@ -2,3 +2,5 @@ SELECT
   *
 FROM
   INFORMATION_SCHEMA.CONSTRAINT_COLUMN_USAGE
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
@@ -2,6 +2,8 @@ SELECT
   *
 FROM
   INFORMATION_SCHEMA.TABLE_CONSTRAINTS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
 ORDER BY
   CONSTRAINT_CATALOG,
   CONSTRAINT_SCHEMA,
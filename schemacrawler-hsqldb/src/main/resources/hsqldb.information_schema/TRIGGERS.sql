@@ -2,6 +2,8 @@ SELECT
   *
 FROM
   INFORMATION_SCHEMA.TRIGGERS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR EVENT_OBJECT_TABLE IN (${tablenames}))
 ORDER BY
   TRIGGER_CATALOG,
   TRIGGER_SCHEMA,
@@ -2,6 +2,8 @@ SELECT
   *
 FROM
   INFORMATION_SCHEMA.VIEWS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
 ORDER BY
   TABLE_CATALOG,
   TABLE_SCHEMA,
@@ -7,3 +7,5 @@ SELECT
   TABLE_NAME
 FROM
   INFORMATION_SCHEMA.VIEW_TABLE_USAGE
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR VIEW_NAME IN (${tablenames}))
@@ -61,6 +61,7 @@ public abstract class BaseLinter extends Linter {
       SchemaCrawlerLogger.getLogger(BaseLinter.class.getName());
 
   private Catalog catalog;
+  private LintContext lintContext;
   private InclusionRule tableInclusionRule;
   private InclusionRule columnInclusionRule;
   private TableTypesFilter tableTypesFilter;
@@ -97,6 +98,9 @@ public abstract class BaseLinter extends Linter {
     }
 
     final List<Column> columns = new ArrayList<>(table.getColumns());
+    if (columnInclusionRule instanceof IncludeAll) {
+      return columns;
+    }
     for (final Iterator<Column> iterator = columns.iterator(); iterator.hasNext(); ) {
       final Column column = iterator.next();
       if (!includeColumn(column)) {
@@ -110,6 +114,16 @@ public abstract class BaseLinter extends Linter {
     return catalog.getCrawlInfo();
   }
 
+  /**
+   * Gets state that is shared by all linters for the current lint run, such as database
+   * identifiers. Only available while linting.
+   *
+   * @return Lint context
+   */
+  protected final LintContext getLintContext() {
+    return requireNonNull(lintContext, "Not linting");
+  }
+
   protected final TableTypesFilter getTableTypesFilter() {
     return tableTypesFilter;
   }
@@ -122,6 +136,17 @@ public abstract class BaseLinter extends Linter {
     return table != null && tableInclusionRule.test(table.getFullName());
   }
 
+  /**
+   * Whether this linter can lint different tables at the same time, on different threads. Linters
+   * that keep state across tables, or that use the database connection, are not thread-safe, and
+   * lint tables one at a time. Can be overridden.
+   *
+   * @return Whether tables can be linted concurrently
+   */
+  protected boolean isThreadSafe() {
+    return false;
+  }
+
   protected abstract void lint(Table table, Connection connection) throws SchemaCrawlerException;
 
   protected final void setTableTypesFilter(final TableTypesFilter tableTypesFilter) {
@@ -146,20 +171,36 @@ public abstract class BaseLinter extends Linter {
   @Override
   final void lint(final Catalog catalog, final Connection connection)
       throws SchemaCrawlerException {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
-
-    start(connection);
-    for (final Table table : catalog.getTables()) {
-      if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
-        lint(table, connection);
-      } else {
-        LOGGER.log(
-            Level.FINE,
-            new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+    try (final LintContext lintContext = new LintContext(connection)) {
+      startLint(catalog, lintContext);
+      for (final Table table : catalog.getTables()) {
+        lintTable(table, connection);
       }
+      endLint(connection);
     }
+  }
+
+  final void endLint(final Connection connection) throws SchemaCrawlerException {
     end(connection);
-    this.catalog = null;
+    catalog = null;
+    lintContext = null;
+  }
+
+  final void lintTable(final Table table, final Connection connection)
+      throws SchemaCrawlerException {
+    if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
+      lint(table, connection);
+    } else {
+      LOGGER.log(
+          Level.FINE, new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+    }
+  }
+
+  final void startLint(final Catalog catalog, final LintContext lintContext)
+      throws SchemaCrawlerException {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.lintContext = requireNonNull(lintContext, "No lint context provided");
+    start(lintContext.getConnection());
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule) {
@@ -32,40 +32,61 @@ import static java.util.Comparator.naturalOrder;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints from all linters. Lints can be added from more than one thread at a time. Lints
+ * are attached to the linted objects as attributes only once linting is complete, so that linters
+ * never read or modify object attributes while other linters are running on other threads, and
+ * linters do not see the results of other linters.
+ *
+ * @author Sualeh Fatehi
+ */
 public final class LintCollector {
 
   private static final String LINT_KEY = "schemacrawler.lint";
 
   private final List<Lint<? extends Serializable>> lints;
+  private final Map<AttributedObject, List<Lint<?>>> unattachedLints;
 
   public LintCollector() {
     lints = new ArrayList<>();
+    unattachedLints = new IdentityHashMap<>();
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(
       final N namedObject, final Lint<?> lint) {
     if (namedObject != null
         && lint != null
         && namedObject.getFullName().equals(lint.getObjectName())) {
       lints.add(lint);
-
-      final Collection<Lint<?>> columnLints = namedObject.getAttribute(LINT_KEY, new ArrayList<>());
-      columnLints.add(lint);
-      namedObject.setAttribute(LINT_KEY, columnLints);
+      unattachedLints.computeIfAbsent(namedObject, key -> new ArrayList<>()).add(lint);
     }
   }
 
-  public Collection<Lint<? extends Serializable>> getLints() {
+  public synchronized Collection<Lint<? extends Serializable>> getLints() {
     lints.sort(naturalOrder());
     return new ArrayList<>(lints);
   }
 
-  public int size() {
+  public synchronized int size() {
     return lints.size();
   }
+
+  /** Attaches lints collected so far to the linted objects, once linting is complete. */
+  synchronized void attachLints() {
+    for (final Map.Entry<AttributedObject, List<Lint<?>>> entry : unattachedLints.entrySet()) {
+      final AttributedObject lintedObject = entry.getKey();
+      final Collection<Lint<?>> objectLints =
+          lintedObject.getAttribute(LINT_KEY, new ArrayList<>());
+      objectLints.addAll(entry.getValue());
+      lintedObject.setAttribute(LINT_KEY, objectLints);
+    }
+    unattachedLints.clear();
+  }
 }
@@ -0,0 +1,189 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
+import static us.fatehi.utility.DatabaseUtility.createStatement;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.Query;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * State that is shared by all linters for a single lint run. Database identifiers are obtained from
+ * the connection once, rather than for every table, and a single statement is reused for all
+ * per-table queries.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class LintContext implements AutoCloseable {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(LintContext.class.getName());
+
+  private final Connection connection;
+  private final Object identifiersLock = new Object();
+  private final Object statementLock = new Object();
+  private volatile Identifiers identifiers;
+  private Statement statement;
+
+  LintContext(final Connection connection) {
+    this.connection = connection;
+  }
+
+  @Override
+  public void close() {
+    synchronized (statementLock) {
+      if (statement == null) {
+        return;
+      }
+      try {
+        statement.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not close statement", e);
+      } finally {
+        statement = null;
+      }
+    }
+  }
+
+  /**
+   * Executes a query for a table, and returns a single value as a long. The query is expanded for
+   * the table, using the shared database identifiers.
+   *
+   * @param query Query to execute, with table template parameters
+   * @param table Table to execute the query for
+   * @param queryTimeout Query timeout in seconds, or 0 for no timeout
+   * @return Long value
+   * @throws SQLException On an exception executing the query, or if the value is not a number
+   */
+  public long executeForLong(final Query query, final Table table, final int queryTimeout)
+      throws SQLException {
+    final Object longValue = executeForScalar(query, table, queryTimeout);
+    if (longValue instanceof Number) {
+      return ((Number) longValue).longValue();
+    } else {
+      throw new SQLException(
+          String.format("Cannot get a long value for query <%s>", query.getName()));
+    }
+  }
+
+  /**
+   * Executes a query for a table, and returns a single value. The query is expanded for the table,
+   * using the shared database identifiers.
+   *
+   * @param query Query to execute, with table template parameters
+   * @param table Table to execute the query for
+   * @param queryTimeout Query timeout in seconds, or 0 for no timeout
+   * @return Single value, or null if no value was returned
+   * @throws SQLException On an exception executing the query, or if more than a single value was
+   *     returned
+   */
+  public Object executeForScalar(final Query query, final Table table, final int queryTimeout)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(table, "No table provided");
+
+    final Identifiers identifiers = getIdentifiers();
+
+    // The statement is shared, so only one query can run on it at a time
+    synchronized (statementLock) {
+      if (statement == null) {
+        statement = createStatement(connection);
+      }
+      statement.setQueryTimeout(Math.max(queryTimeout, 0));
+
+      try (final ResultSet resultSet =
+          executeAgainstTable(query, statement, table, true, identifiers)) {
+        if (resultSet == null) {
+          return null;
+        }
+
+        // Error checking
+        if (resultSet.getMetaData().getColumnCount() != 1) {
+          throw new SQLException("Too many columns of data returned");
+        }
+
+        Object scalar;
+        if (resultSet.next()) {
+          scalar = resultSet.getObject(1);
+          if (resultSet.wasNull()) {
+            scalar = null;
+          }
+        } else {
+          LOGGER.log(
+              Level.WARNING,
+              new StringFormat(
+                  "No rows of data returned for query <%s>, for table <%s>",
+                  query.getName(), table));
+          scalar = null;
+        }
+
+        // Error checking
+        if (resultSet.next()) {
+          throw new SQLException("Too many rows of data returned");
+        }
+
+        return scalar;
+      }
+    }
+  }
+
+  public Connection getConnection() {
+    return connection;
+  }
+
+  /**
+   * Gets database identifiers for the connection. Identifiers are obtained from the database only
+   * once, and are safe to use from multiple threads.
+   *
+   * @return Database identifiers
+   * @throws SQLException On an exception obtaining identifiers from the database
+   */
+  public Identifiers getIdentifiers() throws SQLException {
+    if (identifiers == null) {
+      synchronized (identifiersLock) {
+        if (identifiers == null) {
+          requireNonNull(connection, "No connection provided");
+          identifiers = Identifiers.identifiers().withConnection(connection).build();
+        }
+      }
+    }
+    return identifiers;
+  }
+}
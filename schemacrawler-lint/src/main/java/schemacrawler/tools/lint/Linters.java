@@ -35,11 +35,17 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import us.fatehi.utility.string.StringFormat;
 
 public final class Linters implements Iterable<Linter> {
@@ -50,11 +56,21 @@ public final class Linters implements Iterable<Linter> {
   private final List<Linter> linters;
   private final LintCollector collector;
   private final LinterRegistry registry;
+  private final boolean lintConcurrently;
 
   public Linters(final LinterConfigs linterConfigs, final boolean runAllLinters)
       throws SchemaCrawlerException {
+    this(linterConfigs, runAllLinters, true);
+  }
+
+  Linters(
+      final LinterConfigs linterConfigs,
+      final boolean runAllLinters,
+      final boolean lintConcurrently)
+      throws SchemaCrawlerException {
     requireNonNull(linterConfigs, "No linter configs provided");
 
+    this.lintConcurrently = lintConcurrently;
     linters = new ArrayList<>();
     collector = new LintCollector();
     registry = new LinterRegistry();
@@ -168,11 +184,29 @@ public final class Linters implements Iterable<Linter> {
     return linters.iterator();
   }
 
+  /**
+   * Lints the catalog in a single pass over the tables. Each table is dispatched to all of the
+   * linters that apply to it. Tables are linted concurrently by thread-safe linters, and one at a
+   * time, in catalog order, by all other linters. Catalog-level linting is done at the end, once
+   * all tables have been linted. Lints are sorted when they are reported, so the lint report does
+   * not depend on the order in which tables were linted. Database identifiers, and the statement
+   * used for per-table queries, are shared by all linters for the run. Lints are attached to tables
+   * and columns as attributes only at the end of the run, so linters cannot read the results of
+   * other linters. If a linter fails, all other linters stop at the next table, and the first
+   * failure is thrown once they have stopped. Lints found before the failure are still attached.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Database connection
+   * @throws SchemaCrawlerException On an exception from a linter
+   */
   public void lint(final Catalog catalog, final Connection connection)
       throws SchemaCrawlerException {
-    for (final Linter linter : linters) {
-      LOGGER.log(Level.FINE, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
-      linter.lint(catalog, connection);
+    requireNonNull(catalog, "No catalog provided");
+
+    try (final LintContext lintContext = new LintContext(connection)) {
+      lint(catalog, lintContext);
+    } finally {
+      collector.attachLints();
     }
   }
 
@@ -190,6 +224,111 @@ public final class Linters implements Iterable<Linter> {
     return linters.toString();
   }
 
+  private void lint(final Catalog catalog, final LintContext lintContext)
+      throws SchemaCrawlerException {
+    final Connection connection = lintContext.getConnection();
+
+    final List<BaseLinter> tableLinters = new ArrayList<>();
+    final List<BaseLinter> concurrentTableLinters = new ArrayList<>();
+    final List<BaseLinter> serialTableLinters = new ArrayList<>();
+    for (final Linter linter : linters) {
+      LOGGER.log(Level.FINE, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+      if (linter instanceof BaseLinter) {
+        final BaseLinter tableLinter = (BaseLinter) linter;
+        tableLinter.startLint(catalog, lintContext);
+        tableLinters.add(tableLinter);
+        if (lintConcurrently && tableLinter.isThreadSafe()) {
+          concurrentTableLinters.add(tableLinter);
+        } else {
+          serialTableLinters.add(tableLinter);
+        }
+      } else {
+        linter.lint(catalog, connection);
+      }
+    }
+
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    // Holds the first failure from any linter, and stops linters running
+    // on other threads at the next table
+    final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    // Thread-safe linters lint tables on worker threads, which take the
+    // next unlinted table until there are none left
+    final List<ForkJoinTask<?>> concurrentLints = new ArrayList<>();
+    if (!concurrentTableLinters.isEmpty()) {
+      final AtomicInteger nextTable = new AtomicInteger();
+      final int workerCount = Math.min(tables.size(), ForkJoinPool.getCommonPoolParallelism());
+      for (int i = 0; i < workerCount; i++) {
+        concurrentLints.add(
+            ForkJoinPool.commonPool()
+                .submit(
+                    () -> {
+                      int tableIndex;
+                      while ((tableIndex = nextTable.getAndIncrement()) < tables.size()) {
+                        final Table table = tables.get(tableIndex);
+                        if (!lintTable(table, concurrentTableLinters, connection, failure)) {
+                          return;
+                        }
+                      }
+                    }));
+      }
+    }
+
+    for (final Table table : tables) {
+      if (!lintTable(table, serialTableLinters, connection, failure)) {
+        break;
+      }
+    }
+
+    // Always wait for all workers to stop, so that no linter is still
+    // running once lint results are attached, or the connection is closed
+    for (final ForkJoinTask<?> concurrentLint : concurrentLints) {
+      concurrentLint.quietlyJoin();
+    }
+
+    final RuntimeException lintFailure = failure.get();
+    if (lintFailure instanceof SchemaCrawlerRuntimeException) {
+      throw unwrap((SchemaCrawlerRuntimeException) lintFailure);
+    } else if (lintFailure != null) {
+      throw lintFailure;
+    }
+
+    for (final BaseLinter tableLinter : tableLinters) {
+      tableLinter.endLint(connection);
+    }
+  }
+
+  /**
+   * Lints a table with each of the given linters, unless any linter has already failed. The first
+   * failure is recorded, so that it can be reported once all linters have stopped.
+   *
+   * @return Whether linting can continue with the next table
+   */
+  private boolean lintTable(
+      final Table table,
+      final List<BaseLinter> tableLinters,
+      final Connection connection,
+      final AtomicReference<RuntimeException> failure) {
+    for (final BaseLinter tableLinter : tableLinters) {
+      if (failure.get() != null) {
+        return false;
+      }
+      try {
+        tableLinter.lintTable(table, connection);
+      } catch (final SchemaCrawlerException e) {
+        failure.compareAndSet(
+            null,
+            new SchemaCrawlerRuntimeException(
+                String.format("Could not lint table <%s>", table), e));
+        return false;
+      } catch (final RuntimeException e) {
+        failure.compareAndSet(null, e);
+        return false;
+      }
+    }
+    return failure.get() == null;
+  }
+
   private Linter newLinter(final String linterId) {
     final Linter linter = registry.newLinter(linterId);
     if (linter != null) {
@@ -199,4 +338,12 @@ public final class Linters implements Iterable<Linter> {
     }
     return linter;
   }
+
+  private SchemaCrawlerException unwrap(final SchemaCrawlerRuntimeException e) {
+    final Throwable cause = e.getCause();
+    if (cause instanceof SchemaCrawlerException) {
+      return (SchemaCrawlerException) cause;
+    }
+    return new SchemaCrawlerException(e.getMessage(), e);
+  }
 }
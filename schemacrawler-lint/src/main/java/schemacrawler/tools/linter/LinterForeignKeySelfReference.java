@@ -52,6 +52,11 @@ public class LinterForeignKeySelfReference extends BaseLinter {
     return "foreign key self-references primary key";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connections) {
     requireNonNull(table, "No table provided");
@@ -54,6 +54,11 @@ public class LinterForeignKeyWithNoIndexes extends BaseLinter {
     return "foreign key with no index";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -58,6 +58,11 @@ public class LinterRedundantIndexes extends BaseLinter {
     return "redundant index";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -28,7 +28,6 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -37,10 +36,10 @@ import java.util.logging.Level;
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.lint.LintSeverity;
+import schemacrawler.tools.options.Config;
 import us.fatehi.utility.string.StringFormat;
 
 public class LinterTableEmpty extends BaseLinter {
@@ -48,6 +47,9 @@ public class LinterTableEmpty extends BaseLinter {
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(LinterTableEmpty.class.getName());
 
+  private final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
+  private int queryTimeout;
+
   public LinterTableEmpty() {
     setSeverity(LintSeverity.low);
     setTableTypesFilter(new TableTypesFilter("TABLE"));
@@ -58,15 +60,20 @@ public class LinterTableEmpty extends BaseLinter {
     return "empty table";
   }
 
+  @Override
+  protected void configure(final Config config) {
+    requireNonNull(config, "No configuration provided");
+
+    queryTimeout = config.getIntegerValue("query-timeout", 0);
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
-      final long count = executeForLong(query, connection, table, identifiers);
+      final long count = getLintContext().executeForLong(query, table, queryTimeout);
       if (count == 0) {
         addTableLint(table, getSummary());
       }
@@ -28,7 +28,6 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
@@ -38,7 +37,6 @@ import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.tools.options.Config;
@@ -51,6 +49,8 @@ public class LinterTableSql extends BaseLinter {
 
   private String message;
   private String sql;
+  private Query query;
+  private int queryTimeout;
 
   @Override
   public String getSummary() {
@@ -71,6 +71,9 @@ public class LinterTableSql extends BaseLinter {
 
     sql = config.getStringValue("sql", "");
     requireNotBlank(sql, "No SQL provided");
+
+    query = new Query(message, sql);
+    queryTimeout = config.getIntegerValue("query-timeout", 0);
   }
 
   @Override
@@ -82,10 +85,8 @@ public class LinterTableSql extends BaseLinter {
     requireNonNull(table, "No table provided");
     requireNonNull(connection, "No connection provided");
 
-    final Query query = new Query(message, sql);
     try {
-      final Identifiers identifiers = Identifiers.identifiers().withConnection(connection).build();
-      final Object queryResult = executeForScalar(query, connection, table, identifiers);
+      final Object queryResult = getLintContext().executeForScalar(query, table, queryTimeout);
       if (queryResult != null) {
         addTableLint(table, getSummary() + " " + queryResult);
       }
@@ -54,6 +54,11 @@ public class LinterTableWithNoRemarks extends BaseLinter {
     return "should have remarks";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -49,6 +49,11 @@ public class LinterTableWithNoSurrogatePrimaryKey extends BaseLinter {
     return "primary key may not be a surrogate";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
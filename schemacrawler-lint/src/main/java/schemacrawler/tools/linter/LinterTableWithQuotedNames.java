@@ -47,6 +47,11 @@ public class LinterTableWithQuotedNames extends BaseLinter {
     return "spaces in name, or reserved word";
   }
 
+  @Override
+  protected boolean isThreadSafe() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
       throws SchemaCrawlerException {
@@ -54,7 +59,7 @@ public class LinterTableWithQuotedNames extends BaseLinter {
 
     Identifiers identifiers;
     try {
-      identifiers = Identifiers.identifiers().withConnection(connection).build();
+      identifiers = getLintContext().getIdentifiers();
     } catch (final SQLException e) {
       throw new SchemaCrawlerException(e.getMessage(), e);
     }
@@ -115,6 +115,39 @@ public class LintTest {
         hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
   }
 
+  @Test
+  public void lintsAreRepeatable(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+
+    String lintReport = null;
+    String lintSummary = null;
+    for (int i = 0; i < 10; i++) {
+      final Linters linters = new Linters(linterConfigs, true);
+      linters.lint(catalog, connection);
+
+      final StringBuilder buffer = new StringBuilder();
+      for (final Lint<?> lint : linters.getCollector().getLints()) {
+        buffer.append(lint).append(System.lineSeparator());
+      }
+      if (lintReport == null) {
+        lintReport = buffer.toString();
+        lintSummary = linters.getLintSummary();
+      } else {
+        assertThat(buffer.toString(), is(lintReport));
+        assertThat(linters.getLintSummary(), is(lintSummary));
+      }
+    }
+  }
+
   @Test
   public void lintsWithExcludedColumns(final Connection connection) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
@@ -183,9 +216,7 @@ public class LintTest {
     final LintCollector lintCollector = linters.getCollector();
 
     assertThat(
-        lintCollector
-            .getLints()
-            .stream()
+        lintCollector.getLints().stream()
             .findFirst()
             .map(Lint::getMessage)
             .orElse("No value found"),
@@ -0,0 +1,147 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.lint;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.options.Config;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class LintersTest {
+
+  @Test
+  public void concurrentLintsMatchSerialLints(final Connection connection) throws Exception {
+    final Linters concurrentLinters = lint(connection, true);
+    final Linters serialLinters = lint(connection, false);
+
+    assertThat(concurrentLinters.getCollector().size(), is(51));
+    assertThat(
+        lintsOf(concurrentLinters.getCollector()), is(lintsOf(serialLinters.getCollector())));
+    assertThat(concurrentLinters.getLintSummary(), is(serialLinters.getLintSummary()));
+  }
+
+  @Test
+  public void concurrentLinterFailure(final Connection connection) throws Exception {
+    final IllegalStateException failure = new IllegalStateException("Cannot lint");
+    final Catalog catalog = catalogWithFailingTable(connection, failure);
+
+    final Linters linters = new Linters(noRemarksLinterConfigs(), false, true);
+    final IllegalStateException e =
+        assertThrows(IllegalStateException.class, () -> linters.lint(catalog, connection));
+    assertThat(e, is(sameInstance(failure)));
+  }
+
+  @Test
+  public void serialLinterFailure(final Connection connection) throws Exception {
+    final IllegalStateException failure = new IllegalStateException("Cannot lint");
+    final Catalog catalog = catalogWithFailingTable(connection, failure);
+
+    final Linters linters = new Linters(noRemarksLinterConfigs(), false, false);
+    final IllegalStateException e =
+        assertThrows(IllegalStateException.class, () -> linters.lint(catalog, connection));
+    assertThat(e, is(sameInstance(failure)));
+
+    // Lints for tables that were linted before the failure are still attached
+    final List<Table> lintedTables =
+        catalog.getTables().stream()
+            .filter(table -> table.hasAttribute("schemacrawler.lint"))
+            .collect(Collectors.toList());
+    assertThat(lintedTables.isEmpty(), is(not(true)));
+  }
+
+  private Catalog catalogWithFailingTable(
+      final Connection connection, final RuntimeException failure) throws Exception {
+    final List<Table> tables = new ArrayList<>(lintCatalog(connection).getTables());
+    final Table failingTable = mock(Table.class);
+    when(failingTable.getFullName()).thenThrow(failure);
+    tables.add(failingTable);
+
+    final Catalog catalog = mock(Catalog.class);
+    when(catalog.getTables()).thenReturn(tables);
+    return catalog;
+  }
+
+  private Linters lint(final Connection connection, final boolean lintConcurrently)
+      throws Exception {
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    final LinterConfig linterConfig =
+        new LinterConfig("schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+    linterConfig.setThreshold(0);
+    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, true, lintConcurrently);
+    linters.lint(lintCatalog(connection), connection);
+    return linters;
+  }
+
+  private Catalog lintCatalog(final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+            .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+    return getCatalog(connection, schemaCrawlerOptions);
+  }
+
+  private List<String> lintsOf(final LintCollector collector) {
+    final Collection<Lint<?>> lints = new ArrayList<>(collector.getLints());
+    return lints.stream().map(Lint::toString).collect(Collectors.toList());
+  }
+
+  private LinterConfigs noRemarksLinterConfigs() {
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    linterConfigs.add(new LinterConfig("schemacrawler.tools.linter.LinterTableWithNoRemarks"));
+    return linterConfigs;
+  }
+}
@@ -10,3 +10,5 @@ SELECT
   GENERATION_EXPRESSION
 FROM
   INFORMATION_SCHEMA.COLUMNS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
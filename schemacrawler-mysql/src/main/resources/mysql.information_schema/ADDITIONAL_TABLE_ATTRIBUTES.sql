@@ -16,3 +16,5 @@ SELECT
   CREATE_TIME
 FROM
   INFORMATION_SCHEMA.TABLES
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
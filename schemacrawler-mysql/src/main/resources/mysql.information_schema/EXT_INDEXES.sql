@@ -8,3 +8,5 @@ SELECT DISTINCT
   INDEX_COMMENT AS REMARKS
 FROM
   INFORMATION_SCHEMA.STATISTICS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
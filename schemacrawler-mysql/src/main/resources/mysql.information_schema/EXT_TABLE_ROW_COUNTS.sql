@@ -0,0 +1,9 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CATALOG,
+  NULL AS TABLE_SCHEMA,
+  TABLE_NAME,
+  TABLE_ROWS AS ROW_COUNT
+FROM
+  INFORMATION_SCHEMA.TABLES
+WHERE
+  TABLE_TYPE = 'BASE TABLE'
@@ -26,6 +26,8 @@ SELECT
   C.GENERATION_EXPRESSION
 FROM
   INFORMATION_SCHEMA.COLUMNS C
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR C.TABLE_NAME IN (${tablenames}))
 ORDER BY
   TABLE_CAT,
   TABLE_NAME,
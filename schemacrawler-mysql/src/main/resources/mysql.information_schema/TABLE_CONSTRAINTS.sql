@@ -12,4 +12,5 @@ FROM
   INFORMATION_SCHEMA.TABLE_CONSTRAINTS
 WHERE
   CONSTRAINT_TYPE != 'PRIMARY KEY'
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
   
\ No newline at end of file
@@ -23,3 +23,5 @@ SELECT
   DATABASE_COLLATION
 FROM
   INFORMATION_SCHEMA.TRIGGERS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR EVENT_OBJECT_TABLE IN (${tablenames}))
@@ -5,6 +5,8 @@ SELECT
   VIEW_DEFINITION
 FROM
   INFORMATION_SCHEMA.VIEWS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
 ORDER BY
   TABLE_CATALOG,
   TABLE_SCHEMA,
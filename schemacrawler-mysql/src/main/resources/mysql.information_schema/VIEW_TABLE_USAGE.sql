@@ -7,6 +7,8 @@ SELECT
   TABLE_NAME
 FROM
   INFORMATION_SCHEMA.VIEW_TABLE_USAGE
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR VIEW_NAME IN (${tablenames}))
 ORDER BY
   VIEW_SCHEMA,
   VIEW_NAME,
@@ -1,17 +1,23 @@
 package schemacrawler.tools.offline;
 
+import static schemacrawler.filter.FilterFactory.schemaFilter;
+import static schemacrawler.filter.FilterFactory.tableFilter;
 import static schemacrawler.filter.ReducerFactory.getRoutineReducer;
 import static schemacrawler.filter.ReducerFactory.getSchemaReducer;
 import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
 import static schemacrawler.filter.ReducerFactory.getSynonymReducer;
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.crawl.BinaryCatalogSnapshot;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Reducible;
 import schemacrawler.schema.Routine;
@@ -19,6 +25,8 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Sequence;
 import schemacrawler.schema.Synonym;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
@@ -33,7 +41,13 @@ public final class OfflineCatalogLoader implements CatalogLoader {
       SchemaCrawlerLogger.getLogger(OfflineCatalogLoader.class.getName());
 
   private static void checkConnection(final Connection connection) {
-    if (connection == null || !(connection instanceof OfflineConnection)) {
+    boolean isOfflineConnection;
+    try {
+      isOfflineConnection = connection != null && connection.isWrapperFor(OfflineConnection.class);
+    } catch (final SQLException e) {
+      isOfflineConnection = false;
+    }
+    if (!isOfflineConnection) {
       LOGGER.log(Level.SEVERE, "Offline database connection not provided for the offline snapshot");
     }
   }
@@ -91,24 +105,51 @@ public final class OfflineCatalogLoader implements CatalogLoader {
   public Catalog loadCatalog() throws Exception {
     checkConnection(connection);
 
-    final OfflineConnection dbConnection;
-    if (connection.isWrapperFor(OfflineConnection.class)) {
-      dbConnection = connection.unwrap(OfflineConnection.class);
-    } else {
-      dbConnection = (OfflineConnection) connection;
-    }
+    final OfflineConnection dbConnection = connection.unwrap(OfflineConnection.class);
 
     final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-    final FileInputStream inputFileStream = new FileInputStream(offlineDatabasePath.toFile());
-
-    final JavaSerializedCatalog deserializedCatalog = new JavaSerializedCatalog(inputFileStream);
+    final BufferedInputStream inputFileStream =
+        new BufferedInputStream(new FileInputStream(offlineDatabasePath.toFile()));
+
+    // Detect the snapshot format from the leading bytes of the file
+    final byte[] header = new byte[8];
+    inputFileStream.mark(header.length);
+    final int headerLength = inputFileStream.read(header);
+    inputFileStream.reset();
+
+    final Catalog catalog;
+    if (headerLength > 0 && BinaryCatalogSnapshot.isBinaryCatalogSnapshot(header)) {
+      inputFileStream.close();
+      LOGGER.log(Level.CONFIG, "Loading offline catalog from binary snapshot");
+      catalog = BinaryCatalogSnapshot.loadCatalog(offlineDatabasePath, getSnapshotTableFilter());
+    } else {
+      catalog = new JavaSerializedCatalog(inputFileStream).getCatalog();
+    }
 
-    final Catalog catalog = deserializedCatalog.getCatalog();
     reduceCatalog(catalog);
 
     return catalog;
   }
 
+  /**
+   * Tables can be filtered on the schema, name and table type before they are loaded from a binary
+   * snapshot, unless the filter needs table details, such as for grep, or related tables.
+   */
+  private Predicate<Table> getSnapshotTableFilter() {
+    final SchemaCrawlerOptions options = getSchemaCrawlerOptions();
+    final GrepOptions grepOptions = options.getGrepOptions();
+    final FilterOptions filterOptions = options.getFilterOptions();
+    if (grepOptions.isGrepColumns()
+        || grepOptions.isGrepDefinitions()
+        || filterOptions.getChildTableFilterDepth() > 0
+        || filterOptions.getParentTableFilterDepth() > 0) {
+      return table -> true;
+    }
+
+    final Predicate<Schema> schemaFilter = schemaFilter(options);
+    return tableFilter(options).and(table -> schemaFilter.test(table.getSchema()));
+  }
+
   private void reduceCatalog(final Catalog catalog) {
     ((Reducible) catalog).reduce(Schema.class, getSchemaReducer(schemaCrawlerOptions));
     ((Reducible) catalog).reduce(Table.class, getTableReducer(schemaCrawlerOptions));
@@ -76,7 +76,15 @@ public class OfflineConnectionUtility
         case "getOfflineDatabasePath":
           return offlineDatabasePath;
         case "isWrapperFor":
-          return false;
+          return ((Class<?>) args[0]).isInstance(proxy);
+        case "unwrap":
+          if (((Class<?>) args[0]).isInstance(proxy))
+          {
+            return proxy;
+          }
+          throw new SQLFeatureNotSupportedException(
+            "Offline connection does not wrap " + args[0],
+            "HYC00");
         case "isValid":
           return true;
         default:
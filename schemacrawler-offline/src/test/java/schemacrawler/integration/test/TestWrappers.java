@@ -2,11 +2,16 @@ package schemacrawler.integration.test;
 
 
 import static org.apache.commons.lang3.reflect.MethodUtils.invokeMethod;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static schemacrawler.tools.offline.jdbc.OfflineConnectionUtility.newOfflineConnection;
 
 import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
 
 import org.junit.jupiter.api.Test;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
@@ -88,4 +93,18 @@ public class TestWrappers
                  "Testing connection method, createStatement");
   }
 
+  @Test
+  public void unwrap()
+    throws Exception
+  {
+    final OfflineConnection connection = newOfflineConnection(Paths.get("."));
+
+    assertThat(connection.isWrapperFor(OfflineConnection.class), is(true));
+    assertThat(connection.isWrapperFor(Connection.class), is(true));
+    assertThat(connection.isWrapperFor(String.class), is(false));
+    assertThat(connection.unwrap(OfflineConnection.class),
+               is(sameInstance(connection)));
+    assertThrows(SQLException.class, () -> connection.unwrap(String.class));
+  }
+
 }
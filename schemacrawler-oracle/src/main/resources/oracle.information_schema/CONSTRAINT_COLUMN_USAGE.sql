@@ -25,6 +25,8 @@ WHERE
   AND NOT REGEXP_LIKE(TABLE_CONTRAINTS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(TABLE_CONTRAINTS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(TABLE_CONTRAINTS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(TABLE_CONTRAINTS.OWNER || '.' || TABLE_CONTRAINTS.TABLE_NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_CONTRAINTS.TABLE_NAME IN (${tablenames}))
   AND TABLE_CONTRAINTS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(TABLE_CONTRAINTS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')  
   AND TABLE_CONTRAINTS.CONSTRAINT_TYPE IN ('C', 'U', 'P', 'R')
@@ -17,6 +17,8 @@ WHERE
   AND NOT REGEXP_LIKE(COLUMNS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(COLUMNS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(COLUMNS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(COLUMNS.OWNER || '.' || COLUMNS.TABLE_NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR COLUMNS.TABLE_NAME IN (${tablenames}))
   AND COLUMNS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(COLUMNS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
   AND COLUMNS.HIDDEN_COLUMN = 'YES'
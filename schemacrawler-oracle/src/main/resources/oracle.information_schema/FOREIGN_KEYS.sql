@@ -41,6 +41,11 @@ WHERE 1 = 1
   AND NOT REGEXP_LIKE(P.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(P.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(P.OWNER, '${schemas}')
+  AND (REGEXP_LIKE(F.OWNER || '.' || F.TABLE_NAME, '${tables}')
+    OR REGEXP_LIKE(P.OWNER || '.' || P.TABLE_NAME, '${tables}'))
+  AND (COALESCE(${tablenames}, NULL) IS NULL
+    OR F.TABLE_NAME IN (${tablenames})
+    OR P.TABLE_NAME IN (${tablenames}))
   AND F.CONSTRAINT_TYPE = 'R'
   AND P.OWNER = F.R_OWNER
   AND P.CONSTRAINT_NAME = F.R_CONSTRAINT_NAME
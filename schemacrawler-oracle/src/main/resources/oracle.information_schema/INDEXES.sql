@@ -32,6 +32,8 @@ WHERE
   AND NOT REGEXP_LIKE(INDEXES.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(INDEXES.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(INDEXES.OWNER, '${schemas}')
+  AND REGEXP_LIKE(INDEXES.OWNER || '.' || INDEXES.TABLE_NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR INDEXES.TABLE_NAME IN (${tablenames}))
   AND INDEXES.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(INDEXES.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
 ORDER BY 
@@ -25,6 +25,8 @@ WHERE
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(PRIMARY_KEYS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(PRIMARY_KEYS.OWNER || '.' || PRIMARY_KEYS.TABLE_NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR PRIMARY_KEYS.TABLE_NAME IN (${tablenames}))
   AND PRIMARY_KEYS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(PRIMARY_KEYS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
   AND PRIMARY_KEYS.CONSTRAINT_TYPE = 'P'
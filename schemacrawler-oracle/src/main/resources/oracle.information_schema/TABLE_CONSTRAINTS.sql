@@ -25,6 +25,8 @@ WHERE
   AND NOT REGEXP_LIKE(CONSTRAINTS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(CONSTRAINTS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(CONSTRAINTS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(CONSTRAINTS.OWNER || '.' || CONSTRAINTS.TABLE_NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR CONSTRAINTS.TABLE_NAME IN (${tablenames}))
   AND CONSTRAINTS.TABLE_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(CONSTRAINTS.TABLE_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
   AND CONSTRAINT_TYPE IN ('C', 'U', 'P', 'R')
@@ -42,4 +42,6 @@ WHERE
   AND NOT REGEXP_LIKE(TRIGGERS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(TRIGGERS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(TRIGGERS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(TRIGGERS.OWNER || '.' || TRIGGERS.TABLE_NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR TRIGGERS.TABLE_NAME IN (${tablenames}))
 
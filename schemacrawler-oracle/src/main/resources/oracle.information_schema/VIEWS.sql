@@ -19,6 +19,8 @@ WHERE
   AND NOT REGEXP_LIKE(VIEWS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(VIEWS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(VIEWS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(VIEWS.OWNER || '.' || VIEWS.VIEW_NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR VIEWS.VIEW_NAME IN (${tablenames}))
   AND VIEWS.VIEW_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(VIEWS.VIEW_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
 UNION ALL
@@ -43,5 +45,7 @@ WHERE
   AND NOT REGEXP_LIKE(MVIEWS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(MVIEWS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(MVIEWS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(MVIEWS.OWNER || '.' || MVIEWS.MVIEW_NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR MVIEWS.MVIEW_NAME IN (${tablenames}))
   AND MVIEWS.MVIEW_NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(MVIEWS.MVIEW_NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
@@ -20,5 +20,7 @@ WHERE
   AND NOT REGEXP_LIKE(VIEWS.OWNER, '^APEX_[0-9]{6}$')
   AND NOT REGEXP_LIKE(VIEWS.OWNER, '^FLOWS_[0-9]{5,6}$')
   AND REGEXP_LIKE(VIEWS.OWNER, '${schemas}')
+  AND REGEXP_LIKE(VIEWS.OWNER || '.' || VIEWS.NAME, '${tables}')
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR VIEWS.NAME IN (${tablenames}))
   AND VIEWS.NAME NOT LIKE 'BIN$%'
   AND NOT REGEXP_LIKE(VIEWS.NAME, '^(SYS_IOT|MDOS|MDRS|MDRT|MDOT|MDXT)_.*$')
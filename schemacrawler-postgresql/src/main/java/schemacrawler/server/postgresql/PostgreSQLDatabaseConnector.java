@@ -28,6 +28,12 @@ http://www.gnu.org/licenses/
 package schemacrawler.server.postgresql;
 
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
 import java.io.IOException;
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.DatabaseServerType;
@@ -48,7 +54,12 @@ public final class PostgreSQLDatabaseConnector
                 .fromResourceFolder("/postgresql.information_schema"),
         (schemaRetrievalOptionsBuilder,
             connection) -> schemaRetrievalOptionsBuilder
-                .withEnumDataTypeHelper(new PostgreSQLEnumDataTypeHelper()),
+                .withEnumDataTypeHelper(new PostgreSQLEnumDataTypeHelper())
+                .with(tablesRetrievalStrategy, data_dictionary_all)
+                .with(tableColumnsRetrievalStrategy, data_dictionary_all)
+                .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+                .with(foreignKeysRetrievalStrategy, data_dictionary_all)
+                .with(indexesRetrievalStrategy, data_dictionary_all),
         (limitOptionsBuilder) -> limitOptionsBuilder
         .includeSchemas(new RegularExpressionExclusionRule("pg_catalog|information_schema")),
                 () -> DatabaseConnectionUrlBuilder.builder(
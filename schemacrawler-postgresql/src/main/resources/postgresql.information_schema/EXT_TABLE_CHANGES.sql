@@ -0,0 +1,14 @@
+SELECT
+  current_database()::information_schema.sql_identifier AS TABLE_CATALOG,
+  nc.nspname::information_schema.sql_identifier AS TABLE_SCHEMA,
+  c.relname::information_schema.sql_identifier AS TABLE_NAME,
+  c.xmin::text AS CHANGE_SIGNAL
+FROM
+  pg_catalog.pg_class c
+  INNER JOIN pg_catalog.pg_namespace nc
+    ON c.relnamespace = nc.oid
+WHERE
+  c.relkind IN ('r', 'v', 'm', 'f', 'p')
+  AND nc.nspname NOT IN ('pg_catalog', 'information_schema')
+  AND nc.nspname NOT LIKE 'pg_toast%'
+  AND nc.nspname ~ '${schemas}'
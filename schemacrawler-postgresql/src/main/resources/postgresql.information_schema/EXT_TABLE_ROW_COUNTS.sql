@@ -0,0 +1,19 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  NAMESPACES.NSPNAME AS TABLE_SCHEMA,
+  TABLES.RELNAME AS TABLE_NAME,
+  CASE
+    WHEN TABLES.RELTUPLES < 0 THEN NULL
+    WHEN TABLES.RELTUPLES = 0 AND TABLES.RELPAGES = 0 THEN NULL
+    ELSE CAST(TABLES.RELTUPLES AS BIGINT)
+  END
+    AS ROW_COUNT
+FROM
+  PG_CATALOG.PG_CLASS TABLES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+WHERE
+  TABLES.RELKIND IN ('r', 'm', 'p')
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+  AND (NAMESPACES.NSPNAME || '.' || TABLES.RELNAME) ~ '${tables}'
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLES.RELNAME IN (${tablenames}))
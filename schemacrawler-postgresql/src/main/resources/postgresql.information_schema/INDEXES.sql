@@ -0,0 +1,64 @@
+SELECT
+  NULL AS TABLE_CAT,
+  INDEX_COLUMNS.TABLE_SCHEM,
+  INDEX_COLUMNS.TABLE_NAME,
+  INDEX_COLUMNS.NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEX_COLUMNS.INDEX_NAME,
+  INDEX_COLUMNS.TYPE,
+  INDEX_COLUMNS.ORDINAL_POSITION,
+  TRIM(BOTH '"' FROM
+    PG_CATALOG.PG_GET_INDEXDEF(INDEX_COLUMNS.INDEX_OID, INDEX_COLUMNS.ORDINAL_POSITION, FALSE))
+    AS COLUMN_NAME,
+  CASE INDEX_COLUMNS.ACCESS_METHOD
+    WHEN 'btree' THEN
+      CASE INDEX_COLUMNS.INDOPTION[INDEX_COLUMNS.ORDINAL_POSITION - 1] & 1
+        WHEN 1 THEN 'D'
+        ELSE 'A'
+      END
+    ELSE NULL
+  END AS ASC_OR_DESC,
+  INDEX_COLUMNS.CARDINALITY,
+  INDEX_COLUMNS.PAGES,
+  INDEX_COLUMNS.FILTER_CONDITION
+FROM
+  (
+    SELECT
+      NAMESPACES.NSPNAME AS TABLE_SCHEM,
+      TABLES.RELNAME AS TABLE_NAME,
+      NOT INDEX_INFO.INDISUNIQUE AS NON_UNIQUE,
+      INDEXES.RELNAME AS INDEX_NAME,
+      CASE
+        WHEN INDEX_INFO.INDISCLUSTERED THEN 1
+        WHEN ACCESS_METHODS.AMNAME = 'hash' THEN 2
+        ELSE 3
+      END AS TYPE,
+      (INFORMATION_SCHEMA._PG_EXPANDARRAY(INDEX_INFO.INDKEY)).N AS ORDINAL_POSITION,
+      INDEXES.RELTUPLES AS CARDINALITY,
+      INDEXES.RELPAGES AS PAGES,
+      PG_CATALOG.PG_GET_EXPR(INDEX_INFO.INDPRED, INDEX_INFO.INDRELID) AS FILTER_CONDITION,
+      INDEXES.OID AS INDEX_OID,
+      INDEX_INFO.INDOPTION,
+      ACCESS_METHODS.AMNAME AS ACCESS_METHOD
+    FROM
+      PG_CATALOG.PG_INDEX INDEX_INFO
+      INNER JOIN PG_CATALOG.PG_CLASS TABLES
+        ON TABLES.OID = INDEX_INFO.INDRELID
+      INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+        ON NAMESPACES.OID = TABLES.RELNAMESPACE
+      INNER JOIN PG_CATALOG.PG_CLASS INDEXES
+        ON INDEXES.OID = INDEX_INFO.INDEXRELID
+      INNER JOIN PG_CATALOG.PG_AM ACCESS_METHODS
+        ON ACCESS_METHODS.OID = INDEXES.RELAM
+    WHERE
+      NAMESPACES.NSPNAME ~ '${schemas}'
+      AND (NAMESPACES.NSPNAME || '.' || TABLES.RELNAME) ~ '${tables}'
+      AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLES.RELNAME IN (${tablenames}))
+  ) INDEX_COLUMNS
+ORDER BY
+  INDEX_COLUMNS.TABLE_SCHEM,
+  INDEX_COLUMNS.TABLE_NAME,
+  INDEX_COLUMNS.NON_UNIQUE,
+  INDEX_COLUMNS.TYPE,
+  INDEX_COLUMNS.INDEX_NAME,
+  INDEX_COLUMNS.ORDINAL_POSITION
@@ -0,0 +1,36 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  ATTRIBUTES.ATTNAME AS COLUMN_NAME,
+  (PRIMARY_KEYS.KEYS).N AS KEY_SEQ,
+  INDEXES.RELNAME AS PK_NAME
+FROM
+  (
+    SELECT
+      INDEX_INFO.INDRELID,
+      INDEX_INFO.INDEXRELID,
+      INFORMATION_SCHEMA._PG_EXPANDARRAY(INDEX_INFO.INDKEY) AS KEYS
+    FROM
+      PG_CATALOG.PG_INDEX INDEX_INFO
+    WHERE
+      INDEX_INFO.INDISPRIMARY
+  ) PRIMARY_KEYS
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON TABLES.OID = PRIMARY_KEYS.INDRELID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+  INNER JOIN PG_CATALOG.PG_CLASS INDEXES
+    ON INDEXES.OID = PRIMARY_KEYS.INDEXRELID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+    ON ATTRIBUTES.ATTRELID = PRIMARY_KEYS.INDRELID
+      AND ATTRIBUTES.ATTNUM = (PRIMARY_KEYS.KEYS).X
+WHERE
+  NAMESPACES.NSPNAME ~ '${schemas}'
+  AND (NAMESPACES.NSPNAME || '.' || TABLES.RELNAME) ~ '${tables}'
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLES.RELNAME IN (${tablenames}))
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
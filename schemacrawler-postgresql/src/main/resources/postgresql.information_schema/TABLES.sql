@@ -0,0 +1,47 @@
+SELECT
+  NULL AS TABLE_CAT,
+  NAMESPACES.NSPNAME AS TABLE_SCHEM,
+  TABLES.RELNAME AS TABLE_NAME,
+  CASE
+    WHEN NAMESPACES.NSPNAME IN ('pg_catalog', 'information_schema') THEN
+      CASE TABLES.RELKIND
+        WHEN 'r' THEN 'SYSTEM TABLE'
+        WHEN 'v' THEN 'SYSTEM VIEW'
+      END
+    WHEN NAMESPACES.NSPNAME = 'pg_toast' THEN
+      CASE TABLES.RELKIND
+        WHEN 'r' THEN 'SYSTEM TOAST TABLE'
+      END
+    WHEN NAMESPACES.NSPNAME ~ '^pg_' THEN
+      CASE TABLES.RELKIND
+        WHEN 'r' THEN 'TEMPORARY TABLE'
+        WHEN 'p' THEN 'TEMPORARY TABLE'
+        WHEN 'v' THEN 'TEMPORARY VIEW'
+      END
+    ELSE
+      CASE TABLES.RELKIND
+        WHEN 'r' THEN 'TABLE'
+        WHEN 'p' THEN 'PARTITIONED TABLE'
+        WHEN 'v' THEN 'VIEW'
+        WHEN 'f' THEN 'FOREIGN TABLE'
+        WHEN 'm' THEN 'MATERIALIZED VIEW'
+      END
+  END AS TABLE_TYPE,
+  DESCRIPTIONS.DESCRIPTION AS REMARKS
+FROM
+  PG_CATALOG.PG_CLASS TABLES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON NAMESPACES.OID = TABLES.RELNAMESPACE
+  LEFT OUTER JOIN PG_CATALOG.PG_DESCRIPTION DESCRIPTIONS
+    ON DESCRIPTIONS.OBJOID = TABLES.OID
+      AND DESCRIPTIONS.CLASSOID = 'pg_catalog.pg_class'::REGCLASS
+      AND DESCRIPTIONS.OBJSUBID = 0
+WHERE
+  TABLES.RELKIND IN ('r', 'p', 'v', 'f', 'm')
+  AND NAMESPACES.NSPNAME ~ '${schemas}'
+  AND (NAMESPACES.NSPNAME || '.' || TABLES.RELNAME) ~ '${tables}'
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLES.RELNAME IN (${tablenames}))
+ORDER BY
+  TABLE_TYPE,
+  TABLE_SCHEM,
+  TABLE_NAME
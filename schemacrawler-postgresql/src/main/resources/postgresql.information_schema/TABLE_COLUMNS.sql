@@ -0,0 +1,209 @@
+WITH
+  TYPE_CODES AS
+  (
+    SELECT
+      TYPES.OID AS TYPE_OID,
+      CASE
+        WHEN TYPES.OID = 21 THEN 5
+        WHEN TYPES.OID = 23 THEN 4
+        WHEN TYPES.OID IN (20, 26) THEN -5
+        WHEN TYPES.OID IN (790, 701) THEN 8
+        WHEN TYPES.OID = 1700 THEN 2
+        WHEN TYPES.OID = 700 THEN 7
+        WHEN TYPES.OID IN (18, 1042) THEN 1
+        WHEN TYPES.OID IN (19, 25, 1043) THEN 12
+        WHEN TYPES.OID = 17 THEN -2
+        WHEN TYPES.OID IN (16, 1560) THEN -7
+        WHEN TYPES.OID = 1082 THEN 91
+        WHEN TYPES.OID IN (1083, 1266) THEN 92
+        WHEN TYPES.OID IN (1114, 1184) THEN 93
+        WHEN TYPES.OID = 1790 THEN 2012
+        WHEN TYPES.TYPINPUT = 'array_in'::REGPROC THEN 2003
+        WHEN TYPES.TYPTYPE = 'c' THEN 2002
+        WHEN TYPES.TYPTYPE = 'd' THEN 2001
+        WHEN TYPES.TYPTYPE = 'e' THEN 12
+        ELSE 1111
+      END AS SQL_TYPE,
+      CASE
+        WHEN TYPE_NAMESPACES.NSPNAME = ANY (CURRENT_SCHEMAS(TRUE)) THEN TYPES.TYPNAME
+        ELSE '"' || TYPE_NAMESPACES.NSPNAME || '"."' || TYPES.TYPNAME || '"'
+      END AS TYPE_NAME
+    FROM
+      PG_CATALOG.PG_TYPE TYPES
+      INNER JOIN PG_CATALOG.PG_NAMESPACE TYPE_NAMESPACES
+        ON TYPE_NAMESPACES.OID = TYPES.TYPNAMESPACE
+  ),
+  IDENTITY_COLUMNS AS
+  (
+    SELECT DISTINCT
+      DEPENDENCIES.REFOBJID,
+      DEPENDENCIES.REFOBJSUBID
+    FROM
+      PG_CATALOG.PG_DEPEND DEPENDENCIES
+      INNER JOIN PG_CATALOG.PG_CLASS SEQUENCES
+        ON SEQUENCES.OID = DEPENDENCIES.OBJID
+    WHERE
+      DEPENDENCIES.CLASSID = 'pg_catalog.pg_class'::REGCLASS
+      AND DEPENDENCIES.REFCLASSID = 'pg_catalog.pg_class'::REGCLASS
+      AND DEPENDENCIES.DEPTYPE = 'i'
+      AND SEQUENCES.RELKIND = 'S'
+  ),
+  COLUMNS AS
+  (
+    SELECT
+      NAMESPACES.NSPNAME AS TABLE_SCHEM,
+      TABLES.RELNAME AS TABLE_NAME,
+      ATTRIBUTES.ATTNAME AS COLUMN_NAME,
+      CASE
+        WHEN TYPES.TYPTYPE = 'c' THEN 2002
+        WHEN TYPES.TYPTYPE = 'd' THEN 2001
+        WHEN TYPES.TYPTYPE = 'e' THEN 12
+        ELSE TYPE_CODES.SQL_TYPE
+      END AS DATA_TYPE,
+      TYPE_CODES.TYPE_NAME,
+      TYPES.TYPTYPE,
+      CASE
+        WHEN TYPES.TYPTYPE = 'd' THEN TYPES.TYPBASETYPE
+        WHEN TYPES.TYPINPUT = 'array_in'::REGPROC THEN TYPES.TYPELEM
+        ELSE TYPES.OID
+      END AS BASE_TYPE_OID,
+      CASE
+        WHEN TYPES.TYPTYPE = 'd' THEN TYPES.TYPTYPMOD
+        ELSE ATTRIBUTES.ATTTYPMOD
+      END AS TYPE_MOD,
+      BASE_TYPE_CODES.SQL_TYPE AS SOURCE_DATA_TYPE,
+      ATTRIBUTES.ATTNOTNULL OR (TYPES.TYPTYPE = 'd' AND TYPES.TYPNOTNULL) AS NOT_NULL,
+      PG_CATALOG.PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) AS COLUMN_DEF,
+      IDENTITY_COLUMNS.REFOBJID IS NOT NULL AS IS_IDENTITY,
+      DESCRIPTIONS.DESCRIPTION AS REMARKS,
+      ROW_NUMBER() OVER (PARTITION BY ATTRIBUTES.ATTRELID ORDER BY ATTRIBUTES.ATTNUM)
+        AS ORDINAL_POSITION
+    FROM
+      PG_CATALOG.PG_CLASS TABLES
+      INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+        ON NAMESPACES.OID = TABLES.RELNAMESPACE
+      INNER JOIN PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+        ON ATTRIBUTES.ATTRELID = TABLES.OID
+      INNER JOIN PG_CATALOG.PG_TYPE TYPES
+        ON TYPES.OID = ATTRIBUTES.ATTTYPID
+      INNER JOIN TYPE_CODES
+        ON TYPE_CODES.TYPE_OID = TYPES.OID
+      LEFT OUTER JOIN TYPE_CODES BASE_TYPE_CODES
+        ON BASE_TYPE_CODES.TYPE_OID = TYPES.TYPBASETYPE
+      LEFT OUTER JOIN IDENTITY_COLUMNS
+        ON IDENTITY_COLUMNS.REFOBJID = ATTRIBUTES.ATTRELID
+          AND IDENTITY_COLUMNS.REFOBJSUBID = ATTRIBUTES.ATTNUM
+      LEFT OUTER JOIN PG_CATALOG.PG_ATTRDEF DEFAULTS
+        ON DEFAULTS.ADRELID = ATTRIBUTES.ATTRELID
+          AND DEFAULTS.ADNUM = ATTRIBUTES.ATTNUM
+      LEFT OUTER JOIN PG_CATALOG.PG_DESCRIPTION DESCRIPTIONS
+        ON DESCRIPTIONS.OBJOID = TABLES.OID
+          AND DESCRIPTIONS.CLASSOID = 'pg_catalog.pg_class'::REGCLASS
+          AND DESCRIPTIONS.OBJSUBID = ATTRIBUTES.ATTNUM
+    WHERE
+      TABLES.RELKIND IN ('r', 'p', 'v', 'f', 'm')
+      AND ATTRIBUTES.ATTNUM > 0
+      AND NOT ATTRIBUTES.ATTISDROPPED
+      AND NAMESPACES.NSPNAME ~ '${schemas}'
+      AND (NAMESPACES.NSPNAME || '.' || TABLES.RELNAME) ~ '${tables}'
+      AND (COALESCE(${tablenames}, NULL) IS NULL OR TABLES.RELNAME IN (${tablenames}))
+  ),
+  COLUMN_SIZES AS
+  (
+    SELECT
+      COLUMNS.*,
+      CASE
+        WHEN BASE_TYPE_OID = 1082 THEN 13
+        WHEN BASE_TYPE_OID IN (1083, 1114, 1184, 1266) THEN
+          CASE BASE_TYPE_OID
+            WHEN 1083 THEN 8
+            WHEN 1266 THEN 14
+            WHEN 1114 THEN 22
+            ELSE 28
+          END
+          +
+          CASE TYPE_MOD
+            WHEN -1 THEN 7
+            WHEN 0 THEN 0
+            WHEN 1 THEN 3
+            ELSE TYPE_MOD + 1
+          END
+        WHEN BASE_TYPE_OID = 1186 THEN 49
+        WHEN BASE_TYPE_OID = 21 THEN 5
+        WHEN BASE_TYPE_OID IN (23, 26) THEN 10
+        WHEN BASE_TYPE_OID = 20 THEN 19
+        WHEN BASE_TYPE_OID = 700 THEN 8
+        WHEN BASE_TYPE_OID = 701 THEN 17
+        WHEN BASE_TYPE_OID IN (16, 18) THEN 1
+        WHEN BASE_TYPE_OID = 1700 AND TYPE_MOD = -1 THEN
+          CASE WHEN TYPTYPE = 'd' THEN 0 ELSE 131089 END
+        WHEN BASE_TYPE_OID = 1700 THEN ((TYPE_MOD - 4) >> 16) & 65535
+        WHEN BASE_TYPE_OID IN (1042, 1043) AND TYPE_MOD <> -1 THEN TYPE_MOD - 4
+        WHEN BASE_TYPE_OID = 1560 THEN TYPE_MOD
+        WHEN BASE_TYPE_OID = 1562 AND TYPE_MOD <> -1 THEN TYPE_MOD
+        ELSE 2147483647
+      END AS COLUMN_SIZE,
+      CASE
+        WHEN BASE_TYPE_OID = 700 THEN 8
+        WHEN BASE_TYPE_OID = 701 THEN 17
+        WHEN BASE_TYPE_OID = 1700 AND TYPE_MOD = -1 THEN 0
+        WHEN BASE_TYPE_OID = 1700 THEN (TYPE_MOD - 4) & 65535
+        WHEN BASE_TYPE_OID IN (1083, 1114, 1184, 1266, 1186) AND TYPE_MOD = -1 THEN 6
+        WHEN BASE_TYPE_OID IN (1083, 1114, 1184, 1266) THEN TYPE_MOD
+        WHEN BASE_TYPE_OID = 1186 THEN TYPE_MOD & 65535
+        ELSE 0
+      END AS SCALE
+    FROM
+      COLUMNS
+  )
+SELECT
+  NULL AS TABLE_CAT,
+  TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  DATA_TYPE,
+  CASE
+    WHEN COLUMN_DEF LIKE '%nextval(%' AND TYPE_NAME = 'int4' THEN 'serial'
+    WHEN COLUMN_DEF LIKE '%nextval(%' AND TYPE_NAME = 'int8' THEN 'bigserial'
+    WHEN COLUMN_DEF LIKE '%nextval(%' AND TYPE_NAME = 'int2' THEN 'smallserial'
+    ELSE TYPE_NAME
+  END AS TYPE_NAME,
+  COLUMN_SIZE,
+  NULL::TEXT AS BUFFER_LENGTH,
+  CASE
+    WHEN DATA_TYPE IN (2, 3) AND TYPE_MOD = -1 THEN NULL
+    ELSE SCALE
+  END AS DECIMAL_DIGITS,
+  CASE
+    WHEN TYPE_NAME IN ('bit', 'varbit') THEN 2
+    ELSE 10
+  END AS NUM_PREC_RADIX,
+  CASE
+    WHEN NOT_NULL THEN 0
+    ELSE 1
+  END AS NULLABLE,
+  REMARKS,
+  COLUMN_DEF,
+  NULL::INTEGER AS SQL_DATA_TYPE,
+  NULL::INTEGER AS SQL_DATETIME_SUB,
+  COLUMN_SIZE::TEXT AS CHAR_OCTET_LENGTH,
+  ORDINAL_POSITION,
+  CASE
+    WHEN NOT_NULL THEN 'NO'
+    ELSE 'YES'
+  END AS IS_NULLABLE,
+  NULL::TEXT AS SCOPE_CATALOG,
+  NULL::TEXT AS SCOPE_SCHEMA,
+  NULL::TEXT AS SCOPE_TABLE,
+  SOURCE_DATA_TYPE::SMALLINT AS SOURCE_DATA_TYPE,
+  CASE
+    WHEN COLUMN_DEF LIKE '%nextval(%' OR IS_IDENTITY THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  '' AS IS_GENERATEDCOLUMN
+FROM
+  COLUMN_SIZES
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -55,7 +55,7 @@ public class BundledDistributionTest
                  .getSchemaRetrievalOptionsBuilder(connection)
                  .toOptions()
                  .getInformationSchemaViews()
-                 .size(), is(11));
+                 .size(), is(18));
   }
 
   @Test
@@ -0,0 +1,138 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseAdditionalDatabaseTest;
+import schemacrawler.tools.databaseconnector.DatabaseConnector;
+import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+
+/**
+ * Checks that tables, columns, primary keys, foreign keys and indexes retrieved with the PostgreSQL
+ * data dictionary queries are the same as those retrieved from the JDBC driver database metadata.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "heavydb", matches = "^((?!(false|no)).)*$")
+public class PostgreSQLDataDictionaryTest extends BaseAdditionalDatabaseTest {
+
+  @Container private JdbcDatabaseContainer dbContainer = new PostgreSQLContainer<>();
+
+  @BeforeEach
+  public void createDatabase() throws SQLException, SchemaCrawlerException {
+    createDataSource(
+        dbContainer.getJdbcUrl(), dbContainer.getUsername(), dbContainer.getPassword());
+
+    createDatabase("/postgresql.scripts.txt");
+  }
+
+  @Test
+  public void dataDictionaryMatchesMetadata() throws Exception {
+    final Connection connection = getConnection();
+
+    final SchemaRetrievalOptions dataDictionaryOptions =
+        retrievalOptionsBuilder(connection).toOptions();
+    final SchemaRetrievalOptions metadataOptions =
+        retrievalOptionsBuilder(connection)
+            .with(tablesRetrievalStrategy, metadata)
+            .with(tableColumnsRetrievalStrategy, metadata)
+            .with(primaryKeysRetrievalStrategy, metadata)
+            .with(foreignKeysRetrievalStrategy, metadata)
+            .with(indexesRetrievalStrategy, metadata)
+            .toOptions();
+
+    assertThat(
+        details(connection, dataDictionaryOptions), equalTo(details(connection, metadataOptions)));
+  }
+
+  private List<String> details(
+      final Connection connection, final SchemaRetrievalOptions schemaRetrievalOptions)
+      throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule("books"))
+            .tableTypes("TABLE,VIEW,MATERIALIZED VIEW");
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("details");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setSchemaRetrievalOptions(schemaRetrievalOptions);
+
+    final Path output = executableExecution(connection, executable);
+    // Ignore the time stamp, which is different for each run
+    return Files.readAllLines(output, UTF_8).stream()
+        .filter(line -> !line.startsWith("generated on"))
+        .collect(Collectors.toList());
+  }
+
+  private SchemaRetrievalOptionsBuilder retrievalOptionsBuilder(final Connection connection) {
+    final DatabaseConnector databaseConnector =
+        DatabaseConnectorRegistry.getDatabaseConnectorRegistry()
+            .lookupDatabaseConnector("postgresql");
+    return databaseConnector.getSchemaRetrievalOptionsBuilder(connection);
+  }
+}
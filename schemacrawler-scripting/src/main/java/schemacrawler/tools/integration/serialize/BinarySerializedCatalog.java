@@ -0,0 +1,73 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import schemacrawler.crawl.BinaryCatalogSnapshot;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Decorates a database to allow for serialization to and from the compact SchemaCrawler binary
+ * snapshot format.
+ */
+public final class BinarySerializedCatalog implements CatalogSerializer {
+
+  private final Catalog catalog;
+
+  public BinarySerializedCatalog(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  public BinarySerializedCatalog(final InputStream in) throws SchemaCrawlerException {
+    this(BinaryCatalogSnapshot.loadCatalog(requireNonNull(in, "No input stream provided")));
+  }
+
+  @Override
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final OutputStream out) throws SchemaCrawlerException {
+    requireNonNull(out, "No output stream provided");
+    BinaryCatalogSnapshot.saveCatalog(catalog, out);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final Writer out) {
+    throw new UnsupportedOperationException("Cannot serialize binary format using character data");
+  }
+}
@@ -0,0 +1,865 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.crawl.WeakAssociation;
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JavaSqlType;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Property;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+
+/**
+ * Writes a catalog with a Jackson generator, one object at a time, so that the serialized form is
+ * never held in memory. Property names and nesting follow the bean properties of the catalog model,
+ * so the output has the same shape as the output of bean serialization.
+ *
+ * <p>Shared objects are written in full in one place, with an "@uuid" object id, and are referred
+ * to by that id everywhere else. Object ids are derived from the kind and full name of the object,
+ * so they are the same for every run against the same database. Schemas, column data types, tables
+ * and routines are written in full in the catalog. Table columns are written in full in the list of
+ * all table columns, table by table, which comes before the catalog. Foreign keys and weak
+ * associations are written in full with the table that has the foreign key columns.
+ */
+final class JacksonCatalogStreamWriter {
+
+  private static final String ID = "@uuid";
+
+  private final Catalog catalog;
+  private final JsonGenerator generator;
+  private final Set<String> schemaIds;
+  private final Set<String> tableIds;
+  private final Set<String> routineIds;
+
+  JacksonCatalogStreamWriter(final Catalog catalog, final JsonGenerator generator) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.generator = requireNonNull(generator, "No generator provided");
+
+    schemaIds = new HashSet<>();
+    for (final Schema schema : catalog.getSchemas()) {
+      schemaIds.add(id(schema));
+    }
+    tableIds = new HashSet<>();
+    for (final Table table : catalog.getTables()) {
+      tableIds.add(id(table));
+    }
+    routineIds = new HashSet<>();
+    for (final Routine routine : catalog.getRoutines()) {
+      routineIds.add(id(routine));
+    }
+  }
+
+  void write() throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(ID, "catalog-serializer:" + catalog.getName());
+    // Columns are written table by table, so that they are never all
+    // collected at once
+    generator.writeArrayFieldStart("all-table-columns");
+    for (final Table table : catalog.getTables()) {
+      for (final Column column : table.getColumns()) {
+        writeColumn(column);
+      }
+    }
+    generator.writeEndArray();
+    generator.writeFieldName("catalog");
+    writeCatalog();
+    generator.writeEndObject();
+    generator.flush();
+  }
+
+  private String id(final Column column) {
+    return "column:" + column.getFullName();
+  }
+
+  private String id(final ColumnDataType columnDataType) {
+    return "column-data-type:" + columnDataType.getFullName();
+  }
+
+  private String id(final ForeignKey foreignKey) {
+    return "foreign-key:" + referencingTable(foreignKey).getFullName() + "." + foreignKey.getName();
+  }
+
+  private String id(final Routine routine) {
+    return "routine:" + routine.getFullName() + "/" + routine.getSpecificName();
+  }
+
+  private String id(final Schema schema) {
+    return "schema:" + schema.getFullName();
+  }
+
+  private String id(final Table table) {
+    return "table:" + table.getFullName();
+  }
+
+  private String id(final WeakAssociation weakAssociation) {
+    return "weak-association:"
+        + referencingTable(weakAssociation).getFullName()
+        + "."
+        + weakAssociation.getName();
+  }
+
+  private boolean isInCatalog(final Column column) {
+    return column != null
+        && !(column instanceof PartialDatabaseObject)
+        && isInCatalog(column.getParent());
+  }
+
+  private boolean isInCatalog(final Table table) {
+    return table != null
+        && !(table instanceof PartialDatabaseObject)
+        && tableIds.contains(id(table));
+  }
+
+  /** The table with the foreign key columns, which is where the relationship is written. */
+  private Table referencingTable(final Iterable<? extends ColumnReference> columnReferences) {
+    for (final ColumnReference columnReference : columnReferences) {
+      return columnReference.getForeignKeyColumn().getParent();
+    }
+    return null;
+  }
+
+  private void writeAttributes(final Map<String, Object> attributes) throws IOException {
+    generator.writeObjectFieldStart("attributes");
+    for (final Entry<String, Object> attribute : new TreeMap<>(attributes).entrySet()) {
+      generator.writeFieldName(attribute.getKey());
+      writeValue(attribute.getValue());
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeCatalog() throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(ID, "catalog:" + catalog.getName());
+    generator.writeStringField("name", catalog.getName());
+    generator.writeStringField("full-name", catalog.getFullName());
+
+    generator.writeFieldName("crawl-info");
+    writeCrawlInfo(catalog.getCrawlInfo());
+    generator.writeFieldName("database-info");
+    writeDatabaseInfo(catalog.getDatabaseInfo());
+    generator.writeFieldName("jdbc-driver-info");
+    writeJdbcDriverInfo(catalog.getJdbcDriverInfo());
+
+    generator.writeArrayFieldStart("schemas");
+    for (final Schema schema : catalog.getSchemas()) {
+      generator.writeStartObject();
+      generator.writeStringField(ID, id(schema));
+      writeSchemaProperties(schema);
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("system-column-data-types");
+    for (final ColumnDataType columnDataType : catalog.getSystemColumnDataTypes()) {
+      writeColumnDataType(columnDataType);
+    }
+    generator.writeEndArray();
+    generator.writeArrayFieldStart("column-data-types");
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      writeColumnDataType(columnDataType);
+    }
+    generator.writeEndArray();
+
+    writeAttributes(catalog.getAttributes());
+
+    generator.writeArrayFieldStart("database-users");
+    for (final DatabaseUser databaseUser : catalog.getDatabaseUsers()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", databaseUser.getName());
+      generator.writeStringField("full-name", databaseUser.getFullName());
+      writeAttributes(databaseUser.getAttributes());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeStringField("remarks", catalog.getRemarks());
+
+    generator.writeArrayFieldStart("routines");
+    for (final Routine routine : catalog.getRoutines()) {
+      writeRoutine(routine);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("sequences");
+    for (final Sequence sequence : catalog.getSequences()) {
+      writeSequence(sequence);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("synonyms");
+    for (final Synonym synonym : catalog.getSynonyms()) {
+      writeSynonym(synonym);
+    }
+    generator.writeEndArray();
+
+    // Tables are written one at a time, and flushed as they are written
+    generator.writeArrayFieldStart("tables");
+    for (final Table table : catalog.getTables()) {
+      writeTable(table);
+      generator.flush();
+    }
+    generator.writeEndArray();
+
+    generator.writeEndObject();
+  }
+
+  /** Columns in the catalog are written in full only in the list of all table columns. */
+  private void writeColumn(final Column column) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(ID, id(column));
+    writeDependantObjectNames(column);
+    writeAttributes(column.getAttributes());
+    generator.writeBooleanField("auto-incremented", column.isAutoIncremented());
+    generator.writeFieldName("column-data-type");
+    writeColumnDataTypeReference(column.getColumnDataType());
+    generator.writeNumberField("decimal-digits", column.getDecimalDigits());
+    generator.writeStringField("default-value", column.getDefaultValue());
+    generator.writeBooleanField("generated", column.isGenerated());
+    generator.writeBooleanField("hidden", column.isHidden());
+    generator.writeBooleanField("nullable", column.isNullable());
+    generator.writeNumberField("ordinal-position", column.getOrdinalPosition());
+    generator.writeBooleanField("parent-partial", column.isParentPartial());
+    generator.writeBooleanField("part-of-foreign-key", column.isPartOfForeignKey());
+    generator.writeBooleanField("part-of-index", column.isPartOfIndex());
+    generator.writeBooleanField("part-of-primary-key", column.isPartOfPrimaryKey());
+    generator.writeBooleanField("part-of-unique-index", column.isPartOfUniqueIndex());
+    writePrivileges(column.getPrivileges());
+    generator.writeStringField("remarks", column.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(column.getSchema());
+    generator.writeNumberField("size", column.getSize());
+    generator.writeFieldName("type");
+    writeColumnDataTypeReference(column.getColumnDataType());
+    generator.writeStringField("width", column.getWidth());
+    generator.writeEndObject();
+  }
+
+  private void writeColumnDataType(final ColumnDataType columnDataType) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(ID, id(columnDataType));
+    generator.writeStringField("name", columnDataType.getName());
+    generator.writeStringField("full-name", columnDataType.getFullName());
+    writeAttributes(columnDataType.getAttributes());
+    generator.writeBooleanField("auto-incrementable", columnDataType.isAutoIncrementable());
+    generator.writeFieldName("base-type");
+    writeColumnDataTypeReference(columnDataType.getBaseType());
+    generator.writeBooleanField("case-sensitive", columnDataType.isCaseSensitive());
+    generator.writeStringField("create-parameters", columnDataType.getCreateParameters());
+    generator.writeStringField(
+        "database-specific-type-name", columnDataType.getDatabaseSpecificTypeName());
+    writeStrings("enum-values", columnDataType.getEnumValues());
+    generator.writeBooleanField("enumerated", columnDataType.isEnumerated());
+    generator.writeBooleanField("fixed-precision-scale", columnDataType.isFixedPrecisionScale());
+    generator.writeFieldName("java-sql-type");
+    writeJavaSqlType(columnDataType.getJavaSqlType());
+    generator.writeStringField("literal-prefix", columnDataType.getLiteralPrefix());
+    generator.writeStringField("literal-suffix", columnDataType.getLiteralSuffix());
+    generator.writeStringField("local-type-name", columnDataType.getLocalTypeName());
+    generator.writeNumberField("maximum-scale", columnDataType.getMaximumScale());
+    generator.writeNumberField("minimum-scale", columnDataType.getMinimumScale());
+    generator.writeBooleanField("nullable", columnDataType.isNullable());
+    generator.writeNumberField("num-precision-radix", columnDataType.getNumPrecisionRadix());
+    generator.writeNumberField("precision", columnDataType.getPrecision());
+    generator.writeStringField("remarks", columnDataType.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(columnDataType.getSchema());
+    writeStringValueField("searchable", columnDataType.getSearchable());
+    final Class<?> typeMappedClass = columnDataType.getTypeMappedClass();
+    generator.writeStringField(
+        "type-mapped-class", typeMappedClass == null ? null : typeMappedClass.getName());
+    generator.writeBooleanField("unsigned", columnDataType.isUnsigned());
+    generator.writeBooleanField("user-defined", columnDataType.isUserDefined());
+    generator.writeEndObject();
+  }
+
+  private void writeColumnDataTypeReference(final ColumnDataType columnDataType)
+      throws IOException {
+    if (columnDataType == null) {
+      generator.writeNull();
+    } else {
+      generator.writeString(id(columnDataType));
+    }
+  }
+
+  private void writeColumnReference(final Column column) throws IOException {
+    if (column == null) {
+      generator.writeNull();
+    } else if (isInCatalog(column)) {
+      generator.writeString(id(column));
+    } else {
+      writePartialObject(column);
+    }
+  }
+
+  private void writeColumnReferences(final Iterable<? extends ColumnReference> columnReferences)
+      throws IOException {
+    generator.writeArrayFieldStart("column-references");
+    for (final ColumnReference columnReference : columnReferences) {
+      generator.writeStartObject();
+      generator.writeFieldName("foreign-key-column");
+      writeColumnReference(columnReference.getForeignKeyColumn());
+      if (columnReference instanceof ForeignKeyColumnReference) {
+        generator.writeNumberField(
+            "key-sequence", ((ForeignKeyColumnReference) columnReference).getKeySequence());
+      }
+      generator.writeFieldName("primary-key-column");
+      writeColumnReference(columnReference.getPrimaryKeyColumn());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeColumns(final String fieldName, final Iterable<? extends Column> columns)
+      throws IOException {
+    generator.writeArrayFieldStart(fieldName);
+    for (final Column column : columns) {
+      writeColumnReference(column);
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeCrawlInfo(final CrawlInfo crawlInfo) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("crawl-timestamp", crawlInfo.getCrawlTimestamp());
+    generator.writeStringField(
+        "crawl-timestamp-instant", String.valueOf(crawlInfo.getCrawlTimestampInstant()));
+    writeProductVersion("database-version", crawlInfo.getDatabaseVersion());
+    writeProductVersion("jdbc-driver-version", crawlInfo.getJdbcDriverVersion());
+    writeProductVersion("jvm-version", crawlInfo.getJvmVersion());
+    writeProductVersion("operating-system-version", crawlInfo.getOperatingSystemVersion());
+    generator.writeStringField("run-id", crawlInfo.getRunId());
+    writeProductVersion("schema-crawler-version", crawlInfo.getSchemaCrawlerVersion());
+    generator.writeEndObject();
+  }
+
+  private void writeDatabaseInfo(final DatabaseInfo databaseInfo) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("product-name", databaseInfo.getProductName());
+    generator.writeStringField("product-version", databaseInfo.getProductVersion());
+    writeProperties("properties", databaseInfo.getProperties());
+    writeProperties("server-info", databaseInfo.getServerInfo());
+    generator.writeStringField("user-name", databaseInfo.getUserName());
+    generator.writeEndObject();
+  }
+
+  private void writeDependantObjectNames(final BaseColumn<?> column) throws IOException {
+    generator.writeStringField("name", column.getName());
+    generator.writeStringField("short-name", column.getShortName());
+    generator.writeStringField("full-name", column.getFullName());
+  }
+
+  private void writeForeignKey(final ForeignKey foreignKey) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(ID, id(foreignKey));
+    generator.writeStringField("name", foreignKey.getName());
+    generator.writeStringField("full-name", foreignKey.getFullName());
+    writeAttributes(foreignKey.getAttributes());
+    writeColumnReferences(foreignKey);
+    writeStringValueField("constraint-type", foreignKey.getConstraintType());
+    writeStringValueField("deferrability", foreignKey.getDeferrability());
+    generator.writeBooleanField("deferrable", foreignKey.isDeferrable());
+    generator.writeStringField("definition", foreignKey.getDefinition());
+    writeStringValueField("delete-rule", foreignKey.getDeleteRule());
+    generator.writeBooleanField("initially-deferred", foreignKey.isInitiallyDeferred());
+    generator.writeStringField("remarks", foreignKey.getRemarks());
+    generator.writeStringField("specific-name", foreignKey.getSpecificName());
+    writeStringValueField("update-rule", foreignKey.getUpdateRule());
+    generator.writeEndObject();
+  }
+
+  private void writeIndex(final Index index) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", index.getName());
+    generator.writeStringField("short-name", index.getShortName());
+    generator.writeStringField("full-name", index.getFullName());
+    writeAttributes(index.getAttributes());
+    generator.writeNumberField("cardinality", index.getCardinality());
+    generator.writeArrayFieldStart("columns");
+    for (final IndexColumn indexColumn : index) {
+      writeColumnReference(indexColumn);
+    }
+    generator.writeEndArray();
+    generator.writeStringField("definition", index.getDefinition());
+    writeStringValueField("index-type", index.getIndexType());
+    generator.writeNumberField("pages", index.getPages());
+    generator.writeBooleanField("parent-partial", index.isParentPartial());
+    generator.writeStringField("remarks", index.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(index.getSchema());
+    writeStringValueField("type", index.getType());
+    generator.writeBooleanField("unique", index.isUnique());
+    generator.writeEndObject();
+  }
+
+  private void writeJavaSqlType(final JavaSqlType javaSqlType) throws IOException {
+    if (javaSqlType == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartObject();
+    generator.writeStringField("name", javaSqlType.getName());
+    final Class<?> defaultMappedClass = javaSqlType.getDefaultMappedClass();
+    generator.writeStringField(
+        "default-mapped-class", defaultMappedClass == null ? null : defaultMappedClass.getName());
+    writeStringValueField("java-sql-type-group", javaSqlType.getJavaSqlTypeGroup());
+    generator.writeStringField("vendor", javaSqlType.getVendor());
+    generator.writeFieldName("vendor-type-number");
+    writeValue(javaSqlType.getVendorTypeNumber());
+    generator.writeEndObject();
+  }
+
+  private void writeJdbcDriverInfo(final JdbcDriverInfo jdbcDriverInfo) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("connection-url", jdbcDriverInfo.getConnectionUrl());
+    generator.writeStringField("driver-class-name", jdbcDriverInfo.getDriverClassName());
+    generator.writeArrayFieldStart("driver-properties");
+    for (final JdbcDriverProperty driverProperty : jdbcDriverInfo.getDriverProperties()) {
+      generator.writeStartObject();
+      generator.writeStringField("name", driverProperty.getName());
+      writeStrings("choices", driverProperty.getChoices());
+      generator.writeStringField("description", driverProperty.getDescription());
+      generator.writeBooleanField("required", driverProperty.isRequired());
+      generator.writeStringField("value", driverProperty.getValue());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeBooleanField("jdbc-compliant", jdbcDriverInfo.isJdbcCompliant());
+    generator.writeStringField("product-name", jdbcDriverInfo.getProductName());
+    generator.writeStringField("product-version", jdbcDriverInfo.getProductVersion());
+    generator.writeEndObject();
+  }
+
+  /** Partial objects are written with only their names, since that is all that is known. */
+  private void writePartialObject(final DatabaseObject databaseObject) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", databaseObject.getName());
+    generator.writeStringField("full-name", databaseObject.getFullName());
+    writeAttributes(databaseObject.getAttributes());
+    generator.writeStringField("remarks", databaseObject.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(databaseObject.getSchema());
+    generator.writeEndObject();
+  }
+
+  private void writePrivileges(final Collection<? extends Privilege<?>> privileges)
+      throws IOException {
+    generator.writeArrayFieldStart("privileges");
+    for (final Privilege<?> privilege : privileges) {
+      generator.writeStartObject();
+      generator.writeStringField("name", privilege.getName());
+      generator.writeStringField("short-name", privilege.getShortName());
+      generator.writeStringField("full-name", privilege.getFullName());
+      writeAttributes(privilege.getAttributes());
+      generator.writeArrayFieldStart("grants");
+      for (final Grant<?> grant : privilege.getGrants()) {
+        generator.writeStartObject();
+        generator.writeBooleanField("grantable", grant.isGrantable());
+        generator.writeStringField("grantee", grant.getGrantee());
+        generator.writeStringField("grantor", grant.getGrantor());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+      generator.writeBooleanField("parent-partial", privilege.isParentPartial());
+      generator.writeStringField("remarks", privilege.getRemarks());
+      generator.writeFieldName("schema");
+      writeSchemaReference(privilege.getSchema());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeProductVersion(final String fieldName, final ProductVersion productVersion)
+      throws IOException {
+    generator.writeFieldName(fieldName);
+    if (productVersion == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartObject();
+    generator.writeStringField("product-name", productVersion.getProductName());
+    generator.writeStringField("product-version", productVersion.getProductVersion());
+    generator.writeEndObject();
+  }
+
+  private void writeProperties(
+      final String fieldName, final Collection<? extends Property> properties) throws IOException {
+    generator.writeArrayFieldStart(fieldName);
+    for (final Property property : properties) {
+      generator.writeStartObject();
+      generator.writeStringField("name", property.getName());
+      generator.writeStringField("description", property.getDescription());
+      generator.writeFieldName("value");
+      writeValue(property.getValue());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeRoutine(final Routine routine) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(ID, id(routine));
+    generator.writeStringField("name", routine.getName());
+    generator.writeStringField("full-name", routine.getFullName());
+    writeAttributes(routine.getAttributes());
+    generator.writeStringField("definition", routine.getDefinition());
+    generator.writeArrayFieldStart("parameters");
+    for (final RoutineParameter<? extends Routine> parameter : routine.getParameters()) {
+      generator.writeStartObject();
+      writeDependantObjectNames(parameter);
+      writeAttributes(parameter.getAttributes());
+      generator.writeFieldName("column-data-type");
+      writeColumnDataTypeReference(parameter.getColumnDataType());
+      generator.writeNumberField("decimal-digits", parameter.getDecimalDigits());
+      generator.writeBooleanField("nullable", parameter.isNullable());
+      generator.writeNumberField("ordinal-position", parameter.getOrdinalPosition());
+      writeStringValueField("parameter-mode", parameter.getParameterMode());
+      generator.writeBooleanField("parent-partial", parameter.isParentPartial());
+      generator.writeNumberField("precision", parameter.getPrecision());
+      generator.writeStringField("remarks", parameter.getRemarks());
+      generator.writeFieldName("schema");
+      writeSchemaReference(parameter.getSchema());
+      generator.writeNumberField("size", parameter.getSize());
+      generator.writeFieldName("type");
+      writeColumnDataTypeReference(parameter.getColumnDataType());
+      generator.writeStringField("width", parameter.getWidth());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+    generator.writeStringField("remarks", routine.getRemarks());
+    writeStringValueField("return-type", routine.getReturnType());
+    writeStringValueField("routine-body-type", routine.getRoutineBodyType());
+    writeStringValueField("routine-type", routine.getRoutineType());
+    generator.writeFieldName("schema");
+    writeSchemaReference(routine.getSchema());
+    generator.writeStringField("specific-name", routine.getSpecificName());
+    writeStringValueField("type", routine.getType());
+    generator.writeEndObject();
+  }
+
+  private void writeSchemaProperties(final Schema schema) throws IOException {
+    generator.writeStringField("name", schema.getName());
+    generator.writeStringField("full-name", schema.getFullName());
+    writeAttributes(schema.getAttributes());
+    generator.writeStringField("catalog-name", schema.getCatalogName());
+    generator.writeStringField("remarks", schema.getRemarks());
+  }
+
+  private void writeSchemaReference(final Schema schema) throws IOException {
+    if (schema == null) {
+      generator.writeNull();
+    } else if (schemaIds.contains(id(schema))) {
+      generator.writeString(id(schema));
+    } else {
+      generator.writeStartObject();
+      writeSchemaProperties(schema);
+      generator.writeEndObject();
+    }
+  }
+
+  private void writeSequence(final Sequence sequence) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", sequence.getName());
+    generator.writeStringField("full-name", sequence.getFullName());
+    writeAttributes(sequence.getAttributes());
+    generator.writeBooleanField("cycle", sequence.isCycle());
+    generator.writeNumberField("increment", sequence.getIncrement());
+    generator.writeFieldName("maximum-value");
+    writeValue(sequence.getMaximumValue());
+    generator.writeFieldName("minimum-value");
+    writeValue(sequence.getMinimumValue());
+    generator.writeStringField("remarks", sequence.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(sequence.getSchema());
+    generator.writeFieldName("start-value");
+    writeValue(sequence.getStartValue());
+    generator.writeEndObject();
+  }
+
+  private void writeStrings(final String fieldName, final Collection<String> values)
+      throws IOException {
+    generator.writeArrayFieldStart(fieldName);
+    for (final String value : values) {
+      generator.writeString(value);
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeStringValueField(final String fieldName, final Object value)
+      throws IOException {
+    generator.writeStringField(fieldName, value == null ? null : value.toString());
+  }
+
+  private void writeSynonym(final Synonym synonym) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", synonym.getName());
+    generator.writeStringField("full-name", synonym.getFullName());
+    writeAttributes(synonym.getAttributes());
+    generator.writeFieldName("referenced-object");
+    final DatabaseObject referencedObject = synonym.getReferencedObject();
+    if (referencedObject instanceof Table && isInCatalog((Table) referencedObject)) {
+      generator.writeString(id((Table) referencedObject));
+    } else if (referencedObject instanceof Routine
+        && routineIds.contains(id((Routine) referencedObject))) {
+      generator.writeString(id((Routine) referencedObject));
+    } else if (referencedObject == null) {
+      generator.writeNull();
+    } else {
+      writePartialObject(referencedObject);
+    }
+    generator.writeStringField("remarks", synonym.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(synonym.getSchema());
+    generator.writeEndObject();
+  }
+
+  private void writeTable(final Table table) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField(ID, id(table));
+    generator.writeStringField("name", table.getName());
+    generator.writeStringField("full-name", table.getFullName());
+    writeAttributes(table.getAttributes());
+    if (table instanceof View) {
+      writeStringValueField("check-option", ((View) table).getCheckOption());
+    }
+    writeColumns("columns", table.getColumns());
+    generator.writeStringField("definition", table.getDefinition());
+
+    generator.writeArrayFieldStart("foreign-keys");
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      final Table referencingTable = referencingTable(foreignKey);
+      if (referencingTable == table || !isInCatalog(referencingTable)) {
+        writeForeignKey(foreignKey);
+      } else {
+        generator.writeString(id(foreignKey));
+      }
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("hidden-columns");
+    for (final Column column : table.getHiddenColumns()) {
+      writeColumn(column);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart("indexes");
+    for (final Index index : table.getIndexes()) {
+      writeIndex(index);
+    }
+    generator.writeEndArray();
+
+    generator.writeFieldName("primary-key");
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    if (primaryKey == null) {
+      generator.writeNull();
+    } else {
+      writeTableConstraint(primaryKey);
+    }
+
+    writePrivileges(table.getPrivileges());
+    generator.writeStringField("remarks", table.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(table.getSchema());
+
+    generator.writeArrayFieldStart("table-constraints");
+    for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+      writeTableConstraint(tableConstraint);
+    }
+    generator.writeEndArray();
+
+    generator.writeFieldName("table-type");
+    generator.writeStartObject();
+    generator.writeStringField("table-type", table.getTableType().getTableType());
+    generator.writeBooleanField("view", table.getTableType().isView());
+    generator.writeEndObject();
+
+    if (table instanceof View) {
+      generator.writeArrayFieldStart("table-usage");
+      for (final Table usedTable : ((View) table).getTableUsage()) {
+        if (isInCatalog(usedTable)) {
+          generator.writeString(id(usedTable));
+        } else {
+          writePartialObject(usedTable);
+        }
+      }
+      generator.writeEndArray();
+    }
+
+    generator.writeArrayFieldStart("triggers");
+    for (final Trigger trigger : table.getTriggers()) {
+      writeTrigger(trigger);
+    }
+    generator.writeEndArray();
+
+    generator.writeStringField("type", table.getTableType().getTableType());
+    if (table instanceof View) {
+      generator.writeBooleanField("updatable", ((View) table).isUpdatable());
+    }
+
+    generator.writeArrayFieldStart("weak-associations");
+    for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+      final Table referencingTable = referencingTable(weakAssociation);
+      if (referencingTable == table || !isInCatalog(referencingTable)) {
+        generator.writeStartObject();
+        generator.writeStringField(ID, id(weakAssociation));
+        generator.writeStringField("name", weakAssociation.getName());
+        generator.writeStringField("full-name", weakAssociation.getFullName());
+        writeColumnReferences(weakAssociation);
+        generator.writeEndObject();
+      } else {
+        generator.writeString(id(weakAssociation));
+      }
+    }
+    generator.writeEndArray();
+
+    generator.writeEndObject();
+  }
+
+  private void writeTableConstraint(final TableConstraint tableConstraint) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", tableConstraint.getName());
+    generator.writeStringField("short-name", tableConstraint.getShortName());
+    generator.writeStringField("full-name", tableConstraint.getFullName());
+    writeAttributes(tableConstraint.getAttributes());
+    generator.writeArrayFieldStart("columns");
+    for (final TableConstraintColumn column : tableConstraint.getColumns()) {
+      writeColumnReference(column);
+    }
+    generator.writeEndArray();
+    writeStringValueField("constraint-type", tableConstraint.getConstraintType());
+    generator.writeBooleanField("deferrable", tableConstraint.isDeferrable());
+    generator.writeStringField("definition", tableConstraint.getDefinition());
+    generator.writeBooleanField("initially-deferred", tableConstraint.isInitiallyDeferred());
+    generator.writeBooleanField("parent-partial", tableConstraint.isParentPartial());
+    generator.writeStringField("remarks", tableConstraint.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(tableConstraint.getSchema());
+    writeStringValueField("type", tableConstraint.getType());
+    generator.writeEndObject();
+  }
+
+  private void writeTrigger(final Trigger trigger) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("name", trigger.getName());
+    generator.writeStringField("short-name", trigger.getShortName());
+    generator.writeStringField("full-name", trigger.getFullName());
+    writeAttributes(trigger.getAttributes());
+    generator.writeStringField("action-condition", trigger.getActionCondition());
+    generator.writeNumberField("action-order", trigger.getActionOrder());
+    writeStringValueField("action-orientation", trigger.getActionOrientation());
+    generator.writeStringField("action-statement", trigger.getActionStatement());
+    writeStringValueField("condition-timing", trigger.getConditionTiming());
+    writeStringValueField("event-manipulation-type", trigger.getEventManipulationType());
+    generator.writeBooleanField("parent-partial", trigger.isParentPartial());
+    generator.writeStringField("remarks", trigger.getRemarks());
+    generator.writeFieldName("schema");
+    writeSchemaReference(trigger.getSchema());
+    generator.writeEndObject();
+  }
+
+  /**
+   * Writes attribute and property values, which can be of any type. Values that do not have a
+   * natural JSON representation are written as strings.
+   */
+  private void writeValue(final Object value) throws IOException {
+    if (value == null) {
+      generator.writeNull();
+    } else if (value instanceof String) {
+      generator.writeString((String) value);
+    } else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      generator.writeNumber(((Number) value).intValue());
+    } else if (value instanceof Long) {
+      generator.writeNumber((Long) value);
+    } else if (value instanceof BigInteger) {
+      generator.writeNumber((BigInteger) value);
+    } else if (value instanceof BigDecimal) {
+      generator.writeNumber((BigDecimal) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      generator.writeNumber(((Number) value).doubleValue());
+    } else if (value instanceof Enum) {
+      generator.writeString(value.toString());
+    } else if (value instanceof Collection) {
+      generator.writeStartArray();
+      for (final Object element : (Collection<?>) value) {
+        writeValue(element);
+      }
+      generator.writeEndArray();
+    } else if (value.getClass().isArray()) {
+      generator.writeStartArray();
+      for (int i = 0; i < Array.getLength(value); i++) {
+        writeValue(Array.get(value, i));
+      }
+      generator.writeEndArray();
+    } else {
+      generator.writeString(value.toString());
+    }
+  }
+}
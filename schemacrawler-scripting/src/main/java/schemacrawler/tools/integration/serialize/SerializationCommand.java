@@ -70,6 +70,9 @@ public final class SerializationCommand extends BaseSchemaCrawlerCommand<Seriali
         (Class<CatalogSerializer>) Class.forName(serializerClassName);
     final CatalogSerializer serializableCatalog =
         serializableCatalogClass.getDeclaredConstructor(Catalog.class).newInstance(catalog);
+    if (serializableCatalog instanceof BaseJacksonSerializedCatalog) {
+      ((BaseJacksonSerializedCatalog) serializableCatalog).setCompact(commandOptions.isCompact());
+    }
 
     if (serializationFormat.isBinaryFormat()) {
       // Force a file to be created for binary formats such as Java serialization
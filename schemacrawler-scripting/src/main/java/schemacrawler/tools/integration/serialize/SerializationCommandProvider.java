@@ -57,14 +57,23 @@ public class SerializationCommandProvider extends BaseCommandProvider {
                 new String[] {
                   "Deserialization is possible with the \"offline\" command for Java serialization"
                 });
+    pluginCommand.addOption(
+        "compact",
+        boolean.class,
+        "Whether to write JSON output without indentation and line breaks%n"
+            + "Optional, defaults to false%n"
+            + "Corresponds to the configuration file setting: "
+            + "schemacrawler.format.serialize.compact");
 
     return pluginCommand;
   }
 
   @Override
   public SerializationCommand newSchemaCrawlerCommand(final String command, final Config config) {
+    final SerializationOptions serializationOptions =
+        SerializationOptionsBuilder.builder().fromConfig(config).toOptions();
     final SerializationCommand scCommand = new SerializationCommand();
-    scCommand.setCommandOptions(new SerializationOptions());
+    scCommand.setCommandOptions(serializationOptions);
     return scCommand;
   }
 
@@ -43,6 +43,11 @@ public enum SerializationFormat implements OutputFormat {
       "schemacrawler.tools.integration.serialize.JavaSerializedCatalog",
       true,
       "ser"),
+  binary(
+      "SchemaCrawler compact binary snapshot format",
+      "schemacrawler.tools.integration.serialize.BinarySerializedCatalog",
+      true,
+      "scbin"),
   json(
       "JavaScript Object Notation (JSON) serialization format",
       "schemacrawler.tools.integration.serialize.JsonSerializedCatalog",
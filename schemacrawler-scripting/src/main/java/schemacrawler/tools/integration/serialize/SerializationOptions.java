@@ -29,4 +29,24 @@ package schemacrawler.tools.integration.serialize;
 
 import schemacrawler.tools.executable.CommandOptions;
 
-public class SerializationOptions implements CommandOptions {}
+public class SerializationOptions implements CommandOptions {
+
+  private final boolean compact;
+
+  public SerializationOptions() {
+    this(false);
+  }
+
+  SerializationOptions(final boolean compact) {
+    this.compact = compact;
+  }
+
+  /**
+   * Whether text serialization formats are written without indentation and line breaks.
+   *
+   * @return True for compact output
+   */
+  public boolean isCompact() {
+    return compact;
+  }
+}
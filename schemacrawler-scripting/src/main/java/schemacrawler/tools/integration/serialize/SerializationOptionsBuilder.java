@@ -0,0 +1,102 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialize;
+
+import schemacrawler.schemacrawler.OptionsBuilder;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.options.ConfigOptionsBuilder;
+
+public final class SerializationOptionsBuilder
+    implements OptionsBuilder<SerializationOptionsBuilder, SerializationOptions>,
+        ConfigOptionsBuilder<SerializationOptionsBuilder, SerializationOptions> {
+
+  private static final String CLI_COMPACT = "compact";
+  private static final String COMPACT = "schemacrawler.format.serialize." + CLI_COMPACT;
+
+  public static SerializationOptionsBuilder builder() {
+    return new SerializationOptionsBuilder();
+  }
+
+  public static SerializationOptionsBuilder builder(final SerializationOptions options) {
+    return new SerializationOptionsBuilder().fromOptions(options);
+  }
+
+  private boolean compact;
+
+  private SerializationOptionsBuilder() {
+    compact = false;
+  }
+
+  @Override
+  public SerializationOptionsBuilder fromConfig(final Config config) {
+    if (config == null) {
+      return this;
+    }
+
+    final String compactKey;
+    if (config.containsKey(CLI_COMPACT)) {
+      // Honor command-line option first
+      compactKey = CLI_COMPACT;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      compactKey = COMPACT;
+    }
+    compact = config.getBooleanValue(compactKey, false);
+
+    return this;
+  }
+
+  @Override
+  public SerializationOptionsBuilder fromOptions(final SerializationOptions options) {
+    if (options == null) {
+      return this;
+    }
+
+    compact = options.isCompact();
+
+    return this;
+  }
+
+  @Override
+  public Config toConfig() {
+    final Config config = new Config();
+    config.put(COMPACT, compact);
+    return config;
+  }
+
+  @Override
+  public SerializationOptions toOptions() {
+    return new SerializationOptions(compact);
+  }
+
+  /** With compact output, without indentation, for text serialization formats. */
+  public SerializationOptionsBuilder withCompact(final boolean compact) {
+    this.compact = compact;
+    return this;
+  }
+}
@@ -30,7 +30,9 @@ package schemacrawler.test.serialize;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.oneOf;
@@ -42,6 +44,7 @@ import static schemacrawler.test.utility.TestUtility.fileHeaderOf;
 import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
 
 import java.io.FileOutputStream;
+import java.io.StringWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URISyntaxException;
@@ -49,6 +52,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.sql.Connection;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -137,4 +142,44 @@ public class CatalogJsonSerializationTest {
     assertThat(
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
+
+  @Test
+  public void catalogSerializationWithCompactJson(final Connection connection) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+
+    final JsonSerializedCatalog serializedCatalog = new JsonSerializedCatalog(catalog);
+    serializedCatalog.setCompact(true);
+    final StringWriter writer1 = new StringWriter();
+    serializedCatalog.save(writer1);
+    final StringWriter writer2 = new StringWriter();
+    serializedCatalog.save(writer2);
+
+    final String json = writer1.toString();
+    assertThat("Compact output is not on a single line", json.indexOf('\n'), is(-1));
+    assertThat("Object ids are not stable across runs", json, equalTo(writer2.toString()));
+
+    // Table columns are serialized once, and referenced by id from tables
+    final JsonNode rootNode = new ObjectMapper().readTree(json);
+    final Set<String> columnIds = new HashSet<>();
+    rootNode
+        .get("all-table-columns")
+        .elements()
+        .forEachRemaining(columnNode -> columnIds.add(columnNode.get("@uuid").asText()));
+    assertThat(columnIds, hasItem("column:PUBLIC.BOOKS.AUTHORS.ID"));
+
+    final JsonNode tablesNode = rootNode.get("catalog").get("tables");
+    assertThat(tablesNode.size(), is(catalog.getTables().size()));
+    tablesNode
+        .elements()
+        .forEachRemaining(
+            tableNode ->
+                tableNode
+                    .get("columns")
+                    .elements()
+                    .forEachRemaining(
+                        columnNode -> assertThat(columnIds, hasItem(columnNode.asText()))));
+  }
 }
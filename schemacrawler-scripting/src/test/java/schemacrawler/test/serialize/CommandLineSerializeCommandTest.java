@@ -92,6 +92,12 @@ public class CommandLineSerializeCommandTest {
     System.setErr(new PrintStream(new FileOutputStream(FileDescriptor.err)));
   }
 
+  @Test
+  public void commandLineBinary(final DatabaseConnectionInfo connectionInfo) throws Exception {
+    assertThatOutputIsCorrect(
+        commandlineSerialize(connectionInfo, SerializationFormat.binary), is("5343"));
+  }
+
   @Test
   public void commandLineJava(final DatabaseConnectionInfo connectionInfo) throws Exception {
     assertThatOutputIsCorrect(
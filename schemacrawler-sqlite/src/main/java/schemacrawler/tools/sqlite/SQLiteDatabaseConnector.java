@@ -28,6 +28,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.sqlite;
 
 
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
 import java.io.IOException;
 import schemacrawler.schemacrawler.DatabaseServerType;
 import schemacrawler.tools.databaseconnector.DatabaseConnectionUrlBuilder;
@@ -45,7 +50,12 @@ public final class SQLiteDatabaseConnector
           url -> url != null && url.startsWith("jdbc:sqlite:"),
           (informationSchemaViewsBuilder, connection) -> informationSchemaViewsBuilder.fromResourceFolder(
             "/sqlite.information_schema"),
-          (schemaRetrievalOptionsBuilder, connection) -> schemaRetrievalOptionsBuilder.withIdentifierQuoteString("\""),
+          (schemaRetrievalOptionsBuilder, connection) -> schemaRetrievalOptionsBuilder
+            .withIdentifierQuoteString("\"")
+            .with(tableColumnsRetrievalStrategy, data_dictionary_all)
+            .with(primaryKeysRetrievalStrategy, data_dictionary_all)
+            .with(foreignKeysRetrievalStrategy, data_dictionary_all)
+            .with(indexesRetrievalStrategy, data_dictionary_all),
           (limitOptionsBuilder) -> {},
           () -> DatabaseConnectionUrlBuilder.builder(
               "jdbc:sqlite:${database}"));
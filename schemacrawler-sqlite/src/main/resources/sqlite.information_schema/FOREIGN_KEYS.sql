@@ -0,0 +1,258 @@
+WITH RECURSIVE
+  TABLES AS
+  (
+    SELECT
+      'main' AS TABLE_DATABASE,
+      name AS TABLE_NAME,
+      LOWER(name) AS TABLE_KEY,
+      REPLACE(REPLACE(REPLACE(sql, CHAR(9), ' '), CHAR(10), ' '), CHAR(13), ' ')
+        AS TABLE_DEFINITION
+    FROM
+      sqlite_master
+    WHERE
+      type = 'table'
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+    UNION ALL
+    SELECT
+      'temp' AS TABLE_DATABASE,
+      name AS TABLE_NAME,
+      LOWER(name) AS TABLE_KEY,
+      REPLACE(REPLACE(REPLACE(sql, CHAR(9), ' '), CHAR(10), ' '), CHAR(13), ' ')
+        AS TABLE_DEFINITION
+    FROM
+      sqlite_temp_master
+    WHERE
+      type = 'table'
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+  ),
+  CONSTRAINT_CLAUSES (TABLE_NAME, CLAUSE, REST) AS
+  (
+    SELECT
+      TABLE_NAME,
+      NULL,
+      TABLE_DEFINITION
+    FROM
+      TABLES
+    UNION ALL
+    SELECT
+      TABLE_NAME,
+      LTRIM(SUBSTR(REST,
+        INSTR(REPLACE(REPLACE(UPPER(REST), ',', ' '), '(', ' '), ' CONSTRAINT ') + 12)),
+      SUBSTR(REST,
+        INSTR(REPLACE(REPLACE(UPPER(REST), ',', ' '), '(', ' '), ' CONSTRAINT ') + 12)
+    FROM
+      CONSTRAINT_CLAUSES
+    WHERE
+      -- Only match the keyword, and not names such as has_constraint
+      INSTR(REPLACE(REPLACE(UPPER(REST), ',', ' '), '(', ' '), ' CONSTRAINT ') > 0
+  ),
+  CONSTRAINT_NAMES AS
+  (
+    SELECT
+      TABLE_NAME,
+      CASE
+        WHEN SUBSTR(CLAUSE, 1, 1) IN ('"', '[', '`')
+          THEN SUBSTR(CLAUSE, 2, INSTR(SUBSTR(CLAUSE, 2), TRANSLATED_QUOTE) - 1)
+        ELSE SUBSTR(CLAUSE, 1, INSTR(CLAUSE || ' ', ' ') - 1)
+      END
+        AS CONSTRAINT_NAME,
+      CASE
+        WHEN SUBSTR(CLAUSE, 1, 1) IN ('"', '[', '`')
+          THEN LTRIM(SUBSTR(CLAUSE, INSTR(SUBSTR(CLAUSE, 2), TRANSLATED_QUOTE) + 2))
+        ELSE LTRIM(SUBSTR(CLAUSE, INSTR(CLAUSE || ' ', ' ')))
+      END
+        AS CONSTRAINT_BODY
+    FROM
+      (
+        SELECT
+          TABLE_NAME,
+          CLAUSE,
+          CASE SUBSTR(CLAUSE, 1, 1) WHEN '[' THEN ']' ELSE SUBSTR(CLAUSE, 1, 1) END
+            AS TRANSLATED_QUOTE
+        FROM
+          CONSTRAINT_CLAUSES
+        WHERE
+          CLAUSE IS NOT NULL
+      )
+  ),
+  PRIMARY_KEY_NAMES AS
+  (
+    SELECT
+      TABLE_NAME,
+      MIN(CONSTRAINT_NAME) AS PK_NAME
+    FROM
+      CONSTRAINT_NAMES
+    WHERE
+      UPPER(CONSTRAINT_BODY) LIKE 'PRIMARY %'
+    GROUP BY
+      TABLE_NAME
+  ),
+  FOREIGN_KEY_COLUMNS AS
+  (
+    SELECT
+      TABLES.TABLE_DATABASE,
+      TABLES.TABLE_NAME,
+      FOREIGN_KEYS.*
+    FROM
+      TABLES
+      INNER JOIN pragma_foreign_key_list(TABLES.TABLE_NAME, TABLES.TABLE_DATABASE) FOREIGN_KEYS
+    WHERE
+      COALESCE(${tablenames}, NULL) IS NULL
+      OR TABLES.TABLE_NAME IN (${tablenames})
+      OR FOREIGN_KEYS."table" COLLATE NOCASE IN (${tablenames})
+  ),
+  FOREIGN_KEY_SIZES AS
+  (
+    SELECT
+      TABLE_NAME,
+      id,
+      COUNT(*) AS COLUMN_COUNT
+    FROM
+      FOREIGN_KEY_COLUMNS
+    GROUP BY
+      TABLE_NAME,
+      id
+  ),
+  CONSTRAINT_FOREIGN_KEYS AS
+  (
+    SELECT
+      TABLE_NAME,
+      CONSTRAINT_NAME,
+      ',' || COLUMN_LIST || ',' AS COLUMN_LIST,
+      LENGTH(COLUMN_LIST) - LENGTH(REPLACE(COLUMN_LIST, ',', '')) + 1 AS COLUMN_COUNT,
+      LOWER(
+        CASE
+          WHEN SUBSTR(REFERENCES_CLAUSE, 1, 1) IN ('"', '[', '`')
+            THEN SUBSTR(REFERENCES_CLAUSE, 2,
+              INSTR(SUBSTR(REFERENCES_CLAUSE, 2),
+                CASE SUBSTR(REFERENCES_CLAUSE, 1, 1)
+                  WHEN '[' THEN ']'
+                  ELSE SUBSTR(REFERENCES_CLAUSE, 1, 1)
+                END) - 1)
+          ELSE SUBSTR(REFERENCES_CLAUSE, 1,
+            INSTR(REPLACE(REPLACE(REFERENCES_CLAUSE || ' ', '(', ' '), ',', ' '), ' ') - 1)
+        END)
+        AS REFERENCED_TABLE_KEY
+    FROM
+      (
+        SELECT
+          TABLE_NAME,
+          CONSTRAINT_NAME,
+          LOWER(
+            REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+              SUBSTR(CONSTRAINT_BODY,
+                INSTR(CONSTRAINT_BODY, '(') + 1,
+                INSTR(CONSTRAINT_BODY, ')') - INSTR(CONSTRAINT_BODY, '(') - 1),
+              ' ', ''), '"', ''), '[', ''), ']', ''), '`', ''))
+            AS COLUMN_LIST,
+          LTRIM(SUBSTR(CONSTRAINT_BODY,
+            INSTR(REPLACE(UPPER(CONSTRAINT_BODY), ')', ' '), ' REFERENCES ') + 12))
+            AS REFERENCES_CLAUSE
+        FROM
+          CONSTRAINT_NAMES
+        WHERE
+          UPPER(CONSTRAINT_BODY) LIKE 'FOREIGN %'
+          AND INSTR(REPLACE(UPPER(CONSTRAINT_BODY), ')', ' '), ' REFERENCES ') > 0
+      )
+  ),
+  FOREIGN_KEY_CONSTRAINTS AS
+  (
+    -- Constraints that have the same columns, and reference the same
+    -- table, as a foreign key
+    SELECT
+      FOREIGN_KEY_COLUMNS.TABLE_NAME,
+      FOREIGN_KEY_COLUMNS.id,
+      CONSTRAINT_FOREIGN_KEYS.CONSTRAINT_NAME
+    FROM
+      FOREIGN_KEY_COLUMNS
+      INNER JOIN FOREIGN_KEY_SIZES
+        ON FOREIGN_KEY_SIZES.TABLE_NAME = FOREIGN_KEY_COLUMNS.TABLE_NAME
+        AND FOREIGN_KEY_SIZES.id = FOREIGN_KEY_COLUMNS.id
+      INNER JOIN CONSTRAINT_FOREIGN_KEYS
+        ON CONSTRAINT_FOREIGN_KEYS.TABLE_NAME = FOREIGN_KEY_COLUMNS.TABLE_NAME
+        AND CONSTRAINT_FOREIGN_KEYS.REFERENCED_TABLE_KEY = LOWER(FOREIGN_KEY_COLUMNS."table")
+        AND CONSTRAINT_FOREIGN_KEYS.COLUMN_COUNT = FOREIGN_KEY_SIZES.COLUMN_COUNT
+        AND INSTR(CONSTRAINT_FOREIGN_KEYS.COLUMN_LIST,
+          ',' || LOWER(FOREIGN_KEY_COLUMNS."from") || ',') > 0
+    GROUP BY
+      FOREIGN_KEY_COLUMNS.TABLE_NAME,
+      FOREIGN_KEY_COLUMNS.id,
+      CONSTRAINT_FOREIGN_KEYS.CONSTRAINT_NAME,
+      FOREIGN_KEY_SIZES.COLUMN_COUNT
+    HAVING
+      COUNT(*) = FOREIGN_KEY_SIZES.COLUMN_COUNT
+  ),
+  FOREIGN_KEY_NAMES AS
+  (
+    -- Names are left blank when a foreign key matches more than one
+    -- constraint, or a constraint matches more than one foreign key
+    SELECT
+      TABLE_NAME,
+      id,
+      MIN(CONSTRAINT_NAME) AS FK_NAME
+    FROM
+      FOREIGN_KEY_CONSTRAINTS
+    WHERE
+      NOT EXISTS
+      (
+        SELECT
+          1
+        FROM
+          FOREIGN_KEY_CONSTRAINTS OTHER_FOREIGN_KEYS
+        WHERE
+          OTHER_FOREIGN_KEYS.TABLE_NAME = FOREIGN_KEY_CONSTRAINTS.TABLE_NAME
+          AND OTHER_FOREIGN_KEYS.CONSTRAINT_NAME = FOREIGN_KEY_CONSTRAINTS.CONSTRAINT_NAME
+          AND OTHER_FOREIGN_KEYS.id <> FOREIGN_KEY_CONSTRAINTS.id
+      )
+    GROUP BY
+      TABLE_NAME,
+      id
+    HAVING
+      COUNT(*) = 1
+  )
+SELECT
+  NULL AS PKTABLE_CAT,
+  NULL AS PKTABLE_SCHEM,
+  COALESCE(PK_TABLES.TABLE_NAME, FOREIGN_KEY_COLUMNS."table") AS PKTABLE_NAME,
+  COALESCE(FOREIGN_KEY_COLUMNS."to", PK_COLUMNS.name) AS PKCOLUMN_NAME,
+  NULL AS FKTABLE_CAT,
+  NULL AS FKTABLE_SCHEM,
+  FOREIGN_KEY_COLUMNS.TABLE_NAME AS FKTABLE_NAME,
+  FOREIGN_KEY_COLUMNS."from" AS FKCOLUMN_NAME,
+  FOREIGN_KEY_COLUMNS.seq + 1 AS KEY_SEQ,
+  CASE FOREIGN_KEY_COLUMNS.on_update
+    WHEN 'NO ACTION' THEN 3
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'SET DEFAULT' THEN 4
+  END
+    AS UPDATE_RULE,
+  CASE FOREIGN_KEY_COLUMNS.on_delete
+    WHEN 'NO ACTION' THEN 3
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'SET DEFAULT' THEN 4
+  END
+    AS DELETE_RULE,
+  COALESCE(FOREIGN_KEY_NAMES.FK_NAME, '') AS FK_NAME,
+  COALESCE(PRIMARY_KEY_NAMES.PK_NAME, '') AS PK_NAME,
+  5 AS DEFERRABILITY
+FROM
+  FOREIGN_KEY_COLUMNS
+  LEFT OUTER JOIN TABLES PK_TABLES
+    ON PK_TABLES.TABLE_KEY = LOWER(FOREIGN_KEY_COLUMNS."table")
+    AND PK_TABLES.TABLE_DATABASE = FOREIGN_KEY_COLUMNS.TABLE_DATABASE
+  LEFT OUTER JOIN pragma_table_info(PK_TABLES.TABLE_NAME, PK_TABLES.TABLE_DATABASE) PK_COLUMNS
+    ON PK_COLUMNS.pk = FOREIGN_KEY_COLUMNS.seq + 1
+  LEFT OUTER JOIN FOREIGN_KEY_NAMES
+    ON FOREIGN_KEY_NAMES.TABLE_NAME = FOREIGN_KEY_COLUMNS.TABLE_NAME
+    AND FOREIGN_KEY_NAMES.id = FOREIGN_KEY_COLUMNS.id
+  LEFT OUTER JOIN PRIMARY_KEY_NAMES
+    ON PRIMARY_KEY_NAMES.TABLE_NAME = PK_TABLES.TABLE_NAME
+ORDER BY
+  PKTABLE_NAME,
+  FKTABLE_NAME,
+  FOREIGN_KEY_COLUMNS.id,
+  KEY_SEQ
@@ -0,0 +1,47 @@
+WITH
+  TABLES AS
+  (
+    SELECT
+      'main' AS TABLE_DATABASE,
+      name AS TABLE_NAME
+    FROM
+      sqlite_master
+    WHERE
+      type = 'table'
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+      AND (COALESCE(${tablenames}, NULL) IS NULL OR name IN (${tablenames}))
+    UNION ALL
+    SELECT
+      'temp' AS TABLE_DATABASE,
+      name AS TABLE_NAME
+    FROM
+      sqlite_temp_master
+    WHERE
+      type = 'table'
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+      AND (COALESCE(${tablenames}, NULL) IS NULL OR name IN (${tablenames}))
+  )
+SELECT
+  NULL AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLES.TABLE_NAME,
+  1 - INDEXES."unique" AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEXES.name AS INDEX_NAME,
+  3 AS TYPE,
+  INDEX_COLUMNS.seqno + 1 AS ORDINAL_POSITION,
+  INDEX_COLUMNS.name AS COLUMN_NAME,
+  CASE INDEX_COLUMNS."desc" WHEN 0 THEN 'A' ELSE 'D' END AS ASC_OR_DESC,
+  0 AS CARDINALITY,
+  0 AS PAGES,
+  NULL AS FILTER_CONDITION
+FROM
+  TABLES
+  INNER JOIN pragma_index_list(TABLES.TABLE_NAME, TABLES.TABLE_DATABASE) INDEXES
+  INNER JOIN pragma_index_xinfo(INDEXES.name, TABLES.TABLE_DATABASE) INDEX_COLUMNS
+WHERE
+  INDEX_COLUMNS."key" = 1
+ORDER BY
+  TABLE_NAME,
+  INDEX_NAME,
+  ORDINAL_POSITION
@@ -0,0 +1,106 @@
+WITH RECURSIVE
+  TABLES AS
+  (
+    SELECT
+      'main' AS TABLE_DATABASE,
+      name AS TABLE_NAME,
+      REPLACE(REPLACE(REPLACE(sql, CHAR(9), ' '), CHAR(10), ' '), CHAR(13), ' ')
+        AS TABLE_DEFINITION
+    FROM
+      sqlite_master
+    WHERE
+      type = 'table'
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+      AND (COALESCE(${tablenames}, NULL) IS NULL OR name IN (${tablenames}))
+    UNION ALL
+    SELECT
+      'temp' AS TABLE_DATABASE,
+      name AS TABLE_NAME,
+      REPLACE(REPLACE(REPLACE(sql, CHAR(9), ' '), CHAR(10), ' '), CHAR(13), ' ')
+        AS TABLE_DEFINITION
+    FROM
+      sqlite_temp_master
+    WHERE
+      type = 'table'
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+      AND (COALESCE(${tablenames}, NULL) IS NULL OR name IN (${tablenames}))
+  ),
+  CONSTRAINT_CLAUSES (TABLE_NAME, CLAUSE, REST) AS
+  (
+    SELECT
+      TABLE_NAME,
+      NULL,
+      TABLE_DEFINITION
+    FROM
+      TABLES
+    UNION ALL
+    SELECT
+      TABLE_NAME,
+      LTRIM(SUBSTR(REST,
+        INSTR(REPLACE(REPLACE(UPPER(REST), ',', ' '), '(', ' '), ' CONSTRAINT ') + 12)),
+      SUBSTR(REST,
+        INSTR(REPLACE(REPLACE(UPPER(REST), ',', ' '), '(', ' '), ' CONSTRAINT ') + 12)
+    FROM
+      CONSTRAINT_CLAUSES
+    WHERE
+      -- Only match the keyword, and not names such as has_constraint
+      INSTR(REPLACE(REPLACE(UPPER(REST), ',', ' '), '(', ' '), ' CONSTRAINT ') > 0
+  ),
+  CONSTRAINT_NAMES AS
+  (
+    SELECT
+      TABLE_NAME,
+      CASE
+        WHEN SUBSTR(CLAUSE, 1, 1) IN ('"', '[', '`')
+          THEN SUBSTR(CLAUSE, 2, INSTR(SUBSTR(CLAUSE, 2), TRANSLATED_QUOTE) - 1)
+        ELSE SUBSTR(CLAUSE, 1, INSTR(CLAUSE || ' ', ' ') - 1)
+      END
+        AS CONSTRAINT_NAME,
+      CASE
+        WHEN SUBSTR(CLAUSE, 1, 1) IN ('"', '[', '`')
+          THEN LTRIM(SUBSTR(CLAUSE, INSTR(SUBSTR(CLAUSE, 2), TRANSLATED_QUOTE) + 2))
+        ELSE LTRIM(SUBSTR(CLAUSE, INSTR(CLAUSE || ' ', ' ')))
+      END
+        AS CONSTRAINT_BODY
+    FROM
+      (
+        SELECT
+          TABLE_NAME,
+          CLAUSE,
+          CASE SUBSTR(CLAUSE, 1, 1) WHEN '[' THEN ']' ELSE SUBSTR(CLAUSE, 1, 1) END
+            AS TRANSLATED_QUOTE
+        FROM
+          CONSTRAINT_CLAUSES
+        WHERE
+          CLAUSE IS NOT NULL
+      )
+  ),
+  PRIMARY_KEY_NAMES AS
+  (
+    SELECT
+      TABLE_NAME,
+      MIN(CONSTRAINT_NAME) AS PK_NAME
+    FROM
+      CONSTRAINT_NAMES
+    WHERE
+      UPPER(CONSTRAINT_BODY) LIKE 'PRIMARY %'
+    GROUP BY
+      TABLE_NAME
+  )
+SELECT
+  NULL AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLES.TABLE_NAME,
+  TABLE_COLUMNS.name AS COLUMN_NAME,
+  TABLE_COLUMNS.pk AS KEY_SEQ,
+  PRIMARY_KEY_NAMES.PK_NAME
+FROM
+  TABLES
+  INNER JOIN pragma_table_info(TABLES.TABLE_NAME, TABLES.TABLE_DATABASE) TABLE_COLUMNS
+  LEFT OUTER JOIN PRIMARY_KEY_NAMES
+    ON PRIMARY_KEY_NAMES.TABLE_NAME = TABLES.TABLE_NAME
+WHERE
+  TABLE_COLUMNS.pk > 0
+ORDER BY
+  TABLES.TABLE_NAME,
+  KEY_SEQ
@@ -0,0 +1,87 @@
+WITH
+  TABLES AS
+  (
+    SELECT
+      'main' AS TABLE_DATABASE,
+      name AS TABLE_NAME,
+      sql AS TABLE_DEFINITION
+    FROM
+      sqlite_master
+    WHERE
+      type IN ('table', 'view')
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+      AND (COALESCE(${tablenames}, NULL) IS NULL OR name IN (${tablenames}))
+    UNION ALL
+    SELECT
+      'temp' AS TABLE_DATABASE,
+      name AS TABLE_NAME,
+      sql AS TABLE_DEFINITION
+    FROM
+      sqlite_temp_master
+    WHERE
+      type IN ('table', 'view')
+      AND name NOT LIKE 'sqlite\_%' ESCAPE '\'
+      AND (COALESCE(${tablenames}, NULL) IS NULL OR name IN (${tablenames}))
+  ),
+  COLUMNS AS
+  (
+    SELECT
+      TABLES.TABLE_NAME,
+      TABLES.TABLE_DEFINITION,
+      CASE
+        WHEN TABLE_COLUMNS.type IS NULL THEN 'TEXT'
+        WHEN INSTR(UPPER(TABLE_COLUMNS.type), ' GENERATED ALWAYS') > 0
+          THEN SUBSTR(TABLE_COLUMNS.type, 1, INSTR(UPPER(TABLE_COLUMNS.type), ' GENERATED ALWAYS') - 1)
+        ELSE TABLE_COLUMNS.type
+      END
+        AS DECLARED_TYPE,
+      TABLE_COLUMNS.*
+    FROM
+      TABLES
+      INNER JOIN pragma_table_xinfo(TABLES.TABLE_NAME, TABLES.TABLE_DATABASE) TABLE_COLUMNS
+    WHERE
+      TABLE_COLUMNS.hidden IN (0, 2, 3)
+  )
+SELECT
+  NULL AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  COLUMNS.TABLE_NAME,
+  COLUMNS.name AS COLUMN_NAME,
+  CASE
+    WHEN COLUMNS.DECLARED_TYPE LIKE '%INT%' OR COLUMNS.DECLARED_TYPE LIKE '%BOOL%' THEN 4
+    WHEN COLUMNS.DECLARED_TYPE LIKE '%CHAR%' OR COLUMNS.DECLARED_TYPE LIKE '%CLOB%'
+      OR COLUMNS.DECLARED_TYPE LIKE '%TEXT%' OR COLUMNS.DECLARED_TYPE LIKE '%BLOB%' THEN 12
+    WHEN COLUMNS.DECLARED_TYPE LIKE '%REAL%' OR COLUMNS.DECLARED_TYPE LIKE '%FLOA%'
+      OR COLUMNS.DECLARED_TYPE LIKE '%DOUB%' OR COLUMNS.DECLARED_TYPE LIKE '%DEC%'
+      OR COLUMNS.DECLARED_TYPE LIKE '%NUM%' THEN 6
+    ELSE 12
+  END
+    AS DATA_TYPE,
+  COLUMNS.DECLARED_TYPE AS TYPE_NAME,
+  2000000000 AS COLUMN_SIZE,
+  2000000000 AS BUFFER_LENGTH,
+  10 AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE COLUMNS."notnull" WHEN 0 THEN 1 ELSE 0 END AS NULLABLE,
+  NULL AS REMARKS,
+  COLUMNS.dflt_value AS COLUMN_DEF,
+  0 AS SQL_DATA_TYPE,
+  0 AS SQL_DATETIME_SUB,
+  2000000000 AS CHAR_OCTET_LENGTH,
+  COLUMNS.cid + 1 AS ORDINAL_POSITION,
+  CASE COLUMNS."notnull" WHEN 0 THEN 'YES' ELSE 'NO' END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE
+    WHEN COLUMNS.pk > 0 AND LOWER(COLUMNS.TABLE_DEFINITION) LIKE '%autoincrement%' THEN 'YES'
+    ELSE 'NO'
+  END
+    AS IS_AUTOINCREMENT,
+  CASE WHEN COLUMNS.hidden IN (2, 3) THEN 'YES' ELSE 'NO' END AS IS_GENERATEDCOLUMN
+FROM
+  COLUMNS
+ORDER BY
+  TABLE_NAME,
+  ORDINAL_POSITION
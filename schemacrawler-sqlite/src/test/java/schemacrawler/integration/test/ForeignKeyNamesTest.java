@@ -0,0 +1,101 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.test.utility.BaseSqliteTest;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+@ExtendWith(TestLoggingExtension.class)
+public class ForeignKeyNamesTest extends BaseSqliteTest {
+
+  @Test
+  public void foreignKeysSharingFirstColumn() throws Exception {
+    final Path sqliteDbFile = createTestDatabase("/foreign_key_names.sql");
+
+    final Catalog catalog;
+    try (final Connection connection = createConnection(sqliteDbFile)) {
+      catalog =
+          SchemaCrawlerUtility.getCatalog(
+              connection, DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    }
+    final Schema schema = catalog.getSchemas().iterator().next();
+    final Table child = catalog.lookupTable(schema, "CHILD").get();
+
+    final Map<String, String> foreignKeys = new HashMap<>();
+    for (final ForeignKey foreignKey : child.getImportedForeignKeys()) {
+      final StringBuilder columns = new StringBuilder();
+      for (final ForeignKeyColumnReference columnReference : foreignKey) {
+        columns
+            .append(columnReference.getForeignKeyColumn().getName())
+            .append("->")
+            .append(columnReference.getPrimaryKeyColumn().getFullName())
+            .append(" ");
+      }
+      foreignKeys.put(columns.toString().trim(), foreignKey.getName());
+    }
+
+    // Each foreign key keeps its own columns, and is not merged with
+    // another foreign key that starts with the same column
+    assertThat(
+        foreignKeys.keySet(),
+        containsInAnyOrder(
+            "A->T1.A B->T1.B",
+            "A->T2.A C->T2.C",
+            "A->T3.has_constraint",
+            "has_constraint->T3.has_constraint"));
+    assertThat(foreignKeys.get("A->T1.A B->T1.B"), is("FK_CHILD_T1"));
+    assertThat(foreignKeys.get("A->T2.A C->T2.C"), is("FK CHILD T2"));
+    assertThat(foreignKeys.get("has_constraint->T3.has_constraint"), is("FK_CHILD_T3"));
+    assertThat(foreignKeys.get("A->T3.has_constraint"), is(not("FK_CHILD_T1")));
+
+    // Column names that contain the word constraint are not taken for
+    // constraint names
+    final Table t3 = catalog.lookupTable(schema, "T3").get();
+    assertThat(t3.getPrimaryKey().getName(), is(not("INTEGER")));
+  }
+}
@@ -0,0 +1,199 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.primaryKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.BaseSqliteTest;
+import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.tools.databaseconnector.DatabaseConnector;
+import schemacrawler.tools.databaseconnector.DatabaseConnectorRegistry;
+import us.fatehi.utility.IOUtility;
+
+/**
+ * Checks that the SQLite pragma table-valued functions find the same table columns, primary keys,
+ * foreign keys and indexes as the database metadata calls of the SQLite JDBC driver.
+ */
+@ExtendWith(TestLoggingExtension.class)
+public class SQLiteDataDictionaryTest extends BaseSqliteTest {
+
+  private static final int TABLES = 20;
+
+  @Test
+  public void dataDictionaryMatchesMetadata() throws Exception {
+    try (final Connection connection = createConnection(createDatabase())) {
+      final Catalog dataDictionaryCatalog =
+          crawl(connection, sqliteRetrievalOptionsBuilder(connection).toOptions());
+      final Catalog metadataCatalog =
+          crawl(
+              connection,
+              sqliteRetrievalOptionsBuilder(connection)
+                  .with(tableColumnsRetrievalStrategy, metadata)
+                  .with(primaryKeysRetrievalStrategy, metadata)
+                  .with(foreignKeysRetrievalStrategy, metadata)
+                  .with(indexesRetrievalStrategy, metadata)
+                  .toOptions());
+
+      assertThat(dataDictionaryCatalog.getTables(), hasSize(TABLES));
+      assertThat(describe(dataDictionaryCatalog), equalTo(describe(metadataCatalog)));
+
+      // The SQLite JDBC driver does not report the sort sequence of index
+      // columns, but the data dictionary does
+      final Table table = dataDictionaryCatalog.getTables().iterator().next();
+      final Index index = table.getIndexes().iterator().next();
+      final List<IndexColumnSortSequence> sortSequences = new ArrayList<>();
+      for (final IndexColumn indexColumn : index.getColumns()) {
+        sortSequences.add(indexColumn.getSortSequence());
+      }
+      assertThat(
+          sortSequences,
+          contains(IndexColumnSortSequence.ascending, IndexColumnSortSequence.descending));
+    }
+  }
+
+  private Path createDatabase() throws Exception {
+    final Path sqliteDbFile =
+        IOUtility.createTempFilePath("datadictionary", "db").normalize().toAbsolutePath();
+    try (final Connection connection = createConnection(sqliteDbFile);
+        final Statement statement = connection.createStatement()) {
+      for (int i = 0; i < TABLES; i++) {
+        final String foreignKey;
+        if (i == 0) {
+          foreignKey = "";
+        } else {
+          foreignKey =
+              String.format(
+                  ",%n  CONSTRAINT FK_TABLE_%02d FOREIGN KEY (PARENT_ID) REFERENCES TABLE_%02d (ID)",
+                  i, (i - 1) / 2);
+        }
+        statement.execute(
+            String.format(
+                "CREATE TABLE TABLE_%02d%n(%n"
+                    + "  ID INTEGER NOT NULL,%n"
+                    + "  PARENT_ID INTEGER,%n"
+                    + "  NAME VARCHAR(50) NOT NULL,%n"
+                    + "  CREATED DATE DEFAULT CURRENT_DATE,%n"
+                    + "  PRICE NUMERIC(10, 2),%n"
+                    + "  CONSTRAINT PK_TABLE_%02d PRIMARY KEY (ID)%s%n"
+                    + ")",
+                i, i, foreignKey));
+        statement.execute(
+            String.format("CREATE INDEX IDX_TABLE_%02d ON TABLE_%02d (NAME, CREATED DESC)", i, i));
+      }
+      connection.commit();
+    }
+    return sqliteDbFile;
+  }
+
+  private Catalog crawl(final Connection connection, final SchemaRetrievalOptions retrievalOptions)
+      throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(
+                LoadOptionsBuilder.builder()
+                    .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard())
+                    .toOptions());
+    return new SchemaCrawler(connection, retrievalOptions, schemaCrawlerOptions).crawl();
+  }
+
+  /** Describes the objects that both retrieval strategies are expected to find. */
+  private List<String> describe(final Catalog catalog) {
+    final List<String> description = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      description.add("table " + table.getFullName());
+      for (final Column column : table.getColumns()) {
+        description.add(
+            String.format(
+                "  column %s %s nullable=%s",
+                column.getName(), column.getColumnDataType().getName(), column.isNullable()));
+      }
+      if (table.hasPrimaryKey()) {
+        for (final Column column : table.getPrimaryKey().getColumns()) {
+          description.add("  primary key column " + column.getName());
+        }
+      }
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        for (final ForeignKeyColumnReference columnReference : foreignKey) {
+          description.add(
+              String.format(
+                  "  foreign key %s %s -> %s",
+                  foreignKey.getName(),
+                  columnReference.getForeignKeyColumn().getName(),
+                  columnReference.getPrimaryKeyColumn().getFullName()));
+        }
+      }
+      for (final Index index : table.getIndexes()) {
+        for (final IndexColumn indexColumn : index.getColumns()) {
+          description.add(
+              String.format(
+                  "  index %s unique=%s %s",
+                  index.getName(), index.isUnique(), indexColumn.getName()));
+        }
+      }
+    }
+    return description;
+  }
+
+  private SchemaRetrievalOptionsBuilder sqliteRetrievalOptionsBuilder(final Connection connection) {
+    final DatabaseConnector databaseConnector =
+        DatabaseConnectorRegistry.getDatabaseConnectorRegistry().lookupDatabaseConnector("sqlite");
+    return databaseConnector.getSchemaRetrievalOptionsBuilder(connection);
+  }
+}
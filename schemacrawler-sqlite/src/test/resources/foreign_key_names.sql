@@ -0,0 +1,28 @@
+-- Foreign keys that share a leading column, named and unnamed
+
+CREATE TABLE T1 (
+  A INTEGER,
+  B INTEGER,
+  PRIMARY KEY (A, B)
+);
+
+CREATE TABLE T2 (
+  A INTEGER,
+  C INTEGER,
+  PRIMARY KEY (A, C)
+);
+
+CREATE TABLE T3 (
+  has_constraint INTEGER PRIMARY KEY
+);
+
+CREATE TABLE CHILD (
+  A INTEGER,
+  B INTEGER,
+  C INTEGER,
+  has_constraint INTEGER,
+  CONSTRAINT FK_CHILD_T1 FOREIGN KEY (A, B) REFERENCES T1 (A, B),
+  CONSTRAINT "FK CHILD T2" FOREIGN KEY (A, C) REFERENCES T2 (A, C),
+  FOREIGN KEY (A) REFERENCES T3 (has_constraint),
+  CONSTRAINT FK_CHILD_T3 FOREIGN KEY(has_constraint)REFERENCES T3
+);
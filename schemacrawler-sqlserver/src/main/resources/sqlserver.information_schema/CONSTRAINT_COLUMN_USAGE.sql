@@ -3,3 +3,5 @@ SELECT
   0 AS ORDINAL_POSTION
 FROM
   INFORMATION_SCHEMA.CONSTRAINT_COLUMN_USAGE
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
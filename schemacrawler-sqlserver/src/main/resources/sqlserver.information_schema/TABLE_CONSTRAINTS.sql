@@ -2,3 +2,5 @@ SELECT
   *
 FROM
   INFORMATION_SCHEMA.TABLE_CONSTRAINTS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
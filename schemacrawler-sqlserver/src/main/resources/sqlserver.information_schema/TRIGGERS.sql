@@ -48,3 +48,4 @@ FROM
     ON tables.name = information_schema_tables.TABLE_NAME
 WHERE
   triggers.type = 'TR'
+  AND (COALESCE(${tablenames}, NULL) IS NULL OR information_schema_tables.TABLE_NAME IN (${tablenames}))
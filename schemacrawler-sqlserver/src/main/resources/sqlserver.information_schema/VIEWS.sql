@@ -8,3 +8,5 @@ SELECT
     AS VIEW_DEFINITION
 FROM
   INFORMATION_SCHEMA.VIEWS
+WHERE
+  (COALESCE(${tablenames}, NULL) IS NULL OR TABLE_NAME IN (${tablenames}))
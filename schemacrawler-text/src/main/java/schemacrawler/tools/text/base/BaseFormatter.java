@@ -62,6 +62,7 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
   protected final Identifiers identifiers;
   protected final boolean printVerboseDatabaseInfo;
   private final PrintWriter out;
+  private final TextOutputFormat outputFormat;
 
   protected BaseFormatter(
       final O options,
@@ -84,22 +85,13 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
             .build();
 
     try {
-      out = new PrintWriter(outputOptions.openNewOutputWriter(false), true);
+      out = new PrintWriter(outputOptions.openNewOutputWriter(false));
     } catch (final IOException e) {
       throw new SchemaCrawlerException("Cannot open output writer", e);
     }
 
-    final TextOutputFormat outputFormat =
-        TextOutputFormat.fromFormat(outputOptions.getOutputFormatValue());
-    switch (outputFormat) {
-      case html:
-        formattingHelper = new HtmlFormattingHelper(out, outputFormat);
-        break;
-      case text:
-      default:
-        formattingHelper = new PlainTextFormattingHelper(out, outputFormat);
-        break;
-    }
+    outputFormat = TextOutputFormat.fromFormat(outputOptions.getOutputFormatValue());
+    formattingHelper = newFormattingHelper(out);
   }
 
   @Override
@@ -130,6 +122,23 @@ public abstract class BaseFormatter<O extends BaseTextOptions> implements Traver
             || column.isPartOfIndex());
   }
 
+  /**
+   * Creates a formatting helper for the output format, that writes to the given writer, which may
+   * be a buffer rather than the output.
+   *
+   * @param out Writer to write formatted text to
+   * @return Formatting helper
+   */
+  protected final TextFormattingHelper newFormattingHelper(final PrintWriter out) {
+    switch (outputFormat) {
+      case html:
+        return new HtmlFormattingHelper(out, outputFormat);
+      case text:
+      default:
+        return new PlainTextFormattingHelper(out, outputFormat);
+    }
+  }
+
   protected String nodeId(final DatabaseObject dbObject) {
     if (dbObject == null) {
       return "";
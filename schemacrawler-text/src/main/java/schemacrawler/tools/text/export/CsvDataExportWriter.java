@@ -0,0 +1,120 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * Writes comma-separated values, quoted according to RFC 4180. Each table starts with a header row
+ * of column names, each row starts with the table name, and tables are separated by a blank line.
+ * SQL nulls are written as empty values.
+ */
+final class CsvDataExportWriter extends DataExportWriter {
+
+  private String tableName;
+
+  CsvDataExportWriter(final Writer writer) {
+    super(writer);
+  }
+
+  @Override
+  protected void endRow() throws IOException {
+    writer.write("\r\n");
+  }
+
+  @Override
+  protected void startRow() throws IOException {
+    writer.write(tableName);
+  }
+
+  @Override
+  protected void startTable(final int tableIndex, final String title, final String[] columnNames)
+      throws IOException {
+    if (tableIndex > 0) {
+      writer.write("\r\n");
+    }
+    // Escape the table name once per table, rather than for every row
+    final StringWriter tableNameWriter = new StringWriter();
+    writeEscaped(tableNameWriter, title);
+    tableName = tableNameWriter.toString();
+
+    writer.write("table");
+    for (final String columnName : columnNames) {
+      writer.write(',');
+      writeEscaped(writer, columnName);
+    }
+    endRow();
+  }
+
+  @Override
+  protected void writeValue(
+      final int columnIndex, final ExportColumnType columnType, final String value)
+      throws IOException {
+    writer.write(',');
+    if (value == null) {
+      return;
+    }
+    if (columnType.isNumeric(value)) {
+      writer.write(value);
+    } else {
+      writeEscaped(writer, value);
+    }
+  }
+
+  private void writeEscaped(final Writer out, final String value) throws IOException {
+    if (!needsQuotes(value)) {
+      out.write(value);
+      return;
+    }
+
+    out.write('"');
+    int start = 0;
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) == '"') {
+        out.write(value, start, i - start + 1);
+        out.write('"');
+        start = i + 1;
+      }
+    }
+    out.write(value, start, value.length() - start);
+    out.write('"');
+  }
+
+  private boolean needsQuotes(final String value) {
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      if (ch == ',' || ch == '"' || ch == '\r' || ch == '\n') {
+        return true;
+      }
+    }
+    return false;
+  }
+}
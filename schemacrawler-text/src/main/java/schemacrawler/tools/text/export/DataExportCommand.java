@@ -0,0 +1,220 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
+import static schemacrawler.tools.text.export.DataExportWriter.newDataExportWriter;
+import static us.fatehi.utility.DatabaseUtility.createStatement;
+
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
+import schemacrawler.tools.text.operation.OperationType;
+import schemacrawler.utility.NamedObjectSort;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Exports data from all rows in tables, streaming rows from the database straight to the output as
+ * CSV, TSV or JSON Lines.
+ *
+ * <p>A table that cannot be queried is skipped with a warning. If reading rows fails after the
+ * export of a table has started, the command fails, since the rows written so far for the table
+ * would be an incomplete export.
+ *
+ * <p>Autocommit is turned off for the duration of the export, so that drivers such as the
+ * PostgreSQL driver honor the fetch size, and is turned back on afterwards. With MySQL Connector/J,
+ * rows are streamed one at a time, unless the connection uses server-side cursors.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class DataExportCommand extends BaseSchemaCrawlerCommand<DataExportOptions> {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(DataExportCommand.class.getName());
+
+  static final String COMMAND = "export";
+
+  public DataExportCommand() {
+    super(COMMAND);
+  }
+
+  @Override
+  public void checkAvailability() throws Exception {
+    // Data export is always available
+  }
+
+  @Override
+  public void execute() throws Exception {
+    checkCatalog();
+
+    final String outputFormatValue = outputOptions.getOutputFormatValue();
+    if (!DataExportOutputFormat.isSupportedFormat(outputFormatValue)) {
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Output format <%s> not supported for command <%s>",
+              outputFormatValue, getCommand()));
+      return;
+    }
+    final DataExportOutputFormat outputFormat =
+        DataExportOutputFormat.fromFormat(outputFormatValue);
+
+    // This is a special instance of identifiers that does not use
+    // the configuration from the SchemaCrawler configuration
+    // properties file, since the database always needs identifiers
+    // to be quoted in SQL queries if they contain spaces in the
+    // name
+    final String identifierQuoteString = identifiers.getIdentifierQuoteString();
+    final Identifiers identifiers =
+        Identifiers.identifiers().withIdentifierQuoteString(identifierQuoteString).build();
+    final Query query = OperationType.dump.getQuery();
+    final boolean isAlphabeticalSortForTableColumns =
+        commandOptions.isAlphabeticalSortForTableColumns();
+
+    final int fetchSize = streamingFetchSize(connection, commandOptions.getFetchSize());
+    // Some drivers, such as the PostgreSQL driver, only fetch rows in batches of the fetch size
+    // inside a transaction, and read the whole result set into memory when autocommit is on
+    final boolean restoreAutoCommit = disableAutoCommit();
+    try {
+      // Output writers are already buffered
+      try (final Writer writer = outputOptions.openNewOutputWriter();
+          final Statement statement = createStatement(connection)) {
+        statement.setFetchSize(fetchSize);
+
+        final DataExportWriter exportWriter = newDataExportWriter(outputFormat, writer);
+        for (final Table table : getSortedTables(catalog)) {
+          final ResultSet results;
+          try {
+            results =
+                executeAgainstTable(
+                    query, statement, table, isAlphabeticalSortForTableColumns, identifiers);
+          } catch (final SQLException e) {
+            // Nothing has been written for the table yet, so skip it
+            LOGGER.log(Level.WARNING, new StringFormat("Could not export table <%s>", table), e);
+            continue;
+          }
+          if (results == null) {
+            LOGGER.log(Level.WARNING, new StringFormat("No data returned for table <%s>", table));
+            continue;
+          }
+
+          try (final ResultSet tableResults = results) {
+            final long rowCount = exportWriter.write(table.getFullName(), tableResults);
+            LOGGER.log(
+                Level.INFO, new StringFormat("Exported %d rows from table <%s>", rowCount, table));
+          } catch (final SQLException e) {
+            // Rows may already have been written, so the output would be incomplete
+            throw new SchemaCrawlerException(
+                String.format("Could not export all rows from table <%s>", table), e);
+          }
+        }
+      }
+    } finally {
+      if (restoreAutoCommit) {
+        restoreAutoCommit();
+      }
+    }
+  }
+
+  /**
+   * Gets the fetch size to use to stream rows from the database. MySQL Connector/J ignores the
+   * fetch size and reads all rows into memory, unless the fetch size is {@link Integer#MIN_VALUE},
+   * which streams rows one at a time, or the connection uses server-side cursors.
+   *
+   * @param connection Database connection
+   * @param fetchSize Requested fetch size
+   * @return Fetch size that streams rows with the database driver
+   * @throws SQLException On an exception getting database metadata
+   */
+  static int streamingFetchSize(final Connection connection, final int fetchSize)
+      throws SQLException {
+    final DatabaseMetaData metaData = connection.getMetaData();
+    final String driverName = metaData.getDriverName();
+    if (driverName == null || !driverName.startsWith("MySQL")) {
+      return fetchSize;
+    }
+    final String url = metaData.getURL();
+    if (url != null && url.toLowerCase().contains("usecursorfetch=true")) {
+      return fetchSize;
+    }
+    return Integer.MIN_VALUE;
+  }
+
+  @Override
+  public boolean usesConnection() {
+    return true;
+  }
+
+  /**
+   * Turns off autocommit for the export, if it is on.
+   *
+   * @return True if autocommit needs to be turned back on after the export
+   */
+  private boolean disableAutoCommit() {
+    try {
+      if (connection.getAutoCommit()) {
+        connection.setAutoCommit(false);
+        return true;
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not turn off autocommit for data export", e);
+    }
+    return false;
+  }
+
+  private void restoreAutoCommit() {
+    try {
+      // Nothing was changed by the export, so end the read-only transaction
+      connection.rollback();
+      connection.setAutoCommit(true);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not restore autocommit after data export", e);
+    }
+  }
+
+  private List<? extends Table> getSortedTables(final Catalog catalog) {
+    final List<? extends Table> tables = new ArrayList<>(catalog.getTables());
+    tables.sort(NamedObjectSort.getNamedObjectSort(commandOptions.isAlphabeticalSortForTables()));
+    return tables;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import schemacrawler.tools.executable.BaseCommandProvider;
+import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.options.OutputOptions;
+
+public final class DataExportCommandProvider extends BaseCommandProvider {
+
+  public static final String DESCRIPTION_HEADER =
+      "Exports data from all rows in the tables, as CSV, TSV or JSON Lines";
+
+  public DataExportCommandProvider() {
+    super(new CommandDescription(DataExportCommand.COMMAND, DESCRIPTION_HEADER));
+  }
+
+  @Override
+  public DataExportCommand newSchemaCrawlerCommand(final String command, final Config config) {
+    final DataExportOptions dataExportOptions =
+        DataExportOptionsBuilder.builder().fromConfig(config).toOptions();
+
+    final DataExportCommand scCommand = new DataExportCommand();
+    scCommand.setCommandOptions(dataExportOptions);
+    return scCommand;
+  }
+
+  @Override
+  public boolean supportsOutputFormat(final String command, final OutputOptions outputOptions) {
+    return supportsOutputFormat(command, outputOptions, DataExportOutputFormat::isSupportedFormat);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import schemacrawler.tools.text.base.BaseTextOptions;
+
+/**
+ * Data export options.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class DataExportOptions extends BaseTextOptions {
+
+  private final int fetchSize;
+
+  protected DataExportOptions(final DataExportOptionsBuilder builder) {
+    super(builder);
+
+    fetchSize = builder.fetchSize;
+  }
+
+  /**
+   * Number of rows to fetch from the database in each round trip, while exporting table data.
+   *
+   * @return Fetch size
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.text.base.BaseTextOptionsBuilder;
+
+/**
+ * Data export options.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class DataExportOptionsBuilder
+    extends BaseTextOptionsBuilder<DataExportOptionsBuilder, DataExportOptions> {
+
+  public static final int DEFAULT_FETCHSIZE = 1000;
+
+  private static final String FETCH_SIZE = SCHEMACRAWLER_FORMAT_PREFIX + "export.fetch_size";
+
+  public static DataExportOptionsBuilder builder() {
+    return new DataExportOptionsBuilder();
+  }
+
+  protected int fetchSize;
+
+  private DataExportOptionsBuilder() {
+    fetchSize = DEFAULT_FETCHSIZE;
+  }
+
+  @Override
+  public DataExportOptionsBuilder fromConfig(final Config config) {
+    if (config == null) {
+      return this;
+    }
+    super.fromConfig(config);
+
+    withFetchSize(config.getIntegerValue(FETCH_SIZE, DEFAULT_FETCHSIZE));
+
+    return this;
+  }
+
+  @Override
+  public DataExportOptionsBuilder fromOptions(final DataExportOptions options) {
+    if (options == null) {
+      return this;
+    }
+    super.fromOptions(options);
+
+    fetchSize = options.getFetchSize();
+
+    return this;
+  }
+
+  @Override
+  public Config toConfig() {
+    final Config config = super.toConfig();
+    config.put(FETCH_SIZE, fetchSize);
+    return config;
+  }
+
+  @Override
+  public DataExportOptions toOptions() {
+    return new DataExportOptions(this);
+  }
+
+  /**
+   * Number of rows to fetch from the database in each round trip. Values that are not positive are
+   * ignored.
+   *
+   * @param fetchSize Fetch size
+   * @return Builder
+   */
+  public DataExportOptionsBuilder withFetchSize(final int fetchSize) {
+    if (fetchSize > 0) {
+      this.fetchSize = fetchSize;
+    }
+    return this;
+  }
+}
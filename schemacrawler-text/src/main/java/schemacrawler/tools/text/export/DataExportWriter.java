@@ -0,0 +1,120 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Streams rows from a result set straight to an output writer, one row at a time, without holding
+ * rows in memory.
+ */
+abstract class DataExportWriter {
+
+  static DataExportWriter newDataExportWriter(
+      final DataExportOutputFormat outputFormat, final Writer writer) {
+    requireNonNull(outputFormat, "No output format provided");
+    switch (outputFormat) {
+      case tsv:
+        return new TsvDataExportWriter(writer);
+      case jsonl:
+        return new JsonLinesDataExportWriter(writer);
+      case csv:
+      default:
+        return new CsvDataExportWriter(writer);
+    }
+  }
+
+  protected final Writer writer;
+  private int tableCount;
+
+  protected DataExportWriter(final Writer writer) {
+    this.writer = requireNonNull(writer, "No output writer provided");
+  }
+
+  /**
+   * Writes all rows of the result set.
+   *
+   * @param title Name of the table that the data is exported from
+   * @param results Result set to export
+   * @return Number of rows written
+   * @throws SQLException On an exception reading data
+   * @throws IOException On an exception writing data
+   */
+  final long write(final String title, final ResultSet results) throws SQLException, IOException {
+    requireNonNull(results, "No result set provided");
+
+    final ResultSetMetaData metaData = results.getMetaData();
+    final int columnCount = metaData.getColumnCount();
+    final String[] columnNames = new String[columnCount];
+    final ExportColumnType[] columnTypes = new ExportColumnType[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columnNames[i] = metaData.getColumnLabel(i + 1);
+      columnTypes[i] =
+          ExportColumnType.fromJdbcType(metaData.getColumnType(i + 1), metaData.isSigned(i + 1));
+    }
+
+    startTable(tableCount, title, columnNames);
+    tableCount++;
+
+    long rowCount = 0;
+    while (results.next()) {
+      startRow();
+      for (int i = 0; i < columnCount; i++) {
+        final ExportColumnType columnType = columnTypes[i];
+        writeValue(i, columnType, columnType.read(results, i + 1));
+      }
+      endRow();
+      rowCount++;
+    }
+    return rowCount;
+  }
+
+  protected abstract void startTable(int tableIndex, String title, String[] columnNames)
+      throws IOException;
+
+  protected abstract void startRow() throws IOException;
+
+  /**
+   * Writes a single value.
+   *
+   * @param columnIndex Zero-based column index
+   * @param columnType Accessor used to read the value
+   * @param value Value, or null for SQL null
+   */
+  protected abstract void writeValue(int columnIndex, ExportColumnType columnType, String value)
+      throws IOException;
+
+  protected abstract void endRow() throws IOException;
+}
@@ -0,0 +1,173 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Column accessors for exported data, chosen once per result set column from the JDBC type, so that
+ * each value is read with the most direct accessor, without intermediate objects.
+ */
+enum ExportColumnType {
+  bool(true) {
+    @Override
+    String read(final ResultSet results, final int columnIndex) throws SQLException {
+      final boolean value = results.getBoolean(columnIndex);
+      return results.wasNull() ? null : String.valueOf(value);
+    }
+  },
+  integral(true) {
+    @Override
+    String read(final ResultSet results, final int columnIndex) throws SQLException {
+      final long value = results.getLong(columnIndex);
+      return results.wasNull() ? null : Long.toString(value);
+    }
+  },
+  decimal(true) {
+    @Override
+    String read(final ResultSet results, final int columnIndex) throws SQLException {
+      final BigDecimal value = results.getBigDecimal(columnIndex);
+      return value == null ? null : value.toPlainString();
+    }
+  },
+  floating(true) {
+    @Override
+    String read(final ResultSet results, final int columnIndex) throws SQLException {
+      final double value = results.getDouble(columnIndex);
+      return results.wasNull() ? null : Double.toString(value);
+    }
+
+    @Override
+    boolean isNumeric(final String value) {
+      // NaN and infinite values are not valid numeric literals
+      return Character.isDigit(value.charAt(value.length() - 1));
+    }
+  },
+  binary(false) {
+    @Override
+    String read(final ResultSet results, final int columnIndex) throws SQLException {
+      final byte[] value = results.getBytes(columnIndex);
+      if (value == null) {
+        return null;
+      }
+      final char[] hex = new char[value.length * 2];
+      for (int i = 0; i < value.length; i++) {
+        hex[i * 2] = HEX_DIGITS[(value[i] >> 4) & 0xF];
+        hex[i * 2 + 1] = HEX_DIGITS[value[i] & 0xF];
+      }
+      return new String(hex);
+    }
+  },
+  object(false) {
+    @Override
+    String read(final ResultSet results, final int columnIndex) throws SQLException {
+      final Object value = results.getObject(columnIndex);
+      return value == null ? null : String.valueOf(value);
+    }
+  },
+  text(false) {
+    @Override
+    String read(final ResultSet results, final int columnIndex) throws SQLException {
+      return results.getString(columnIndex);
+    }
+  };
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  /**
+   * Chooses the accessor for a result set column.
+   *
+   * @param javaSqlType JDBC type of the column
+   * @param isSigned Whether values in the column are signed numbers
+   * @return Column accessor
+   */
+  static ExportColumnType fromJdbcType(final int javaSqlType, final boolean isSigned) {
+    switch (javaSqlType) {
+      case Types.BIT:
+      case Types.BOOLEAN:
+        return bool;
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+        return integral;
+      case Types.BIGINT:
+        // Unsigned values can be larger than a long
+        return isSigned ? integral : decimal;
+      case Types.DECIMAL:
+      case Types.NUMERIC:
+        return decimal;
+      case Types.REAL:
+      case Types.FLOAT:
+      case Types.DOUBLE:
+        return floating;
+      case Types.BINARY:
+      case Types.VARBINARY:
+      case Types.LONGVARBINARY:
+      case Types.BLOB:
+        return binary;
+      case Types.ARRAY:
+      case Types.STRUCT:
+      case Types.REF:
+      case Types.JAVA_OBJECT:
+      case Types.OTHER:
+        return object;
+      default:
+        return text;
+    }
+  }
+
+  private final boolean isNumeric;
+
+  private ExportColumnType(final boolean isNumeric) {
+    this.isNumeric = isNumeric;
+  }
+
+  /**
+   * Whether a value read with this accessor can be written as an unquoted literal.
+   *
+   * @param value Non-null value, as read by this accessor
+   * @return True if the value is a boolean or numeric literal
+   */
+  boolean isNumeric(final String value) {
+    return isNumeric;
+  }
+
+  /**
+   * Reads a column value from the current row.
+   *
+   * @param results Result set, positioned on a row
+   * @param columnIndex JDBC column index
+   * @return Value as a string, or null for SQL null
+   * @throws SQLException On an exception reading the value
+   */
+  abstract String read(ResultSet results, int columnIndex) throws SQLException;
+}
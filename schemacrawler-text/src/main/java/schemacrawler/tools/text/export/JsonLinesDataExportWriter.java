@@ -0,0 +1,125 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes JSON Lines, with one JSON object per row. Each object has the table name, and a flat
+ * object of row values keyed by column name, for example, <code>
+ * {"table": "PUBLIC.BOOKS.AUTHORS", "row": {"ID": 1, "FIRSTNAME": "Ann"}}</code>. SQL nulls are
+ * written as JSON nulls.
+ */
+final class JsonLinesDataExportWriter extends DataExportWriter {
+
+  private String tablePrefix;
+  private String[] columnPrefixes;
+
+  JsonLinesDataExportWriter(final Writer writer) {
+    super(writer);
+  }
+
+  @Override
+  protected void endRow() throws IOException {
+    writer.write("}}\n");
+  }
+
+  @Override
+  protected void startRow() throws IOException {
+    writer.write(tablePrefix);
+  }
+
+  @Override
+  protected void startTable(final int tableIndex, final String title, final String[] columnNames) {
+    // Escape names once per table, rather than for every row
+    tablePrefix = "{\"table\": " + quote(title) + ", \"row\": {";
+    columnPrefixes = new String[columnNames.length];
+    for (int i = 0; i < columnNames.length; i++) {
+      columnPrefixes[i] = (i > 0 ? ", " : "") + quote(columnNames[i]) + ": ";
+    }
+  }
+
+  @Override
+  protected void writeValue(
+      final int columnIndex, final ExportColumnType columnType, final String value)
+      throws IOException {
+    writer.write(columnPrefixes[columnIndex]);
+    if (value == null) {
+      writer.write("null");
+    } else if (columnType.isNumeric(value)) {
+      writer.write(value);
+    } else {
+      writer.write(quote(value));
+    }
+  }
+
+  private String quote(final String value) {
+    if (value == null) {
+      return "null";
+    }
+
+    final StringBuilder buffer = new StringBuilder(value.length() + 2);
+    buffer.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      switch (ch) {
+        case '"':
+          buffer.append("\\\"");
+          break;
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        case '\r':
+          buffer.append("\\r");
+          break;
+        case '\t':
+          buffer.append("\\t");
+          break;
+        case '\b':
+          buffer.append("\\b");
+          break;
+        case '\f':
+          buffer.append("\\f");
+          break;
+        default:
+          if (ch < 0x20) {
+            buffer.append(String.format("\\u%04x", (int) ch));
+          } else {
+            buffer.append(ch);
+          }
+      }
+    }
+    buffer.append('"');
+    return buffer.toString();
+  }
+}
@@ -0,0 +1,175 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.operation;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.tools.text.utility.TextFormattingHelper;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Buffer for data rendered for a single table, so that tables can be rendered in parallel, and
+ * written out in order. Data is held in memory, but once it grows beyond a threshold, it is spilled
+ * to a temporary file. The data block is closed once rendering is done, which releases the spill
+ * file writer, and the spill file is opened again for reading only while the data is written out.
+ */
+final class DataBlock extends Writer {
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(DataBlock.class.getName());
+
+  private final int spillThreshold;
+  private final StringBuilder buffer;
+  private Path spillFile;
+  private Writer spillWriter;
+  private boolean closed;
+
+  /**
+   * Buffer for rendered data.
+   *
+   * @param spillThreshold Number of characters to hold in memory, before spilling to a file
+   */
+  DataBlock(final int spillThreshold) {
+    this.spillThreshold = spillThreshold;
+    buffer = new StringBuilder();
+  }
+
+  /** Closes the data block for writing, once rendering is done. */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (spillWriter != null) {
+      spillWriter.close();
+      spillWriter = null;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (spillWriter != null) {
+      spillWriter.flush();
+    }
+  }
+
+  @Override
+  public void write(final char[] cbuf, final int off, final int len) throws IOException {
+    checkOpen();
+    if (spillWriter != null) {
+      spillWriter.write(cbuf, off, len);
+      return;
+    }
+
+    buffer.append(cbuf, off, len);
+    if (buffer.length() > spillThreshold) {
+      spill();
+    }
+  }
+
+  @Override
+  public void write(final String str, final int off, final int len) throws IOException {
+    checkOpen();
+    if (spillWriter != null) {
+      spillWriter.write(str, off, len);
+      return;
+    }
+
+    buffer.append(str, off, off + len);
+    if (buffer.length() > spillThreshold) {
+      spill();
+    }
+  }
+
+  /**
+   * Writes out buffered data, in chunks if it was spilled to a file.
+   *
+   * @param formattingHelper Formatting helper for the output
+   * @throws IOException On an exception reading spilled data
+   */
+  void appendTo(final TextFormattingHelper formattingHelper) throws IOException {
+    close();
+    if (spillFile == null) {
+      formattingHelper.append(buffer.toString());
+      return;
+    }
+
+    final char[] chunk = new char[8192];
+    try (final Reader reader = Files.newBufferedReader(spillFile, UTF_8)) {
+      int read;
+      while ((read = reader.read(chunk)) != -1) {
+        formattingHelper.append(new String(chunk, 0, read));
+      }
+    }
+  }
+
+  /** Releases buffered data, and deletes the spill file, if any. */
+  void discard() {
+    buffer.setLength(0);
+    if (spillFile == null) {
+      return;
+    }
+    try {
+      close();
+      Files.deleteIfExists(spillFile);
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, new StringFormat("Could not delete <%s>", spillFile), e);
+    }
+  }
+
+  boolean isSpilled() {
+    return spillFile != null;
+  }
+
+  private void checkOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Data block is closed");
+    }
+  }
+
+  private void spill() throws IOException {
+    spillFile = Files.createTempFile("schemacrawler", ".data");
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat("Spilling %d characters of data to <%s>", buffer.length(), spillFile));
+    spillWriter = Files.newBufferedWriter(spillFile, UTF_8);
+    spillWriter.append(buffer);
+    buffer.setLength(0);
+    buffer.trimToSize();
+  }
+}
@@ -31,6 +31,9 @@ package schemacrawler.tools.text.operation;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.analysis.counts.TableRowCountsUtility.getRowCountMessage;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
@@ -41,6 +44,7 @@ import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
+import schemacrawler.tools.text.utility.TextFormattingHelper;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
 import schemacrawler.tools.traversal.DataTraversalHandler;
 import us.fatehi.utility.Color;
@@ -117,27 +121,61 @@ final class DataTextFormatter extends BaseTabularFormatter<OperationOptions>
   /** {@inheritDoc} */
   @Override
   public void handleData(final Table table, final ResultSet rows) throws SchemaCrawlerException {
-    final String tableName;
-    if (table != null) {
-      if (options.isShowUnqualifiedNames()) {
-        tableName = identifiers.quoteName(table);
-      } else {
-        tableName = identifiers.quoteFullName(table);
-      }
-    } else {
-      tableName = "";
+    handleData(tableName(table), rows);
+  }
+
+  /**
+   * Writes out data for a table that was rendered earlier with {@link #renderData(Table, ResultSet,
+   * Writer)}.
+   *
+   * @param dataBlock Rendered data
+   */
+  void handleDataBlock(final DataBlock dataBlock) throws SchemaCrawlerException {
+    requireNonNull(dataBlock, "No data block provided");
+
+    if (dataBlockCount == 0) {
+      printHeader();
+    }
+
+    try {
+      dataBlock.appendTo(formattingHelper);
+    } catch (final IOException e) {
+      throw new SchemaCrawlerException("Could not write data block", e);
     }
 
-    handleData(tableName, rows);
+    dataBlockCount++;
+  }
+
+  /**
+   * Renders data for a table to a separate writer, instead of the output. Data for different tables
+   * can be rendered concurrently, and written out in order later.
+   *
+   * @param table Table
+   * @param rows Data for the table
+   * @param writer Writer to render the data to
+   */
+  void renderData(final Table table, final ResultSet rows, final Writer writer)
+      throws SchemaCrawlerException {
+    requireNonNull(rows, "No data provided");
+    requireNonNull(writer, "No writer provided");
+
+    final PrintWriter out = new PrintWriter(writer);
+    writeData(newFormattingHelper(out), tableName(table), rows);
+    out.flush();
+    if (out.checkError()) {
+      throw new SchemaCrawlerException("Could not render data for " + table);
+    }
   }
 
   /**
    * Handles an aggregate operation, such as a count, for a given table.
    *
+   * @param formattingHelper Formatting helper to write to
    * @param title Title
    * @param results Results
    */
-  private void handleAggregateOperationForTable(final String title, final ResultSet results)
+  private void handleAggregateOperationForTable(
+      final TextFormattingHelper formattingHelper, final String title, final ResultSet results)
       throws SchemaCrawlerException {
     long aggregate = 0;
     try {
@@ -161,30 +199,14 @@ final class DataTextFormatter extends BaseTabularFormatter<OperationOptions>
       printHeader();
     }
 
-    if (operation == OperationType.count) {
-      handleAggregateOperationForTable(title, rows);
-    } else {
-      formattingHelper.println();
-      formattingHelper.println();
-      formattingHelper.writeObjectStart();
-      formattingHelper.writeObjectNameRow("", title, "", Color.white);
-      try {
-        final MetadataResultSet dataRows = new MetadataResultSet(rows);
-        dataRows.setShowLobs(options.isShowLobs());
-
-        formattingHelper.writeRowHeader(dataRows.getColumnNames());
-
-        iterateRows(dataRows);
-      } catch (final SQLException e) {
-        throw new SchemaCrawlerException(e.getMessage(), e);
-      }
-      formattingHelper.writeObjectEnd();
-    }
+    writeData(formattingHelper, title, rows);
 
     dataBlockCount++;
   }
 
-  private void iterateRows(final MetadataResultSet dataRows) throws SQLException {
+  private void iterateRows(
+      final TextFormattingHelper formattingHelper, final MetadataResultSet dataRows)
+      throws SQLException {
     while (dataRows.next()) {
       final List<Object> currentRow = dataRows.row();
       final Object[] columnData = currentRow.toArray(new Object[currentRow.size()]);
@@ -200,4 +222,42 @@ final class DataTextFormatter extends BaseTabularFormatter<OperationOptions>
       formattingHelper.writeObjectNameRow("", operation.getTitle(), "", Color.white);
     }
   }
+
+  private String tableName(final Table table) {
+    final String tableName;
+    if (table != null) {
+      if (options.isShowUnqualifiedNames()) {
+        tableName = identifiers.quoteName(table);
+      } else {
+        tableName = identifiers.quoteFullName(table);
+      }
+    } else {
+      tableName = "";
+    }
+    return tableName;
+  }
+
+  private void writeData(
+      final TextFormattingHelper formattingHelper, final String title, final ResultSet rows)
+      throws SchemaCrawlerException {
+    if (operation == OperationType.count) {
+      handleAggregateOperationForTable(formattingHelper, title, rows);
+    } else {
+      formattingHelper.println();
+      formattingHelper.println();
+      formattingHelper.writeObjectStart();
+      formattingHelper.writeObjectNameRow("", title, "", Color.white);
+      try {
+        final MetadataResultSet dataRows = new MetadataResultSet(rows);
+        dataRows.setShowLobs(options.isShowLobs());
+
+        formattingHelper.writeRowHeader(dataRows.getColumnNames());
+
+        iterateRows(formattingHelper, dataRows);
+      } catch (final SQLException e) {
+        throw new SchemaCrawlerException(e.getMessage(), e);
+      }
+      formattingHelper.writeObjectEnd();
+    }
+  }
 }
@@ -32,11 +32,19 @@ import static schemacrawler.schemacrawler.QueryUtility.executeAgainstTable;
 import static us.fatehi.utility.DatabaseUtility.createStatement;
 import static us.fatehi.utility.DatabaseUtility.executeSql;
 
+import java.io.IOException;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -60,6 +68,15 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
   private static final SchemaCrawlerLogger LOGGER =
       SchemaCrawlerLogger.getLogger(OperationCommand.class.getName());
 
+  /** Number of characters of rendered data for a table to hold in memory, before spilling. */
+  private static final int DATA_BLOCK_SPILL_THRESHOLD = 1024 * 1024;
+
+  /**
+   * Number of tables that each thread can render ahead of the next table to be written out, in
+   * parallel runs.
+   */
+  private static final int MAX_TABLES_AHEAD_PER_THREAD = 2;
+
   public OperationCommand(final String command) {
     super(command);
   }
@@ -82,7 +99,7 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
       return;
     }
 
-    final DataTraversalHandler handler = getDataTraversalHandler();
+    final DataTextFormatter handler = getDataTraversalHandler();
     final Query query = commandOptions.getQuery();
 
     handler.begin();
@@ -102,18 +119,12 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
       final Identifiers identifiers =
           Identifiers.identifiers().withIdentifierQuoteString(identifierQuoteString).build();
 
-      try (final Statement statement = createStatement(connection)) {
-        for (final Table table : getSortedTables(catalog)) {
-          final boolean isAlphabeticalSortForTableColumns =
-              commandOptions.isAlphabeticalSortForTableColumns();
-          try (final ResultSet results =
-              executeAgainstTable(
-                  query, statement, table, isAlphabeticalSortForTableColumns, identifiers)) {
-            handler.handleData(table, results);
-          } catch (final SQLException e) {
-            LOGGER.log(Level.WARNING, new StringFormat("Bad operation for table <%s>", table), e);
-          }
-        }
+      final List<? extends Table> tables = getSortedTables(catalog);
+      final int threads = Math.min(commandOptions.getMaxThreads(), tables.size());
+      if (dataSource != null && threads > 1) {
+        handleDataInParallel(handler, query, tables, identifiers, threads);
+      } else {
+        handleData(handler, query, tables, identifiers);
       }
     } else {
       final String sql = query.getQuery();
@@ -131,11 +142,11 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
     return true;
   }
 
-  private DataTraversalHandler getDataTraversalHandler() throws SchemaCrawlerException {
+  private DataTextFormatter getDataTraversalHandler() throws SchemaCrawlerException {
     final Operation operation = commandOptions.getOperation();
     final String identifierQuoteString = identifiers.getIdentifierQuoteString();
 
-    final DataTraversalHandler formatter =
+    final DataTextFormatter formatter =
         new DataTextFormatter(operation, commandOptions, outputOptions, identifierQuoteString);
     return formatter;
   }
@@ -146,9 +157,183 @@ public final class OperationCommand extends BaseSchemaCrawlerCommand<OperationOp
     return tables;
   }
 
+  private void handleData(
+      final DataTraversalHandler handler,
+      final Query query,
+      final List<? extends Table> tables,
+      final Identifiers identifiers)
+      throws Exception {
+    final boolean isAlphabeticalSortForTableColumns =
+        commandOptions.isAlphabeticalSortForTableColumns();
+    try (final Statement statement = createStatement(connection)) {
+      for (final Table table : tables) {
+        try (final ResultSet results =
+            executeAgainstTable(
+                query, statement, table, isAlphabeticalSortForTableColumns, identifiers)) {
+          handler.handleData(table, results);
+        } catch (final SQLException e) {
+          LOGGER.log(Level.WARNING, new StringFormat("Bad operation for table <%s>", table), e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Runs the operation on tables in parallel, each thread on its own connection. Data for each
+   * table is rendered to a separate buffer, and buffers are written out in the original table
+   * order, so the output is the same as that of a serial run. Threads can only render a limited
+   * number of tables ahead of the next table to be written out, so that rendered data does not pile
+   * up behind a slow table. If all threads stop early, the remaining tables are handled on the main
+   * connection.
+   */
+  private void handleDataInParallel(
+      final DataTextFormatter handler,
+      final Query query,
+      final List<? extends Table> tables,
+      final Identifiers identifiers,
+      final int threads)
+      throws Exception {
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Running operation <%s> on %d tables, using %d threads",
+            query.getName(), tables.size(), threads));
+
+    final List<CompletableFuture<DataBlock>> dataBlocks = new ArrayList<>(tables.size());
+    final Queue<Integer> tableIndexes = new ConcurrentLinkedQueue<>();
+    for (int i = 0; i < tables.size(); i++) {
+      dataBlocks.add(new CompletableFuture<>());
+      tableIndexes.add(i);
+    }
+    // A permit is taken for each table before it is rendered, and given back once the table is
+    // written out, which bounds the number of tables that are rendered but not yet written out
+    final Semaphore renderPermits = new Semaphore(threads * MAX_TABLES_AHEAD_PER_THREAD);
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    try {
+      final CompletableFuture<?>[] workers = new CompletableFuture<?>[threads];
+      for (int i = 0; i < threads; i++) {
+        workers[i] =
+            CompletableFuture.runAsync(
+                () -> {
+                  try (final Connection workerConnection = dataSource.get();
+                      final Statement statement = createStatement(workerConnection)) {
+                    while (renderNextTable(
+                        handler,
+                        query,
+                        tables,
+                        identifiers,
+                        statement,
+                        tableIndexes,
+                        dataBlocks,
+                        renderPermits)) {
+                      // Keep rendering tables until there are none left
+                    }
+                  } catch (final InterruptedException e) {
+                    // The operation was abandoned
+                    Thread.currentThread().interrupt();
+                  } catch (final Exception e) {
+                    LOGGER.log(
+                        Level.WARNING, "Could not run operation on a separate connection", e);
+                  }
+                },
+                executorService);
+      }
+      final CompletableFuture<Void> workersDone = CompletableFuture.allOf(workers);
+
+      for (final CompletableFuture<DataBlock> dataBlock : dataBlocks) {
+        CompletableFuture.anyOf(dataBlock, workersDone).join();
+        if (!dataBlock.isDone()) {
+          // All threads have stopped, so render tables on the main connection, up to and
+          // including this one
+          try (final Statement statement = createStatement(connection)) {
+            while (!dataBlock.isDone()
+                && renderNextTable(
+                    handler,
+                    query,
+                    tables,
+                    identifiers,
+                    statement,
+                    tableIndexes,
+                    dataBlocks,
+                    renderPermits)) {
+              // Keep rendering tables until this one is done
+            }
+          }
+        }
+        final DataBlock renderedData = dataBlock.join();
+        if (renderedData != null) {
+          handler.handleDataBlock(renderedData);
+          renderedData.discard();
+        }
+        renderPermits.release();
+      }
+    } finally {
+      executorService.shutdownNow();
+      // Clean up spill files if there was an exception, including for
+      // any tables that are still being rendered
+      for (final CompletableFuture<DataBlock> dataBlock : dataBlocks) {
+        dataBlock.thenAccept(
+            renderedData -> {
+              if (renderedData != null) {
+                renderedData.discard();
+              }
+            });
+      }
+    }
+  }
+
   private boolean isOutputFormatSupported() {
     final String outputFormatValue = outputOptions.getOutputFormatValue();
     final boolean isOutputFormatSupported = TextOutputFormat.isSupportedFormat(outputFormatValue);
     return isOutputFormatSupported;
   }
+
+  /**
+   * Renders data for the next table from the queue, once a permit to render it is available, and
+   * completes the data block for the table. Tables that could not be queried have no data block.
+   *
+   * @return False if there are no tables left to render
+   */
+  private boolean renderNextTable(
+      final DataTextFormatter handler,
+      final Query query,
+      final List<? extends Table> tables,
+      final Identifiers identifiers,
+      final Statement statement,
+      final Queue<Integer> tableIndexes,
+      final List<CompletableFuture<DataBlock>> dataBlocks,
+      final Semaphore renderPermits)
+      throws InterruptedException {
+    renderPermits.acquire();
+    final Integer tableIndex = tableIndexes.poll();
+    if (tableIndex == null) {
+      renderPermits.release();
+      return false;
+    }
+
+    final Table table = tables.get(tableIndex);
+    final DataBlock dataBlock = new DataBlock(DATA_BLOCK_SPILL_THRESHOLD);
+    DataBlock renderedData = null;
+    try (final ResultSet results =
+        executeAgainstTable(
+            query,
+            statement,
+            table,
+            commandOptions.isAlphabeticalSortForTableColumns(),
+            identifiers)) {
+      handler.renderData(table, results, dataBlock);
+      // Release the spill file writer, since the data may wait a while to be written out
+      dataBlock.close();
+      renderedData = dataBlock;
+    } catch (final SQLException | SchemaCrawlerException | IOException e) {
+      LOGGER.log(Level.WARNING, new StringFormat("Bad operation for table <%s>", table), e);
+    } finally {
+      if (renderedData == null) {
+        dataBlock.discard();
+      }
+      dataBlocks.get(tableIndex).complete(renderedData);
+    }
+    return true;
+  }
 }
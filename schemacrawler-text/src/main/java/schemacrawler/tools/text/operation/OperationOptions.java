@@ -42,12 +42,24 @@ public final class OperationOptions extends BaseTextOptions {
 
   private final Operation operation;
   private final boolean isShowLobs;
+  private final int maxThreads;
 
   protected OperationOptions(final OperationOptionsBuilder builder) {
     super(builder);
 
     operation = requireNonNull(builder.operation, "No operation provided");
     isShowLobs = builder.isShowLobs;
+    maxThreads = builder.maxThreads;
+  }
+
+  /**
+   * Maximum number of threads, each with its own database connection, used to run the operation on
+   * tables in parallel. Output is written in the same order as a serial run.
+   *
+   * @return Maximum number of threads
+   */
+  public int getMaxThreads() {
+    return maxThreads;
   }
 
   public Operation getOperation() {
@@ -40,6 +40,7 @@ import schemacrawler.tools.text.base.BaseTextOptionsBuilder;
 public final class OperationOptionsBuilder
     extends BaseTextOptionsBuilder<OperationOptionsBuilder, OperationOptions> {
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX + "data.show_lobs";
+  private static final String MAX_THREADS = SCHEMACRAWLER_FORMAT_PREFIX + "data.max_threads";
 
   public static OperationOptionsBuilder builder() {
     return new OperationOptionsBuilder();
@@ -48,9 +49,10 @@ public final class OperationOptionsBuilder
   private String command;
   protected Operation operation;
   protected boolean isShowLobs;
+  protected int maxThreads;
 
   private OperationOptionsBuilder() {
-    // Set default values, if any
+    maxThreads = 1;
   }
 
   @Override
@@ -61,6 +63,7 @@ public final class OperationOptionsBuilder
     super.fromConfig(config);
 
     isShowLobs = config.getBooleanValue(SHOW_LOBS, false);
+    withMaxThreads(config.getIntegerValue(MAX_THREADS, 1));
     operation = getQueryFromCommand(config);
 
     return this;
@@ -74,6 +77,7 @@ public final class OperationOptionsBuilder
     super.fromOptions(options);
 
     isShowLobs = options.isShowLobs();
+    maxThreads = options.getMaxThreads();
 
     return this;
   }
@@ -97,6 +101,7 @@ public final class OperationOptionsBuilder
   public Config toConfig() {
     final Config config = super.toConfig();
     config.put(SHOW_LOBS, isShowLobs);
+    config.put(MAX_THREADS, maxThreads);
     return config;
   }
 
@@ -105,6 +110,18 @@ public final class OperationOptionsBuilder
     return new OperationOptions(this);
   }
 
+  /**
+   * Sets the maximum number of threads, each with its own database connection, used to run the
+   * operation on tables in parallel. Values less than 1 are treated as 1, that is, a serial run.
+   *
+   * @param maxThreads Maximum number of threads
+   * @return Builder
+   */
+  public OperationOptionsBuilder withMaxThreads(final int maxThreads) {
+    this.maxThreads = Math.max(1, maxThreads);
+    return this;
+  }
+
   public OperationOptionsBuilder withCommand(final String command) {
     this.command = command;
     operation = getOperationFromCommand();
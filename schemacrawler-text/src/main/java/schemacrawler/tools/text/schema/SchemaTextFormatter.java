@@ -156,7 +156,7 @@ final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOptions>
     printRemarks(routine);
 
     if (!isBrief) {
-      printRoutineParameters(routine.getParameters());
+      printRoutineParameters(new ArrayList<>(routine.getParameters()));
     }
 
     if (isVerbose) {
@@ -261,7 +261,7 @@ final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOptions>
         nodeId(table), tableName, tableType, colorMap.getColor(table));
     printRemarks(table);
 
-    printTableColumns(table.getColumns(), true);
+    printTableColumns(new ArrayList<>(table.getColumns()), true);
     if (isVerbose) {
       printTableColumns(new ArrayList<>(table.getHiddenColumns()), true);
     }
@@ -570,7 +570,7 @@ final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOptions>
         printRemarks(index);
 
         if (!isBrief) {
-          printTableColumns(index.getColumns(), false);
+          printTableColumns(new ArrayList<>(index.getColumns()), false);
         }
         printDependantObjectDefinition(index);
       }
@@ -594,7 +594,7 @@ final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOptions>
       }
       formattingHelper.writeNameRow(pkName, "[primary key]");
       printRemarks(primaryKey);
-      printTableColumns(primaryKey.getColumns(), false);
+      printTableColumns(new ArrayList<>(primaryKey.getColumns()), false);
       printDependantObjectDefinition(primaryKey);
     }
   }
@@ -822,7 +822,7 @@ final class SchemaTextFormatter extends BaseTabularFormatter<SchemaTextOptions>
         formattingHelper.writeNameRow(constraintName, constraintDetails);
 
         if (!isBrief) {
-          printTableColumns(constraint.getColumns(), false);
+          printTableColumns(new ArrayList<>(constraint.getColumns()), false);
         }
         printDependantObjectDefinition(constraint);
       }
@@ -29,17 +29,20 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.utility;
 
 import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.html.TableCellFormat.tableCell;
+import static us.fatehi.utility.html.TableCellFormat.tableHeaderCell;
 import static us.fatehi.utility.html.TagBuilder.anchor;
-import static us.fatehi.utility.html.TagBuilder.tableCell;
-import static us.fatehi.utility.html.TagBuilder.tableHeaderCell;
-import static us.fatehi.utility.html.TagBuilder.tableRow;
 
 import java.io.PrintWriter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.utility.BinaryData;
 import us.fatehi.utility.html.Alignment;
-import us.fatehi.utility.html.Tag;
+import us.fatehi.utility.html.TableCellFormat;
+import us.fatehi.utility.html.TableRowWriter;
 import us.fatehi.utility.html.TagOutputFormat;
 
 /**
@@ -52,6 +55,51 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
   /** System specific line separator character. */
   static final String DASHED_SEPARATOR = separator("-");
 
+  // Cell formats are created once, and reused for every row
+  private static final TableCellFormat SPACER_CELL = tableCell().withStyleClass("spacer");
+  private static final TableCellFormat DESCRIPTION_CELL =
+      tableCell().withEscapedText().withColumnSpan(2);
+  private static final TableCellFormat DETAIL_SPACER_CELL =
+      tableCell().withEscapedText().withWidth(2).withStyleClass("spacer");
+  private static final TableCellFormat DETAIL_CELL =
+      tableCell().withWidth(32).withStyleClass("minwidth");
+  // Indexed by whether the text is escaped, and whether it is emphasized
+  private static final TableCellFormat[] DETAIL_CELLS = {
+    DETAIL_CELL,
+    DETAIL_CELL.withEscapedText(),
+    DETAIL_CELL.withEmphasis(),
+    DETAIL_CELL.withEscapedText().withEmphasis()
+  };
+  private static final TableCellFormat EMPTY_CELL = tableCell().withColumnSpan(3);
+  private static final TableCellFormat NAME_CELL =
+      tableCell().withEscapedText().withStyleClass("name").withColumnSpan(2);
+  private static final TableCellFormat NAME_DESCRIPTION_CELL =
+      tableCell()
+          .withEscapedText()
+          .withAlignment(Alignment.right)
+          .withStyleClass("description right");
+  private static final TableCellFormat PROPERTY_NAME_CELL =
+      tableCell().withEscapedText().withWidth(40).withStyleClass("property_name");
+  private static final Map<Alignment, TableCellFormat> PROPERTY_VALUE_CELLS =
+      new EnumMap<>(Alignment.class);
+  private static final TableCellFormat DATA_CELL = tableCell().withEscapedText();
+  private static final TableCellFormat DATA_NULL_CELL = tableCell().withStyleClass("data_null");
+  private static final TableCellFormat DATA_BINARY_CELL = DATA_CELL.withStyleClass("data_binary");
+  private static final TableCellFormat DATA_NUMBER_CELL = DATA_CELL.withStyleClass("data_number");
+  private static final TableCellFormat DATA_HEADER_CELL = tableHeaderCell();
+
+  static {
+    for (final Alignment alignment : Alignment.values()) {
+      PROPERTY_VALUE_CELLS.put(
+          alignment,
+          tableCell()
+              .withEscapedText()
+              .withWidth(30)
+              .withAlignment(alignment)
+              .withStyleClass("property_value" + (alignment == Alignment.inherit ? "" : " right")));
+    }
+  }
+
   static String separator(final String pattern) {
     final StringBuilder dashedSeparator = new StringBuilder(72);
     for (int i = 0; i < 72 / pattern.length(); i++) {
@@ -63,16 +111,30 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
   protected final PrintWriter out;
 
   private final TextOutputFormat outputFormat;
+  private final TableRowWriter rowWriter;
+  private final TableRowWriter dataRowWriter;
+  // Cell formats for styles that are passed in, created once for each style
+  private final Map<String, TableCellFormat> detailStyleCells;
+  private final Map<String, TableCellFormat> wideRowCells;
 
   public BaseTextFormattingHelper(final PrintWriter out, final TextOutputFormat outputFormat) {
     this.out = out;
     this.outputFormat = outputFormat;
+
+    rowWriter = new TableRowWriter(out, TagOutputFormat.valueOf(outputFormat.name()));
+    // Data is tab-separated in plain text output
+    if (outputFormat == TextOutputFormat.text) {
+      dataRowWriter = new TableRowWriter(out, TagOutputFormat.tsv);
+    } else {
+      dataRowWriter = rowWriter;
+    }
+    detailStyleCells = new HashMap<>();
+    wideRowCells = new HashMap<>();
   }
 
   @Override
   public TextFormattingHelper append(final String text) {
     out.write(text);
-    out.flush();
 
     return this;
   }
@@ -94,10 +156,10 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
   /** {@inheritDoc} */
   @Override
   public void writeDescriptionRow(final String description) {
-    final Tag row = tableRow().make();
-    row.addInnerTag(tableCell().withStyleClass("spacer").make());
-    row.addInnerTag(tableCell().withEscapedText(description).withColumnSpan(2).make());
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter.startRow();
+    rowWriter.writeCell(SPACER_CELL, null);
+    rowWriter.writeCell(DESCRIPTION_CELL, description);
+    rowWriter.endRow();
   }
 
   /** {@inheritDoc} */
@@ -115,40 +177,25 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       final boolean escapeText,
       final boolean emphasize,
       final String style) {
-    final int text2Width = 32;
-    final int text3Width = 28;
-    final String text3Sytle;
-    if (!isBlank(style)) {
-      text3Sytle = " " + style;
-    } else {
-      text3Sytle = "";
-    }
-
-    final Tag row = tableRow().make();
+    final TableCellFormat detailStyleCell =
+        detailStyleCells.computeIfAbsent(
+            isBlank(style) ? "" : style,
+            key ->
+                tableCell()
+                    .withEscapedText()
+                    .withWidth(28)
+                    .withAlignment(Alignment.inherit)
+                    .withStyleClass(key.isEmpty() ? "minwidth" : "minwidth " + key));
+
+    rowWriter.startRow();
     if (isBlank(text1)) {
-      row.addInnerTag(tableCell().withStyleClass("spacer").make());
+      rowWriter.writeCell(SPACER_CELL, null);
     } else {
-      row.addInnerTag(
-          tableCell().withEscapedText(text1).withWidth(2).withStyleClass("spacer").make());
+      rowWriter.writeCell(DETAIL_SPACER_CELL, text1);
     }
-
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(text2, escapeText)
-            .withWidth(text2Width)
-            .withEmphasis(emphasize)
-            .withStyleClass("minwidth")
-            .make());
-
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(text3)
-            .withWidth(text3Width)
-            .withAlignment(Alignment.inherit)
-            .withStyleClass("minwidth" + text3Sytle)
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter.writeCell(DETAIL_CELLS[(escapeText ? 1 : 0) + (emphasize ? 2 : 0)], text2);
+    rowWriter.writeCell(detailStyleCell, text3);
+    rowWriter.endRow();
   }
 
   /**
@@ -158,9 +205,9 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeEmptyRow() {
-    final Tag tableRow = tableRow().make();
-    tableRow.addInnerTag(tableCell().withColumnSpan(3).make());
-    out.println(tableRow.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter.startRow();
+    rowWriter.writeCell(EMPTY_CELL, null);
+    rowWriter.endRow();
   }
 
   /**
@@ -182,23 +229,10 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
       nameWidth = Math.max(name.length(), nameWidth - (description.length() - descriptionWidth));
     }
 
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(name)
-            .withWidth(nameWidth)
-            .withStyleClass("name")
-            .withColumnSpan(2)
-            .make());
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(description)
-            .withWidth(descriptionWidth)
-            .withAlignment(Alignment.right)
-            .withStyleClass("description right")
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter.startRow();
+    rowWriter.writeCell(NAME_CELL, name, nameWidth);
+    rowWriter.writeCell(NAME_DESCRIPTION_CELL, description, descriptionWidth);
+    rowWriter.endRow();
   }
 
   /**
@@ -209,29 +243,12 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
   @Override
   public void writeNameValueRow(
       final String name, final String value, final Alignment valueAlignment) {
-    final int nameWidth = 40;
-    final int valueWidth = 70 - nameWidth;
-
     final Alignment alignmentForValue = valueAlignment == null ? Alignment.inherit : valueAlignment;
-    final String valueStyle =
-        "property_value" + (alignmentForValue == Alignment.inherit ? "" : " right");
-
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(name)
-            .withWidth(nameWidth)
-            .withStyleClass("property_name")
-            .make());
-    row.addInnerTag(
-        tableCell()
-            .withEscapedText(value)
-            .withWidth(valueWidth)
-            .withAlignment(alignmentForValue)
-            .withStyleClass(valueStyle)
-            .make());
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+
+    rowWriter.startRow();
+    rowWriter.writeCell(PROPERTY_NAME_CELL, name);
+    rowWriter.writeCell(PROPERTY_VALUE_CELLS.get(alignmentForValue), value);
+    rowWriter.endRow();
   }
 
   /**
@@ -241,26 +258,19 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeRow(final Object... columnData) {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text) {
-      outputFormat = TextOutputFormat.tsv;
-    }
-    final Tag row = tableRow().make();
+    dataRowWriter.startRow();
     for (final Object element : columnData) {
       if (element == null) {
-        row.addInnerTag(tableCell().withText("NULL").withStyleClass("data_null").make());
+        dataRowWriter.writeCell(DATA_NULL_CELL, "NULL");
       } else if (element instanceof BinaryData) {
-        row.addInnerTag(
-            tableCell().withEscapedText(element.toString()).withStyleClass("data_binary").make());
+        dataRowWriter.writeCell(DATA_BINARY_CELL, element.toString());
       } else if (element instanceof Number) {
-        row.addInnerTag(
-            tableCell().withEscapedText(element.toString()).withStyleClass("data_number").make());
+        dataRowWriter.writeCell(DATA_NUMBER_CELL, element.toString());
       } else {
-        row.addInnerTag(tableCell().withEscapedText(element.toString()).make());
+        dataRowWriter.writeCell(DATA_CELL, element.toString());
       }
     }
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    dataRowWriter.endRow();
   }
 
   /**
@@ -270,24 +280,21 @@ abstract class BaseTextFormattingHelper implements TextFormattingHelper {
    */
   @Override
   public void writeRowHeader(final String... columnNames) {
-    TextOutputFormat outputFormat = this.outputFormat;
-    if (outputFormat == TextOutputFormat.text) {
-      outputFormat = TextOutputFormat.tsv;
-    }
-    final Tag row = tableRow().make();
+    dataRowWriter.startRow();
     for (final String columnName : columnNames) {
-      final Tag headerCell = tableHeaderCell().withText(columnName).make();
-      row.addInnerTag(headerCell);
+      dataRowWriter.writeCell(DATA_HEADER_CELL, columnName);
     }
-
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    dataRowWriter.endRow();
   }
 
   @Override
   public void writeWideRow(final String definition, final String style) {
-    final Tag row = tableRow().make();
-    row.addInnerTag(
-        tableCell().withEscapedText(definition).withStyleClass(style).withColumnSpan(3).make());
-    out.println(row.render(TagOutputFormat.valueOf(outputFormat.name())));
+    rowWriter.startRow();
+    final TableCellFormat wideRowCell =
+        wideRowCells.computeIfAbsent(
+            style == null ? "" : style,
+            key -> tableCell().withEscapedText().withStyleClass(key).withColumnSpan(3));
+    rowWriter.writeCell(wideRowCell, definition);
+    rowWriter.endRow();
   }
 }
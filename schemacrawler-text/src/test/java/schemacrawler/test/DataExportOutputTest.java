@@ -0,0 +1,91 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+import static schemacrawler.test.utility.FileHasContent.classpathResource;
+import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
+import static schemacrawler.test.utility.FileHasContent.outputOf;
+import static schemacrawler.test.utility.TestUtility.clean;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.text.export.DataExportOptionsBuilder;
+import schemacrawler.tools.text.export.DataExportOutputFormat;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class DataExportOutputTest {
+
+  private static final String DATA_EXPORT_OUTPUT = "data_export_output/";
+
+  @BeforeAll
+  public static void before() throws Exception {
+    clean(DATA_EXPORT_OUTPUT);
+  }
+
+  @Test
+  public void exportOutput(final Connection connection) throws Exception {
+    for (final DataExportOutputFormat outputFormat : DataExportOutputFormat.values()) {
+      exportOutputTest(outputFormat, connection);
+    }
+  }
+
+  private void exportOutputTest(
+      final DataExportOutputFormat outputFormat, final Connection connection) throws Exception {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final DataExportOptionsBuilder dataExportOptionsBuilder =
+        DataExportOptionsBuilder.builder().withFetchSize(5);
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("export");
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(dataExportOptionsBuilder.toConfig());
+
+    assertThat(
+        outputOf(executableExecution(connection, executable, outputFormat)),
+        hasSameContentAs(
+            classpathResource(DATA_EXPORT_OUTPUT + "export." + outputFormat.getFormat())));
+  }
+}
@@ -0,0 +1,200 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.operation.OperationOptionsBuilder;
+import schemacrawler.tools.text.operation.OperationType;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ParallelOperationsTest {
+
+  @Test
+  public void parallelOutputMatchesSerialOutput(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> dataSource =
+        () -> {
+          try {
+            connectionCount.incrementAndGet();
+            return DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+
+    for (final OperationType operation :
+        new OperationType[] {OperationType.count, OperationType.dump}) {
+      for (final TextOutputFormat outputFormat :
+          new TextOutputFormat[] {TextOutputFormat.text, TextOutputFormat.html}) {
+
+        final Path serialOutput =
+            executableExecution(connection, executable(operation, 1, null), outputFormat);
+
+        connectionCount.set(0);
+        final Path parallelOutput =
+            executableExecution(connection, executable(operation, 4, dataSource), outputFormat);
+
+        assertThat(connectionCount.get(), is(4));
+        assertThat(Files.size(serialOutput), is(greaterThan(0L)));
+        assertThat(
+            operation + " in " + outputFormat,
+            new String(Files.readAllBytes(parallelOutput), UTF_8),
+            is(new String(Files.readAllBytes(serialOutput), UTF_8)));
+      }
+    }
+  }
+
+  @Test
+  public void parallelRenderingStaysCloseToOutput(
+      final Connection connection, final DatabaseConnectionInfo connectionInfo) throws Exception {
+
+    // The first table to be queried is slow, so other tables cannot be written out until it is done
+    final AtomicInteger queriesStarted = new AtomicInteger();
+    final AtomicInteger queriesStartedWhileBlocked = new AtomicInteger();
+    final Supplier<Connection> dataSource =
+        () -> {
+          try {
+            return blockFirstQuery(
+                DriverManager.getConnection(connectionInfo.getConnectionUrl(), "sa", ""),
+                queriesStarted,
+                queriesStartedWhileBlocked);
+          } catch (final SQLException e) {
+            throw new SchemaCrawlerRuntimeException("Could not connect", e);
+          }
+        };
+
+    final Path serialOutput =
+        executableExecution(
+            connection, executable(OperationType.dump, 1, null), TextOutputFormat.text);
+    final Path parallelOutput =
+        executableExecution(
+            connection, executable(OperationType.dump, 2, dataSource), TextOutputFormat.text);
+
+    assertThat(
+        new String(Files.readAllBytes(parallelOutput), UTF_8),
+        is(new String(Files.readAllBytes(serialOutput), UTF_8)));
+    // At most one table is written out before the slow table, and each of the 2 threads can
+    // render up to 2 tables ahead of the table to be written out
+    assertThat(queriesStarted.get(), is(greaterThan(5)));
+    assertThat(queriesStartedWhileBlocked.get(), is(lessThanOrEqualTo(5)));
+  }
+
+  private Connection blockFirstQuery(
+      final Connection connection,
+      final AtomicInteger queriesStarted,
+      final AtomicInteger queriesStartedWhileBlocked) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              final Object result = invoke(connection, method, args);
+              if (!"createStatement".equals(method.getName())) {
+                return result;
+              }
+              final Statement statement = (Statement) result;
+              return Proxy.newProxyInstance(
+                  getClass().getClassLoader(),
+                  new Class<?>[] {Statement.class},
+                  (statementProxy, statementMethod, statementArgs) -> {
+                    if ("execute".equals(statementMethod.getName())
+                        && queriesStarted.incrementAndGet() == 1) {
+                      Thread.sleep(1000);
+                      queriesStartedWhileBlocked.set(queriesStarted.get());
+                    }
+                    return invoke(statement, statementMethod, statementArgs);
+                  });
+            });
+  }
+
+  private Object invoke(final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private SchemaCrawlerExecutable executable(
+      final OperationType operation, final int maxThreads, final Supplier<Connection> dataSource) {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Config config =
+        OperationOptionsBuilder.builder()
+            .withCommand(operation.name())
+            .withMaxThreads(maxThreads)
+            .noInfo()
+            .toConfig();
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(operation.name());
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(config);
+    executable.setDataSource(dataSource);
+    return executable;
+  }
+}
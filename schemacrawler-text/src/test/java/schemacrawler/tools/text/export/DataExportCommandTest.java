@@ -0,0 +1,136 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+import static schemacrawler.tools.text.export.DataExportCommand.streamingFetchSize;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class DataExportCommandTest {
+
+  @Test
+  public void fetchSizeInTransaction(final Connection connection) throws Exception {
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connection, SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions());
+
+    // Record the fetch size and autocommit mode at the time each table is queried
+    final List<Integer> fetchSizes = new ArrayList<>();
+    final List<Boolean> autoCommits = new ArrayList<>();
+    final Connection exportConnection = spy(connection);
+    doAnswer(
+            invocation -> {
+              final Statement statement = spy((Statement) invocation.callRealMethod());
+              doAnswer(
+                      execution -> {
+                        fetchSizes.add(statement.getFetchSize());
+                        autoCommits.add(connection.getAutoCommit());
+                        return execution.callRealMethod();
+                      })
+                  .when(statement)
+                  .execute(anyString());
+              return statement;
+            })
+        .when(exportConnection)
+        .createStatement();
+
+    final boolean autoCommit = connection.getAutoCommit();
+    assertThat(autoCommit, is(true));
+
+    final DataExportCommand command = new DataExportCommand();
+    command.setCatalog(catalog);
+    command.setConnection(exportConnection);
+    command.setIdentifiers(Identifiers.identifiers().build());
+    command.setCommandOptions(DataExportOptionsBuilder.builder().withFetchSize(7).toOptions());
+    command.setOutputOptions(
+        OutputOptionsBuilder.builder()
+            .withOutputFormatValue(DataExportOutputFormat.csv.getFormat())
+            .withOutputWriter(new StringWriter())
+            .toOptions());
+    command.initialize();
+    command.execute();
+
+    assertThat(fetchSizes, is(not(empty())));
+    assertThat(fetchSizes, everyItem(is(7)));
+    assertThat(autoCommits, everyItem(is(false)));
+    // Autocommit is restored after the export
+    assertThat(connection.getAutoCommit(), is(true));
+  }
+
+  @Test
+  public void streamingFetchSizeForDrivers() throws Exception {
+    assertThat(
+        streamingFetchSize(connectionFor("HSQL Database Engine Driver", "jdbc:hsqldb"), 7), is(7));
+    assertThat(
+        streamingFetchSize(connectionFor("PostgreSQL JDBC Driver", "jdbc:postgresql://host/db"), 7),
+        is(7));
+    assertThat(
+        streamingFetchSize(connectionFor("MySQL Connector/J", "jdbc:mysql://host/db"), 7),
+        is(Integer.MIN_VALUE));
+    assertThat(
+        streamingFetchSize(
+            connectionFor("MySQL Connector/J", "jdbc:mysql://host/db?useCursorFetch=true"), 7),
+        is(7));
+  }
+
+  private Connection connectionFor(final String driverName, final String url) throws Exception {
+    final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    when(metaData.getDriverName()).thenReturn(driverName);
+    when(metaData.getURL()).thenReturn(url);
+    final Connection connection = mock(Connection.class);
+    when(connection.getMetaData()).thenReturn(metaData);
+    return connection;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.export;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static schemacrawler.tools.text.export.DataExportWriter.newDataExportWriter;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class DataExportWriterTest {
+
+  private static final String SQL =
+      "SELECT "
+          + "1 AS ID, "
+          + "'say \"hi\", then\ttab' AS TEXT, "
+          + "CAST(NULL AS VARCHAR(10)) AS EMPTY, "
+          + "CAST(1.50 AS DECIMAL(5, 2)) AS AMOUNT, "
+          + "CAST(2.5E0 AS DOUBLE) AS RATIO, "
+          + "TRUE AS FLAG, "
+          + "X'CAFE' AS BYTES "
+          + "FROM (VALUES(0))";
+
+  @Test
+  public void csv(final Connection connection) throws Exception {
+    assertThat(
+        export(connection, DataExportOutputFormat.csv),
+        is(
+            "table,ID,TEXT,EMPTY,AMOUNT,RATIO,FLAG,BYTES\r\n"
+                + "TEST,1,\"say \"\"hi\"\", then\ttab\",,1.50,2.5,true,CAFE\r\n"
+                + "\r\n"
+                + "table,ID,TEXT,EMPTY,AMOUNT,RATIO,FLAG,BYTES\r\n"
+                + "\"TEST, again\",1,\"say \"\"hi\"\", then\ttab\",,1.50,2.5,true,CAFE\r\n"));
+  }
+
+  @Test
+  public void columnTypes() {
+    assertThat(ExportColumnType.fromJdbcType(Types.INTEGER, false), is(ExportColumnType.integral));
+    assertThat(ExportColumnType.fromJdbcType(Types.BIGINT, true), is(ExportColumnType.integral));
+    // Unsigned values can be larger than a long
+    assertThat(ExportColumnType.fromJdbcType(Types.BIGINT, false), is(ExportColumnType.decimal));
+  }
+
+  @Test
+  public void jsonLines(final Connection connection) throws Exception {
+    final String row =
+        "\"row\": {"
+            + "\"ID\": 1, \"TEXT\": \"say \\\"hi\\\", then\\ttab\", \"EMPTY\": null, "
+            + "\"AMOUNT\": 1.50, \"RATIO\": 2.5, \"FLAG\": true, \"BYTES\": \"CAFE\"}}\n";
+    assertThat(
+        export(connection, DataExportOutputFormat.jsonl),
+        is("{\"table\": \"TEST\", " + row + "{\"table\": \"TEST, again\", " + row));
+  }
+
+  @Test
+  public void tsv(final Connection connection) throws Exception {
+    assertThat(
+        export(connection, DataExportOutputFormat.tsv),
+        is(
+            "table\tID\tTEXT\tEMPTY\tAMOUNT\tRATIO\tFLAG\tBYTES\n"
+                + "TEST\t1\tsay \"hi\", then\\ttab\t\t1.50\t2.5\ttrue\tCAFE\n"
+                + "\n"
+                + "table\tID\tTEXT\tEMPTY\tAMOUNT\tRATIO\tFLAG\tBYTES\n"
+                + "TEST, again\t1\tsay \"hi\", then\\ttab\t\t1.50\t2.5\ttrue\tCAFE\n"));
+  }
+
+  private String export(final Connection connection, final DataExportOutputFormat outputFormat)
+      throws Exception {
+    final StringWriter writer = new StringWriter();
+    final DataExportWriter exportWriter = newDataExportWriter(outputFormat, writer);
+    try (final Statement statement = connection.createStatement()) {
+      // Export twice, to check separation of tables
+      for (final String title : new String[] {"TEST", "TEST, again"}) {
+        try (final ResultSet results = statement.executeQuery(SQL)) {
+          assertThat(exportWriter.write(title, results), is(1L));
+        }
+      }
+    }
+    return writer.toString();
+  }
+}
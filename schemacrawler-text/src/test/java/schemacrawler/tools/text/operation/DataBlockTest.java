@@ -0,0 +1,98 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.text.operation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.PlainTextFormattingHelper;
+
+public class DataBlockTest {
+
+  @Test
+  public void inMemory() throws Exception {
+    final DataBlock dataBlock = new DataBlock(1024);
+    dataBlock.write("hello, ");
+    dataBlock.write("world".toCharArray());
+
+    assertThat(dataBlock.isSpilled(), is(false));
+    assertThat(appendTo(dataBlock), is("hello, world"));
+    dataBlock.discard();
+  }
+
+  @Test
+  public void spilled() throws Exception {
+    final StringBuilder expected = new StringBuilder();
+    final DataBlock dataBlock = new DataBlock(100);
+    for (int i = 0; i < 5000; i++) {
+      final String line = String.format("row %d é%n", i);
+      dataBlock.write(line);
+      expected.append(line);
+    }
+
+    assertThat(dataBlock.isSpilled(), is(true));
+    assertThat(appendTo(dataBlock), is(expected.toString()));
+    dataBlock.discard();
+  }
+
+  @Test
+  public void closedAfterRendering() throws Exception {
+    final StringBuilder expected = new StringBuilder();
+    final DataBlock dataBlock = new DataBlock(100);
+    for (int i = 0; i < 50; i++) {
+      final String line = String.format("row %d%n", i);
+      dataBlock.write(line);
+      expected.append(line);
+    }
+    dataBlock.close();
+
+    assertThat(dataBlock.isSpilled(), is(true));
+    assertThrows(IOException.class, () -> dataBlock.write("more"));
+    // Closing again has no effect
+    dataBlock.close();
+    assertThat(appendTo(dataBlock), is(expected.toString()));
+    dataBlock.discard();
+  }
+
+  private String appendTo(final DataBlock dataBlock) throws Exception {
+    final StringWriter writer = new StringWriter();
+    final PrintWriter out = new PrintWriter(writer);
+    dataBlock.appendTo(new PlainTextFormattingHelper(out, TextOutputFormat.text));
+    out.flush();
+    return writer.toString();
+  }
+}
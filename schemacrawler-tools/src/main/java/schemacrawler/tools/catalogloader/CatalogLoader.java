@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.catalogloader;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -38,6 +39,16 @@ public interface CatalogLoader {
 
   Connection getConnection();
 
+  /**
+   * Source of additional database connections, which catalog loaders that support it can use to
+   * retrieve metadata in parallel.
+   *
+   * @return Connection source, or null if none is set
+   */
+  default Supplier<Connection> getDataSource() {
+    return null;
+  }
+
   String getDatabaseSystemIdentifier();
 
   SchemaCrawlerOptions getSchemaCrawlerOptions();
@@ -48,6 +59,10 @@ public interface CatalogLoader {
 
   void setConnection(Connection connection);
 
+  default void setDataSource(final Supplier<Connection> dataSource) {
+    // Default catalog loaders only use the connection
+  }
+
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
 
   void setSchemaRetrievalOptions(SchemaRetrievalOptions schemaRetrievalOptions);
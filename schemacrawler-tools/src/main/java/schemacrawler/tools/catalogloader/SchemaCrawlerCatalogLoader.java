@@ -31,6 +31,7 @@ package schemacrawler.tools.catalogloader;
 import static java.util.Objects.requireNonNull;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.crawl.SchemaCrawler;
 import schemacrawler.schema.Catalog;
@@ -45,6 +46,7 @@ public class SchemaCrawlerCatalogLoader implements CatalogLoader {
   private SchemaRetrievalOptions schemaRetrievalOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private Connection connection;
+  private Supplier<Connection> dataSource;
 
   public SchemaCrawlerCatalogLoader() {
     databaseSystemIdentifier = null;
@@ -60,6 +62,11 @@ public class SchemaCrawlerCatalogLoader implements CatalogLoader {
     return connection;
   }
 
+  @Override
+  public Supplier<Connection> getDataSource() {
+    return dataSource;
+  }
+
   @Override
   public String getDatabaseSystemIdentifier() {
     return databaseSystemIdentifier;
@@ -85,11 +92,16 @@ public class SchemaCrawlerCatalogLoader implements CatalogLoader {
 
   @Override
   public Catalog loadCatalog() throws Exception {
-    requireNonNull(connection, "No connection provided");
     requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
 
-    final SchemaCrawler schemaCrawler =
-        new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions);
+    final SchemaCrawler schemaCrawler;
+    // Use the data source only when it will be used for retrieval in parallel
+    if (dataSource != null && getSchemaCrawlerOptions().getLoadOptions().getMaxThreads() > 1) {
+      schemaCrawler = new SchemaCrawler(dataSource, schemaRetrievalOptions, schemaCrawlerOptions);
+    } else {
+      requireNonNull(connection, "No connection provided");
+      schemaCrawler = new SchemaCrawler(connection, schemaRetrievalOptions, schemaCrawlerOptions);
+    }
     final Catalog catalog = schemaCrawler.crawl();
 
     return catalog;
@@ -100,6 +112,11 @@ public class SchemaCrawlerCatalogLoader implements CatalogLoader {
     this.connection = connection;
   }
 
+  @Override
+  public void setDataSource(final Supplier<Connection> dataSource) {
+    this.dataSource = dataSource;
+  }
+
   @Override
   public void setSchemaCrawlerOptions(final SchemaCrawlerOptions schemaCrawlerOptions) {
     this.schemaCrawlerOptions = schemaCrawlerOptions;
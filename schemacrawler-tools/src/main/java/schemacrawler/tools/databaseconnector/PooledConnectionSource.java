@@ -0,0 +1,412 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.databaseconnector;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.SchemaCrawlerLogger;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Keeps a bounded pool of physical database connections obtained from another connection source, so
+ * that repeated commands in a session, and parallel catalog retrieval, do not reconnect to the
+ * database every time. Connections handed out are proxies, and closing them returns the physical
+ * connection to the pool. Idle connections are validated before they are reused, and are closed
+ * once they have been idle for longer than the idle timeout.
+ */
+public final class PooledConnectionSource implements Supplier<Connection>, AutoCloseable {
+
+  private static final class IdleConnection {
+    private final Connection connection;
+    private final long idleSince;
+
+    IdleConnection(final Connection connection) {
+      this.connection = connection;
+      idleSince = System.nanoTime();
+    }
+  }
+
+  private final class PooledConnectionHandler implements InvocationHandler {
+
+    private final Connection connection;
+    private boolean returned;
+
+    PooledConnectionHandler(final Connection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Throwable {
+      final String methodName = method.getName();
+      switch (methodName) {
+        case "close":
+          synchronized (this) {
+            if (!returned) {
+              returned = true;
+              release(connection);
+            }
+          }
+          return null;
+        case "isClosed":
+          synchronized (this) {
+            if (returned) {
+              return true;
+            }
+          }
+          break;
+        case "equals":
+          return proxy == args[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return String.format("Pooled connection <%s>", connection);
+        case "isWrapperFor":
+          // Allow callers to get to a pooled connection of a specific type,
+          // such as an offline connection, even if it is not a JDBC wrapper
+          if (((Class<?>) args[0]).isInstance(connection)) {
+            return true;
+          }
+          break;
+        case "unwrap":
+          if (((Class<?>) args[0]).isInstance(connection)) {
+            return connection;
+          }
+          break;
+        default:
+          synchronized (this) {
+            if (returned) {
+              throw new SQLException(
+                  String.format("Connection has been returned to the pool, for <%s>", methodName));
+            }
+          }
+          break;
+      }
+      try {
+        return method.invoke(connection, args);
+      } catch (final InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+
+  private static final SchemaCrawlerLogger LOGGER =
+      SchemaCrawlerLogger.getLogger(PooledConnectionSource.class.getName());
+
+  private static final int DEFAULT_MAX_POOL_SIZE = 10;
+  private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+  private static final Duration DEFAULT_BORROW_TIMEOUT = Duration.ofMinutes(5);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+  private static void closeQuietly(final Connection connection) {
+    try {
+      connection.close();
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, new StringFormat("Could not close connection <%s>", connection), e);
+    }
+  }
+
+  private final Supplier<Connection> connectionSource;
+  private int maxPoolSize;
+  private final long idleTimeoutNanos;
+  private final long borrowTimeoutNanos;
+  private final String validationQuery;
+  private final Deque<IdleConnection> idleConnections;
+  private int openConnections;
+  private boolean closed;
+
+  public PooledConnectionSource(final Supplier<Connection> connectionSource) {
+    this(connectionSource, null);
+  }
+
+  /**
+   * Pools connections from another connection source, with default pool settings.
+   *
+   * @param connectionSource Source of physical connections
+   * @param validationQuery Query to run to check an idle connection before reuse, or null to use
+   *     the JDBC driver's validity check
+   */
+  public PooledConnectionSource(
+      final Supplier<Connection> connectionSource, final String validationQuery) {
+    this(
+        connectionSource,
+        DEFAULT_MAX_POOL_SIZE,
+        DEFAULT_IDLE_TIMEOUT,
+        validationQuery,
+        DEFAULT_BORROW_TIMEOUT);
+  }
+
+  /**
+   * Pools connections from another connection source.
+   *
+   * @param connectionSource Source of physical connections
+   * @param maxPoolSize Maximum number of physical connections, idle or in use
+   * @param idleTimeout Time after which idle connections are closed
+   * @param validationQuery Query to run to check an idle connection before reuse, or null to use
+   *     the JDBC driver's validity check
+   * @param borrowTimeout Time to wait for a connection when all connections are in use
+   */
+  public PooledConnectionSource(
+      final Supplier<Connection> connectionSource,
+      final int maxPoolSize,
+      final Duration idleTimeout,
+      final String validationQuery,
+      final Duration borrowTimeout) {
+    this.connectionSource = requireNonNull(connectionSource, "No connection source provided");
+    if (maxPoolSize <= 0) {
+      throw new IllegalArgumentException("Pool size needs to be positive");
+    }
+    this.maxPoolSize = maxPoolSize;
+    idleTimeoutNanos = requireNonNull(idleTimeout, "No idle timeout provided").toNanos();
+    borrowTimeoutNanos = requireNonNull(borrowTimeout, "No borrow timeout provided").toNanos();
+    this.validationQuery = isBlank(validationQuery) ? null : validationQuery;
+    idleConnections = new ArrayDeque<>();
+  }
+
+  /** Closes idle connections. Connections in use are closed as soon as they are returned. */
+  @Override
+  public void close() {
+    final Deque<IdleConnection> toClose;
+    synchronized (this) {
+      closed = true;
+      toClose = new ArrayDeque<>(idleConnections);
+      openConnections = openConnections - idleConnections.size();
+      idleConnections.clear();
+      notifyAll();
+    }
+    LOGGER.log(Level.INFO, new StringFormat("Closing %d pooled connection(s)", toClose.size()));
+    for (final IdleConnection idleConnection : toClose) {
+      closeQuietly(idleConnection.connection);
+    }
+  }
+
+  /**
+   * Borrows a connection from the pool, opening a new physical connection if no idle connection is
+   * available and the pool is not full. Closing the returned connection returns it to the pool.
+   */
+  @Override
+  public Connection get() {
+    final Connection connection = borrow();
+    return (Connection)
+        Proxy.newProxyInstance(
+            PooledConnectionSource.class.getClassLoader(),
+            new Class[] {Connection.class},
+            new PooledConnectionHandler(connection));
+  }
+
+  /**
+   * Grows the pool, if needed, so that it can hold at least the given number of physical
+   * connections. The pool is never shrunk.
+   *
+   * @param poolSize Number of physical connections that need to be open at the same time
+   */
+  public synchronized void ensureMaxPoolSize(final int poolSize) {
+    if (poolSize <= maxPoolSize) {
+      return;
+    }
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat("Growing connection pool from %d to %d", maxPoolSize, poolSize));
+    maxPoolSize = poolSize;
+    // Borrowers waiting for a connection can now open one
+    notifyAll();
+  }
+
+  public synchronized int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  public String getValidationQuery() {
+    return validationQuery;
+  }
+
+  /** Number of physical connections currently open, whether idle or in use. */
+  public synchronized int getOpenConnections() {
+    return openConnections;
+  }
+
+  @Override
+  public String toString() {
+    return connectionSource.toString();
+  }
+
+  private Connection borrow() {
+    final long deadline = System.nanoTime() + borrowTimeoutNanos;
+    while (true) {
+      final IdleConnection idleConnection;
+      synchronized (this) {
+        checkOpen();
+        evictExpired();
+        idleConnection = idleConnections.pollFirst();
+        if (idleConnection == null) {
+          if (openConnections < maxPoolSize) {
+            // Reserve a slot, and open the physical connection outside the lock
+            openConnections++;
+          } else {
+            waitForConnection(deadline);
+            continue;
+          }
+        }
+      }
+
+      if (idleConnection != null) {
+        if (isValid(idleConnection.connection)) {
+          return idleConnection.connection;
+        }
+        LOGGER.log(
+            Level.FINE,
+            new StringFormat("Discarding invalid connection <%s>", idleConnection.connection));
+        discard(idleConnection.connection);
+        continue;
+      }
+
+      try {
+        final Connection connection =
+            requireNonNull(connectionSource.get(), "No connection provided");
+        LOGGER.log(Level.FINE, new StringFormat("Opened pooled connection <%s>", connection));
+        return connection;
+      } catch (final RuntimeException e) {
+        synchronized (this) {
+          openConnections--;
+          notifyAll();
+        }
+        throw e;
+      }
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new SchemaCrawlerRuntimeException("Connection pool is closed");
+    }
+  }
+
+  private void discard(final Connection connection) {
+    synchronized (this) {
+      openConnections--;
+      notifyAll();
+    }
+    closeQuietly(connection);
+  }
+
+  /** Closes connections that have been idle too long. Needs to be called holding the lock. */
+  private void evictExpired() {
+    final long now = System.nanoTime();
+    final Iterator<IdleConnection> iterator = idleConnections.descendingIterator();
+    while (iterator.hasNext()) {
+      final IdleConnection idleConnection = iterator.next();
+      if (now - idleConnection.idleSince < idleTimeoutNanos) {
+        // Older connections are at the tail, so the rest are fresher
+        break;
+      }
+      iterator.remove();
+      openConnections--;
+      LOGGER.log(
+          Level.FINE, new StringFormat("Closing idle connection <%s>", idleConnection.connection));
+      closeQuietly(idleConnection.connection);
+    }
+  }
+
+  private boolean isValid(final Connection connection) {
+    try {
+      if (connection.isClosed()) {
+        return false;
+      }
+      if (validationQuery == null) {
+        return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+      }
+      try (final Statement statement = connection.createStatement()) {
+        statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+        statement.execute(validationQuery);
+      }
+      return true;
+    } catch (final SQLException | RuntimeException | AbstractMethodError e) {
+      LOGGER.log(Level.FINE, "Connection validation failed", e);
+      return false;
+    }
+  }
+
+  private void release(final Connection connection) {
+    boolean reusable;
+    try {
+      reusable = !connection.isClosed();
+      if (reusable && !connection.getAutoCommit()) {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Could not reset returned connection", e);
+      reusable = false;
+    }
+
+    synchronized (this) {
+      if (reusable && !closed) {
+        idleConnections.addFirst(new IdleConnection(connection));
+        evictExpired();
+        notifyAll();
+        return;
+      }
+    }
+    discard(connection);
+  }
+
+  /** Waits for a connection to be returned. Needs to be called holding the lock. */
+  private void waitForConnection(final long deadline) {
+    final long remainingNanos = deadline - System.nanoTime();
+    if (remainingNanos <= 0) {
+      throw new SchemaCrawlerRuntimeException(
+          String.format(
+              "Timed out waiting for a database connection, with %d connection(s) in use",
+              openConnections));
+    }
+    try {
+      final long remainingMillis = Math.max(1, remainingNanos / 1_000_000);
+      wait(remainingMillis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerRuntimeException("Interrupted waiting for a database connection", e);
+    }
+  }
+}
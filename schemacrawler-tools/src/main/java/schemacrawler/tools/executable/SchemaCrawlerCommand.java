@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.executable;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
@@ -64,6 +65,16 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   Connection getConnection();
 
+  /**
+   * Source of additional database connections, which commands that support it can use to run
+   * queries in parallel.
+   *
+   * @return Connection source, or null if none is set
+   */
+  default Supplier<Connection> getDataSource() {
+    return null;
+  }
+
   Identifiers getIdentifiers();
 
   OutputOptions getOutputOptions();
@@ -83,6 +94,10 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   void setConnection(Connection connection);
 
+  default void setDataSource(final Supplier<Connection> dataSource) {
+    // Default commands only use the connection
+  }
+
   void setIdentifiers(Identifiers identifiers);
 
   void setOutputOptions(OutputOptions outputOptions);
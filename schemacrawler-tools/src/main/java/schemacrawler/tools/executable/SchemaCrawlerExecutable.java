@@ -32,6 +32,7 @@ import static us.fatehi.utility.Utility.requireNotBlank;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.SchemaCrawlerLogger;
@@ -66,6 +67,7 @@ public final class SchemaCrawlerExecutable {
   private Config additionalConfiguration;
   private Catalog catalog;
   private Connection connection;
+  private Supplier<Connection> dataSource;
   private OutputOptions outputOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private SchemaRetrievalOptions schemaRetrievalOptions;
@@ -78,37 +80,24 @@ public final class SchemaCrawlerExecutable {
     additionalConfiguration = new Config();
   }
 
+  /**
+   * Executes the command. If no connection is set, but a data source is, a connection is borrowed
+   * from the data source for the duration of the execution, and the data source is made available
+   * to the catalog loader for parallel retrieval, and to the command.
+   *
+   * @throws Exception On an exception
+   */
   public void execute() throws Exception {
-
-    if (schemaRetrievalOptions == null) {
-      schemaRetrievalOptions = SchemaCrawlerUtility.matchSchemaRetrievalOptions(connection);
-    }
-
-    // Load the command to see if it is available
-    // Fail early (before loading the catalog) if the command is not
-    // available
-    final SchemaCrawlerCommand<?> scCommand = loadCommand();
-
-    // Set options
-    scCommand.setIdentifiers(schemaRetrievalOptions.getIdentifiers());
-
-    // Initialize, and check if the command is available
-    scCommand.initialize();
-    scCommand.checkAvailability();
-
-    if (catalog == null) {
-      loadCatalog();
+    if (connection == null && dataSource != null) {
+      try (final Connection borrowedConnection = dataSource.get()) {
+        connection = borrowedConnection;
+        executeCommand();
+      } finally {
+        connection = null;
+      }
+    } else {
+      executeCommand();
     }
-
-    // Prepare to execute
-    scCommand.setCatalog(catalog);
-    scCommand.setConnection(connection);
-
-    // Execute
-    LOGGER.log(Level.INFO, new StringFormat("Executing SchemaCrawler command <%s>", command));
-    LOGGER.log(Level.CONFIG, new ObjectToStringFormat(scCommand.getIdentifiers()));
-    LOGGER.log(Level.CONFIG, new ObjectToStringFormat(scCommand.getCommandOptions()));
-    scCommand.execute();
   }
 
   public Catalog getCatalog() {
@@ -149,6 +138,10 @@ public final class SchemaCrawlerExecutable {
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  public void setDataSource(final Supplier<Connection> dataSource) {
+    this.dataSource = dataSource;
+  }
+
   public void setOutputOptions(final OutputOptions outputOptions) {
     if (outputOptions == null) {
       this.outputOptions = OutputOptionsBuilder.newOutputOptions();
@@ -175,6 +168,39 @@ public final class SchemaCrawlerExecutable {
     return command;
   }
 
+  private void executeCommand() throws Exception {
+    if (schemaRetrievalOptions == null) {
+      schemaRetrievalOptions = SchemaCrawlerUtility.matchSchemaRetrievalOptions(connection);
+    }
+
+    // Load the command to see if it is available
+    // Fail early (before loading the catalog) if the command is not
+    // available
+    final SchemaCrawlerCommand<?> scCommand = loadCommand();
+
+    // Set options
+    scCommand.setIdentifiers(schemaRetrievalOptions.getIdentifiers());
+
+    // Initialize, and check if the command is available
+    scCommand.initialize();
+    scCommand.checkAvailability();
+
+    if (catalog == null) {
+      loadCatalog();
+    }
+
+    // Prepare to execute
+    scCommand.setCatalog(catalog);
+    scCommand.setConnection(connection);
+    scCommand.setDataSource(dataSource);
+
+    // Execute
+    LOGGER.log(Level.INFO, new StringFormat("Executing SchemaCrawler command <%s>", command));
+    LOGGER.log(Level.CONFIG, new ObjectToStringFormat(scCommand.getIdentifiers()));
+    LOGGER.log(Level.CONFIG, new ObjectToStringFormat(scCommand.getCommandOptions()));
+    scCommand.execute();
+  }
+
   private void loadCatalog() throws Exception {
     final CatalogLoaderRegistry catalogLoaderRegistry = new CatalogLoaderRegistry();
     final CatalogLoader catalogLoader =
@@ -183,6 +209,7 @@ public final class SchemaCrawlerExecutable {
     LOGGER.log(Level.CONFIG, new StringFormat("Catalog loader: %s", getClass().getName()));
 
     catalogLoader.setConnection(connection);
+    catalogLoader.setDataSource(dataSource);
     catalogLoader.setSchemaRetrievalOptions(schemaRetrievalOptions);
     catalogLoader.setSchemaCrawlerOptions(schemaCrawlerOptions);
 
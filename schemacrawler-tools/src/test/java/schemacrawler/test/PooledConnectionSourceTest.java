@@ -0,0 +1,222 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.databaseconnector.PooledConnectionSource;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class PooledConnectionSourceTest {
+
+  private static class CountingConnectionSource implements Supplier<Connection> {
+
+    private final String connectionUrl;
+    private final AtomicInteger count = new AtomicInteger();
+
+    CountingConnectionSource(final DatabaseConnectionInfo databaseConnectionInfo) {
+      connectionUrl = databaseConnectionInfo.getConnectionUrl();
+    }
+
+    @Override
+    public Connection get() {
+      try {
+        count.incrementAndGet();
+        return DriverManager.getConnection(connectionUrl, "sa", "");
+      } catch (final SQLException e) {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    }
+  }
+
+  /** Marker for connections of a specific type, that are not JDBC wrappers. */
+  private interface MarkedConnection extends Connection {}
+
+  @Test
+  public void unwrapConnectionOfSpecificType(final DatabaseConnectionInfo databaseConnectionInfo)
+      throws SQLException {
+    final CountingConnectionSource connectionSource =
+        new CountingConnectionSource(databaseConnectionInfo);
+    final Supplier<Connection> markedConnectionSource =
+        () -> {
+          final Connection connection = connectionSource.get();
+          return (Connection)
+              Proxy.newProxyInstance(
+                  PooledConnectionSourceTest.class.getClassLoader(),
+                  new Class[] {MarkedConnection.class},
+                  (proxy, method, args) -> {
+                    if (method.getName().equals("isWrapperFor")) {
+                      return false;
+                    }
+                    return method.invoke(connection, args);
+                  });
+        };
+    try (final PooledConnectionSource pool = new PooledConnectionSource(markedConnectionSource)) {
+      try (final Connection connection = pool.get()) {
+        assertThat(connection instanceof MarkedConnection, is(false));
+        assertThat(connection.isWrapperFor(MarkedConnection.class), is(true));
+        assertThat(
+            connection.unwrap(MarkedConnection.class), is(instanceOf(MarkedConnection.class)));
+      }
+    }
+  }
+
+  @Test
+  public void closedPool(final DatabaseConnectionInfo databaseConnectionInfo) throws SQLException {
+    final CountingConnectionSource connectionSource =
+        new CountingConnectionSource(databaseConnectionInfo);
+    final PooledConnectionSource pool = new PooledConnectionSource(connectionSource);
+
+    final Connection connection = pool.get();
+    pool.close();
+    assertThat(pool.getOpenConnections(), is(1));
+
+    // Connections in use are closed when returned
+    connection.close();
+    assertThat(pool.getOpenConnections(), is(0));
+
+    assertThrows(SchemaCrawlerRuntimeException.class, () -> pool.get());
+  }
+
+  @Test
+  public void invalidConnectionIsReplaced(final DatabaseConnectionInfo databaseConnectionInfo)
+      throws SQLException {
+    final CountingConnectionSource connectionSource =
+        new CountingConnectionSource(databaseConnectionInfo);
+    try (final PooledConnectionSource pool =
+        new PooledConnectionSource(
+            connectionSource, 2, Duration.ofMinutes(5), "VALUES (1)", Duration.ofSeconds(1))) {
+
+      final Connection connection = pool.get();
+      // Break the underlying connection, and then return it to the pool
+      connection.unwrap(Connection.class).close();
+      connection.close();
+
+      assertThat(pool.getOpenConnections(), is(0));
+
+      try (final Connection newConnection = pool.get()) {
+        assertThat(newConnection.isValid(1), is(true));
+      }
+      assertThat(connectionSource.count.get(), is(2));
+    }
+  }
+
+  @Test
+  public void maxPoolSize(final DatabaseConnectionInfo databaseConnectionInfo) throws SQLException {
+    final CountingConnectionSource connectionSource =
+        new CountingConnectionSource(databaseConnectionInfo);
+    try (final PooledConnectionSource pool =
+        new PooledConnectionSource(
+            connectionSource, 2, Duration.ofMinutes(5), null, Duration.ofMillis(100))) {
+
+      final Connection connection1 = pool.get();
+      final Connection connection2 = pool.get();
+      assertThat(pool.getOpenConnections(), is(2));
+
+      assertThrows(SchemaCrawlerRuntimeException.class, () -> pool.get());
+
+      connection1.close();
+      try (final Connection connection3 = pool.get()) {
+        assertThat(connection3.isClosed(), is(false));
+      }
+      connection2.close();
+
+      assertThat(connectionSource.count.get(), is(2));
+    }
+  }
+
+  @Test
+  public void ensureMaxPoolSize(final DatabaseConnectionInfo databaseConnectionInfo)
+      throws SQLException {
+    final CountingConnectionSource connectionSource =
+        new CountingConnectionSource(databaseConnectionInfo);
+    try (final PooledConnectionSource pool =
+        new PooledConnectionSource(
+            connectionSource, 1, Duration.ofMinutes(5), null, Duration.ofMillis(100))) {
+
+      final Connection connection1 = pool.get();
+      assertThrows(SchemaCrawlerRuntimeException.class, () -> pool.get());
+
+      pool.ensureMaxPoolSize(2);
+      assertThat(pool.getMaxPoolSize(), is(2));
+      final Connection connection2 = pool.get();
+      assertThat(pool.getOpenConnections(), is(2));
+
+      // The pool is never shrunk
+      pool.ensureMaxPoolSize(1);
+      assertThat(pool.getMaxPoolSize(), is(2));
+
+      connection1.close();
+      connection2.close();
+    }
+  }
+
+  @Test
+  public void reuseConnections(final DatabaseConnectionInfo databaseConnectionInfo)
+      throws SQLException {
+    final CountingConnectionSource connectionSource =
+        new CountingConnectionSource(databaseConnectionInfo);
+    try (final PooledConnectionSource pool = new PooledConnectionSource(connectionSource)) {
+
+      final Connection connection1 = pool.get();
+      final Connection physicalConnection = connection1.unwrap(Connection.class);
+      connection1.close();
+      assertThat(connection1.isClosed(), is(true));
+      assertThrows(SQLException.class, () -> connection1.getMetaData());
+
+      final Connection connection2 = pool.get();
+      assertThat(connection2, is(not(sameInstance(connection1))));
+      assertThat(connection2.unwrap(Connection.class), is(sameInstance(physicalConnection)));
+      assertThat(connection2.getMetaData(), is(not(sameInstance(null))));
+      connection2.close();
+
+      assertThat(connectionSource.count.get(), is(1));
+      assertThat(pool.getOpenConnections(), is(1));
+    }
+  }
+}
@@ -27,22 +27,40 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph. Vertices are numbered in the order in which they are added, and outgoing
+ * edges are kept in per-vertex adjacency arrays of vertex numbers, so that graph algorithms can
+ * visit the successors of a vertex without scanning all of the edges.
+ *
+ * @param <T> Any comparable class
+ */
 public class DirectedGraph<T extends Comparable<? super T>> {
 
+  private static final int[] NO_SUCCESSORS = new int[0];
+
   private final Set<DirectedEdge<T>> edges;
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
+  private final List<Vertex<T>> vertices;
+  private int[][] successors;
+  private int[] successorsCount;
 
   public DirectedGraph(final String name) {
     this.name = name;
     verticesMap = new HashMap<>();
+    vertices = new ArrayList<>();
     edges = new HashSet<>();
+    successors = new int[16][];
+    successorsCount = new int[16];
   }
 
   /**
@@ -54,7 +72,11 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    */
   public void addEdge(final T from, final T to) {
     if (!from.equals(to)) {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final Vertex<T> vertexFrom = addVertex(from);
+      final Vertex<T> vertexTo = addVertex(to);
+      if (edges.add(new DirectedEdge<>(vertexFrom, vertexTo))) {
+        addSuccessor(vertexFrom.getIndex(), vertexTo.getIndex());
+      }
     }
   }
 
@@ -65,12 +87,18 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    * @return The newly added vertex
    */
   public Vertex<T> addVertex(final T value) {
-    final Vertex<T> vertex;
-    if (verticesMap.containsKey(value)) {
-      vertex = verticesMap.get(value);
-    } else {
-      vertex = new Vertex<>(value);
+    Vertex<T> vertex = verticesMap.get(value);
+    if (vertex == null) {
+      final int index = vertices.size();
+      vertex = new Vertex<>(value, index);
       verticesMap.put(value, vertex);
+      vertices.add(vertex);
+      if (index == successors.length) {
+        final int capacity = index * 2;
+        successors = Arrays.copyOf(successors, capacity);
+        successorsCount = Arrays.copyOf(successorsCount, capacity);
+      }
+      successors[index] = NO_SUCCESSORS;
     }
     return vertex;
   }
@@ -88,9 +116,10 @@ public class DirectedGraph<T extends Comparable<? super T>> {
     Objects.requireNonNull(vertexFrom, "No vertex provided");
 
     final Set<DirectedEdge<T>> outgoingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.getFrom().equals(vertexFrom)) {
-        outgoingEdges.add(edge);
+    final Vertex<T> vertex = verticesMap.get(vertexFrom.getValue());
+    if (vertex != null) {
+      for (final int successor : getSuccessors(vertex.getIndex())) {
+        outgoingEdges.add(new DirectedEdge<>(vertex, vertices.get(successor)));
       }
     }
     return outgoingEdges;
@@ -121,4 +150,46 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   public Set<Vertex<T>> vertexSet() {
     return new HashSet<>(verticesMap.values());
   }
+
+  /**
+   * Gets the vertex numbers of the ends of the edges going out of a vertex, in the order in which
+   * the edges were added.
+   *
+   * @param index Vertex number
+   * @return Vertex numbers of successors, which should not be modified
+   */
+  int[] getSuccessors(final int index) {
+    final int[] vertexSuccessors = successors[index];
+    final int count = successorsCount[index];
+    if (vertexSuccessors.length != count) {
+      // Trim, so that the array can be returned as is from now on
+      successors[index] = Arrays.copyOf(vertexSuccessors, count);
+    }
+    return successors[index];
+  }
+
+  Vertex<T> getVertex(final int index) {
+    return vertices.get(index);
+  }
+
+  /**
+   * Number of vertices in the graph. Vertices are numbered from 0 up to, but not including, this
+   * number.
+   *
+   * @return Number of vertices
+   */
+  int vertexCount() {
+    return vertices.size();
+  }
+
+  private void addSuccessor(final int from, final int to) {
+    int[] vertexSuccessors = successors[from];
+    final int count = successorsCount[from];
+    if (count == vertexSuccessors.length) {
+      vertexSuccessors = Arrays.copyOf(vertexSuccessors, Math.max(4, count * 2));
+      successors[from] = vertexSuccessors;
+    }
+    vertexSuccessors[count] = to;
+    successorsCount[from] = count + 1;
+  }
 }
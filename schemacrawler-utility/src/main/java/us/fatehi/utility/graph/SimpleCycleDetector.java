@@ -27,7 +27,7 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>> {
@@ -49,8 +49,6 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
     }
   }
 
-  private static final String ATTRIBUTE_TRAVERSAL_STATE = "traversalstate";
-
   private final DirectedGraph<T> graph;
 
   public SimpleCycleDetector(final DirectedGraph<T> graph) {
@@ -63,10 +61,19 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
    * @return true if the diagram contains a cycle, false otherwise
    */
   public boolean containsCycle() {
-    final Collection<Vertex<T>> vertices = clearTraversalStates();
-    for (final Vertex<T> vertex : vertices) {
-      if (vertex.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
-        if (visitForCyles(vertex)) {
+    final int vertexCount = graph.vertexCount();
+    final TraversalState[] traversalStates = new TraversalState[vertexCount];
+    Arrays.fill(traversalStates, TraversalState.notStarted);
+    // Depth-first traversal is done with an explicit stack of vertices, and
+    // of positions in their successors, so that long paths in large
+    // graphs do not overflow the call stack
+    final int[] path = new int[vertexCount];
+    final int[] positions = new int[vertexCount];
+
+    for (final Vertex<T> vertex : graph.vertexSet()) {
+      final int index = vertex.getIndex();
+      if (traversalStates[index] == TraversalState.notStarted) {
+        if (visitForCyles(index, traversalStates, path, positions)) {
           return true;
         }
       }
@@ -75,33 +82,39 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
     return false;
   }
 
-  private Collection<Vertex<T>> clearTraversalStates() {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    for (final Vertex<T> vertex : vertices) {
-      vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.notStarted);
-    }
-    return vertices;
-  }
-
-  private boolean visitForCyles(final Vertex<T> vertex) {
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
-
-    for (final DirectedEdge<T> edge : graph.edgeSet()) {
-      if (edge.isFrom(vertex)) {
-        final Vertex<T> to = edge.getTo();
-        if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress) {
-          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
+  private boolean visitForCyles(
+      final int start,
+      final TraversalState[] traversalStates,
+      final int[] path,
+      final int[] positions) {
+    int depth = 0;
+    traversalStates[start] = TraversalState.inProgress;
+    path[depth] = start;
+    positions[depth] = 0;
+    depth++;
+
+    while (depth > 0) {
+      final int vertex = path[depth - 1];
+      final int[] successors = graph.getSuccessors(vertex);
+      final int position = positions[depth - 1];
+      if (position < successors.length) {
+        positions[depth - 1] = position + 1;
+        final int to = successors[position];
+        if (traversalStates[to] == TraversalState.inProgress) {
+          traversalStates[to] = TraversalState.marked;
           return true;
-        } else if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
-          if (visitForCyles(to)) {
-            return true;
-          }
+        } else if (traversalStates[to] == TraversalState.notStarted) {
+          traversalStates[to] = TraversalState.inProgress;
+          path[depth] = to;
+          positions[depth] = 0;
+          depth++;
         }
+      } else {
+        traversalStates[vertex] = TraversalState.complete;
+        depth--;
       }
     }
 
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
-
     return false;
   }
 }
@@ -30,8 +30,6 @@ package us.fatehi.utility.graph;
 import static java.util.Comparator.naturalOrder;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -43,49 +41,57 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
   }
 
+  /**
+   * Sorts vertex values so that the start of every edge comes before its end. Vertex values are
+   * sorted level by level, where each level has all of the vertices that have no incoming edges
+   * from vertices that are not yet sorted. Within a level, values are in natural order.
+   *
+   * @return Sorted vertex values
+   * @throws GraphException If the graph contains a cycle
+   */
   public List<T> topologicalSort() throws GraphException {
     if (containsCycle()) {
       throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
 
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
-    final int collectionSize = vertices.size();
+    final int vertexCount = graph.vertexCount();
 
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty()) {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator.hasNext(); ) {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges)) {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+    final int[] inDegrees = new int[vertexCount];
+    for (int index = 0; index < vertexCount; index++) {
+      for (final int successor : graph.getSuccessors(index)) {
+        inDegrees[successor]++;
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex : vertices) {
-        if (isStartNode(vertex, edges)) {
-          startNodes.add(vertex);
-        }
+    final List<T> sortedValues = new ArrayList<>(vertexCount);
+
+    // Start with all vertices that have no incoming edges
+    List<Vertex<T>> verticesAtLevel = new ArrayList<>();
+    for (int index = 0; index < vertexCount; index++) {
+      if (inDegrees[index] == 0) {
+        verticesAtLevel.add(graph.getVertex(index));
       }
+    }
 
-      for (final Vertex<T> vertex : startNodes) {
+    while (!verticesAtLevel.isEmpty()) {
+      final List<T> nodesAtLevel = new ArrayList<>(verticesAtLevel.size());
+      final List<Vertex<T>> verticesAtNextLevel = new ArrayList<>();
+      for (final Vertex<T> vertex : verticesAtLevel) {
         // Save the vertex value
         nodesAtLevel.add(vertex.getValue());
         // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        for (final int successor : graph.getSuccessors(vertex.getIndex())) {
+          inDegrees[successor]--;
+          if (inDegrees[successor] == 0) {
+            verticesAtNextLevel.add(graph.getVertex(successor));
+          }
+        }
       }
 
       nodesAtLevel.sort(naturalOrder());
       sortedValues.addAll(nodesAtLevel);
+
+      verticesAtLevel = verticesAtNextLevel;
     }
 
     return sortedValues;
@@ -95,32 +101,4 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
     final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
     return cycleDetector.containsCycle();
   }
-
-  private void dropOutEdges(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator.hasNext(); ) {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex)) {
-        iterator.remove();
-      }
-    }
-  }
-
-  private boolean isStartNode(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex)) {
-        return false;
-      }
-    }
-    return true;
-  }
-
-  private boolean isUnattachedNode(
-      final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex) || edge.isFrom(vertex)) {
-        return false;
-      }
-    }
-    return true;
-  }
 }
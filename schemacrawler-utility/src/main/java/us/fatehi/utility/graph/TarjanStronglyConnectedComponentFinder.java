@@ -27,9 +27,8 @@ http://www.gnu.org/licenses/
 */
 package us.fatehi.utility.graph;
 
-import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,17 +44,10 @@ import java.util.Objects;
  */
 public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super T>> {
 
-  private static final String ATTRIBUTE_INDEX = "index";
-  private static final String ATTRIBUTE_LOWLINK = "lowlink";
   private final DirectedGraph<T> graph;
-  private final Deque<Vertex<T>> stack;
-  private final Collection<List<T>> stronglyConnectedComponents;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph) {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
-
-    stronglyConnectedComponents = new HashSet<>();
-    stack = new ArrayDeque<>();
   }
 
   /**
@@ -64,49 +56,80 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
    * @return Set of strongly connected components (sets of vertices)
    */
   public Collection<List<T>> detectCycles() {
+    final Collection<List<T>> stronglyConnectedComponents = new HashSet<>();
+
+    final int vertexCount = graph.vertexCount();
+    final int[] indexes = new int[vertexCount];
+    Arrays.fill(indexes, -1);
+    final int[] lowlinks = new int[vertexCount];
+    final boolean[] onStack = new boolean[vertexCount];
+    final int[] stack = new int[vertexCount];
+    // Depth-first traversal is done with an explicit stack of vertices, and
+    // of positions in their successors, so that long paths in large
+    // graphs do not overflow the call stack
+    final int[] path = new int[vertexCount];
+    final int[] positions = new int[vertexCount];
+
+    int index = 0;
+    int stackSize = 0;
     for (final Vertex<T> vertex : graph.vertexSet()) {
-      if (!vertex.hasAttribute(ATTRIBUTE_INDEX)) {
-        strongConnect(vertex, 0);
+      if (indexes[vertex.getIndex()] != -1) {
+        continue;
       }
-    }
-    return stronglyConnectedComponents;
-  }
 
-  private void strongConnect(final Vertex<T> vertexFrom, final int index) {
-    vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
-    vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
-    stack.push(vertexFrom);
-
-    for (final DirectedEdge<T> edge : graph.getOutgoingEdges(vertexFrom)) {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute(ATTRIBUTE_INDEX)) {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
-      } else if (stack.contains(vertexTo)) {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_INDEX)));
-      }
-    }
+      int depth = 0;
+      int vertexFrom = vertex.getIndex();
+      while (true) {
+        if (vertexFrom != -1) {
+          // Visit the vertex
+          indexes[vertexFrom] = index;
+          lowlinks[vertexFrom] = index;
+          index++;
+          stack[stackSize++] = vertexFrom;
+          onStack[vertexFrom] = true;
+          path[depth] = vertexFrom;
+          positions[depth] = 0;
+          depth++;
+          vertexFrom = -1;
+        }
+
+        final int current = path[depth - 1];
+        final int[] successors = graph.getSuccessors(current);
+        if (positions[depth - 1] < successors.length) {
+          final int vertexTo = successors[positions[depth - 1]++];
+          if (indexes[vertexTo] == -1) {
+            // Successor vertex has not yet been visited; recurse on it
+            vertexFrom = vertexTo;
+          } else if (onStack[vertexTo]) {
+            // Successor vertex is on stack, hence in the current SCC
+            lowlinks[current] = Math.min(lowlinks[current], indexes[vertexTo]);
+          }
+          continue;
+        }
 
-    if (vertexFrom.getAttribute(ATTRIBUTE_LOWLINK) == vertexFrom.getAttribute(ATTRIBUTE_INDEX)) {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1) {
-        stronglyConnectedComponents.add(scc);
+        if (lowlinks[current] == indexes[current]) {
+          final LinkedList<T> scc = new LinkedList<>();
+          int sccVertex;
+          do {
+            sccVertex = stack[--stackSize];
+            onStack[sccVertex] = false;
+            scc.addFirst(graph.getVertex(sccVertex).getValue());
+          } while (sccVertex != current);
+          if (scc.size() > 1) {
+            stronglyConnectedComponents.add(scc);
+          }
+        }
+
+        // Return from the vertex
+        depth--;
+        if (depth == 0) {
+          break;
+        }
+        final int parent = path[depth - 1];
+        lowlinks[parent] = Math.min(lowlinks[parent], lowlinks[current]);
       }
     }
+
+    return stronglyConnectedComponents;
   }
 }
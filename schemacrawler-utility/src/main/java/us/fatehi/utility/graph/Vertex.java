@@ -34,10 +34,12 @@ import java.util.Map;
 public final class Vertex<T> {
 
   private final Map<String, Object> attributes;
+  private final int index;
   private final T value;
 
-  Vertex(final T value) {
+  Vertex(final T value, final int index) {
     this.value = value;
+    this.index = index;
     attributes = new HashMap<>();
   }
 
@@ -81,6 +83,16 @@ public final class Vertex<T> {
     return (V) attributes.get(key);
   }
 
+  /**
+   * Position of the vertex in the graph that it belongs to. Vertices are numbered in the order in
+   * which they were added to the graph.
+   *
+   * @return Vertex index
+   */
+  int getIndex() {
+    return index;
+  }
+
   boolean hasAttribute(final String key) {
     return attributes.containsKey(key);
   }
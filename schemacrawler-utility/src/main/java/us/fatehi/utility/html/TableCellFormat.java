@@ -0,0 +1,107 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.html;
+
+/**
+ * Format of a table cell written by {@link TableRowWriter}, such as the tag name, width, alignment
+ * and style class. Formats are immutable, so they can be created once, and reused for every row.
+ * Each "with" method returns a new format.
+ */
+public final class TableCellFormat {
+
+  public static TableCellFormat tableCell() {
+    return new TableCellFormat("td", false, 0, null, false, null, 0);
+  }
+
+  public static TableCellFormat tableHeaderCell() {
+    return new TableCellFormat("th", false, 0, null, false, null, 0);
+  }
+
+  final String tagName;
+  final boolean escapeText;
+  final int characterWidth;
+  final Alignment align;
+  final boolean emphasizeText;
+  final String styleClass;
+  final int columnSpan;
+
+  private TableCellFormat(
+      final String tagName,
+      final boolean escapeText,
+      final int characterWidth,
+      final Alignment align,
+      final boolean emphasizeText,
+      final String styleClass,
+      final int columnSpan) {
+    this.tagName = tagName;
+    this.escapeText = escapeText;
+    this.characterWidth = characterWidth;
+    this.align = align;
+    this.emphasizeText = emphasizeText;
+    this.styleClass = styleClass;
+    this.columnSpan = columnSpan;
+  }
+
+  public TableCellFormat withAlignment(final Alignment align) {
+    return new TableCellFormat(
+        tagName, escapeText, characterWidth, align, emphasizeText, styleClass, columnSpan);
+  }
+
+  public TableCellFormat withColumnSpan(final int columnSpan) {
+    return new TableCellFormat(
+        tagName, escapeText, characterWidth, align, emphasizeText, styleClass, columnSpan);
+  }
+
+  public TableCellFormat withEmphasis() {
+    return withEmphasis(true);
+  }
+
+  public TableCellFormat withEmphasis(final boolean emphasizeText) {
+    return new TableCellFormat(
+        tagName, escapeText, characterWidth, align, emphasizeText, styleClass, columnSpan);
+  }
+
+  public TableCellFormat withEscapedText() {
+    return withEscapedText(true);
+  }
+
+  public TableCellFormat withEscapedText(final boolean escapeText) {
+    return new TableCellFormat(
+        tagName, escapeText, characterWidth, align, emphasizeText, styleClass, columnSpan);
+  }
+
+  public TableCellFormat withStyleClass(final String styleClass) {
+    return new TableCellFormat(
+        tagName, escapeText, characterWidth, align, emphasizeText, styleClass, columnSpan);
+  }
+
+  public TableCellFormat withWidth(final int characterWidth) {
+    return new TableCellFormat(
+        tagName, escapeText, characterWidth, align, emphasizeText, styleClass, columnSpan);
+  }
+}
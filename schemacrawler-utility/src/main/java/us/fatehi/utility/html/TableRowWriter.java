@@ -0,0 +1,205 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.html;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.io.PrintWriter;
+
+/**
+ * Writes table rows straight to the output, one cell at a time. The output is the same as that of
+ * rendering a table row tag with table cell tags built with {@link TagBuilder}, but no tags or
+ * intermediate strings are created, which matters for large outputs, such as table data.
+ */
+public final class TableRowWriter {
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private final PrintWriter out;
+  private final TagOutputFormat tagOutputFormat;
+  private boolean isFirstCell;
+
+  public TableRowWriter(final PrintWriter out, final TagOutputFormat tagOutputFormat) {
+    this.out = requireNonNull(out, "No writer provided");
+    this.tagOutputFormat = requireNonNull(tagOutputFormat, "No output format provided");
+  }
+
+  /** Ends a table row, and the line. */
+  public void endRow() {
+    if (tagOutputFormat == TagOutputFormat.html) {
+      out.write("\t</tr>");
+    }
+    out.println();
+  }
+
+  /** Starts a table row. */
+  public void startRow() {
+    if (tagOutputFormat == TagOutputFormat.html) {
+      out.write("\t<tr>");
+      out.write(LINE_SEPARATOR);
+    }
+    isFirstCell = true;
+  }
+
+  /**
+   * Writes a table cell, or a table header cell.
+   *
+   * @param cellFormat Cell format
+   * @param text Cell text, which can be null
+   */
+  public void writeCell(final TableCellFormat cellFormat, final String text) {
+    requireNonNull(cellFormat, "No cell format provided");
+    writeCell(cellFormat, text, cellFormat.characterWidth);
+  }
+
+  /**
+   * Writes a table cell, or a table header cell, padded to a width that is worked out for each row,
+   * rather than the width of the cell format.
+   *
+   * @param cellFormat Cell format
+   * @param text Cell text, which can be null
+   * @param characterWidth Width to pad the text to, for plain text, or 0 for no padding
+   */
+  public void writeCell(
+      final TableCellFormat cellFormat, final String text, final int characterWidth) {
+    requireNonNull(cellFormat, "No cell format provided");
+    final String cellText = text == null ? "" : text;
+    switch (tagOutputFormat) {
+      case text:
+        writeSeparator("  ");
+        writePadded(cellText, characterWidth, cellFormat.align);
+        break;
+      case tsv:
+        writeSeparator("\t");
+        out.write(cellText);
+        break;
+      case html:
+      default:
+        writeHtmlCell(cellFormat, cellText);
+        break;
+    }
+  }
+
+  /**
+   * Writes text escaped for HTML, in runs of characters that do not need escaping.
+   *
+   * @param text Text to escape
+   */
+  private void writeEscapedHtml(final String text) {
+    int start = 0;
+    for (int i = 0; i < text.length(); i++) {
+      final String entity;
+      switch (text.charAt(i)) {
+        case '>':
+          entity = "&gt;";
+          break;
+        case '&':
+          entity = "&amp;";
+          break;
+        case '<':
+          entity = "&lt;";
+          break;
+        default:
+          continue;
+      }
+      out.write(text, start, i - start);
+      out.write(entity);
+      start = i + 1;
+    }
+    out.write(text, start, text.length() - start);
+  }
+
+  private void writeHtmlCell(final TableCellFormat cellFormat, final String text) {
+    final String tagName = cellFormat.tagName;
+    final int columnSpan = cellFormat.columnSpan;
+    final String styleClass = cellFormat.styleClass;
+    final Alignment align = cellFormat.align;
+
+    out.write("\t\t<");
+    out.write(tagName);
+    if (columnSpan > 0) {
+      out.write(" colspan='");
+      out.write(String.valueOf(columnSpan));
+      out.write("'");
+    }
+    if (!isBlank(styleClass)) {
+      out.write(" class='");
+      out.write(styleClass);
+      out.write("'");
+    } else if (align != null && align != Alignment.inherit) {
+      out.write(" align='");
+      out.write(align.name());
+      out.write("'");
+    }
+    out.write(">");
+    if (cellFormat.emphasizeText) {
+      out.write("<b><i>");
+    }
+
+    if (cellFormat.escapeText) {
+      writeEscapedHtml(text);
+    } else {
+      out.write(text);
+    }
+
+    if (cellFormat.emphasizeText) {
+      out.write("</i></b>");
+    }
+    out.write("</");
+    out.write(tagName);
+    out.write(">");
+    out.write(LINE_SEPARATOR);
+  }
+
+  private void writePadded(final String text, final int characterWidth, final Alignment align) {
+    final int padding = characterWidth - text.length();
+    if (padding > 0 && align == Alignment.right) {
+      writeSpaces(padding);
+    }
+    out.write(text);
+    if (padding > 0 && align != Alignment.right) {
+      writeSpaces(padding);
+    }
+  }
+
+  private void writeSeparator(final String fieldSeparator) {
+    if (isFirstCell) {
+      isFirstCell = false;
+    } else {
+      out.write(fieldSeparator);
+    }
+  }
+
+  private void writeSpaces(final int count) {
+    for (int i = 0; i < count; i++) {
+      out.write(' ');
+    }
+  }
+}
@@ -30,6 +30,9 @@ package us.fatehi.utility.test.graph;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import us.fatehi.utility.graph.DirectedGraph;
@@ -48,6 +51,64 @@ public class DirectedGraphBoundaryTest extends GraphTestBase {
     assertThat(containsCycleTarjan(graph), is(false));
   }
 
+  @Test
+  public void blocksOfCycles() throws Exception {
+    final int vertexCount = 10_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("");
+    for (int i = 0; i < vertexCount; i++) {
+      graph.addVertex(i);
+      if (2 * i + 1 < vertexCount) {
+        graph.addEdge(i, 2 * i + 1);
+      }
+      if (2 * i + 2 < vertexCount) {
+        graph.addEdge(i, 2 * i + 2);
+      }
+      if (i + 1 < vertexCount) {
+        graph.addEdge(i, i + 1);
+      }
+    }
+
+    final List<Integer> sorted = topologicalSort(graph);
+    assertThat(sorted.size(), is(vertexCount));
+    assertThat(sorted.get(0), is(0));
+    assertThat(sorted.get(vertexCount - 1), is(vertexCount - 1));
+
+    for (int i = 9; i < vertexCount; i = i + 10) {
+      graph.addEdge(i, i - 9);
+    }
+
+    assertThat(containsCycleSimple(graph), is(true));
+    final Collection<List<Integer>> sccs = stronglyConnectedComponents(graph);
+    assertThat(sccs.size(), is(vertexCount / 10));
+    for (final List<Integer> scc : sccs) {
+      assertThat(scc.size(), is(10));
+    }
+  }
+
+  @Test
+  public void longPath() throws Exception {
+    final int vertexCount = 100_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("");
+    for (int i = vertexCount - 1; i > 0; i--) {
+      graph.addEdge(i - 1, i);
+    }
+
+    assertThat(containsCycleSimple(graph), is(false));
+    assertThat(containsCycleTarjan(graph), is(false));
+
+    final List<Integer> sorted = topologicalSort(graph);
+    assertThat(sorted.size(), is(vertexCount));
+    assertThat(sorted.get(0), is(0));
+    assertThat(sorted.get(vertexCount - 1), is(vertexCount - 1));
+
+    graph.addEdge(vertexCount - 1, 0);
+
+    assertThat(containsCycleSimple(graph), is(true));
+    final Collection<List<Integer>> sccs = stronglyConnectedComponents(graph);
+    assertThat(sccs.size(), is(1));
+    assertThat(sccs.iterator().next().size(), is(vertexCount));
+  }
+
   @Test
   public void selfLoop() throws Exception {
     final DirectedGraph<String> graph = new DirectedGraph<>("");
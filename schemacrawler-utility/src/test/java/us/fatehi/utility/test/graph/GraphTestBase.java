@@ -64,6 +64,11 @@ abstract class GraphTestBase {
     return !sccs.isEmpty();
   }
 
+  protected <T extends Comparable<? super T>> Collection<List<T>> stronglyConnectedComponents(
+      final DirectedGraph<T> graph) {
+    return new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles();
+  }
+
   protected <T extends Comparable<? super T>> List<T> topologicalSort(final DirectedGraph<T> graph)
       throws GraphException {
     return new SimpleTopologicalSort<>(graph).topologicalSort();
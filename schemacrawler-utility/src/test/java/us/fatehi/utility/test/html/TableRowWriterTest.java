@@ -0,0 +1,181 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2020, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package us.fatehi.utility.test.html;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static us.fatehi.utility.html.TagBuilder.tableCell;
+import static us.fatehi.utility.html.TagBuilder.tableHeaderCell;
+import static us.fatehi.utility.html.TagBuilder.tableRow;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import us.fatehi.utility.html.Alignment;
+import us.fatehi.utility.html.TableCellFormat;
+import us.fatehi.utility.html.TableRowWriter;
+import us.fatehi.utility.html.Tag;
+import us.fatehi.utility.html.TagOutputFormat;
+
+public class TableRowWriterTest {
+
+  @Test
+  public void cells() {
+    final Tag row = tableRow().make();
+    row.addInnerTag(tableCell().withStyleClass("spacer").make());
+    row.addInnerTag(
+        tableCell()
+            .withEscapedText("<name> & more")
+            .withWidth(20)
+            .withStyleClass("name")
+            .withColumnSpan(2)
+            .make());
+    row.addInnerTag(
+        tableCell()
+            .withEscapedText("description")
+            .withWidth(16)
+            .withAlignment(Alignment.right)
+            .make());
+    row.addInnerTag(
+        tableCell()
+            .withEscapedText("<b>", false)
+            .withWidth(2)
+            .withEmphasis(true)
+            .withAlignment(Alignment.inherit)
+            .make());
+    row.addInnerTag(tableCell().withText(null).withStyleClass("data_null").make());
+
+    for (final TagOutputFormat tagOutputFormat : TagOutputFormat.values()) {
+      final StringWriter writer = new StringWriter();
+      final TableRowWriter rowWriter = new TableRowWriter(new PrintWriter(writer), tagOutputFormat);
+      rowWriter.startRow();
+      rowWriter.writeCell(TableCellFormat.tableCell().withStyleClass("spacer"), null);
+      rowWriter.writeCell(
+          TableCellFormat.tableCell()
+              .withEscapedText()
+              .withWidth(20)
+              .withStyleClass("name")
+              .withColumnSpan(2),
+          "<name> & more");
+      rowWriter.writeCell(
+          TableCellFormat.tableCell().withEscapedText().withAlignment(Alignment.right),
+          "description",
+          16);
+      rowWriter.writeCell(
+          TableCellFormat.tableCell().withWidth(2).withAlignment(Alignment.inherit).withEmphasis(),
+          "<b>");
+      rowWriter.writeCell(TableCellFormat.tableCell().withStyleClass("data_null"), null);
+      rowWriter.endRow();
+
+      assertThat(
+          tagOutputFormat.name(),
+          writer.toString(),
+          is(row.render(tagOutputFormat) + System.lineSeparator()));
+    }
+  }
+
+  @Test
+  public void cellFormatsAreReusable() {
+    final TableCellFormat cellFormat = TableCellFormat.tableCell().withStyleClass("name");
+    final TableCellFormat emphasizedCellFormat = cellFormat.withEmphasis().withColumnSpan(2);
+
+    final StringWriter writer = new StringWriter();
+    final TableRowWriter rowWriter =
+        new TableRowWriter(new PrintWriter(writer), TagOutputFormat.html);
+    for (int i = 0; i < 2; i++) {
+      rowWriter.startRow();
+      rowWriter.writeCell(cellFormat, "a");
+      rowWriter.writeCell(emphasizedCellFormat, "b");
+      rowWriter.endRow();
+    }
+
+    final String expectedRow =
+        "\t<tr>~\t\t<td class='name'>a</td>~"
+            + "\t\t<td colspan='2' class='name'><b><i>b</i></b></td>~\t</tr>~";
+    assertThat(
+        writer.toString().replace(System.lineSeparator(), "~"), is(expectedRow + expectedRow));
+  }
+
+  @Test
+  public void emptyRow() {
+    final Tag row = tableRow().make();
+
+    for (final TagOutputFormat tagOutputFormat : TagOutputFormat.values()) {
+      final StringWriter writer = new StringWriter();
+      final TableRowWriter rowWriter = new TableRowWriter(new PrintWriter(writer), tagOutputFormat);
+      rowWriter.startRow();
+      rowWriter.endRow();
+
+      assertThat(
+          tagOutputFormat.name(),
+          writer.toString(),
+          is(row.render(tagOutputFormat) + System.lineSeparator()));
+    }
+  }
+
+  @Test
+  public void escapedText() {
+    final StringWriter writer = new StringWriter();
+    final TableRowWriter rowWriter =
+        new TableRowWriter(new PrintWriter(writer), TagOutputFormat.html);
+    rowWriter.startRow();
+    final TableCellFormat cellFormat = TableCellFormat.tableCell().withEscapedText();
+    rowWriter.writeCell(cellFormat, "a<b>&c");
+    rowWriter.writeCell(cellFormat, "<<>>");
+    rowWriter.writeCell(cellFormat, "");
+    rowWriter.endRow();
+
+    assertThat(
+        writer.toString().replace(System.lineSeparator(), "~"),
+        is(
+            "\t<tr>~\t\t<td>a&lt;b&gt;&amp;c</td>~\t\t<td>&lt;&lt;&gt;&gt;</td>~\t\t<td></td>~\t</tr>~"));
+  }
+
+  @Test
+  public void headerRows() {
+    final Tag row = tableRow().make();
+    row.addInnerTag(tableHeaderCell().withText("<ID>").make());
+    row.addInnerTag(tableHeaderCell().withText("NAME").make());
+
+    for (final TagOutputFormat tagOutputFormat : TagOutputFormat.values()) {
+      final StringWriter writer = new StringWriter();
+      final TableRowWriter rowWriter = new TableRowWriter(new PrintWriter(writer), tagOutputFormat);
+      for (int i = 0; i < 2; i++) {
+        rowWriter.startRow();
+        rowWriter.writeCell(TableCellFormat.tableHeaderCell(), "<ID>");
+        rowWriter.writeCell(TableCellFormat.tableHeaderCell(), "NAME");
+        rowWriter.endRow();
+      }
+
+      final String expectedRow = row.render(tagOutputFormat) + System.lineSeparator();
+      assertThat(tagOutputFormat.name(), writer.toString(), is(expectedRow + expectedRow));
+    }
+  }
+}